@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.0"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.skillbridge"
@@ -30,6 +31,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-mail")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // Flyway
     implementation("org.flywaydb:flyway-core")
@@ -38,6 +40,9 @@ dependencies {
     // MySQL
     runtimeOnly("com.mysql:mysql-connector-j")
 
+    // Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // OpenAPI / Swagger UI
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.6")
 
@@ -66,3 +71,10 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// ./gradlew jmh でマイクロベンチマークを実行
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+}
@@ -0,0 +1,110 @@
+package com.skillbridge.lms.certificate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+
+/**
+ * 証明書 PDF の描画スループット (1 コアあたりの証明書数/秒)
+ *
+ * <p>legacy: 描画ごとにフォントを生成し、Paragraph のレイアウト計算で全行を配置する旧実装。</p>
+ * <p>current: 固定文言の配置を計算済みのテンプレートに、氏名・コース名・日付・番号だけを書き込む。</p>
+ * <p>batchZip: 並列度 1 で {@link CertificatePdfRenderer#renderZip} を実行し、ZIP 書き出しを含めた 1 件あたりの処理量を測る。
+ * 複数コアでの合計スループットはおおよそこの値にコア数を掛けたものになる。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class CertificateRenderBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    private CertificatePdfRenderer renderer;
+    private CertificateDocument certificate;
+    private List<CertificateDocument> batch;
+
+    @Setup
+    public void setUp() {
+        renderer = new CertificatePdfRenderer(1);
+        certificate = document(0);
+        batch = IntStream.range(0, BATCH_SIZE).mapToObj(CertificateRenderBenchmark::document).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        renderer.shutdown();
+    }
+
+    @Benchmark
+    public byte[] legacyParagraphLayout() throws Exception {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            Document document = new Document(PageSize.A4.rotate(), 50, 50, 50, 50);
+            PdfWriter.getInstance(document, baos);
+            document.open();
+
+            Font titleFont = new Font(Font.HELVETICA, 36, Font.BOLD);
+            Font subtitleFont = new Font(Font.HELVETICA, 18, Font.NORMAL);
+            Font nameFont = new Font(Font.HELVETICA, 28, Font.BOLD);
+            Font bodyFont = new Font(Font.HELVETICA, 14, Font.NORMAL);
+
+            document.add(paragraph("Certificate of Completion", titleFont, 60f));
+            document.add(paragraph("This is to certify that", subtitleFont, 30f));
+            document.add(paragraph(certificate.userName(), nameFont, 30f));
+            document.add(paragraph("has successfully completed the course", subtitleFont, 30f));
+            document.add(paragraph(certificate.courseTitle(), nameFont, 40f));
+            document.add(paragraph("Date: " + certificate.issuedAt().format(DATE_FORMAT), bodyFont, 20f));
+            document.add(paragraph("Certificate No: " + certificate.certificateNumber(), bodyFont, 10f));
+
+            document.close();
+            return baos.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public byte[] currentTemplate() {
+        return renderer.render(certificate);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void batchZip() throws IOException {
+        renderer.renderZip(batch, OutputStream.nullOutputStream());
+    }
+
+    private static Paragraph paragraph(String text, Font font, float spacingAfter) {
+        Paragraph paragraph = new Paragraph(text, font);
+        paragraph.setAlignment(Element.ALIGN_CENTER);
+        paragraph.setSpacingAfter(spacingAfter);
+        return paragraph;
+    }
+
+    private static CertificateDocument document(int index) {
+        return new CertificateDocument("6f1c2a4e-0000-4000-8000-" + String.format("%012d", index),
+                "Learner " + index, "Spring Boot Basics", LocalDateTime.of(2026, 4, 1, 10, 0));
+    }
+}
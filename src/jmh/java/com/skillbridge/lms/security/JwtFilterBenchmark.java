@@ -0,0 +1,63 @@
+package com.skillbridge.lms.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT認証フィルタのトークン処理コスト比較
+ *
+ * <p>legacy: 呼び出しごとにパーサーを生成し、検証とsubject取得で2回署名検証する旧実装。
+ * 旧実装ではこの後にユーザー検索のSQLが続くが、DBコストはここでは計測しない。</p>
+ * <p>current: 生成済みパーサーで1回だけ検証し、クレームを取り出す。
+ * 失効判定に使うユーザー状態はキャッシュから取得するため、ここでは計測しない。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jmh-must-be-at-least-256-bits-long";
+
+    private JwtTokenProvider tokenProvider;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 900000, 604800000);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = tokenProvider.generateAccessToken(User.builder()
+                .id(1L)
+                .email("learner@example.com")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+    }
+
+    @Benchmark
+    public String legacyValidateThenExtract() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public TokenClaims currentParseOnce() {
+        return tokenProvider.parseToken(token).orElseThrow();
+    }
+}
@@ -0,0 +1,21 @@
+package com.skillbridge.lms.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * 書き込み待ちの監査イベント
+ */
+public record AuditEvent(
+        Long userId,
+        String action,
+        String entityType,
+        Long entityId,
+        String details,
+        String ipAddress,
+        LocalDateTime createdAt) {
+
+    public static AuditEvent of(Long userId, String action, String entityType, Long entityId,
+            String details, String ipAddress) {
+        return new AuditEvent(userId, action, entityType, entityId, details, ipAddress, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,284 @@
+package com.skillbridge.lms.audit;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 監査ログのバッチ書き込み
+ *
+ * <p>非同期モードではイベントを有界キューに積み、専用スレッドが件数または時間を契機に
+ * JDBC バッチ INSERT でまとめて書き込む。呼び出し元がトランザクション中の場合はコミット後に積む。
+ * キューが満杯の場合は一定時間だけ待ち、それでも空かなければ破棄する (設定により同期書き込みへ切り替え可)。
+ * 書き込みに失敗したバッチは間隔を空けて再試行し、それでも失敗する場合は半分ずつに分けて書き込める行を書き、
+ * 書き込めない行だけを失敗として数える。
+ * 同期モードでは呼び出し元のトランザクション内で即座に書き込み、失敗すれば例外を投げて業務処理も失敗させる。</p>
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    static final String INSERT_SQL = "INSERT INTO audit_logs "
+            + "(user_id, action, entity_type, entity_id, details, ip_address, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean async;
+    private final boolean syncOnOverflow;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final int retryAttempts;
+    private final long retryBackoffMillis;
+    private final BlockingQueue<AuditEvent> queue;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            @Value("${app.audit.writer.mode:async}") String mode,
+            @Value("${app.audit.writer.sync-on-overflow:false}") boolean syncOnOverflow,
+            @Value("${app.audit.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit.writer.batch-size:200}") int batchSize,
+            @Value("${app.audit.writer.flush-interval-ms:500}") long flushIntervalMillis,
+            @Value("${app.audit.writer.offer-timeout-ms:10}") long offerTimeoutMillis,
+            @Value("${app.audit.writer.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+            @Value("${app.audit.writer.retry-attempts:3}") int retryAttempts,
+            @Value("${app.audit.writer.retry-backoff-ms:200}") long retryBackoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.async = !"sync".equalsIgnoreCase(mode);
+        this.syncOnOverflow = syncOnOverflow;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.retryAttempts = Math.max(1, retryAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("audit.log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("audit.log.events", "result", "enqueued");
+        this.droppedCounter = meterRegistry.counter("audit.log.events", "result", "dropped");
+        this.writtenCounter = meterRegistry.counter("audit.log.events", "result", "written");
+        this.failedCounter = meterRegistry.counter("audit.log.events", "result", "failed");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!async) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("audit-log-writer").start(this::runLoop);
+    }
+
+    /**
+     * 未書き込みのイベントを書き切ってから停止する
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        worker.join(shutdownTimeoutMillis);
+        if (!queue.isEmpty()) {
+            log.warn("監査ログの書き込みが停止時間内に完了しませんでした: 残り{}件", queue.size());
+        }
+    }
+
+    public void submit(AuditEvent event) {
+        if (!async) {
+            writeSync(event);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+            return;
+        }
+        enqueue(event);
+    }
+
+    void enqueue(AuditEvent event) {
+        boolean accepted;
+        try {
+            accepted = queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (accepted) {
+            enqueuedCounter.increment();
+            return;
+        }
+        if (syncOnOverflow) {
+            writeBatch(List.of(event));
+            return;
+        }
+        droppedCounter.increment();
+        log.warn("監査ログキューが満杯のためイベントを破棄しました: action={}, entityType={}, entityId={}",
+                event.action(), event.entityType(), event.entityId());
+    }
+
+    /** キューに溜まっているイベント数 */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void runLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * バッチサイズに達するか、最初のイベントからフラッシュ間隔が経過するまで集める
+     */
+    private void collect(List<AuditEvent> batch) throws InterruptedException {
+        if (!running) {
+            queue.drainTo(batch, batchSize);
+            return;
+        }
+        AuditEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 呼び出し元のトランザクション内で書き込む。失敗は呼び出し元へ伝える
+     */
+    private void writeSync(AuditEvent event) {
+        try {
+            insert(List.of(event));
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 再試行してもバッチ全体を書き込めない場合は、半分ずつに分けて失敗する行を切り分ける
+     */
+    void writeBatch(List<AuditEvent> events) {
+        RuntimeException failure = null;
+        for (int attempt = 1; attempt <= retryAttempts; attempt++) {
+            try {
+                insert(events);
+                return;
+            } catch (RuntimeException e) {
+                failure = e;
+                log.warn("監査ログの書き込みに失敗しました: {}件 ({}/{}回目)", events.size(), attempt, retryAttempts, e);
+            }
+            if (attempt < retryAttempts && !backOff(attempt)) {
+                break;
+            }
+        }
+        isolate(events, failure);
+    }
+
+    private void isolate(List<AuditEvent> events, RuntimeException failure) {
+        if (events.size() == 1) {
+            AuditEvent event = events.get(0);
+            failedCounter.increment();
+            log.error("監査ログを書き込めませんでした: action={}, entityType={}, entityId={}",
+                    event.action(), event.entityType(), event.entityId(), failure);
+            return;
+        }
+        int middle = events.size() / 2;
+        for (List<AuditEvent> half : List.of(events.subList(0, middle), events.subList(middle, events.size()))) {
+            try {
+                insert(half);
+            } catch (RuntimeException e) {
+                isolate(half, e);
+            }
+        }
+    }
+
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void insert(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), this::bind);
+        writtenCounter.increment(events.size());
+    }
+
+    private void bind(PreparedStatement ps, AuditEvent event) throws SQLException {
+        setNullableLong(ps, 1, event.userId());
+        ps.setString(2, event.action());
+        ps.setString(3, event.entityType());
+        setNullableLong(ps, 4, event.entityId());
+        ps.setString(5, event.details());
+        ps.setString(6, event.ipAddress());
+        ps.setTimestamp(7, Timestamp.valueOf(event.createdAt()));
+    }
+
+    private void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
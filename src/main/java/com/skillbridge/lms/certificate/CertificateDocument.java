@@ -0,0 +1,26 @@
+package com.skillbridge.lms.certificate;
+
+import java.time.LocalDateTime;
+
+import com.skillbridge.lms.entity.Certificate;
+import com.skillbridge.lms.repository.projection.CertificateRenderRow;
+
+/**
+ * 証明書 PDF に印字する内容 (発行後は変わらないため、エンティティから切り離して別スレッドへ渡す)
+ */
+public record CertificateDocument(String certificateNumber, String userName, String courseTitle,
+                                  LocalDateTime issuedAt) {
+
+    public static CertificateDocument from(Certificate certificate) {
+        return new CertificateDocument(
+                certificate.getCertificateNumber(),
+                certificate.getUser().getUsername(),
+                certificate.getCourse().getTitle(),
+                certificate.getIssuedAt());
+    }
+
+    public static CertificateDocument from(CertificateRenderRow row) {
+        return new CertificateDocument(row.getCertificateNumber(), row.getUserName(), row.getCourseTitle(),
+                row.getIssuedAt());
+    }
+}
@@ -0,0 +1,12 @@
+package com.skillbridge.lms.certificate;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * ディスクに保存済みの証明書 PDF
+ *
+ * @param etag 証明書番号とテンプレートの版から作る引用符なしの ETag
+ */
+public record CertificatePdf(Path path, long size, Instant lastModified, String etag) {
+}
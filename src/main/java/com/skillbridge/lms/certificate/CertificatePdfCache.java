@@ -0,0 +1,291 @@
+package com.skillbridge.lms.certificate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.skillbridge.lms.event.CertificateIssuedEvent;
+import com.skillbridge.lms.repository.CertificateRepository;
+import com.skillbridge.lms.repository.projection.CertificateRenderRow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 描画済みの証明書 PDF をディスクに保持する
+ *
+ * <p>証明書は発行後に内容が変わらないため、発行時にバックグラウンドで 1 度だけ描画し、
+ * {@code <storage-dir>/v<テンプレートの版>/<証明書番号>.pdf} に保存する。ダウンロードは保存済みファイルを返すだけで、
+ * まだ描画されていない場合 (発行直後・版の変更直後) のみその場で描画する。同じ証明書の描画が重なった場合は先行する描画の完了を待つ。</p>
+ *
+ * <p>テンプレートの版を上げると、起動時に全証明書を新しい版で描画し直し、完了後に古い版のディレクトリを削除する。
+ * ローリングデプロイ中は古い版のノードが削除済みのディレクトリへ書き込むことがあるため、書き込み時にディレクトリを作り直す。</p>
+ */
+@Component
+@Slf4j
+public class CertificatePdfCache {
+
+    private static final String COMPLETE_MARKER = ".complete";
+    private static final int REGENERATION_PAGE_SIZE = 200;
+
+    private final CertificatePdfRenderer renderer;
+    private final CertificateRepository certificateRepository;
+    private final Path baseDir;
+    private final Path versionDir;
+    private final String versionName;
+    private final boolean regenerateOnStartup;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<String, CompletableFuture<CertificatePdf>> inFlight = new ConcurrentHashMap<>();
+    private final Timer renderTimer;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CertificatePdfCache(
+            CertificatePdfRenderer renderer,
+            CertificateRepository certificateRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.certificate.storage-dir:certificates}") String storageDir,
+            @Value("${app.certificate.template-version:1}") int templateVersion,
+            @Value("${app.certificate.render-threads:2}") int renderThreads,
+            @Value("${app.certificate.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.certificate.regenerate-on-startup:true}") boolean regenerateOnStartup) {
+        this.renderer = renderer;
+        this.certificateRepository = certificateRepository;
+        this.baseDir = Paths.get(storageDir).toAbsolutePath().normalize();
+        this.versionName = "v" + templateVersion;
+        this.versionDir = baseDir.resolve(versionName);
+        this.regenerateOnStartup = regenerateOnStartup;
+        try {
+            Files.createDirectories(versionDir);
+        } catch (IOException e) {
+            throw new RuntimeException("証明書の保存ディレクトリを作成できません", e);
+        }
+
+        // キューが溢れた場合は呼び出し元で描画し、発行や再生成の速度を描画側に合わせる
+        this.executor = new ThreadPoolExecutor(renderThreads, renderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("certificate-pdf-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.renderTimer = Timer.builder("certificate.pdf.render")
+                .description("証明書 PDF の描画と保存にかかった時間")
+                .register(meterRegistry);
+        this.hits = Counter.builder("certificate.pdf.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("certificate.pdf.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("certificate.pdf.queue.depth", executor, e -> e.getQueue().size())
+                .description("描画待ちの証明書数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 保存済みの PDF を返す (未保存ならその場で描画する)
+     *
+     * @param source 未保存の場合のみ呼び出す
+     */
+    public CertificatePdf get(String certificateNumber, Supplier<CertificateDocument> source) {
+        CertificatePdf stored = find(certificateNumber);
+        if (stored != null) {
+            hits.increment();
+            return stored;
+        }
+        misses.increment();
+        try {
+            return renderOnce(source.get(), Runnable::run).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 発行された証明書をバックグラウンドで描画 (コミット後に実行し、ロールバックされた発行は描画しない)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCertificateIssued(CertificateIssuedEvent event) {
+        String certificateNumber = event.document().certificateNumber();
+        if (find(certificateNumber) == null) {
+            renderOnce(event.document(), executor)
+                    .exceptionally(e -> {
+                        log.warn("証明書 PDF の事前生成に失敗しました: {}", certificateNumber, e);
+                        return null;
+                    });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void regenerateIfTemplateChanged() {
+        if (regenerateOnStartup && !Files.exists(versionDir.resolve(COMPLETE_MARKER))) {
+            Thread.ofVirtual().name("certificate-pdf-regeneration").start(this::regenerateAll);
+        }
+    }
+
+    /**
+     * 現在のテンプレートで未描画の証明書をすべて描画し、古い版の PDF を削除する
+     *
+     * @return 描画した件数
+     */
+    public int regenerateAll() {
+        log.info("証明書 PDF の再生成を開始します: template={}", versionName);
+        AtomicInteger rendered = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long lastId = 0;
+        List<CertificateRenderRow> rows;
+        do {
+            rows = certificateRepository.findRenderRowsAfter(lastId, PageRequest.of(0, REGENERATION_PAGE_SIZE));
+            List<CompletableFuture<?>> page = new ArrayList<>();
+            for (CertificateRenderRow row : rows) {
+                if (find(row.getCertificateNumber()) == null) {
+                    page.add(renderOnce(CertificateDocument.from(row), executor).handle((pdf, e) -> {
+                        if (e != null) {
+                            failed.incrementAndGet();
+                            log.warn("証明書 PDF を再生成できません: {}", row.getCertificateNumber(), e);
+                        } else {
+                            rendered.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                lastId = row.getId();
+            }
+            // ページ単位で完了を待ち、未完了の描画が際限なく溜まらないようにする
+            CompletableFuture.allOf(page.toArray(CompletableFuture[]::new)).join();
+        } while (rows.size() == REGENERATION_PAGE_SIZE);
+
+        if (failed.get() > 0) {
+            // 完了印を残さず、次回起動時に未描画分だけやり直す
+            log.warn("証明書 PDF の再生成を中断しました: template={}, rendered={}, failed={}",
+                    versionName, rendered.get(), failed.get());
+            return rendered.get();
+        }
+        try {
+            Files.writeString(versionDir.resolve(COMPLETE_MARKER), "");
+            deleteOtherVersions();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("証明書 PDF の再生成が完了しました: template={}, rendered={}", versionName, rendered.get());
+        return rendered.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 同じ証明書の描画が進行中であればその完了を待つ Future を返し、なければ新たに描画する
+     */
+    private CompletableFuture<CertificatePdf> renderOnce(CertificateDocument document, Executor target) {
+        CompletableFuture<CertificatePdf> created = new CompletableFuture<>();
+        CompletableFuture<CertificatePdf> running = inFlight.putIfAbsent(document.certificateNumber(), created);
+        if (running != null) {
+            return running;
+        }
+        target.execute(() -> {
+            try {
+                created.complete(write(document));
+            } catch (Throwable e) {
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(document.certificateNumber(), created);
+            }
+        });
+        return created;
+    }
+
+    private CertificatePdf write(CertificateDocument document) throws IOException {
+        byte[] pdf = renderTimer.record(() -> renderer.render(document));
+        Path target = pathOf(document.certificateNumber());
+        // 読み手が書きかけのファイルを見ないよう、一時ファイルに書いてから置き換える
+        Path temp = createTempFile(document.certificateNumber());
+        try {
+            Files.write(temp, pdf);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return find(document.certificateNumber());
+    }
+
+    private Path createTempFile(String prefix) throws IOException {
+        try {
+            return Files.createTempFile(versionDir, prefix, ".tmp");
+        } catch (NoSuchFileException e) {
+            // 新しい版で起動したノードがこの版のディレクトリを削除した
+            Files.createDirectories(versionDir);
+            return Files.createTempFile(versionDir, prefix, ".tmp");
+        }
+    }
+
+    private CertificatePdf find(String certificateNumber) {
+        Path path = pathOf(certificateNumber);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new CertificatePdf(path, attributes.size(), attributes.lastModifiedTime().toInstant(),
+                    certificateNumber + "-" + versionName);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path pathOf(String certificateNumber) {
+        Path path = versionDir.resolve(certificateNumber + ".pdf").normalize();
+        if (!path.getParent().equals(versionDir)) {
+            throw new IllegalArgumentException("不正な証明書番号です: " + certificateNumber);
+        }
+        return path;
+    }
+
+    private void deleteOtherVersions() throws IOException {
+        List<Path> stale;
+        try (Stream<Path> dirs = Files.list(baseDir)) {
+            stale = dirs.filter(Files::isDirectory)
+                    .filter(dir -> dir.getFileName().toString().matches("v\\d+"))
+                    .filter(dir -> !dir.equals(versionDir))
+                    .toList();
+        }
+        for (Path dir : stale) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+                log.info("古い版の証明書 PDF を削除しました: {}", dir.getFileName());
+            } catch (DirectoryNotEmptyException | NoSuchFileException e) {
+                // 古い版のノードが削除中に書き込んだ。残りは次に版を上げた再生成の完了時に削除する
+                log.info("古い版の証明書 PDF を削除しきれませんでした: {}", dir.getFileName());
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.skillbridge.lms.certificate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfWriter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 証明書 PDF を描画する
+ *
+ * <p>レイアウトは起動時に 1 度だけ組み立てる。固定文言は幅と座標を計算済みの状態で保持し、
+ * 証明書ごとには氏名・コース名・日付・番号の幅だけを測って配置する。フォントは全描画で共有する標準フォント
+ * (埋め込みなし・不変) を使い、出力バッファはプールから再利用する。</p>
+ *
+ * <p>レイアウトを変えた場合は {@code app.certificate.template-version} を上げ、保存済みの PDF を再生成させる。</p>
+ */
+@Component
+public class CertificatePdfRenderer {
+
+    private static final Rectangle PAGE = PageSize.A4.rotate();
+    private static final float MARGIN = 50f;
+    private static final float CENTER_X = PAGE.getWidth() / 2;
+    private static final float MAX_TEXT_WIDTH = PAGE.getWidth() - MARGIN * 2;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    private static final BaseFont REGULAR = standardFont(BaseFont.HELVETICA);
+    private static final BaseFont BOLD = standardFont(BaseFont.HELVETICA_BOLD);
+
+    /** 描画済み PDF は数 KB のため、初期容量で大半が収まる */
+    private static final int BUFFER_SIZE = 8 * 1024;
+    /** これより大きく育ったバッファはプールへ戻さない */
+    private static final int MAX_POOLED_BUFFER_SIZE = 256 * 1024;
+
+    private final List<TemplateLine> template = List.of(
+            TemplateLine.fixed("Certificate of Completion", BOLD, 36, 500),
+            TemplateLine.fixed("This is to certify that", REGULAR, 18, 415),
+            TemplateLine.field(CertificateDocument::userName, BOLD, 28, 355),
+            TemplateLine.fixed("has successfully completed the course", REGULAR, 18, 290),
+            TemplateLine.field(CertificateDocument::courseTitle, BOLD, 28, 230),
+            TemplateLine.field(c -> "Date: " + c.issuedAt().format(DATE_FORMAT), REGULAR, 14, 160),
+            TemplateLine.field(c -> "Certificate No: " + c.certificateNumber(), REGULAR, 14, 135));
+
+    private final int parallelism;
+    private final ExecutorService batchExecutor;
+    private final BlockingQueue<PdfBuffer> buffers;
+
+    public CertificatePdfRenderer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Autowired
+    public CertificatePdfRenderer(@Value("${app.certificate.batch-parallelism:0}") int parallelism) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.batchExecutor = Executors.newFixedThreadPool(this.parallelism,
+                Thread.ofPlatform().name("certificate-batch-", 0).daemon(true).factory());
+        this.buffers = new ArrayBlockingQueue<>(this.parallelism * 4);
+    }
+
+    public byte[] render(CertificateDocument certificate) {
+        PdfBuffer buffer = renderToBuffer(certificate);
+        try {
+            return buffer.toByteArray();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * 複数の証明書を並行して描画し、指定順のまま ZIP としてストリームへ書き出す
+     *
+     * <p>描画済みで書き出し待ちの PDF が並列度の 2 倍を超えないようにし、件数が多くてもメモリ使用量は一定に保つ。
+     * PDF は圧縮済みのため、ZIP には無圧縮 (STORED) で格納する。ストリームは閉じない。</p>
+     */
+    public void renderZip(List<CertificateDocument> certificates, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Deque<Pending> pending = new ArrayDeque<>();
+        try {
+            for (CertificateDocument certificate : certificates) {
+                pending.addLast(new Pending(certificate,
+                        batchExecutor.submit(() -> renderToBuffer(certificate))));
+                if (pending.size() >= parallelism * 2) {
+                    writeEntry(zip, pending.removeFirst());
+                }
+            }
+            while (!pending.isEmpty()) {
+                writeEntry(zip, pending.removeFirst());
+            }
+            zip.finish();
+        } finally {
+            for (Pending remaining : pending) {
+                remaining.future().cancel(true);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdownNow();
+    }
+
+    private PdfBuffer renderToBuffer(CertificateDocument certificate) {
+        PdfBuffer buffer = acquire();
+        try {
+            Document document = new Document(PAGE, MARGIN, MARGIN, MARGIN, MARGIN);
+            PdfWriter writer = PdfWriter.getInstance(document, buffer);
+            document.open();
+            PdfContentByte content = writer.getDirectContent();
+            content.beginText();
+            for (TemplateLine line : template) {
+                line.draw(content, certificate);
+            }
+            content.endText();
+            document.close();
+            return buffer;
+        } catch (RuntimeException e) {
+            release(buffer);
+            throw new RuntimeException("PDF生成に失敗しました", e);
+        }
+    }
+
+    private void writeEntry(ZipOutputStream zip, Pending pending) throws IOException {
+        PdfBuffer buffer;
+        try {
+            buffer = pending.future().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("証明書の描画が中断されました", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        }
+        try {
+            ZipEntry entry = new ZipEntry("certificate-" + pending.certificate().certificateNumber() + ".pdf");
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(buffer.size());
+            entry.setCompressedSize(buffer.size());
+            entry.setCrc(buffer.crc32());
+            zip.putNextEntry(entry);
+            buffer.writeTo(zip);
+            zip.closeEntry();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    private PdfBuffer acquire() {
+        PdfBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : new PdfBuffer();
+    }
+
+    private void release(PdfBuffer buffer) {
+        if (buffer.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    private static BaseFont standardFont(String name) {
+        try {
+            return BaseFont.createFont(name, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        } catch (Exception e) {
+            throw new IllegalStateException("フォントを読み込めません: " + name, e);
+        }
+    }
+
+    private record Pending(CertificateDocument certificate, Future<PdfBuffer> future) {
+    }
+
+    /**
+     * 中身をコピーせずに書き出せる出力バッファ
+     */
+    private static final class PdfBuffer extends ByteArrayOutputStream {
+
+        PdfBuffer() {
+            super(BUFFER_SIZE);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+
+        long crc32() {
+            CRC32 crc = new CRC32();
+            crc.update(buf, 0, count);
+            return crc.getValue();
+        }
+
+        /** PdfWriter は完了時にストリームを閉じるが、プールで再利用するため無視する */
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * テンプレートの 1 行 (固定文言は幅と開始位置を計算済み)
+     */
+    private record TemplateLine(Function<CertificateDocument, String> text, BaseFont font, float size, float y,
+                                float fixedX) {
+
+        static TemplateLine fixed(String text, BaseFont font, float size, float y) {
+            return new TemplateLine(c -> text, font, size, y, CENTER_X - font.getWidthPoint(text, size) / 2);
+        }
+
+        static TemplateLine field(Function<CertificateDocument, String> text, BaseFont font, float size, float y) {
+            return new TemplateLine(text, font, size, y, Float.NaN);
+        }
+
+        void draw(PdfContentByte content, CertificateDocument certificate) {
+            String value = text.apply(certificate);
+            float fontSize = size;
+            float x = fixedX;
+            if (Float.isNaN(x)) {
+                // 長い氏名やコース名は 1 行に収まるよう文字サイズを縮める
+                float width = font.getWidthPoint(value, fontSize);
+                if (width > MAX_TEXT_WIDTH) {
+                    fontSize = fontSize * MAX_TEXT_WIDTH / width;
+                    width = MAX_TEXT_WIDTH;
+                }
+                x = CENTER_X - width / 2;
+            }
+            content.setFontAndSize(font, fontSize);
+            content.setTextMatrix(x, y);
+            content.showText(value);
+        }
+    }
+}
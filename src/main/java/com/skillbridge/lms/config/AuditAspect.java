@@ -1,9 +1,13 @@
 package com.skillbridge.lms.config;
 
+import java.lang.reflect.Method;
+
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -12,21 +16,41 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserPrincipal;
 import com.skillbridge.lms.service.AuditLogService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 管理操作の監査ログ記録
+ *
+ * <p>トランザクションの内側で動く ({@link TransactionConfig})。同期モードで書き込みに失敗した場合は
+ * 例外をそのまま投げ、業務処理もロールバックさせる。</p>
+ */
 @Aspect
 @Component
 @Profile("!test")
+@Order(Ordered.LOWEST_PRECEDENCE)
 @RequiredArgsConstructor
 public class AuditAspect {
 
+    private static final ClassValue<Method> ID_GETTERS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                Method method = type.getMethod("getId");
+                return Number.class.isAssignableFrom(method.getReturnType()) ? method : null;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
     private final AuditLogService auditLogService;
     private final UserRepository userRepository;
 
-    @AfterReturning("execution(* com.skillbridge.lms.service.AdminUserService.create*(..)) || " +
+    @AfterReturning(pointcut = "execution(* com.skillbridge.lms.service.AdminUserService.create*(..)) || " +
             "execution(* com.skillbridge.lms.service.AdminUserService.update*(..)) || " +
             "execution(* com.skillbridge.lms.service.AdminUserService.toggle*(..)) || " +
             "execution(* com.skillbridge.lms.service.CourseService.create*(..)) || " +
@@ -35,24 +59,22 @@ public class AuditAspect {
             "execution(* com.skillbridge.lms.service.CourseService.togglePublish(..)) || " +
             "execution(* com.skillbridge.lms.service.CategoryService.create*(..)) || " +
             "execution(* com.skillbridge.lms.service.CategoryService.update*(..)) || " +
-            "execution(* com.skillbridge.lms.service.CategoryService.delete*(..))")
-    public void auditAdminAction(JoinPoint joinPoint) {
-        try {
-            String methodName = joinPoint.getSignature().getName();
-            String className = joinPoint.getTarget().getClass().getSimpleName();
+            "execution(* com.skillbridge.lms.service.CategoryService.delete*(..))",
+            returning = "result")
+    public void auditAdminAction(JoinPoint joinPoint, Object result) {
+        String methodName = joinPoint.getSignature().getName();
+        String className = joinPoint.getTarget().getClass().getSimpleName();
 
-            String action = resolveAction(methodName);
-            String entityType = resolveEntityType(className);
+        String action = resolveAction(methodName);
+        String entityType = resolveEntityType(className);
 
-            Long userId = getCurrentUserId();
-            String ipAddress = getClientIp();
+        Long userId = getCurrentUserId();
+        String ipAddress = getClientIp();
 
-            String details = className + "." + methodName;
+        String details = className + "." + methodName;
+        Long entityId = resolveEntityId(result, joinPoint.getArgs());
 
-            auditLogService.log(userId, action, entityType, null, details, ipAddress);
-        } catch (Exception e) {
-            // Audit logging should never break the main flow
-        }
+        auditLogService.log(userId, action, entityType, entityId, details, ipAddress);
     }
 
     private String resolveAction(String methodName) {
@@ -70,8 +92,34 @@ public class AuditAspect {
         return "UNKNOWN";
     }
 
+    /**
+     * 戻り値の getId() から対象IDを取得。戻り値がない場合 (delete 等) は先頭の Long 引数を使う
+     */
+    private Long resolveEntityId(Object result, Object[] args) {
+        if (result != null) {
+            Method getter = ID_GETTERS.get(result.getClass());
+            if (getter != null) {
+                try {
+                    Object id = getter.invoke(result);
+                    if (id instanceof Number number) {
+                        return number.longValue();
+                    }
+                } catch (ReflectiveOperationException e) {
+                    // fall through to arguments
+                }
+            }
+        }
+        if (args.length > 0 && args[0] instanceof Long id) {
+            return id;
+        }
+        return null;
+    }
+
     private Long getCurrentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
         if (auth != null && auth.getName() != null) {
             return userRepository.findByEmail(auth.getName())
                     .map(User::getId)
@@ -0,0 +1,23 @@
+package com.skillbridge.lms.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.skillbridge.lms.content.MarkdownRenderer;
+import com.skillbridge.lms.content.SimpleMarkdownRenderer;
+
+/**
+ * コンテンツ配信の設定
+ *
+ * <p>Markdown 変換器の Bean が登録されていない場合は組み込みの簡易実装を使う。</p>
+ */
+@Configuration
+public class ContentConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(MarkdownRenderer.class)
+    public MarkdownRenderer simpleMarkdownRenderer() {
+        return new SimpleMarkdownRenderer();
+    }
+}
@@ -0,0 +1,26 @@
+package com.skillbridge.lms.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.skillbridge.lms.dashboard.DashboardCacheBackend;
+import com.skillbridge.lms.dashboard.DashboardCacheProperties;
+import com.skillbridge.lms.dashboard.InMemoryDashboardCacheBackend;
+
+/**
+ * ダッシュボードキャッシュの設定
+ *
+ * <p>共有バックエンドの Bean が登録されていない場合はノードローカルのインメモリ実装を使う。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(DashboardCacheProperties.class)
+public class DashboardCacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(DashboardCacheBackend.class)
+    public DashboardCacheBackend inMemoryDashboardCacheBackend(DashboardCacheProperties properties) {
+        return new InMemoryDashboardCacheBackend(properties.getMaximumSize(), properties.getTtl());
+    }
+}
@@ -0,0 +1,26 @@
+package com.skillbridge.lms.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.skillbridge.lms.ratelimit.InMemoryRateLimitBackend;
+import com.skillbridge.lms.ratelimit.RateLimitBackend;
+import com.skillbridge.lms.ratelimit.RateLimitProperties;
+
+/**
+ * レート制限の設定
+ *
+ * <p>共有バックエンドの Bean が登録されていない場合はノードローカルのインメモリ実装を使う。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RateLimitBackend.class)
+    public RateLimitBackend inMemoryRateLimitBackend(RateLimitProperties properties) {
+        return new InMemoryRateLimitBackend(properties.getMaximumKeys(), properties.getIdleTimeout());
+    }
+}
@@ -1,48 +1,67 @@
 package com.skillbridge.lms.config;
 
 import java.io.IOException;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.skillbridge.lms.ratelimit.RateLimitBackend;
+import com.skillbridge.lms.ratelimit.RateLimitPolicy;
+import com.skillbridge.lms.ratelimit.RateLimitPolicyResolver;
+import com.skillbridge.lms.ratelimit.RateLimitResult;
+import com.skillbridge.lms.security.UserPrincipal;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 
+/**
+ * ルート・ロール別のトークンバケットによるレート制限
+ *
+ * <p>認証済みユーザーはユーザーID単位、未認証はクライアントIP単位で制限する。
+ * JWT認証フィルタの後に置くことでロール別ポリシーを適用できる。</p>
+ *
+ * <p>クライアントIPは {@link HttpServletRequest#getRemoteAddr()} を使い、X-Forwarded-For は直接読まない
+ * (クライアントが任意の値を送れるため)。リバースプロキシの背後では {@code server.forward-headers-strategy=native} により、
+ * {@code server.tomcat.remoteip.internal-proxies} に一致する接続元から届いた場合だけヘッダーの値が反映される。</p>
+ */
 @Component
 @Profile("!test")
+@RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private static final int MAX_REQUESTS_PER_MINUTE = 60;
-    private static final long WINDOW_MS = 60_000;
-
-    private final ConcurrentHashMap<String, RateLimitEntry> clients = new ConcurrentHashMap<>();
+    private final RateLimitBackend rateLimitBackend;
+    private final RateLimitPolicyResolver policyResolver;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        String clientIp = getClientIp(request);
-        RateLimitEntry entry = clients.compute(clientIp, (key, existing) -> {
-            long now = System.currentTimeMillis();
-            if (existing == null || now - existing.windowStart.get() > WINDOW_MS) {
-                return new RateLimitEntry(now);
-            }
-            return existing;
-        });
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        UserPrincipal principal = currentPrincipal();
+        String role = principal != null ? principal.getRole().name() : RateLimitPolicyResolver.ANONYMOUS;
+        String client = principal != null ? "user:" + principal.getId() : "ip:" + request.getRemoteAddr();
 
-        int count = entry.count.incrementAndGet();
+        RateLimitPolicy policy = policyResolver.resolve(request.getRequestURI(), role);
+        RateLimitResult result = rateLimitBackend.tryConsume(policy.name() + "|" + client, policy);
 
-        response.setHeader("X-RateLimit-Limit", String.valueOf(MAX_REQUESTS_PER_MINUTE));
-        response.setHeader("X-RateLimit-Remaining", String.valueOf(Math.max(0, MAX_REQUESTS_PER_MINUTE - count)));
+        response.setHeader("X-RateLimit-Limit", String.valueOf(result.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(result.remaining()));
 
-        if (count > MAX_REQUESTS_PER_MINUTE) {
+        if (!result.allowed()) {
+            long retryAfterSeconds = Math.max(1, (result.retryAfterMillis() + 999) / 1000);
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.setContentType("application/json");
             response.getWriter().write("{\"error\":\"リクエスト数の制限を超えました。しばらくしてから再試行してください。\"}");
@@ -52,21 +71,11 @@ public class RateLimitFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
-
-    private static class RateLimitEntry {
-        final AtomicLong windowStart;
-        final AtomicInteger count;
-
-        RateLimitEntry(long now) {
-            this.windowStart = new AtomicLong(now);
-            this.count = new AtomicInteger(0);
+    private UserPrincipal currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
         }
+        return null;
     }
 }
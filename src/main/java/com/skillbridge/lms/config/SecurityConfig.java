@@ -19,6 +19,8 @@ import com.skillbridge.lms.security.JwtAccessDeniedHandler;
 import com.skillbridge.lms.security.JwtAuthenticationEntryPoint;
 import com.skillbridge.lms.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -53,18 +55,21 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // ストリーミング応答の完了時の再ディスパッチ。元のリクエストで認可済みで、JWT フィルタは再実行されない
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/me").authenticated()
                 .requestMatchers("/api/auth/logout").authenticated()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/health").permitAll()
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
                 .requestMatchers("/api/files/{filename}").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated())
             .addFilterBefore(jwtAuthenticationFilter,
                     UsernamePasswordAuthenticationFilter.class);
 
         if (rateLimitFilter != null) {
-            http.addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
+            http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         }
 
         return http.build();
@@ -0,0 +1,14 @@
+package com.skillbridge.lms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * トランザクションのアドバイスを {@link AuditAspect} より外側に置き、
+ * 同期モードの監査ログ書き込みを業務処理と同じトランザクションで行う
+ */
+@Configuration
+@EnableTransactionManagement(proxyTargetClass = true, order = Ordered.LOWEST_PRECEDENCE - 1)
+public class TransactionConfig {
+}
@@ -0,0 +1,67 @@
+package com.skillbridge.lms.content;
+
+import java.util.Locale;
+
+/**
+ * 事前圧縮済みペイロードの Content-Encoding
+ */
+public enum ContentEncoding {
+
+    IDENTITY(null, ""),
+    GZIP("gzip", "-gzip");
+
+    private final String token;
+    private final String etagSuffix;
+
+    ContentEncoding(String token, String etagSuffix) {
+        this.token = token;
+        this.etagSuffix = etagSuffix;
+    }
+
+    /** Content-Encoding ヘッダーの値 (無圧縮の場合は null) */
+    public String token() {
+        return token;
+    }
+
+    /** 表現ごとに ETag を区別するための接尾辞 */
+    public String etagSuffix() {
+        return etagSuffix;
+    }
+
+    /**
+     * Accept-Encoding からエンコーディングを選ぶ (q=0 で明示的に拒否されたものは選ばない)
+     */
+    public static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        double gzip = -1;
+        double wildcard = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double q = quality(tokens);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = q;
+            } else if (coding.equals("*")) {
+                wildcard = q;
+            }
+        }
+        double effective = gzip >= 0 ? gzip : wildcard;
+        return effective > 0 ? GZIP : IDENTITY;
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,133 @@
+package com.skillbridge.lms.content;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * コンテンツディレクトリを監視し、変更されたファイルのキャッシュを破棄する
+ *
+ * <p>WatchService はディレクトリ単位のため、起動時に配下の全ディレクトリを登録し、
+ * 新しく作成されたディレクトリも順次登録する。イベントが溢れた場合はキャッシュ全体を破棄する。
+ * 起動時にコンテンツディレクトリがなければ作成して監視する。</p>
+ */
+@Slf4j
+@Component
+public class ContentFileWatcher {
+
+    private final LessonContentCache cache;
+    private final boolean enabled;
+
+    private volatile boolean running;
+    private WatchService watchService;
+    private Thread worker;
+
+    public ContentFileWatcher(LessonContentCache cache,
+                              @Value("${content.cache.watch:true}") boolean enabled) {
+        this.cache = cache;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void start() {
+        Path root = cache.getBasePath();
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 後から作成されたディレクトリは監視できないため、先に作っておく
+            Files.createDirectories(root);
+            watchService = FileSystems.getDefault().newWatchService();
+            registerTree(root);
+        } catch (IOException e) {
+            log.warn("コンテンツディレクトリの監視を開始できません (変更は TTL 経過後に反映): {}", root, e);
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("content-file-watcher").start(this::runLoop);
+    }
+
+    @PreDestroy
+    void stop() throws IOException, InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        watchService.close();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void runLoop() {
+        while (running) {
+            WatchKey key;
+            try {
+                key = watchService.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+            if (key == null) {
+                continue;
+            }
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    log.debug("Content watch events overflowed; invalidating all");
+                    cache.invalidateAll();
+                    continue;
+                }
+                Path changed = dir.resolve((Path) event.context());
+                if (event.kind() == ENTRY_CREATE && Files.isDirectory(changed, LinkOption.NOFOLLOW_LINKS)) {
+                    registerTreeQuietly(changed);
+                }
+                cache.invalidate(changed);
+            }
+            if (!key.reset()) {
+                // 監視中のディレクトリ自体が削除・移動された
+                cache.invalidate(dir);
+            }
+        }
+    }
+
+    private void registerTree(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void registerTreeQuietly(Path root) {
+        try {
+            registerTree(root);
+        } catch (IOException | ClosedWatchServiceException e) {
+            log.warn("Failed to watch content directory: {}", root, e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.skillbridge.lms.content;
+
+import java.util.Locale;
+
+import com.skillbridge.lms.exception.BadRequestException;
+
+/**
+ * レッスンコンテンツの本文形式
+ */
+public enum ContentFormat {
+
+    MARKDOWN,
+    HTML;
+
+    public static ContentFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return MARKDOWN;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("不正な形式です: " + value);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.skillbridge.lms.content;
+
+import java.time.Instant;
+
+/**
+ * キャッシュされたレッスンコンテンツ
+ *
+ * @param text デコード済みの Markdown
+ * @param bytes ファイルサイズ (キャッシュの重み)
+ * @param sha256 ファイル内容の SHA-256 (16進)。読み込み時に1度だけ計算する
+ * @param lastModified ファイルの更新日時
+ */
+public record LessonContent(String text, int bytes, String sha256, Instant lastModified) {
+}
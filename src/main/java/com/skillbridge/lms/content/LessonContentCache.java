@@ -0,0 +1,175 @@
+package com.skillbridge.lms.content;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skillbridge.lms.repository.LessonRepository;
+import com.skillbridge.lms.repository.projection.LessonKeyRow;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * レッスンコンテンツ (Markdown ファイル) のキャッシュ
+ *
+ * <p>ファイルサイズを重みとして合計バイト数で上限を設ける。ファイルの変更は {@link ContentFileWatcher} が検知して
+ * 該当エントリを破棄する。監視できない環境でも TTL 経過後には変更が反映される。
+ * 存在しないファイルはキャッシュしない。</p>
+ */
+@Slf4j
+@Component
+public class LessonContentCache {
+
+    private final Path basePath;
+    private final LessonRepository lessonRepository;
+    private final boolean warmUpOnStartup;
+    private final long maximumBytes;
+    private final Cache<Path, LessonContent> cache;
+
+    public LessonContentCache(
+            LessonRepository lessonRepository,
+            MeterRegistry meterRegistry,
+            @Value("${content.base-path:content}") String basePath,
+            @Value("${content.cache.maximum-size:64MB}") DataSize maximumSize,
+            @Value("${content.cache.ttl:1h}") Duration ttl,
+            @Value("${content.cache.warm-up:true}") boolean warmUpOnStartup) {
+        this.basePath = Path.of(basePath).toAbsolutePath().normalize();
+        this.lessonRepository = lessonRepository;
+        this.warmUpOnStartup = warmUpOnStartup;
+        this.maximumBytes = maximumSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Path path, LessonContent content) -> content.bytes())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "lesson-content");
+        Gauge.builder("lesson.content.cache.resident.bytes", this, LessonContentCache::residentBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public Path getBasePath() {
+        return basePath;
+    }
+
+    /**
+     * コンテンツを取得 (ファイルが存在しない・読み込めない場合は null)
+     *
+     * <p>同じファイルへの同時アクセスでは読み込みは1回だけ行い、他の呼び出しはその完了を待つ。</p>
+     */
+    public LessonContent get(Long courseId, Long lessonId) {
+        return cache.get(resolve(courseId, lessonId), this::load);
+    }
+
+    /**
+     * 指定パス (ディレクトリの場合は配下すべて) のエントリを破棄
+     */
+    public void invalidate(Path path) {
+        Path normalized = path.toAbsolutePath().normalize();
+        // 読み込み中のエントリは完了を待ってから破棄し、変更前の内容が残らないようにする
+        cache.invalidate(normalized);
+        cache.asMap().keySet().removeIf(key -> key.startsWith(normalized));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /** 保持しているコンテンツの合計バイト数 */
+    public long residentBytes() {
+        cache.cleanUp();
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * 公開レッスンのコンテンツを上限に収まる範囲で読み込む
+     *
+     * @return 読み込んだ件数
+     */
+    public int warmUp() {
+        long start = System.nanoTime();
+        int loaded = 0;
+        for (LessonKeyRow row : lessonRepository.findPublishedLessonKeys()) {
+            Path path = resolve(row.getCourseId(), row.getLessonId());
+            if (cache.asMap().containsKey(path)) {
+                continue;
+            }
+            long size;
+            try {
+                size = Files.size(path);
+            } catch (IOException e) {
+                continue;
+            }
+            // 上限を超えると読み込み済みのエントリが追い出されるため、そこで打ち切る
+            if (residentBytes() + size > maximumBytes) {
+                break;
+            }
+            // get と同じくキャッシュ経由で読み込み、読み込み中に届いた破棄で変更前の内容が残らないようにする
+            if (cache.get(path, this::load) != null) {
+                loaded++;
+            }
+        }
+        log.info("レッスンコンテンツを事前読み込みしました: {}件 ({}ms)", loaded,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return loaded;
+    }
+
+    /**
+     * 起動を遅らせないよう仮想スレッドで事前読み込みする
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (warmUpOnStartup) {
+            Thread.ofVirtual().name("lesson-content-warm-up").start(this::warmUp);
+        }
+    }
+
+    private Path resolve(Long courseId, Long lessonId) {
+        return basePath.resolve(Path.of("courses", String.valueOf(courseId), "lessons", lessonId + ".md"));
+    }
+
+    private LessonContent load(Path path) {
+        try {
+            Instant lastModified = Files.getLastModifiedTime(path).toInstant();
+            byte[] bytes = Files.readAllBytes(path);
+            return new LessonContent(new String(bytes, StandardCharsets.UTF_8), bytes.length,
+                    HexFormat.of().formatHex(sha256(bytes)), lastModified);
+        } catch (NoSuchFileException e) {
+            log.debug("Content file not found: {}", path);
+            return null;
+        } catch (IOException e) {
+            log.warn("Failed to read content file: {}", path, e);
+            return null;
+        }
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
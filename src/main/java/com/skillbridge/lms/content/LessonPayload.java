@@ -0,0 +1,25 @@
+package com.skillbridge.lms.content;
+
+/**
+ * シリアライズ済みのレスポンス本文とその圧縮版
+ *
+ * @param identity 無圧縮の JSON
+ * @param gzip gzip 圧縮した JSON (小さすぎて圧縮しない場合は null)
+ */
+public record LessonPayload(byte[] identity, byte[] gzip) {
+
+    /**
+     * 要求されたエンコーディングで返せない場合は無圧縮にフォールバックする
+     */
+    public ContentEncoding resolve(ContentEncoding requested) {
+        return requested == ContentEncoding.GZIP && gzip != null ? ContentEncoding.GZIP : ContentEncoding.IDENTITY;
+    }
+
+    public byte[] bytes(ContentEncoding encoding) {
+        return encoding == ContentEncoding.GZIP ? gzip : identity;
+    }
+
+    int weight() {
+        return identity.length + (gzip != null ? gzip.length : 0);
+    }
+}
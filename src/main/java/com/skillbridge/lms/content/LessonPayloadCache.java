@@ -0,0 +1,66 @@
+package com.skillbridge.lms.content;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * シリアライズ・圧縮済みのレッスンレスポンスのキャッシュ
+ *
+ * <p>キーには ETag を含めるため、コンテンツやレッスン情報が変われば別エントリになり、古いものは容量上限で追い出される。
+ * 初回読み込み時に1度だけシリアライズと圧縮を行い、以降はバイト列をそのまま返す。</p>
+ */
+@Component
+public class LessonPayloadCache {
+
+    private final Cache<String, LessonPayload> cache;
+    private final long compressionMinBytes;
+
+    public LessonPayloadCache(
+            MeterRegistry meterRegistry,
+            @Value("${content.payload-cache.maximum-size:64MB}") DataSize maximumSize,
+            @Value("${content.compression.min-size:1KB}") DataSize compressionMinSize) {
+        this.compressionMinBytes = compressionMinSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String key, LessonPayload payload) -> payload.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "lesson-payload");
+    }
+
+    public LessonPayload get(String key, Supplier<byte[]> serializer) {
+        return cache.get(key, k -> encode(serializer.get()));
+    }
+
+    LessonPayload encode(byte[] identity) {
+        byte[] gzip = identity.length >= compressionMinBytes ? gzip(identity) : null;
+        // 圧縮しても小さくならない場合は無圧縮のみ保持する
+        if (gzip != null && gzip.length >= identity.length) {
+            gzip = null;
+        }
+        return new LessonPayload(identity, gzip);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,12 @@
+package com.skillbridge.lms.content;
+
+/**
+ * Markdown を HTML に変換する (SPI)
+ *
+ * <p>既定は {@link SimpleMarkdownRenderer}。CommonMark 準拠のライブラリ等を使う実装を Bean として登録すると、
+ * そちらが優先される。出力はクライアントでそのまま表示されるため、生の HTML はエスケープすること。</p>
+ */
+public interface MarkdownRenderer {
+
+    String render(String markdown);
+}
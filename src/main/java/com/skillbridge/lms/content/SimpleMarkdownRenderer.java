@@ -0,0 +1,172 @@
+package com.skillbridge.lms.content;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * レッスン教材で使う Markdown の基本構文だけを扱う変換器
+ *
+ * <p>見出し・段落・箇条書き・番号付きリスト・引用・水平線・コードブロックと、
+ * インラインのコード・強調・リンク・画像に対応する。生の HTML はすべてエスケープし、
+ * リンク先は http(s)・mailto・相対パスのみ許可する。</p>
+ */
+public class SimpleMarkdownRenderer implements MarkdownRenderer {
+
+    private static final Pattern HEADING = Pattern.compile("^(#{1,6})\\s+(.*?)\\s*#*\\s*$");
+    private static final Pattern RULE = Pattern.compile("^\\s{0,3}([-*_])(\\s*\\1){2,}\\s*$");
+    private static final Pattern BULLET = Pattern.compile("^\\s{0,3}[-*+]\\s+(.*)$");
+    private static final Pattern ORDERED = Pattern.compile("^\\s{0,3}\\d{1,9}[.)]\\s+(.*)$");
+    private static final Pattern FENCE = Pattern.compile("^\\s{0,3}(```|~~~)\\s*([A-Za-z0-9_+-]*)\\s*$");
+    private static final Pattern QUOTE = Pattern.compile("^\\s{0,3}>\\s?(.*)$");
+    private static final Pattern CODE_SPAN = Pattern.compile("(`+)(.+?)\\1");
+    private static final Pattern IMAGE = Pattern.compile("!\\[([^\\]]*)]\\(([^)\\s]+)\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]+)]\\(([^)\\s]+)\\)");
+    private static final Pattern STRONG = Pattern.compile("\\*\\*(.+?)\\*\\*|__(.+?)__");
+    private static final Pattern EMPHASIS = Pattern.compile("\\*(.+?)\\*");
+
+    @Override
+    public String render(String markdown) {
+        StringBuilder html = new StringBuilder(markdown.length() + markdown.length() / 4);
+        renderBlocks(markdown.replace("\r\n", "\n").split("\n", -1), html);
+        return html.toString();
+    }
+
+    private void renderBlocks(String[] lines, StringBuilder html) {
+        List<String> paragraph = new ArrayList<>();
+        int i = 0;
+        while (i < lines.length) {
+            String line = lines[i];
+            Matcher matcher;
+            if (line.isBlank()) {
+                flushParagraph(paragraph, html);
+                i++;
+            } else if ((matcher = FENCE.matcher(line)).matches()) {
+                flushParagraph(paragraph, html);
+                i = renderCodeBlock(lines, i + 1, matcher.group(1), matcher.group(2), html);
+            } else if ((matcher = HEADING.matcher(line)).matches()) {
+                flushParagraph(paragraph, html);
+                int level = matcher.group(1).length();
+                html.append("<h").append(level).append('>').append(inline(matcher.group(2)))
+                        .append("</h").append(level).append(">\n");
+                i++;
+            } else if (RULE.matcher(line).matches()) {
+                flushParagraph(paragraph, html);
+                html.append("<hr>\n");
+                i++;
+            } else if (QUOTE.matcher(line).matches()) {
+                flushParagraph(paragraph, html);
+                List<String> quoted = new ArrayList<>();
+                while (i < lines.length && (matcher = QUOTE.matcher(lines[i])).matches()) {
+                    quoted.add(matcher.group(1));
+                    i++;
+                }
+                html.append("<blockquote>\n");
+                renderBlocks(quoted.toArray(String[]::new), html);
+                html.append("</blockquote>\n");
+            } else if (BULLET.matcher(line).matches() || ORDERED.matcher(line).matches()) {
+                flushParagraph(paragraph, html);
+                i = renderList(lines, i, html);
+            } else {
+                paragraph.add(line.trim());
+                i++;
+            }
+        }
+        flushParagraph(paragraph, html);
+    }
+
+    private int renderCodeBlock(String[] lines, int start, String fence, String language, StringBuilder html) {
+        html.append("<pre><code");
+        if (!language.isEmpty()) {
+            html.append(" class=\"language-").append(language.toLowerCase(Locale.ROOT)).append('"');
+        }
+        html.append('>');
+        int i = start;
+        while (i < lines.length && !lines[i].trim().equals(fence)) {
+            html.append(HtmlUtils.htmlEscape(lines[i])).append('\n');
+            i++;
+        }
+        html.append("</code></pre>\n");
+        return i + 1;
+    }
+
+    private int renderList(String[] lines, int start, StringBuilder html) {
+        boolean ordered = ORDERED.matcher(lines[start]).matches();
+        Pattern item = ordered ? ORDERED : BULLET;
+        String tag = ordered ? "ol" : "ul";
+        html.append('<').append(tag).append(">\n");
+        int i = start;
+        Matcher matcher;
+        while (i < lines.length && (matcher = item.matcher(lines[i])).matches()) {
+            html.append("<li>").append(inline(matcher.group(1))).append("</li>\n");
+            i++;
+        }
+        html.append("</").append(tag).append(">\n");
+        return i;
+    }
+
+    private void flushParagraph(List<String> paragraph, StringBuilder html) {
+        if (paragraph.isEmpty()) {
+            return;
+        }
+        html.append("<p>").append(inline(String.join("\n", paragraph))).append("</p>\n");
+        paragraph.clear();
+    }
+
+    /**
+     * コードスパンの中は装飾せず、それ以外をエスケープしてから装飾する
+     */
+    private String inline(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        Matcher code = CODE_SPAN.matcher(text);
+        int last = 0;
+        while (code.find()) {
+            out.append(decorate(text.substring(last, code.start())));
+            out.append("<code>").append(HtmlUtils.htmlEscape(code.group(2).strip())).append("</code>");
+            last = code.end();
+        }
+        out.append(decorate(text.substring(last)));
+        return out.toString();
+    }
+
+    private String decorate(String text) {
+        String escaped = HtmlUtils.htmlEscape(text);
+        escaped = replace(IMAGE, escaped, m -> isSafeUrl(m.group(2))
+                ? "<img src=\"" + m.group(2) + "\" alt=\"" + m.group(1) + "\">"
+                : m.group(1));
+        escaped = replace(LINK, escaped, m -> isSafeUrl(m.group(2))
+                ? "<a href=\"" + m.group(2) + "\">" + m.group(1) + "</a>"
+                : m.group(1));
+        escaped = replace(STRONG, escaped,
+                m -> "<strong>" + (m.group(1) != null ? m.group(1) : m.group(2)) + "</strong>");
+        return replace(EMPHASIS, escaped, m -> "<em>" + m.group(1) + "</em>");
+    }
+
+    private static String replace(Pattern pattern, String text, Function<Matcher, String> replacement) {
+        Matcher matcher = pattern.matcher(text);
+        StringBuilder out = new StringBuilder(text.length());
+        while (matcher.find()) {
+            matcher.appendReplacement(out, Matcher.quoteReplacement(replacement.apply(matcher)));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    /**
+     * javascript: 等のスキームを拒否する (エスケープ済みの URL を受け取る)
+     */
+    private static boolean isSafeUrl(String url) {
+        String lower = url.toLowerCase(Locale.ROOT);
+        int colon = lower.indexOf(':');
+        int slash = lower.indexOf('/');
+        if (colon < 0 || (slash >= 0 && slash < colon)) {
+            return true;
+        }
+        return lower.startsWith("http:") || lower.startsWith("https:") || lower.startsWith("mailto:");
+    }
+}
@@ -0,0 +1,15 @@
+package com.skillbridge.lms.content;
+
+import java.time.Instant;
+
+/**
+ * 条件付き GET 用のバージョン情報を伴うレッスンコンテンツ
+ *
+ * @param payload シリアライズ・圧縮済みのレスポンス本文
+ * @param etag コンテンツのハッシュとレッスンの更新日時から導出した強い ETag (引用符なし)
+ * @param lastModified ファイルとレッスンの更新日時のうち新しい方
+ * @param published 公開レッスンか (キャッシュポリシーの判定用)
+ */
+public record VersionedLessonContent(LessonPayload payload, String etag, Instant lastModified,
+                                     boolean published) {
+}
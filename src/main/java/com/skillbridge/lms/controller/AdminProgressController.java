@@ -9,16 +9,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import com.skillbridge.lms.dto.response.AdminStatsResponse;
+import com.skillbridge.lms.dto.response.MessageResponse;
 import com.skillbridge.lms.dto.response.PageResponse;
 import com.skillbridge.lms.dto.response.UserCourseProgressResponse;
 import com.skillbridge.lms.dto.response.UserProgressSummaryResponse;
 import com.skillbridge.lms.service.AdminProgressService;
+import com.skillbridge.lms.service.ProgressReconciliationService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminProgressController {
 
     private final AdminProgressService adminProgressService;
+    private final ProgressReconciliationService progressReconciliationService;
 
     @GetMapping("/progress")
     public ResponseEntity<PageResponse<UserProgressSummaryResponse>> getProgress(
@@ -44,6 +48,12 @@ public class AdminProgressController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/progress/reconcile")
+    public ResponseEntity<MessageResponse> reconcileProgress() {
+        int fixed = progressReconciliationService.reconcileProgressCounters();
+        return ResponseEntity.ok(new MessageResponse("進捗カウンタを補正しました: " + fixed + "件"));
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<AdminStatsResponse> getStats() {
         AdminStatsResponse response = adminProgressService.getStats();
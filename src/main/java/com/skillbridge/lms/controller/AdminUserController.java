@@ -7,7 +7,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,11 +21,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 import com.skillbridge.lms.dto.request.AdminCreateUserRequest;
 import com.skillbridge.lms.dto.request.AdminUpdateUserRequest;
+import com.skillbridge.lms.dto.response.CursorPageResponse;
 import com.skillbridge.lms.dto.response.PageResponse;
 import com.skillbridge.lms.dto.response.UserListResponse;
-import com.skillbridge.lms.entity.User;
-import com.skillbridge.lms.exception.ResourceNotFoundException;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserPrincipal;
 import com.skillbridge.lms.service.AdminUserService;
 
 import jakarta.validation.Valid;
@@ -40,7 +38,6 @@ import lombok.RequiredArgsConstructor;
 public class AdminUserController {
 
     private final AdminUserService adminUserService;
-    private final UserRepository userRepository;
 
     @GetMapping
     public ResponseEntity<PageResponse<UserListResponse>> getUsers(
@@ -52,6 +49,18 @@ public class AdminUserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * ユーザー検索 (キーセット方式、新しい順)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<UserListResponse>> searchUsers(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(adminUserService.searchUsers(keyword, role, cursor, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserListResponse> getUser(@PathVariable Long id) {
         UserListResponse response = adminUserService.getUser(id);
@@ -76,10 +85,8 @@ public class AdminUserController {
     @PatchMapping("/{id}/toggle-enabled")
     public ResponseEntity<UserListResponse> toggleEnabled(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new ResourceNotFoundException("現在のユーザーが見つかりません"));
-        UserListResponse response = adminUserService.toggleEnabled(id, currentUser.getId());
+            @AuthenticationPrincipal UserPrincipal principal) {
+        UserListResponse response = adminUserService.toggleEnabled(id, principal.getId());
         return ResponseEntity.ok(response);
     }
 }
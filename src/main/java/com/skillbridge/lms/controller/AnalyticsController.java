@@ -1,18 +1,24 @@
 package com.skillbridge.lms.controller;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.skillbridge.lms.dto.response.CompletionStatsResponse;
 import com.skillbridge.lms.dto.response.EnrollmentTrendResponse;
+import com.skillbridge.lms.dto.response.MessageResponse;
 import com.skillbridge.lms.dto.response.PopularCourseResponse;
 import com.skillbridge.lms.service.AnalyticsService;
 
@@ -28,10 +34,23 @@ public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
 
+    /**
+     * 受講登録数の推移 (granularity を省略すると期間に応じて day/week/month を選ぶ。
+     * 指定した粒度で上限件数を超える期間は 400)
+     */
     @GetMapping("/enrollments")
     public ResponseEntity<List<EnrollmentTrendResponse>> getEnrollmentTrends(
-            @RequestParam(defaultValue = "30d") String period) {
-        return ResponseEntity.ok(analyticsService.getEnrollmentTrends(period));
+            @RequestParam(defaultValue = "30d") String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String granularity) {
+        return ResponseEntity.ok(analyticsService.getEnrollmentTrends(period, from, to, granularity));
+    }
+
+    @PostMapping("/enrollments/rebuild")
+    public ResponseEntity<MessageResponse> rebuildEnrollmentStats() {
+        int days = analyticsService.rebuildEnrollmentDailyStats();
+        return ResponseEntity.ok(new MessageResponse("受講登録の日次集計を再構築しました: " + days + "日分"));
     }
 
     @GetMapping("/completions")
@@ -45,12 +64,26 @@ public class AnalyticsController {
     }
 
     @GetMapping("/export/csv")
-    public ResponseEntity<byte[]> exportCsv() {
-        String csv = analyticsService.exportCsv();
-        byte[] csvBytes = csv.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream)) {
+                    analyticsService.exportCsv(gzipStream, from, to, courseId);
+                }
+            } else {
+                analyticsService.exportCsv(outputStream, from, to, courseId);
+            }
+        };
+        String filename = gzip ? "analytics-export.csv.gz" : "analytics-export.csv";
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=analytics-export.csv")
-                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
-                .body(csvBytes);
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .contentType(gzip
+                        ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .body(body);
     }
 }
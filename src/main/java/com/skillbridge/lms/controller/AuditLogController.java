@@ -1,7 +1,11 @@
 package com.skillbridge.lms.controller;
 
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -10,8 +14,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.skillbridge.lms.dto.response.AuditLogResponse;
+import com.skillbridge.lms.dto.response.CursorPageResponse;
 import com.skillbridge.lms.dto.response.PageResponse;
 import com.skillbridge.lms.service.AuditLogService;
 
@@ -36,13 +42,38 @@ public class AuditLogController {
         return ResponseEntity.ok(auditLogService.getAuditLogs(action, entityType, userId, pageable));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<AuditLogResponse>> getAuditLogsByCursor(
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(auditLogService.getAuditLogsByCursor(
+                action, entityType, userId, cursor, size, includeTotal));
+    }
+
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportCsv() {
-        String csv = auditLogService.exportCsv();
-        byte[] csvBytes = csv.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream)) {
+                    auditLogService.exportCsv(gzipStream, from, to);
+                }
+            } else {
+                auditLogService.exportCsv(outputStream, from, to);
+            }
+        };
+        String filename = gzip ? "audit-logs.csv.gz" : "audit-logs.csv";
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=audit-logs.csv")
-                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
-                .body(csvBytes);
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .contentType(gzip
+                        ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .body(body);
     }
 }
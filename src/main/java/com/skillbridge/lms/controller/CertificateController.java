@@ -2,16 +2,23 @@ package com.skillbridge.lms.controller;
 
 import java.util.List;
 
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.skillbridge.lms.certificate.CertificateDocument;
+import com.skillbridge.lms.certificate.CertificatePdf;
 import com.skillbridge.lms.dto.response.CertificateResponse;
 import com.skillbridge.lms.service.CertificateService;
 
@@ -40,13 +47,30 @@ public class CertificateController {
     }
 
     @GetMapping("/{id}/pdf")
-    public ResponseEntity<byte[]> downloadPdf(
+    public ResponseEntity<Resource> downloadPdf(
             @PathVariable Long id,
             @AuthenticationPrincipal UserDetails userDetails) {
-        byte[] pdfBytes = certificateService.generatePdf(id, userDetails.getUsername());
+        CertificatePdf pdf = certificateService.getPdf(id, userDetails.getUsername());
+        // 保存済みファイルをそのまま流し、If-None-Match が一致すれば本文を返さない (304)
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=certificate-" + id + ".pdf")
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(pdfBytes);
+                .contentLength(pdf.size())
+                .eTag(pdf.etag())
+                .lastModified(pdf.lastModified())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new FileSystemResource(pdf.path()));
+    }
+
+    @GetMapping("/courses/{courseId}/archive")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('INSTRUCTOR')")
+    public ResponseEntity<StreamingResponseBody> downloadCourseArchive(@PathVariable Long courseId) {
+        List<CertificateDocument> certificates = certificateService.getCourseCertificates(courseId);
+        StreamingResponseBody body = outputStream -> certificateService.writeArchive(certificates, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=certificates-course-" + courseId + ".zip")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
     }
 }
@@ -1,13 +1,28 @@
 package com.skillbridge.lms.controller;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.skillbridge.lms.content.ContentEncoding;
+import com.skillbridge.lms.content.ContentFormat;
+import com.skillbridge.lms.content.VersionedLessonContent;
 import com.skillbridge.lms.dto.response.LessonContentResponse;
 import com.skillbridge.lms.service.ContentService;
 
@@ -19,13 +34,44 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Content", description = "コンテンツ配信 API")
 public class ContentController {
 
+    @Value("${content.http.max-age:60s}")
+    private Duration maxAge;
+
     private final ContentService contentService;
 
+    /**
+     * If-None-Match / If-Modified-Since が一致する場合は本文を返さず 304 を返す
+     * (判定は ResponseEntity の ETag・Last-Modified をもとに Spring MVC が行う)
+     *
+     * <p>本文はキャッシュ済みのバイト列をそのまま書き出し、Accept-Encoding が gzip を許可していれば
+     * 事前圧縮版を返す。</p>
+     */
+    @Operation(summary = "レッスンコンテンツ取得 (format=html で HTML に変換した本文)")
+    @ApiResponse(responseCode = "200", content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = LessonContentResponse.class)))
     @GetMapping("/{lessonId}/content")
-    public ResponseEntity<LessonContentResponse> getContent(
+    public ResponseEntity<byte[]> getContent(
             @PathVariable Long courseId,
-            @PathVariable Long lessonId) {
-        LessonContentResponse response = contentService.getContent(courseId, lessonId);
-        return ResponseEntity.ok(response);
+            @PathVariable Long lessonId,
+            @RequestParam(defaultValue = "markdown") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        VersionedLessonContent content = contentService.getContent(courseId, lessonId, ContentFormat.from(format));
+        ContentEncoding encoding = content.payload().resolve(ContentEncoding.negotiate(acceptEncoding));
+
+        // 認証が必要な API のため共有キャッシュには保存させない。非公開レッスンは毎回再検証する
+        CacheControl cacheControl = content.published()
+                ? CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate()
+                : CacheControl.noCache().cachePrivate();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(content.etag() + encoding.etagSuffix())
+                .lastModified(content.lastModified())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (encoding.token() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        return response.body(content.payload().bytes(encoding));
     }
 }
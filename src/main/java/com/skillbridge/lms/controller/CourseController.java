@@ -1,5 +1,7 @@
 package com.skillbridge.lms.controller;
 
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -26,6 +28,7 @@ import com.skillbridge.lms.dto.request.UpdateCourseRequest;
 import com.skillbridge.lms.dto.response.CourseResponse;
 import com.skillbridge.lms.dto.response.MessageResponse;
 import com.skillbridge.lms.dto.response.PageResponse;
+import com.skillbridge.lms.search.CourseSearchService;
 import com.skillbridge.lms.service.CourseService;
 
 import jakarta.validation.Valid;
@@ -38,6 +41,7 @@ import lombok.RequiredArgsConstructor;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseSearchService courseSearchService;
 
     /**
      * コース一覧取得
@@ -56,6 +60,44 @@ public class CourseController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * コース全文検索 (関連度順)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<CourseResponse>> searchCourses(
+            @RequestParam String q,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false, defaultValue = "all") String status,
+            @PageableDefault(size = 10) Pageable pageable,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        boolean isAdmin = hasAdminRole(userDetails);
+        return ResponseEntity.ok(courseService.searchCourses(q, categoryId, status, isAdmin, pageable));
+    }
+
+    /**
+     * コースタイトルの入力補完
+     */
+    @GetMapping("/search/suggest")
+    public ResponseEntity<List<String>> suggestCourseTitles(
+            @RequestParam String prefix,
+            @RequestParam(required = false, defaultValue = "10") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Boolean published = hasAdminRole(userDetails) ? null : Boolean.TRUE;
+        return ResponseEntity.ok(courseSearchService.suggest(prefix, published, Math.clamp(limit, 1, 20)));
+    }
+
+    /**
+     * 検索インデックスを DB から再構築 (ADMINのみ)
+     */
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MessageResponse> rebuildSearchIndex() {
+        int count = courseSearchService.rebuild();
+        return ResponseEntity.ok(new MessageResponse("検索インデックスを再構築しました: " + count + "件"));
+    }
+
     /**
      * コース詳細取得
      */
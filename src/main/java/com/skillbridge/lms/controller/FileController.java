@@ -1,16 +1,10 @@
 package com.skillbridge.lms.controller;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Map;
-
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,10 +13,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.skillbridge.lms.exception.ResourceNotFoundException;
+import com.skillbridge.lms.dto.response.FileUploadResponse;
+import com.skillbridge.lms.dto.response.MessageResponse;
 import com.skillbridge.lms.service.FileStorageService;
+import com.skillbridge.lms.storage.AssetResponseWriter;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -32,35 +30,37 @@ import lombok.RequiredArgsConstructor;
 public class FileController {
 
     private final FileStorageService fileStorageService;
+    private final AssetResponseWriter assetResponseWriter;
 
     @PostMapping("/upload")
     @PreAuthorize("hasRole('ADMIN') or hasRole('INSTRUCTOR')")
-    public ResponseEntity<Map<String, String>> uploadFile(@RequestParam("file") MultipartFile file) {
-        String fileUrl = fileStorageService.storeFile(file);
-        return ResponseEntity.ok(Map.of("url", fileUrl));
+    public ResponseEntity<FileUploadResponse> uploadFile(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(fileStorageService.storeFile(file));
     }
 
-    @GetMapping("/{filename}")
-    public ResponseEntity<Resource> getFile(@PathVariable String filename) {
-        try {
-            Path filePath = fileStorageService.getFilePath(filename);
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (!resource.exists()) {
-                throw new ResourceNotFoundException("ファイルが見つかりません: " + filename);
-            }
+    /**
+     * 画像をリクエストボディで直接受け取る (multipart の一時ファイルを経由せずに保存先へ書き込む)
+     */
+    @PostMapping(value = "/upload", consumes = {
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp"
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('INSTRUCTOR')")
+    public ResponseEntity<FileUploadResponse> uploadStream(
+            @RequestParam(value = "filename", required = false) String filename,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(fileStorageService.store(request.getInputStream(), filename));
+    }
 
-            String contentType = Files.probeContentType(filePath);
-            if (contentType == null) {
-                contentType = "application/octet-stream";
-            }
+    @DeleteMapping("/{id:\\d+}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MessageResponse> deleteFile(@PathVariable Long id) {
+        fileStorageService.deleteFile(id);
+        return ResponseEntity.ok(new MessageResponse("ファイルを削除しました"));
+    }
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CACHE_CONTROL, "max-age=86400")
-                    .body(resource);
-        } catch (IOException e) {
-            throw new ResourceNotFoundException("ファイルが見つかりません: " + filename);
-        }
+    @GetMapping("/{filename}")
+    public void getFile(@PathVariable String filename, HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        assetResponseWriter.write(fileStorageService.getStoredFile(filename), request, response);
     }
 }
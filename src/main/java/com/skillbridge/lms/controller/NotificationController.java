@@ -11,8 +11,10 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.skillbridge.lms.dto.response.CursorPageResponse;
 import com.skillbridge.lms.dto.response.NotificationResponse;
 import com.skillbridge.lms.service.NotificationService;
 
@@ -33,6 +35,20 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getNotifications(userDetails.getUsername()));
     }
 
+    /**
+     * 通知フィード (cursor で古い側へ、since で新着のみを取得)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<NotificationResponse>> getNotificationFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(notificationService.getNotificationFeed(
+                userDetails.getUsername(), cursor, since, unreadOnly, size));
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<Map<String, Long>> getUnreadCount(
             @AuthenticationPrincipal UserDetails userDetails) {
@@ -47,10 +63,16 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.markAsRead(id, userDetails.getUsername()));
     }
 
+    /**
+     * 未読通知を既読にする (upToId 指定時はそのID以前の通知のみ)
+     */
     @PostMapping("/read-all")
-    public ResponseEntity<Void> markAllAsRead(
+    public ResponseEntity<Map<String, Integer>> markAllAsRead(
+            @RequestParam(required = false) Long upToId,
             @AuthenticationPrincipal UserDetails userDetails) {
-        notificationService.markAllAsRead(userDetails.getUsername());
-        return ResponseEntity.ok().build();
+        int updated = upToId != null
+                ? notificationService.markAsReadUpTo(upToId, userDetails.getUsername())
+                : notificationService.markAllAsRead(userDetails.getUsername());
+        return ResponseEntity.ok(Map.of("count", updated));
     }
 }
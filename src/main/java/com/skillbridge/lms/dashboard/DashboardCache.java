@@ -0,0 +1,111 @@
+package com.skillbridge.lms.dashboard;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.skillbridge.lms.dto.response.InstructorDashboardResponse;
+import com.skillbridge.lms.dto.response.LearnerDashboardResponse;
+import com.skillbridge.lms.event.CourseChangedEvent;
+import com.skillbridge.lms.event.LearningActivityEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * ダッシュボードのレスポンスキャッシュ
+ *
+ * <p>受講者ダッシュボードはユーザーごと、講師ダッシュボードは内容がユーザーに依存しないため全体で1件保持する。
+ * 学習状況の変更はコミット後のイベントで該当エントリを破棄する。</p>
+ */
+@Component
+public class DashboardCache {
+
+    static final String INSTRUCTOR_KEY = "instructor";
+
+    private final DashboardCacheBackend backend;
+    private final boolean enabled;
+    private final Counter learnerHits;
+    private final Counter learnerMisses;
+    private final Counter instructorHits;
+    private final Counter instructorMisses;
+    private final Counter evictions;
+
+    public DashboardCache(DashboardCacheBackend backend, DashboardCacheProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.backend = backend;
+        this.enabled = properties.isEnabled();
+        this.learnerHits = requests(meterRegistry, "learner", "hit");
+        this.learnerMisses = requests(meterRegistry, "learner", "miss");
+        this.instructorHits = requests(meterRegistry, "instructor", "hit");
+        this.instructorMisses = requests(meterRegistry, "instructor", "miss");
+        this.evictions = Counter.builder("dashboard.cache.evictions").register(meterRegistry);
+        Gauge.builder("dashboard.cache.size", backend, DashboardCacheBackend::size).register(meterRegistry);
+    }
+
+    public LearnerDashboardResponse getLearner(Long userId, Supplier<LearnerDashboardResponse> loader) {
+        return get(learnerKey(userId), LearnerDashboardResponse.class, loader, learnerHits, learnerMisses);
+    }
+
+    public InstructorDashboardResponse getInstructor(Supplier<InstructorDashboardResponse> loader) {
+        return get(INSTRUCTOR_KEY, InstructorDashboardResponse.class, loader, instructorHits, instructorMisses);
+    }
+
+    public void evictLearner(Long userId) {
+        backend.evict(learnerKey(userId));
+        evictions.increment();
+    }
+
+    public void evictInstructor() {
+        backend.evict(INSTRUCTOR_KEY);
+        evictions.increment();
+    }
+
+    public void evictAll() {
+        backend.evictAll();
+        evictions.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLearningActivity(LearningActivityEvent event) {
+        evictLearner(event.userId());
+        if (event.reviewQueueChanged()) {
+            evictInstructor();
+        }
+    }
+
+    /**
+     * コース名・公開状態・公開レッスン数・課題は全受講者のダッシュボードに表示されるため、まとめて破棄する
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        evictAll();
+    }
+
+    private <T> T get(String key, Class<T> type, Supplier<T> loader, Counter hits, Counter misses) {
+        if (!enabled) {
+            return loader.get();
+        }
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = backend.get(key, type, () -> {
+            loaded.set(true);
+            return loader.get();
+        });
+        (loaded.get() ? misses : hits).increment();
+        return value;
+    }
+
+    private static String learnerKey(Long userId) {
+        return "learner:" + userId;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String view, String result) {
+        return Counter.builder("dashboard.cache.requests")
+                .tag("view", view)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.skillbridge.lms.dashboard;
+
+import java.util.function.Supplier;
+
+/**
+ * ダッシュボードのレスポンスを保持するキャッシュのバックエンド (SPI)
+ *
+ * <p>既定はノードごとの {@link InMemoryDashboardCacheBackend}。複数ノードで破棄を共有する場合は
+ * Redis 等の共有ストアを使う実装を Bean として登録すると、そちらが優先される。
+ * 格納する値は生成後に変更されないレスポンス DTO である。</p>
+ */
+public interface DashboardCacheBackend {
+
+    /**
+     * キャッシュ済みの値を返し、なければ loader で生成して格納する
+     *
+     * <p>同じキーへの同時呼び出しで loader を重複して実行しない (共有ストアの実装ではノード内で1回に抑えればよい)。
+     * 生成中に {@link #evict} されたキーには、生成した値を残さない。</p>
+     */
+    <T> T get(String key, Class<T> type, Supplier<T> loader);
+
+    void evict(String key);
+
+    void evictAll();
+
+    /** 保持している件数 (概算) */
+    long size();
+}
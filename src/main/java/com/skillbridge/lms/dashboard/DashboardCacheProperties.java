@@ -0,0 +1,26 @@
+package com.skillbridge.lms.dashboard;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * ダッシュボードキャッシュの設定 (app.dashboard.cache)
+ *
+ * <p>通常はイベントで破棄されるため、TTL は破棄漏れ (課題・レッスン構成の変更など) に対する上限として働く。</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.dashboard.cache")
+public class DashboardCacheProperties {
+
+    private boolean enabled = true;
+
+    /** 保持するレスポンスの上限数 (受講者1人につき1件 + 講師用1件) */
+    private long maximumSize = 10_000;
+
+    private Duration ttl = Duration.ofMinutes(10);
+}
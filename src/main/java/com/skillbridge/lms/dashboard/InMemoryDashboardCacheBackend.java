@@ -0,0 +1,46 @@
+package com.skillbridge.lms.dashboard;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caffeine によるノードローカルなダッシュボードキャッシュ
+ * (件数上限と TTL で自動的に破棄される)
+ */
+public class InMemoryDashboardCacheBackend implements DashboardCacheBackend {
+
+    private final Cache<String, Object> cache;
+
+    public InMemoryDashboardCacheBackend(long maximumSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Caffeine の get は同じキーの読み込みを1回にまとめ、読み込み中の invalidate は完了を待ってから破棄する
+     */
+    @Override
+    public <T> T get(String key, Class<T> type, Supplier<T> loader) {
+        return type.cast(cache.get(key, k -> loader.get()));
+    }
+
+    @Override
+    public void evict(String key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.repository.projection.CourseCatalogRow;
+import com.skillbridge.lms.repository.projection.CourseRatingStats;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -66,4 +68,25 @@ public class CourseResponse {
                 .updatedAt(response.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 一覧用の射影から生成 (categories が空の場合は null、レビューなしは評価 null・件数 0)
+     */
+    public static CourseResponse from(CourseCatalogRow row, List<CategoryResponse> categories,
+                                      CourseRatingStats ratingStats) {
+        return CourseResponse.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .sortOrder(row.getSortOrder())
+                .published(row.getPublished())
+                .lessonCount((int) row.getLessonCount())
+                .thumbnailUrl(row.getThumbnailUrl())
+                .categories(categories)
+                .averageRating(ratingStats != null ? ratingStats.getAverageRating() : null)
+                .reviewCount(ratingStats != null ? ratingStats.getReviewCount() : 0L)
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,24 @@
+package com.skillbridge.lms.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * カーソル方式のページ応答 (totalElements は要求された場合のみ設定)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+    /** 新着の差分取得で次に渡すカーソル (差分取得に対応した API のみ設定) */
+    private String sinceCursor;
+}
@@ -0,0 +1,29 @@
+package com.skillbridge.lms.dto.response;
+
+import com.skillbridge.lms.entity.UploadedFile;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileUploadResponse {
+
+    private Long id;
+    private String url;
+    private String contentType;
+    private Long size;
+
+    public static FileUploadResponse from(UploadedFile file, String url) {
+        return FileUploadResponse.builder()
+                .id(file.getId())
+                .url(url)
+                .contentType(file.getContentType())
+                .size(file.getSizeBytes())
+                .build();
+    }
+}
@@ -55,9 +55,19 @@ public class Enrollment {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    /** 完了済みの公開レッスン数 */
+    @Column(name = "completed_lessons", nullable = false)
+    private Integer completedLessons;
+
+    /** コースの公開レッスン数 */
+    @Column(name = "total_published_lessons", nullable = false)
+    private Integer totalPublishedLessons;
+
     @jakarta.persistence.PrePersist
     protected void onCreate() {
         enrolledAt = LocalDateTime.now();
         if (status == null) status = EnrollmentStatus.ACTIVE;
+        if (completedLessons == null) completedLessons = 0;
+        if (totalPublishedLessons == null) totalPublishedLessons = 0;
     }
 }
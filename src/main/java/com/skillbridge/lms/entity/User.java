@@ -47,12 +47,24 @@ public class User {
     @Column(nullable = false)
     private Boolean enabled;
 
+    /** 発行済みアクセストークンを失効させるたびに加算する */
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 発行済みのアクセストークンをすべて失効させる (ロール・有効状態・パスワードの変更時)
+     */
+    public void revokeTokens() {
+        tokenVersion = tokenVersion + 1;
+    }
+
     @jakarta.persistence.PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,7 @@
+package com.skillbridge.lms.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSED,
+    FAILED
+}
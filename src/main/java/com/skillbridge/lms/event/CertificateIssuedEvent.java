@@ -0,0 +1,9 @@
+package com.skillbridge.lms.event;
+
+import com.skillbridge.lms.certificate.CertificateDocument;
+
+/**
+ * 証明書が新たに発行されたことを表すイベント
+ */
+public record CertificateIssuedEvent(CertificateDocument document) {
+}
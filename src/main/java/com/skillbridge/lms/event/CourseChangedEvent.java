@@ -0,0 +1,7 @@
+package com.skillbridge.lms.event;
+
+/**
+ * コースの内容 (レッスン・課題を含む)・公開状態・カテゴリが変更 (または削除) されたことを表すイベント
+ */
+public record CourseChangedEvent(Long courseId) {
+}
@@ -0,0 +1,7 @@
+package com.skillbridge.lms.event;
+
+/**
+ * 受講者が公開レッスンを完了し、コース完了の判定が必要になったことを表すイベント (アウトボックス経由で処理する)
+ */
+public record CourseCompletionRequested(Long userId, Long courseId) {
+}
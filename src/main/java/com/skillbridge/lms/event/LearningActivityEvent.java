@@ -0,0 +1,18 @@
+package com.skillbridge.lms.event;
+
+/**
+ * 受講者の学習状況 (レッスン完了・受講登録・課題提出・フィードバック) が変わったことを表すイベント
+ *
+ * @param userId 受講者のユーザーID
+ * @param reviewQueueChanged 講師ダッシュボードに表示される提出一覧・未レビュー件数にも影響するか
+ */
+public record LearningActivityEvent(Long userId, boolean reviewQueueChanged) {
+
+    public static LearningActivityEvent learner(Long userId) {
+        return new LearningActivityEvent(userId, false);
+    }
+
+    public static LearningActivityEvent submission(Long userId) {
+        return new LearningActivityEvent(userId, true);
+    }
+}
@@ -0,0 +1,9 @@
+package com.skillbridge.lms.event;
+
+/**
+ * ユーザーの未読通知数が変わったことを表すイベント (通知の作成・既読化)
+ *
+ * @param userId 通知の宛先ユーザーID
+ */
+public record UnreadNotificationCountChangedEvent(Long userId) {
+}
@@ -0,0 +1,10 @@
+package com.skillbridge.lms.event;
+
+/**
+ * ユーザーが登録された、または名前・ロール・有効状態・パスワードが変更されたことを表すイベント
+ *
+ * @param userId ユーザーID
+ * @param email  メールアドレス (プリンシパルキャッシュのキー)
+ */
+public record UserChangedEvent(Long userId, String email) {
+}
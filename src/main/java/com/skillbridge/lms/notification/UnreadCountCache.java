@@ -0,0 +1,52 @@
+package com.skillbridge.lms.notification;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skillbridge.lms.event.UnreadNotificationCountChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * ユーザーIDをキーとした未読通知数のキャッシュ
+ *
+ * <p>通知の作成・既読化のコミット後にそのユーザーのエントリを破棄し、次回の取得で数え直す。
+ * 増減分を加算すると、同じ通知への並行した既読化や、コミット前の状態を数えた読み込みとの競合でずれが残るため。
+ * 読み込み中の破棄は読み込みの完了を待ってから行われる。</p>
+ */
+@Component
+public class UnreadCountCache {
+
+    private final Cache<Long, Long> cache;
+
+    public UnreadCountCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.unread-count-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.notification.unread-count-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "notification.unread");
+    }
+
+    /**
+     * 未読数取得 (キャッシュミス時は loader で数える)
+     */
+    public long get(Long userId, LongSupplier loader) {
+        return cache.get(userId, key -> loader.getAsLong());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUnreadCountChanged(UnreadNotificationCountChangedEvent event) {
+        cache.invalidate(event.userId());
+    }
+}
@@ -0,0 +1,18 @@
+package com.skillbridge.lms.outbox;
+
+/**
+ * アウトボックスのイベントを処理する
+ *
+ * <p>処理は {@link OutboxProcessor} が開始したトランザクション内で行い、処理済みの記録と同時にコミットされる。
+ * 失敗時は同じイベントが再試行されるため、何度処理しても結果が変わらないように実装する。</p>
+ *
+ * @param <T> ペイロードの型 (JSON で保存する)
+ */
+public interface OutboxEventHandler<T> {
+
+    String eventType();
+
+    Class<T> payloadType();
+
+    void handle(T payload);
+}
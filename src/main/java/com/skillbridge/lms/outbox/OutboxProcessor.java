@@ -0,0 +1,283 @@
+package com.skillbridge.lms.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.lms.entity.OutboxEvent;
+import com.skillbridge.lms.enums.OutboxStatus;
+import com.skillbridge.lms.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * アウトボックスのイベントをバックグラウンドで処理する
+ *
+ * <p>専用スレッドが一定間隔 (またはイベント書き込みのコミット直後) に処理可能なイベントを取得し、
+ * リースを取れたものをワーカープールで処理する。リースは {@code available_at} を先へ進めることで表すため、
+ * 処理中にプロセスが停止してもリース期限後に別のワーカーが再処理する。リース取得ごとに {@code attempts} を
+ * 増やし、結果の記録はその値が変わっていない場合に限る (期限切れ後に取得し直されていれば処理結果を破棄する)。
+ * 失敗したイベントは指数バックオフで再試行し、上限回数に達したら FAILED として残す。</p>
+ */
+@Slf4j
+@Component
+public class OutboxProcessor {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, OutboxEventHandler<?>> handlers;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration retention;
+    private final ExecutorService workers;
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private final Counter processedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer processingTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread poller;
+
+    public OutboxProcessor(OutboxEventRepository outboxEventRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            List<OutboxEventHandler<?>> handlers,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.enabled:true}") boolean enabled,
+            @Value("${app.outbox.batch-size:50}") int batchSize,
+            @Value("${app.outbox.poll-interval:1s}") Duration pollInterval,
+            @Value("${app.outbox.worker-threads:4}") int workerThreads,
+            @Value("${app.outbox.lease:1m}") Duration lease,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.outbox.retry-backoff:5s}") Duration retryBackoff,
+            @Value("${app.outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toUnmodifiableMap(OutboxEventHandler::eventType, Function.identity()));
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.retention = retention;
+        this.workers = Executors.newFixedThreadPool(workerThreads,
+                Thread.ofPlatform().name("outbox-worker-", 0).daemon(true).factory());
+
+        this.processedCounter = meterRegistry.counter("outbox.events", "result", "processed");
+        this.retriedCounter = meterRegistry.counter("outbox.events", "result", "retried");
+        this.failedCounter = meterRegistry.counter("outbox.events", "result", "failed");
+        this.processingTimer = Timer.builder("outbox.processing")
+                .description("イベント 1 件の処理時間")
+                .register(meterRegistry);
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("最も古い未処理イベントが書き込まれてからの経過時間")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pendingCount, AtomicLong::get)
+                .description("未処理イベント数")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        poller = Thread.ofPlatform().daemon().name("outbox-poller").start(this::runLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (poller != null) {
+            wakeUp();
+            poller.join(lease.toMillis());
+        }
+        workers.shutdownNow();
+    }
+
+    /**
+     * 次のポーリングを待たずに処理を始める
+     */
+    public void wakeUp() {
+        if (wakeups.availablePermits() == 0) {
+            wakeups.release();
+        }
+    }
+
+    /**
+     * 処理可能なイベントを 1 バッチ分処理する
+     *
+     * @return 取得したイベント数
+     */
+    int processBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> ready = outboxEventRepository.findReady(now, PageRequest.of(0, batchSize));
+        List<Future<?>> inFlight = new ArrayList<>();
+        for (OutboxEvent event : ready) {
+            Integer claimed = transactionTemplate.execute(status ->
+                    outboxEventRepository.claim(event.getId(), event.getAvailableAt(), now.plus(lease)));
+            if (claimed != null && claimed == 1) {
+                inFlight.add(workers.submit(() -> process(event)));
+            }
+        }
+        for (Future<?> future : inFlight) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.warn("アウトボックスの処理で予期しないエラーが発生しました", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        refreshBacklog();
+        return ready.size();
+    }
+
+    /**
+     * 処理済みイベントのうち保持期間を過ぎたものを削除 (毎日定時実行)
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 15 4 * * *}")
+    public int purgeProcessed() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+        return deleted == null ? 0 : deleted;
+    }
+
+    private void runLoop() {
+        while (running) {
+            int fetched = 0;
+            try {
+                fetched = processBatch();
+            } catch (RuntimeException e) {
+                log.warn("アウトボックスのイベント取得に失敗しました", e);
+            }
+            if (fetched < batchSize) {
+                try {
+                    wakeups.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    wakeups.drainPermits();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void process(OutboxEvent event) {
+        // リース取得で 1 増えた後の試行回数。結果を記録する際にリースを保持しているかの判定に使う
+        int attempts = event.getAttempts() + 1;
+        OutboxEventHandler<?> handler = handlers.get(event.getEventType());
+        if (handler == null) {
+            fail(event, attempts, OutboxStatus.FAILED, LocalDateTime.now(),
+                    "未対応のイベント種別です: " + event.getEventType());
+            failedCounter.increment();
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                dispatch(handler, event.getPayload());
+                if (outboxEventRepository.markProcessed(event.getId(), attempts, LocalDateTime.now()) != 1) {
+                    throw new LeaseLostException();
+                }
+            });
+            processedCounter.increment();
+        } catch (LeaseLostException e) {
+            log.warn("リース期限後に別のワーカーが取得したため、処理結果を破棄しました: id={}, type={}",
+                    event.getId(), event.getEventType());
+        } catch (RuntimeException e) {
+            if (attempts >= maxAttempts) {
+                log.error("アウトボックスのイベント処理を断念しました: id={}, type={}, attempts={}",
+                        event.getId(), event.getEventType(), attempts, e);
+                fail(event, attempts, OutboxStatus.FAILED, LocalDateTime.now(), e.toString());
+                failedCounter.increment();
+            } else {
+                Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 10));
+                log.warn("アウトボックスのイベント処理に失敗しました。{}後に再試行します: id={}, type={}, attempts={}",
+                        backoff, event.getId(), event.getEventType(), attempts, e);
+                fail(event, attempts, OutboxStatus.PENDING, LocalDateTime.now().plus(backoff), e.toString());
+                retriedCounter.increment();
+            }
+        } finally {
+            sample.stop(processingTimer);
+        }
+    }
+
+    private <T> void dispatch(OutboxEventHandler<T> handler, String payload) {
+        try {
+            handler.handle(objectMapper.readValue(payload, handler.payloadType()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("イベントのペイロードを読み取れません", e);
+        }
+    }
+
+    private void fail(OutboxEvent event, int attempts, OutboxStatus status, LocalDateTime availableAt,
+            String error) {
+        String truncated = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        Integer updated = transactionTemplate.execute(s ->
+                outboxEventRepository.markFailed(event.getId(), attempts, status, availableAt, truncated));
+        if (updated == null || updated != 1) {
+            log.warn("リース期限後に別のワーカーが取得したため、失敗を記録しませんでした: id={}, type={}",
+                    event.getId(), event.getEventType());
+        }
+    }
+
+    private void refreshBacklog() {
+        LocalDateTime oldest = outboxEventRepository.findOldestPendingCreatedAt();
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+        pendingCount.set(outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+    }
+
+    /**
+     * 処理中にリースを失ったことを表し、処理結果をロールバックさせる
+     */
+    private static class LeaseLostException extends RuntimeException {
+
+        LeaseLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.skillbridge.lms.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.lms.entity.OutboxEvent;
+import com.skillbridge.lms.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 呼び出し元のトランザクションでアウトボックスにイベントを書き込む
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProcessor outboxProcessor;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 業務データと同じトランザクションで書き込み、コミット後にワーカーを起こす
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String eventType, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .payload(serialize(payload))
+                .build());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxProcessor.wakeUp();
+            }
+        });
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("イベントをシリアライズできません: " + payload, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.skillbridge.lms.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * GCRA (Generic Cell Rate Algorithm) によるロックフリーなトークンバケット
+ *
+ * <p>キーごとに「理論上の到着時刻 (TAT)」だけを保持し、CAS で更新する。
+ * 保持するキー数には上限があり、一定時間アクセスのないキーは破棄される。</p>
+ */
+public class InMemoryRateLimitBackend implements RateLimitBackend {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    public InMemoryRateLimitBackend(long maximumKeys, Duration idleTimeout) {
+        this(maximumKeys, idleTimeout, System::nanoTime);
+    }
+
+    InMemoryRateLimitBackend(long maximumKeys, Duration idleTimeout, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, RateLimitPolicy policy) {
+        long interval = policy.emissionIntervalNanos();
+        long burst = interval * policy.capacity();
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = tat.get();
+            long base = current == Long.MIN_VALUE ? now : Math.max(current, now);
+            long next = base + interval;
+            long backlog = next - now;
+
+            if (backlog > burst) {
+                long retryAfterNanos = backlog - burst;
+                return new RateLimitResult(false, policy.capacity(), 0,
+                        Math.max(1, Duration.ofNanos(retryAfterNanos).toMillis()));
+            }
+            if (tat.compareAndSet(current, next)) {
+                return new RateLimitResult(true, policy.capacity(), (burst - backlog) / interval, 0);
+            }
+        }
+    }
+
+    /** 追跡中のキー数 */
+    public long trackedKeys() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,16 @@
+package com.skillbridge.lms.ratelimit;
+
+/**
+ * レート制限の状態を保持するバックエンド (SPI)
+ *
+ * <p>既定はノードごとの {@link InMemoryRateLimitBackend}。複数ノードで1つの上限を共有する場合は
+ * Redis 等の共有ストアを使う実装を Bean として登録すると、そちらが優先される。
+ * 実装はキーごとに原子的に判定すること。</p>
+ */
+public interface RateLimitBackend {
+
+    /**
+     * キーのバケットからトークンを1つ消費する
+     */
+    RateLimitResult tryConsume(String key, RateLimitPolicy policy);
+}
@@ -0,0 +1,27 @@
+package com.skillbridge.lms.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * トークンバケットのポリシー
+ *
+ * @param name     ポリシー名 (バケットのキーに含まれる)
+ * @param capacity バケット容量 (= 連続して許可するリクエスト数)
+ * @param period   容量分のトークンが補充されるまでの時間
+ */
+public record RateLimitPolicy(String name, long capacity, Duration period) {
+
+    public RateLimitPolicy {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity は1以上を指定してください: " + name);
+        }
+        if (period == null || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("period は正の値を指定してください: " + name);
+        }
+    }
+
+    /** トークン1個が補充される間隔 (ナノ秒) */
+    public long emissionIntervalNanos() {
+        return Math.max(1, period.toNanos() / capacity);
+    }
+}
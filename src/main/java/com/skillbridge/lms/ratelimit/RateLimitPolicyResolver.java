@@ -0,0 +1,55 @@
+package com.skillbridge.lms.ratelimit;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * リクエストのパスとロールから適用するポリシーを決定する
+ */
+@Component
+public class RateLimitPolicyResolver {
+
+    public static final String ANONYMOUS = "ANONYMOUS";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<CompiledRule> rules;
+    private final RateLimitPolicy defaultPolicy;
+
+    public RateLimitPolicyResolver(RateLimitProperties properties) {
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(
+                        List.copyOf(rule.getPaths()),
+                        Set.copyOf(rule.getRoles()),
+                        new RateLimitPolicy(rule.getName(), rule.getCapacity(), rule.getPeriod())))
+                .toList();
+        this.defaultPolicy = new RateLimitPolicy("default",
+                properties.getDefaultCapacity(), properties.getDefaultPeriod());
+    }
+
+    /**
+     * @param path リクエストパス (null 可)
+     * @param role ユーザーロール。未認証の場合は {@link #ANONYMOUS}
+     */
+    public RateLimitPolicy resolve(String path, String role) {
+        String target = path != null ? path : "";
+        for (CompiledRule rule : rules) {
+            if (rule.matches(pathMatcher, target, role)) {
+                return rule.policy();
+            }
+        }
+        return defaultPolicy;
+    }
+
+    private record CompiledRule(List<String> paths, Set<String> roles, RateLimitPolicy policy) {
+
+        boolean matches(AntPathMatcher matcher, String path, String role) {
+            if (!roles.isEmpty() && !roles.contains(role)) {
+                return false;
+            }
+            return paths.isEmpty() || paths.stream().anyMatch(p -> matcher.match(p, path));
+        }
+    }
+}
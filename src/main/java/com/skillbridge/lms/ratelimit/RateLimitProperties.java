@@ -0,0 +1,51 @@
+package com.skillbridge.lms.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * レート制限の設定 (app.rate-limit)
+ *
+ * <p>ルールは上から順に評価され、最初にパスとロールが一致したものが適用される。
+ * どれにも一致しない場合は既定のポリシーが使われる。</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    /** 追跡するキー (クライアント×ポリシー) の上限数 */
+    private long maximumKeys = 100_000;
+
+    /** この時間アクセスのないキーは破棄する */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private long defaultCapacity = 60;
+
+    private Duration defaultPeriod = Duration.ofMinutes(1);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        private String name;
+
+        /** Ant 形式のパスパターン */
+        private List<String> paths = new ArrayList<>();
+
+        /** 対象ロール (空の場合は全員。未認証は ANONYMOUS) */
+        private List<String> roles = new ArrayList<>();
+
+        private long capacity;
+
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,12 @@
+package com.skillbridge.lms.ratelimit;
+
+/**
+ * レート制限の判定結果
+ *
+ * @param allowed          リクエストを許可するか
+ * @param limit            バケット容量
+ * @param remaining        残りトークン数
+ * @param retryAfterMillis 拒否時に次のトークンが補充されるまでの時間
+ */
+public record RateLimitResult(boolean allowed, long limit, long remaining, long retryAfterMillis) {
+}
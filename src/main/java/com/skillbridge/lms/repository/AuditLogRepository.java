@@ -1,14 +1,23 @@
 package com.skillbridge.lms.repository;
 
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.lms.entity.AuditLog;
+import com.skillbridge.lms.repository.projection.AuditLogExportRow;
+
+import jakarta.persistence.QueryHint;
 
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSpecificationExecutor<AuditLog> {
 
     Page<AuditLog> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
@@ -22,4 +31,10 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
             @Param("entityType") String entityType,
             @Param("userId") Long userId,
             Pageable pageable);
+
+    @Query("SELECT a.id AS id, a.userId AS userId, a.action AS action, a.entityType AS entityType, " +
+            "a.entityId AS entityId, a.details AS details, a.ipAddress AS ipAddress, a.createdAt AS createdAt " +
+            "FROM AuditLog a WHERE a.createdAt >= :from AND a.createdAt < :to ORDER BY a.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<AuditLogExportRow> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
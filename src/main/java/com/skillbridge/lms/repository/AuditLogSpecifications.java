@@ -0,0 +1,44 @@
+package com.skillbridge.lms.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.skillbridge.lms.entity.AuditLog;
+
+/**
+ * 監査ログ検索条件 (指定されたフィルタだけを述語に含める)
+ */
+public final class AuditLogSpecifications {
+
+    private AuditLogSpecifications() {
+    }
+
+    public static Specification<AuditLog> withFilters(String action, String entityType, Long userId) {
+        List<Specification<AuditLog>> predicates = new ArrayList<>();
+        if (action != null) {
+            predicates.add((root, query, cb) -> cb.equal(root.get("action"), action));
+        }
+        if (entityType != null) {
+            predicates.add((root, query, cb) -> cb.equal(root.get("entityType"), entityType));
+        }
+        if (userId != null) {
+            predicates.add((root, query, cb) -> cb.equal(root.get("userId"), userId));
+        }
+        return Specification.allOf(predicates);
+    }
+
+    /**
+     * (createdAt, id) の降順でカーソルより後ろの行。
+     * created_at の上限を単独の条件として出すことで複合インデックスの範囲検索になる
+     */
+    public static Specification<AuditLog> before(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                cb.or(
+                        cb.lessThan(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.get("id"), id)));
+    }
+}
@@ -3,9 +3,13 @@ package com.skillbridge.lms.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.lms.entity.Certificate;
+import com.skillbridge.lms.repository.projection.CertificateRenderRow;
 
 public interface CertificateRepository extends JpaRepository<Certificate, Long> {
 
@@ -14,4 +18,22 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
     Optional<Certificate> findByUserIdAndCourseId(Long userId, Long courseId);
 
     boolean existsByUserIdAndCourseId(Long userId, Long courseId);
+
+    /**
+     * PDF の一括再生成用に、ID順で指定IDより後の証明書を取得
+     */
+    @Query("SELECT c.id AS id, c.certificateNumber AS certificateNumber, u.username AS userName, "
+            + "co.title AS courseTitle, c.issuedAt AS issuedAt "
+            + "FROM Certificate c JOIN c.user u JOIN c.course co "
+            + "WHERE c.id > :afterId ORDER BY c.id")
+    List<CertificateRenderRow> findRenderRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * コース単位の一括ダウンロード用に、コースの証明書を発行順で取得
+     */
+    @Query("SELECT c.id AS id, c.certificateNumber AS certificateNumber, u.username AS userName, "
+            + "co.title AS courseTitle, c.issuedAt AS issuedAt "
+            + "FROM Certificate c JOIN c.user u JOIN c.course co "
+            + "WHERE co.id = :courseId ORDER BY c.id")
+    List<CertificateRenderRow> findRenderRowsByCourseId(@Param("courseId") Long courseId);
 }
@@ -1,5 +1,9 @@
 package com.skillbridge.lms.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,25 +11,45 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.repository.projection.CourseCatalogRow;
+import com.skillbridge.lms.repository.projection.CourseCategoryRow;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
-    Page<Course> findByPublishedTrue(Pageable pageable);
-
-    @Query("SELECT c FROM Course c WHERE c.published = true " +
-           "AND (LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Course> searchPublishedByKeyword(@Param("keyword") String keyword, Pageable pageable);
-
-    @Query("SELECT c FROM Course c " +
-           "WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Course> searchAllByKeyword(@Param("keyword") String keyword, Pageable pageable);
-
-    Page<Course> findByPublishedFalse(Pageable pageable);
-
-    @Query("SELECT c FROM Course c WHERE c.published = false " +
-           "AND (LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Course> searchDraftByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    String CATALOG_SELECT = "SELECT c.id AS id, c.title AS title, c.description AS description, " +
+            "c.sortOrder AS sortOrder, c.published AS published, c.thumbnailUrl AS thumbnailUrl, " +
+            "c.createdAt AS createdAt, c.updatedAt AS updatedAt, " +
+            "(SELECT COUNT(l.id) FROM Lesson l WHERE l.course = c) AS lessonCount " +
+            "FROM Course c ";
+
+    /**
+     * コース一覧 (公開状態は null の場合は絞り込まない)
+     */
+    @Query(value = CATALOG_SELECT + "WHERE (:published IS NULL OR c.published = :published)",
+           countQuery = "SELECT COUNT(c) FROM Course c WHERE (:published IS NULL OR c.published = :published)")
+    Page<CourseCatalogRow> findCatalogPage(@Param("published") Boolean published, Pageable pageable);
+
+    /**
+     * 検索インデックスで絞り込んだ1ページ分のコース (並び順は呼び出し側で復元する)
+     */
+    @Query(CATALOG_SELECT + "WHERE c.id IN :ids")
+    List<CourseCatalogRow> findCatalogRowsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id AS courseId, cat.id AS categoryId, cat.name AS name, " +
+           "cat.description AS description, cat.createdAt AS createdAt " +
+           "FROM Course c JOIN c.categories cat WHERE c.id IN :courseIds ORDER BY cat.name ASC")
+    List<CourseCategoryRow> findCategoryRowsByCourseIds(@Param("courseIds") Collection<Long> courseIds);
+
+    @Query("SELECT c.id AS courseId, cat.id AS categoryId, cat.name AS name, " +
+           "cat.description AS description, cat.createdAt AS createdAt " +
+           "FROM Course c JOIN c.categories cat")
+    List<CourseCategoryRow> findAllCategoryRows();
+
+    /**
+     * 検索インデックスの差分更新用に、指定日時以降に更新されたコースを取得
+     */
+    List<Course> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @Query("SELECT c.id FROM Course c")
+    List<Long> findAllIds();
 }
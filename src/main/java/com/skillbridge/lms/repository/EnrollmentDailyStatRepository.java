@@ -0,0 +1,43 @@
+package com.skillbridge.lms.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.skillbridge.lms.entity.EnrollmentDailyStat;
+
+public interface EnrollmentDailyStatRepository extends JpaRepository<EnrollmentDailyStat, LocalDate> {
+
+    List<EnrollmentDailyStat> findByStatDateBetweenOrderByStatDateAsc(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO enrollment_daily_stats (stat_date, enrollment_count) VALUES (:statDate, 1) " +
+                   "ON DUPLICATE KEY UPDATE enrollment_count = enrollment_count + 1", nativeQuery = true)
+    void incrementCount(@Param("statDate") LocalDate statDate);
+
+    @Modifying
+    @Query("UPDATE EnrollmentDailyStat s SET s.enrollmentCount = s.enrollmentCount - 1 " +
+           "WHERE s.statDate = :statDate AND s.enrollmentCount > 0")
+    void decrementCount(@Param("statDate") LocalDate statDate);
+
+    /**
+     * コース削除時に ON DELETE CASCADE で消える受講登録の分を減算 (削除前に呼ぶ)
+     */
+    @Modifying
+    @Query(value = "UPDATE enrollment_daily_stats s SET enrollment_count = GREATEST(0, s.enrollment_count - " +
+                   "(SELECT COUNT(*) FROM enrollments e WHERE e.course_id = :courseId " +
+                   "AND CAST(e.enrolled_at AS DATE) = s.stat_date)) " +
+                   "WHERE s.stat_date IN (SELECT CAST(e.enrolled_at AS DATE) FROM enrollments e " +
+                   "WHERE e.course_id = :courseId)", nativeQuery = true)
+    int decrementCountsForCourse(@Param("courseId") Long courseId);
+
+    @Modifying
+    @Query(value = "INSERT INTO enrollment_daily_stats (stat_date, enrollment_count) " +
+                   "SELECT CAST(e.enrolled_at AS DATE), COUNT(*) FROM enrollments e " +
+                   "GROUP BY CAST(e.enrolled_at AS DATE)", nativeQuery = true)
+    int backfillFromEnrollments();
+}
@@ -1,14 +1,22 @@
 package com.skillbridge.lms.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.lms.entity.Enrollment;
 import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.repository.projection.CourseEnrollmentStats;
+import com.skillbridge.lms.repository.projection.EnrollmentCounterSnapshot;
+import com.skillbridge.lms.repository.projection.EnrollmentProgressRow;
+import com.skillbridge.lms.repository.projection.UserEnrollmentRow;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
@@ -31,4 +39,84 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     List<Enrollment> findByUserId(Long userId);
 
     long countByStatus(EnrollmentStatus status);
+
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.course WHERE e.user.id = :userId")
+    List<Enrollment> findWithCourseByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.course " +
+           "WHERE e.user.id = :userId ORDER BY e.enrolledAt DESC")
+    List<Enrollment> findWithCourseByUserIdOrderByEnrolledAtDesc(@Param("userId") Long userId);
+
+    @Query("SELECT c.id AS courseId, c.title AS courseTitle, " +
+           "e.totalPublishedLessons AS totalPublishedLessons, e.completedLessons AS completedLessons " +
+           "FROM Enrollment e JOIN e.course c " +
+           "WHERE e.user.id = :userId AND e.status = :status ORDER BY e.enrolledAt DESC, e.id DESC")
+    List<EnrollmentProgressRow> findProgressRowsByUserIdAndStatus(@Param("userId") Long userId,
+                                                                  @Param("status") EnrollmentStatus status,
+                                                                  Pageable pageable);
+
+    @Query("SELECT e.user.id AS userId, e.course.id AS courseId, e.status AS status, " +
+           "e.completedLessons AS completedLessons, e.totalPublishedLessons AS totalPublishedLessons " +
+           "FROM Enrollment e WHERE e.user.id IN :userIds")
+    List<UserEnrollmentRow> findEnrollmentRowsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Enrollment e SET e.completedLessons = e.completedLessons + :delta " +
+           "WHERE e.user.id = :userId AND e.course.id = :courseId")
+    int adjustCompletedLessons(@Param("userId") Long userId, @Param("courseId") Long courseId,
+                               @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Enrollment e SET e.totalPublishedLessons = e.totalPublishedLessons + :delta " +
+           "WHERE e.course.id = :courseId")
+    int adjustTotalPublishedLessons(@Param("courseId") Long courseId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Enrollment e SET e.completedLessons = e.completedLessons + :delta " +
+           "WHERE e.course.id = :courseId AND e.user.id IN (" +
+           "SELECT lp.user.id FROM LessonProgress lp WHERE lp.lesson.id = :lessonId AND lp.completed = true)")
+    int adjustCompletedLessonsForLesson(@Param("courseId") Long courseId, @Param("lessonId") Long lessonId,
+                                        @Param("delta") int delta);
+
+    /**
+     * 進捗カウンタの整合性チェック用に、ID順で指定IDより後の受講登録と実測値を取得
+     */
+    @Query("SELECT e.id AS enrollmentId, e.completedLessons AS completedLessons, " +
+           "e.totalPublishedLessons AS totalPublishedLessons, " +
+           "(SELECT COUNT(lp.id) FROM LessonProgress lp WHERE lp.user.id = e.user.id " +
+           " AND lp.lesson.course.id = e.course.id AND lp.lesson.published = true AND lp.completed = true) " +
+           "AS actualCompletedLessons, " +
+           "(SELECT COUNT(l.id) FROM Lesson l WHERE l.course.id = e.course.id AND l.published = true) " +
+           "AS actualTotalPublishedLessons " +
+           "FROM Enrollment e WHERE e.id > :afterId ORDER BY e.id ASC")
+    List<EnrollmentCounterSnapshot> findCounterSnapshotsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 進捗カウンタを補正値で上書き。読み取り後にカウンタが変わっていれば更新しない
+     *
+     * @return 更新件数 (読み取り後に変更されていれば0)
+     */
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.completedLessons = :completedLessons, " +
+           "e.totalPublishedLessons = :totalPublishedLessons " +
+           "WHERE e.id = :id AND e.completedLessons = :seenCompletedLessons " +
+           "AND e.totalPublishedLessons = :seenTotalPublishedLessons")
+    int updateCounters(@Param("id") Long id,
+                       @Param("seenCompletedLessons") int seenCompletedLessons,
+                       @Param("seenTotalPublishedLessons") int seenTotalPublishedLessons,
+                       @Param("completedLessons") int completedLessons,
+                       @Param("totalPublishedLessons") int totalPublishedLessons);
+
+    @Query("SELECT c.id AS courseId, c.title AS courseTitle, COUNT(e.id) AS totalEnrollments, " +
+           "COALESCE(SUM(CASE WHEN e.status = :completed THEN 1 ELSE 0 END), 0) AS completedEnrollments " +
+           "FROM Course c LEFT JOIN Enrollment e ON e.course.id = c.id " +
+           "GROUP BY c.id, c.title ORDER BY c.id ASC")
+    List<CourseEnrollmentStats> findCourseEnrollmentStats(@Param("completed") EnrollmentStatus completed);
+
+    @Query("SELECT c.id AS courseId, c.title AS courseTitle, COUNT(e.id) AS totalEnrollments, " +
+           "COALESCE(SUM(CASE WHEN e.status = :completed THEN 1 ELSE 0 END), 0) AS completedEnrollments " +
+           "FROM Course c LEFT JOIN Enrollment e ON e.course.id = c.id " +
+           "GROUP BY c.id, c.title ORDER BY COUNT(e.id) DESC, c.id ASC")
+    List<CourseEnrollmentStats> findMostEnrolledCourses(@Param("completed") EnrollmentStatus completed,
+                                                        Pageable pageable);
 }
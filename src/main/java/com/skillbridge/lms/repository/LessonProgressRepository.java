@@ -1,9 +1,11 @@
 package com.skillbridge.lms.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,10 +23,46 @@ public interface LessonProgressRepository extends JpaRepository<LessonProgress,
            "WHERE lp.user.id = :userId AND lp.lesson.course.id = :courseId AND lp.completed = true")
     long countCompletedByUserIdAndCourseId(@Param("userId") Long userId, @Param("courseId") Long courseId);
 
+    @Query("SELECT COUNT(lp) FROM LessonProgress lp " +
+           "WHERE lp.user.id = :userId AND lp.lesson.course.id = :courseId " +
+           "AND lp.lesson.published = true AND lp.completed = true")
+    long countCompletedPublishedByUserIdAndCourseId(@Param("userId") Long userId,
+                                                    @Param("courseId") Long courseId);
+
     @Query("SELECT lp FROM LessonProgress lp " +
            "WHERE lp.user.id = :userId AND lp.lesson.course.id = :courseId " +
            "ORDER BY lp.lesson.sortOrder ASC")
     List<LessonProgress> findByUserIdAndCourseId(@Param("userId") Long userId, @Param("courseId") Long courseId);
 
     void deleteByUserIdAndLessonId(Long userId, Long lessonId);
+
+    /**
+     * 進捗行がなければ未完了で作成 (既にあれば何もしない)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO lesson_progress (user_id, lesson_id, completed, created_at) " +
+                   "VALUES (:userId, :lessonId, FALSE, :createdAt)", nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("lessonId") Long lessonId,
+                        @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 未完了の進捗だけを完了にする。同時に呼ばれても更新されるのは1回だけ
+     *
+     * @return 更新件数 (既に完了済みなら0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LessonProgress lp SET lp.completed = true, lp.completedAt = :completedAt " +
+           "WHERE lp.user.id = :userId AND lp.lesson.id = :lessonId AND lp.completed = false")
+    int markCompleted(@Param("userId") Long userId, @Param("lessonId") Long lessonId,
+                      @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 完了済みの進捗だけを未完了に戻す。同時に呼ばれても更新されるのは1回だけ
+     *
+     * @return 更新件数 (未完了なら0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LessonProgress lp SET lp.completed = false, lp.completedAt = null " +
+           "WHERE lp.user.id = :userId AND lp.lesson.id = :lessonId AND lp.completed = true")
+    int markUncompleted(@Param("userId") Long userId, @Param("lessonId") Long lessonId);
 }
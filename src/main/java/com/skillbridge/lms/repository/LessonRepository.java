@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.lms.entity.Lesson;
+import com.skillbridge.lms.repository.projection.LessonKeyRow;
 
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
 
@@ -16,8 +17,14 @@ public interface LessonRepository extends JpaRepository<Lesson, Long> {
 
     long countByCourseId(Long courseId);
 
+    long countByCourseIdAndPublishedTrue(Long courseId);
+
     boolean existsByCourseIdAndId(Long courseId, Long id);
 
+    @Query("SELECT l.course.id AS courseId, l.id AS lessonId FROM Lesson l " +
+           "WHERE l.published = true ORDER BY l.course.id, l.sortOrder")
+    List<LessonKeyRow> findPublishedLessonKeys();
+
     @Query("SELECT COALESCE(MAX(l.sortOrder), 0) FROM Lesson l WHERE l.course.id = :courseId")
     int findMaxSortOrderByCourseId(@Param("courseId") Long courseId);
 }
@@ -0,0 +1,47 @@
+package com.skillbridge.lms.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.skillbridge.lms.exception.BadRequestException;
+
+/**
+ * 通知の新着取得 (since) 用カーソル。クライアントには不透明な文字列として渡す
+ *
+ * @param createdAt 配信済みのうち最も新しい通知の作成日時
+ * @param seenIds   安全幅 (createdAt から遡る一定時間) 内で配信済みの通知ID
+ */
+public record NotificationPollCursor(LocalDateTime createdAt, Set<Long> seenIds) {
+
+    public NotificationPollCursor {
+        seenIds = Set.copyOf(seenIds);
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + seenIds.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 従来の (createdAt, id) 形式のカーソルも受け付ける (id を配信済みとして扱う)
+     */
+    public static NotificationPollCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String ids = raw.substring(separator + 1);
+            return new NotificationPollCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    ids.isEmpty()
+                            ? Set.of()
+                            : Arrays.stream(ids.split(",")).map(Long::valueOf).collect(Collectors.toSet()));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("カーソルが不正です");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.skillbridge.lms.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.skillbridge.lms.entity.Notification;
+
+/**
+ * 通知フィード検索条件
+ */
+public final class NotificationSpecifications {
+
+    private NotificationSpecifications() {
+    }
+
+    public static Specification<Notification> forUser(Long userId, boolean unreadOnly) {
+        Specification<Notification> spec = (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+        return unreadOnly ? spec.and((root, query, cb) -> cb.isFalse(root.get("isRead"))) : spec;
+    }
+
+    /**
+     * (createdAt, id) の降順でカーソルより後ろ (古い側) の行。
+     * created_at の上限を単独の条件として出すことで複合インデックスの範囲検索になる
+     */
+    public static Specification<Notification> before(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                cb.or(
+                        cb.lessThan(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.get("id"), id)));
+    }
+
+    /**
+     * createdAt が指定日時以降の行
+     */
+    public static Specification<Notification> createdSince(LocalDateTime createdAt) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), createdAt);
+    }
+}
@@ -0,0 +1,65 @@
+package com.skillbridge.lms.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.skillbridge.lms.entity.OutboxEvent;
+import com.skillbridge.lms.enums.OutboxStatus;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 処理可能になった未処理イベントを古い順に取得
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = com.skillbridge.lms.enums.OutboxStatus.PENDING "
+            + "AND e.availableAt <= :now ORDER BY e.availableAt, e.id")
+    List<OutboxEvent> findReady(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * イベントを処理中としてリースする (他のワーカーが先に取得していれば 0 を返す)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.availableAt = :leaseUntil, e.attempts = e.attempts + 1 "
+            + "WHERE e.id = :id AND e.status = com.skillbridge.lms.enums.OutboxStatus.PENDING "
+            + "AND e.availableAt = :availableAt")
+    int claim(@Param("id") Long id, @Param("availableAt") LocalDateTime availableAt,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 処理済みにする。リース取得時の attempts と一致する場合のみ更新し、リース期限後に別のワーカーが
+     * 取得し直していれば 0 を返す (呼び出し元は処理結果をロールバックする)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.skillbridge.lms.enums.OutboxStatus.PROCESSED, "
+            + "e.processedAt = :processedAt, e.lastError = NULL "
+            + "WHERE e.id = :id AND e.status = com.skillbridge.lms.enums.OutboxStatus.PENDING "
+            + "AND e.attempts = :attempts")
+    int markProcessed(@Param("id") Long id, @Param("attempts") int attempts,
+                      @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 再試行の予約または断念を記録する (リースの判定は {@link #markProcessed} と同じ)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.availableAt = :availableAt, e.lastError = :error "
+            + "WHERE e.id = :id AND e.status = com.skillbridge.lms.enums.OutboxStatus.PENDING "
+            + "AND e.attempts = :attempts")
+    int markFailed(@Param("id") Long id, @Param("attempts") int attempts, @Param("status") OutboxStatus status,
+                   @Param("availableAt") LocalDateTime availableAt, @Param("error") String error);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = com.skillbridge.lms.enums.OutboxStatus.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    long countByStatus(OutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = com.skillbridge.lms.enums.OutboxStatus.PROCESSED "
+            + "AND e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
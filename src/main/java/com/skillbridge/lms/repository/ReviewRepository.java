@@ -1,5 +1,7 @@
 package com.skillbridge.lms.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -9,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.lms.entity.Review;
+import com.skillbridge.lms.repository.projection.CourseRatingStats;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
@@ -22,4 +25,8 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Double findAverageRatingByCourseId(@Param("courseId") Long courseId);
 
     long countByCourseId(Long courseId);
+
+    @Query("SELECT r.course.id AS courseId, AVG(r.rating) AS averageRating, COUNT(r.id) AS reviewCount " +
+           "FROM Review r WHERE r.course.id IN :courseIds GROUP BY r.course.id")
+    List<CourseRatingStats> findRatingStatsByCourseIds(@Param("courseIds") Collection<Long> courseIds);
 }
@@ -2,7 +2,10 @@ package com.skillbridge.lms.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.lms.entity.TaskFeedback;
 
@@ -10,5 +13,7 @@ public interface TaskFeedbackRepository extends JpaRepository<TaskFeedback, Long
 
     List<TaskFeedback> findBySubmissionIdOrderByCreatedAtDesc(Long submissionId);
 
-    List<TaskFeedback> findTop5BySubmissionUserIdOrderByCreatedAtDesc(Long userId);
+    @Query("SELECT f FROM TaskFeedback f JOIN FETCH f.submission s JOIN FETCH s.task JOIN FETCH f.reviewer " +
+           "WHERE s.user.id = :userId ORDER BY f.createdAt DESC, f.id DESC")
+    List<TaskFeedback> findRecentWithDetailsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -7,6 +7,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.lms.entity.Task;
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.enums.SubmissionStatus;
+import com.skillbridge.lms.repository.projection.PendingTaskRow;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
@@ -16,4 +19,17 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     int findMaxSortOrderByCourseId(@Param("courseId") Long courseId);
 
     long countByCourseId(Long courseId);
+
+    /**
+     * 取り消されていない受講コースの課題のうち、有効な提出 (差し戻し以外) がないもの
+     */
+    @Query("SELECT t.id AS taskId, t.title AS taskTitle, c.id AS courseId, c.title AS courseTitle " +
+           "FROM Enrollment e JOIN e.course c JOIN Task t ON t.course = c " +
+           "WHERE e.user.id = :userId AND e.status <> :dropped " +
+           "AND NOT EXISTS (SELECT 1 FROM TaskSubmission s " +
+           "WHERE s.task = t AND s.user.id = :userId AND s.status <> :rejected) " +
+           "ORDER BY e.enrolledAt DESC, e.id DESC, t.sortOrder ASC, t.id ASC")
+    List<PendingTaskRow> findPendingTaskRows(@Param("userId") Long userId,
+                                             @Param("dropped") EnrollmentStatus dropped,
+                                             @Param("rejected") SubmissionStatus rejected);
 }
@@ -0,0 +1,19 @@
+package com.skillbridge.lms.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.skillbridge.lms.entity.UploadedFile;
+
+public interface UploadedFileRepository extends JpaRepository<UploadedFile, Long> {
+
+    /**
+     * 指定したハッシュのうち、いずれかのアップロードから参照されているものを返す
+     */
+    @Query("SELECT DISTINCT f.contentHash FROM UploadedFile f WHERE f.contentHash IN :hashes")
+    Set<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+}
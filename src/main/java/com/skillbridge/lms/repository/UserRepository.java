@@ -1,15 +1,25 @@
 package com.skillbridge.lms.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.projection.EnrollmentExportRow;
+import com.skillbridge.lms.repository.projection.UserSearchRow;
+
+import jakarta.persistence.QueryHint;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -17,11 +27,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
-    @Query("SELECT u FROM User u WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<User> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
-
     Page<User> findByRole(UserRole role, Pageable pageable);
 
-    @Query("SELECT u FROM User u WHERE u.role = :role AND (LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<User> searchByRoleAndKeyword(@Param("role") UserRole role, @Param("keyword") String keyword, Pageable pageable);
+    List<User> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    List<User> findByRoleAndIdLessThanOrderByIdDesc(UserRole role, Long id, Pageable pageable);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email, u.role AS role, " +
+           "u.updatedAt AS updatedAt FROM User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserSearchRow> streamSearchRows();
+
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email, u.role AS role, " +
+           "u.updatedAt AS updatedAt FROM User u WHERE u.updatedAt >= :since")
+    List<UserSearchRow> findSearchRowsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT u.id AS userId, u.username AS username, u.email AS email, u.role AS role, " +
+           "c.id AS courseId, c.title AS courseTitle, e.status AS status, " +
+           "e.enrolledAt AS enrolledAt, e.completedAt AS completedAt " +
+           "FROM User u LEFT JOIN Enrollment e ON e.user.id = u.id LEFT JOIN Course c ON c.id = e.course.id " +
+           "ORDER BY u.id ASC, e.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EnrollmentExportRow> streamAllEnrollmentExportRows();
+
+    @Query("SELECT u.id AS userId, u.username AS username, u.email AS email, u.role AS role, " +
+           "c.id AS courseId, c.title AS courseTitle, e.status AS status, " +
+           "e.enrolledAt AS enrolledAt, e.completedAt AS completedAt " +
+           "FROM Enrollment e JOIN User u ON u.id = e.user.id JOIN Course c ON c.id = e.course.id " +
+           "WHERE e.enrolledAt >= :from AND e.enrolledAt < :to " +
+           "AND (:courseId IS NULL OR c.id = :courseId) " +
+           "ORDER BY u.id ASC, e.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EnrollmentExportRow> streamEnrollmentExportRows(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("courseId") Long courseId);
 }
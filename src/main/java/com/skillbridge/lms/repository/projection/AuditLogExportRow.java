@@ -0,0 +1,25 @@
+package com.skillbridge.lms.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 監査ログCSVエクスポートの1行
+ */
+public interface AuditLogExportRow {
+
+    Long getId();
+
+    Long getUserId();
+
+    String getAction();
+
+    String getEntityType();
+
+    Long getEntityId();
+
+    String getDetails();
+
+    String getIpAddress();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,19 @@
+package com.skillbridge.lms.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 証明書 PDF の再生成に必要な項目
+ */
+public interface CertificateRenderRow {
+
+    Long getId();
+
+    String getCertificateNumber();
+
+    String getUserName();
+
+    String getCourseTitle();
+
+    LocalDateTime getIssuedAt();
+}
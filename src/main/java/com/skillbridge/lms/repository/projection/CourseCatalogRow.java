@@ -0,0 +1,27 @@
+package com.skillbridge.lms.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * コース一覧の1行 (レッスンはエンティティを読まず件数のみ)
+ */
+public interface CourseCatalogRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Integer getSortOrder();
+
+    Boolean getPublished();
+
+    String getThumbnailUrl();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    long getLessonCount();
+}
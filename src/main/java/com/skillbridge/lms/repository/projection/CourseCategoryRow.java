@@ -0,0 +1,19 @@
+package com.skillbridge.lms.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * コースとカテゴリの対応1件
+ */
+public interface CourseCategoryRow {
+
+    Long getCourseId();
+
+    Long getCategoryId();
+
+    String getName();
+
+    String getDescription();
+
+    LocalDateTime getCreatedAt();
+}
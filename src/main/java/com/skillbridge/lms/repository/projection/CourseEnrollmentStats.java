@@ -0,0 +1,15 @@
+package com.skillbridge.lms.repository.projection;
+
+/**
+ * コース単位の受講登録集計
+ */
+public interface CourseEnrollmentStats {
+
+    Long getCourseId();
+
+    String getCourseTitle();
+
+    long getTotalEnrollments();
+
+    long getCompletedEnrollments();
+}
@@ -0,0 +1,13 @@
+package com.skillbridge.lms.repository.projection;
+
+/**
+ * コース単位のレビュー集計
+ */
+public interface CourseRatingStats {
+
+    Long getCourseId();
+
+    Double getAverageRating();
+
+    long getReviewCount();
+}
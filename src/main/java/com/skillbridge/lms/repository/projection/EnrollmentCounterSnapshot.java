@@ -0,0 +1,22 @@
+package com.skillbridge.lms.repository.projection;
+
+/**
+ * 受講登録の進捗カウンタと実測値の比較用スナップショット
+ */
+public interface EnrollmentCounterSnapshot {
+
+    Long getEnrollmentId();
+
+    int getCompletedLessons();
+
+    int getTotalPublishedLessons();
+
+    long getActualCompletedLessons();
+
+    long getActualTotalPublishedLessons();
+
+    default boolean hasDrift() {
+        return getCompletedLessons() != getActualCompletedLessons()
+                || getTotalPublishedLessons() != getActualTotalPublishedLessons();
+    }
+}
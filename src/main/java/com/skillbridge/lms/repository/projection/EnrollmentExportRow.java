@@ -0,0 +1,30 @@
+package com.skillbridge.lms.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.enums.UserRole;
+
+/**
+ * 受講データCSVエクスポートの1行 (ユーザー × 受講登録 × コース)
+ */
+public interface EnrollmentExportRow {
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getEmail();
+
+    UserRole getRole();
+
+    Long getCourseId();
+
+    String getCourseTitle();
+
+    EnrollmentStatus getStatus();
+
+    LocalDateTime getEnrolledAt();
+
+    LocalDateTime getCompletedAt();
+}
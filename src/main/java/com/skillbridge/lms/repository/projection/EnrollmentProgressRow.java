@@ -0,0 +1,15 @@
+package com.skillbridge.lms.repository.projection;
+
+/**
+ * 受講中コースの進捗 (ダッシュボード用)
+ */
+public interface EnrollmentProgressRow {
+
+    Long getCourseId();
+
+    String getCourseTitle();
+
+    int getTotalPublishedLessons();
+
+    int getCompletedLessons();
+}
@@ -0,0 +1,11 @@
+package com.skillbridge.lms.repository.projection;
+
+/**
+ * レッスンのコースID・レッスンID (コンテンツファイルの特定用)
+ */
+public interface LessonKeyRow {
+
+    Long getCourseId();
+
+    Long getLessonId();
+}
@@ -0,0 +1,15 @@
+package com.skillbridge.lms.repository.projection;
+
+/**
+ * 未提出課題1件 (ダッシュボード用)
+ */
+public interface PendingTaskRow {
+
+    Long getTaskId();
+
+    String getTaskTitle();
+
+    Long getCourseId();
+
+    String getCourseTitle();
+}
@@ -0,0 +1,19 @@
+package com.skillbridge.lms.repository.projection;
+
+import com.skillbridge.lms.enums.EnrollmentStatus;
+
+/**
+ * ユーザーの受講登録 (コースID・ステータス・進捗カウンタ)
+ */
+public interface UserEnrollmentRow {
+
+    Long getUserId();
+
+    Long getCourseId();
+
+    EnrollmentStatus getStatus();
+
+    int getCompletedLessons();
+
+    int getTotalPublishedLessons();
+}
@@ -0,0 +1,21 @@
+package com.skillbridge.lms.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.skillbridge.lms.enums.UserRole;
+
+/**
+ * ユーザー検索インデックスの構築用
+ */
+public interface UserSearchRow {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    UserRole getRole();
+
+    LocalDateTime getUpdatedAt();
+}
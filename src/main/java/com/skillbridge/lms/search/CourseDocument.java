@@ -0,0 +1,19 @@
+package com.skillbridge.lms.search;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 検索インデックスに登録するコース情報
+ *
+ * <p>{@code updatedAt} は反映順の判定に使い、古い内容で新しい内容を上書きしない。</p>
+ */
+public record CourseDocument(
+        Long id,
+        String title,
+        String description,
+        boolean published,
+        Set<Long> categoryIds,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
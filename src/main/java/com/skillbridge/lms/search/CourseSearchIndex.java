@@ -0,0 +1,387 @@
+package com.skillbridge.lms.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * コースのインメモリ転置インデックス
+ *
+ * <p>タイトルと説明をフィールド別に保持し、BM25 (タイトルを重み付け) で順位付けする。
+ * クエリの全トークンを含む文書のみを返し、最後の英単語トークンは前方一致で展開する。
+ * 一覧のキーワード絞り込み ({@link #page}) は単語の途中も含む部分一致で、タイトル・説明の n-gram ポスティングで
+ * 候補を絞ってから文字列で検証し、並び替えとページングまでここで行う。
+ * 文書は更新日時を比べて反映し、古い内容で新しい内容を上書きしない。読み取りは並行、更新は排他。</p>
+ */
+public class CourseSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_BOOST = 3.0;
+
+    /** term -> (courseId -> [タイトル内出現数, 説明内出現数]) */
+    private final TreeMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+    private final Map<Long, Entry> documents = new HashMap<>();
+    /** 正規化したタイトル (と単語境界以降の部分) -> courseId。オートコンプリート用 */
+    private final TreeMap<String, Set<Long>> titleKeys = new TreeMap<>();
+    /** 正規化したタイトル・説明の n-gram -> courseId。部分一致の候補絞り込み用 */
+    private final NGramPostings grams = new NGramPostings();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long totalTitleLength;
+    private long totalDescriptionLength;
+
+    public record Hit(Long courseId, double score) {
+    }
+
+    /**
+     * 一覧の並び順 (同じ値どうしは ID 順)
+     */
+    public enum Order {
+        NEWEST, OLDEST, TITLE
+    }
+
+    /**
+     * @param ids   ページ内のコースID
+     * @param total 一致した総件数
+     */
+    public record Result(List<Long> ids, int total) {
+    }
+
+    private record Entry(CourseDocument document, List<String> titleTerms, List<String> descriptionTerms,
+            List<String> suggestKeys, String normalizedTitle, String normalizedDescription) {
+
+        boolean contains(String keyword) {
+            return normalizedTitle.contains(keyword) || normalizedDescription.contains(keyword);
+        }
+    }
+
+    /**
+     * 文書を登録・更新する。登録済みの文書の方が新しければ何もしない
+     */
+    public void upsert(CourseDocument document) {
+        Entry entry = analyze(document);
+        lock.writeLock().lock();
+        try {
+            Entry current = documents.get(document.id());
+            if (current != null && isNewer(current.document(), document)) {
+                return;
+            }
+            removeInternal(document.id());
+            addInternal(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long courseId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 全件を入れ替える。読み取り後に反映された新しい文書は入れ替えずに残す
+     *
+     * @param snapshotAt documents を読み始めた時刻 (documents になく、これ以降に更新された文書は残す)
+     */
+    public void replaceAll(Collection<CourseDocument> documents, LocalDateTime snapshotAt) {
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        documents.forEach(document -> entries.put(document.id(), analyze(document)));
+        lock.writeLock().lock();
+        try {
+            for (Entry current : this.documents.values()) {
+                CourseDocument document = current.document();
+                Entry snapshot = entries.get(document.id());
+                if (snapshot == null
+                        ? updatedSince(document, snapshotAt)
+                        : isNewer(document, snapshot.document())) {
+                    entries.put(document.id(), current);
+                }
+            }
+            postings.clear();
+            this.documents.clear();
+            titleKeys.clear();
+            grams.clear();
+            totalTitleLength = 0;
+            totalDescriptionLength = 0;
+            entries.values().forEach(this::addInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * liveIds に含まれない文書を削除する (他ノードで削除されたコースの反映用)
+     *
+     * @param listedAt liveIds を読み始めた時刻 (これ以降に更新された文書は削除しない)
+     * @return 削除件数
+     */
+    public int removeMissing(Set<Long> liveIds, LocalDateTime listedAt) {
+        lock.writeLock().lock();
+        try {
+            List<Long> missing = documents.values().stream()
+                    .map(Entry::document)
+                    .filter(document -> !liveIds.contains(document.id()) && !updatedSince(document, listedAt))
+                    .map(CourseDocument::id)
+                    .toList();
+            missing.forEach(this::removeInternal);
+            return missing.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param published  null の場合は公開状態で絞り込まない
+     * @param categoryId null の場合はカテゴリで絞り込まない
+     * @return スコア降順 (同点は作成日時の新しい順)
+     */
+    public List<Hit> search(String query, Boolean published, Long categoryId) {
+        List<String> terms = TextAnalyzer.analyzeForQuery(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                boolean prefix = i == terms.size() - 1 && TextAnalyzer.isWordToken(term);
+                Map<Long, Double> termScores = scoreTerm(term, prefix);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    Map<Long, Double> current = scores;
+                    termScores.forEach((id, score) -> current.computeIfPresent(id, (k, v) -> v + score));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            for (Map.Entry<Long, Double> scored : scores.entrySet()) {
+                CourseDocument doc = documents.get(scored.getKey()).document();
+                if (matchesFilters(doc, published, categoryId)) {
+                    hits.add(new Hit(doc.id(), scored.getValue()));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(hit -> documents.get(hit.courseId()).document().createdAt(),
+                            Comparator.nullsLast(Comparator.reverseOrder())));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * タイトルか説明にキーワードを部分一致で含むコースを指定順に並べ、1ページ分の ID と総件数を返す
+     *
+     * @param published null の場合は公開状態で絞り込まない
+     */
+    public Result page(String keyword, Boolean published, Order order, long offset, int limit) {
+        String normalized = TextAnalyzer.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            List<IntPostingList> lists = grams.candidateLists(normalized);
+            if (lists.isEmpty()) {
+                return new Result(List.of(), 0);
+            }
+            IntPostingList driver = lists.get(0);
+            List<IntPostingList> others = lists.subList(1, lists.size());
+
+            List<CourseDocument> matched = new ArrayList<>();
+            for (int i = 0; i < driver.size(); i++) {
+                int id = driver.get(i);
+                if (!NGramPostings.containsAll(others, id)) {
+                    continue;
+                }
+                Entry entry = documents.get((long) id);
+                if (matchesFilters(entry.document(), published, null) && entry.contains(normalized)) {
+                    matched.add(entry.document());
+                }
+            }
+            matched.sort(comparator(order));
+            int from = (int) Math.min(offset, matched.size());
+            int to = (int) Math.min((long) from + Math.max(limit, 0), matched.size());
+            return new Result(matched.subList(from, to).stream().map(CourseDocument::id).toList(), matched.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * タイトルの前方一致 (単語の先頭からの一致を含む) 候補
+     */
+    public List<String> suggest(String prefix, Boolean published, int limit) {
+        String key = TextAnalyzer.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Set<String> titles = new LinkedHashSet<>();
+            NavigableMap<String, Set<Long>> candidates = titleKeys.subMap(key, true, key + Character.MAX_VALUE, false);
+            for (Set<Long> ids : candidates.values()) {
+                for (Long id : ids) {
+                    CourseDocument doc = documents.get(id).document();
+                    if (matchesFilters(doc, published, null)) {
+                        titles.add(doc.title());
+                        if (titles.size() >= limit) {
+                            return List.copyOf(titles);
+                        }
+                    }
+                }
+            }
+            return List.copyOf(titles);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreTerm(String term, boolean prefix) {
+        Map<Long, Double> scores = new HashMap<>();
+        Collection<String> expanded = prefix
+                ? postings.subMap(term, true, term + Character.MAX_VALUE, false).keySet()
+                : (postings.containsKey(term) ? List.of(term) : List.of());
+
+        int n = documents.size();
+        double avgTitle = n == 0 ? 1 : Math.max(1.0, (double) totalTitleLength / n);
+        double avgDescription = n == 0 ? 1 : Math.max(1.0, (double) totalDescriptionLength / n);
+        for (String t : expanded) {
+            Map<Long, int[]> docs = postings.get(t);
+            double idf = Math.log(1 + (n - docs.size() + 0.5) / (docs.size() + 0.5));
+            for (Map.Entry<Long, int[]> posting : docs.entrySet()) {
+                Entry entry = documents.get(posting.getKey());
+                double score = TITLE_BOOST * bm25(posting.getValue()[0], entry.titleTerms().size(), avgTitle)
+                        + bm25(posting.getValue()[1], entry.descriptionTerms().size(), avgDescription);
+                scores.merge(posting.getKey(), idf * score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private static Comparator<CourseDocument> comparator(Order order) {
+        return switch (order) {
+            case NEWEST -> Comparator.comparing(CourseDocument::createdAt,
+                            Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                    .thenComparing(CourseDocument::id, Comparator.reverseOrder());
+            case OLDEST -> Comparator.comparing(CourseDocument::createdAt,
+                            Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+                    .thenComparing(CourseDocument::id);
+            case TITLE -> Comparator.comparing(CourseDocument::title, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(CourseDocument::id);
+        };
+    }
+
+    /** a が b より後に更新されたか (更新日時が不明なものは古いとみなす) */
+    private static boolean isNewer(CourseDocument a, CourseDocument b) {
+        return a.updatedAt() != null && (b.updatedAt() == null || a.updatedAt().isAfter(b.updatedAt()));
+    }
+
+    private static boolean updatedSince(CourseDocument document, LocalDateTime since) {
+        return document.updatedAt() != null && !document.updatedAt().isBefore(since);
+    }
+
+    private double bm25(int tf, int length, double averageLength) {
+        if (tf == 0) {
+            return 0;
+        }
+        return tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private boolean matchesFilters(CourseDocument doc, Boolean published, Long categoryId) {
+        if (published != null && doc.published() != published) {
+            return false;
+        }
+        return categoryId == null || doc.categoryIds().contains(categoryId);
+    }
+
+    private Entry analyze(CourseDocument document) {
+        List<String> titleTerms = TextAnalyzer.analyzeForIndex(document.title());
+        List<String> descriptionTerms = TextAnalyzer.analyzeForIndex(document.description());
+        String title = TextAnalyzer.normalize(document.title());
+        List<String> suggestKeys = new ArrayList<>();
+        suggestKeys.add(title);
+        for (int i = 1; i < title.length(); i++) {
+            if (Character.isWhitespace(title.charAt(i - 1)) && !Character.isWhitespace(title.charAt(i))) {
+                suggestKeys.add(title.substring(i));
+            }
+        }
+        return new Entry(document, titleTerms, descriptionTerms, suggestKeys, title,
+                TextAnalyzer.normalize(document.description()));
+    }
+
+    private void addInternal(Entry entry) {
+        Long id = entry.document().id();
+        documents.put(id, entry);
+        entry.titleTerms().forEach(term -> postings.computeIfAbsent(term, t -> new HashMap<>())
+                .computeIfAbsent(id, k -> new int[2])[0]++);
+        entry.descriptionTerms().forEach(term -> postings.computeIfAbsent(term, t -> new HashMap<>())
+                .computeIfAbsent(id, k -> new int[2])[1]++);
+        entry.suggestKeys().forEach(key -> titleKeys.computeIfAbsent(key, k -> new HashSet<>()).add(id));
+        grams.add(Math.toIntExact(id), entry.normalizedTitle(), entry.normalizedDescription());
+        totalTitleLength += entry.titleTerms().size();
+        totalDescriptionLength += entry.descriptionTerms().size();
+    }
+
+    private void removeInternal(Long id) {
+        Entry entry = documents.remove(id);
+        if (entry == null) {
+            return;
+        }
+        Set<String> terms = new HashSet<>(entry.titleTerms());
+        terms.addAll(entry.descriptionTerms());
+        for (String term : terms) {
+            Map<Long, int[]> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        for (String key : entry.suggestKeys()) {
+            Set<Long> ids = titleKeys.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    titleKeys.remove(key);
+                }
+            }
+        }
+        grams.remove(Math.toIntExact(id), entry.normalizedTitle(), entry.normalizedDescription());
+        totalTitleLength -= entry.titleTerms().size();
+        totalDescriptionLength -= entry.descriptionTerms().size();
+    }
+}
@@ -0,0 +1,160 @@
+package com.skillbridge.lms.search;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.event.CourseChangedEvent;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.projection.CourseCategoryRow;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * コース全文検索
+ *
+ * <p>インデックスは起動時に DB から構築し、以降はコース変更のコミット後に1件ずつ反映する。
+ * インデックスはノードごとに持つため、他ノードでの変更は {@code courses.updated_at} から定期的に取り込み、
+ * 削除されたコースは ID の一覧と突き合わせて取り除く。</p>
+ */
+@Slf4j
+@Service
+public class CourseSearchService {
+
+    /** 更新日時の記録からコミットまでの遅れやノード間の時計のずれを見込んで、前回より少し前から読み直す */
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final CourseRepository courseRepository;
+    private final CourseSearchIndex index = new CourseSearchIndex();
+    /** 最後に DB から読み込んだ時刻 (未構築なら null) */
+    private volatile LocalDateTime loadedAt;
+    private final Timer searchTimer;
+    private final Timer suggestTimer;
+
+    public CourseSearchService(CourseRepository courseRepository, MeterRegistry meterRegistry) {
+        this.courseRepository = courseRepository;
+        this.searchTimer = Timer.builder("course.search.latency")
+                .tag("operation", "search")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.suggestTimer = Timer.builder("course.search.latency")
+                .tag("operation", "suggest")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("course.search.documents", index, CourseSearchIndex::size).register(meterRegistry);
+    }
+
+    /**
+     * キーワードに一致するコースIDを関連度順で返す
+     */
+    public List<Long> searchIds(String keyword, Boolean published, Long categoryId) {
+        return searchTimer.record(() -> index.search(keyword, published, categoryId).stream()
+                .map(CourseSearchIndex.Hit::courseId)
+                .toList());
+    }
+
+    /**
+     * 一覧のキーワード絞り込み (部分一致・指定順) の1ページ分
+     */
+    public CourseSearchIndex.Result page(String keyword, Boolean published, CourseSearchIndex.Order order,
+                                         long offset, int limit) {
+        return searchTimer.record(() -> index.page(keyword, published, order, offset, limit));
+    }
+
+    public List<String> suggest(String prefix, Boolean published, int limit) {
+        return suggestTimer.record(() -> index.suggest(prefix, published, limit));
+    }
+
+    /**
+     * DB の全コースからインデックスを再構築
+     *
+     * @return 登録件数
+     */
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        long start = System.nanoTime();
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        Map<Long, Set<Long>> categoriesByCourse = groupCategories(courseRepository.findAllCategoryRows());
+        List<CourseDocument> documents = courseRepository.findAll().stream()
+                .map(course -> toDocument(course, categoriesByCourse.getOrDefault(course.getId(), Set.of())))
+                .toList();
+        index.replaceAll(documents, snapshotAt);
+        loadedAt = snapshotAt;
+        log.info("コース検索インデックスを再構築しました: {}件 ({}ms)", documents.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return documents.size();
+    }
+
+    /**
+     * 前回の読み込み以降に更新・削除されたコースを反映 (他ノードでの変更の取り込み用に定期実行)
+     *
+     * @return 反映した件数
+     */
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval:1m}",
+               initialDelayString = "${app.search.refresh-interval:1m}")
+    @Transactional(readOnly = true)
+    public int refresh() {
+        LocalDateTime since = loadedAt;
+        if (since == null) {
+            return 0;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Course> changed = courseRepository.findByUpdatedAtGreaterThanEqual(since.minus(REFRESH_OVERLAP));
+        if (!changed.isEmpty()) {
+            Map<Long, Set<Long>> categoriesByCourse = groupCategories(courseRepository
+                    .findCategoryRowsByCourseIds(changed.stream().map(Course::getId).toList()));
+            changed.forEach(course -> index.upsert(
+                    toDocument(course, categoriesByCourse.getOrDefault(course.getId(), Set.of()))));
+        }
+        int removed = index.removeMissing(new HashSet<>(courseRepository.findAllIds()), startedAt);
+        loadedAt = startedAt;
+        return changed.size() + removed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * コース変更をコミット後に反映 (削除済みならインデックスからも削除)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        courseRepository.findById(event.courseId()).ifPresentOrElse(
+                course -> index.upsert(toDocument(course, courseRepository
+                        .findCategoryRowsByCourseIds(List.of(course.getId())).stream()
+                        .map(CourseCategoryRow::getCategoryId)
+                        .collect(Collectors.toSet()))),
+                () -> index.remove(event.courseId()));
+    }
+
+    private CourseDocument toDocument(Course course, Set<Long> categoryIds) {
+        return new CourseDocument(course.getId(), course.getTitle(), course.getDescription(),
+                Boolean.TRUE.equals(course.getPublished()), categoryIds, course.getCreatedAt(),
+                course.getUpdatedAt());
+    }
+
+    private static Map<Long, Set<Long>> groupCategories(List<CourseCategoryRow> rows) {
+        return rows.stream().collect(Collectors.groupingBy(CourseCategoryRow::getCourseId,
+                Collectors.mapping(CourseCategoryRow::getCategoryId, Collectors.toSet())));
+    }
+}
@@ -0,0 +1,59 @@
+package com.skillbridge.lms.search;
+
+import java.util.Arrays;
+
+/**
+ * 昇順に保持する int のポスティングリスト (ID はほぼ昇順で追加されるため末尾追加が主)
+ */
+final class IntPostingList {
+
+    private int[] ids = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return ids[index];
+    }
+
+    void add(int id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return;
+            }
+            insertAt(-pos - 1, id);
+            return;
+        }
+        insertAt(size, id);
+    }
+
+    void remove(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+        }
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /** id より小さい最大要素の位置 (なければ -1) */
+    int lastIndexBefore(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        return (pos >= 0 ? pos : -pos - 1) - 1;
+    }
+
+    private void insertAt(int pos, int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+        ids[pos] = id;
+        size++;
+    }
+}
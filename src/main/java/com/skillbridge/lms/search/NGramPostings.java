@@ -0,0 +1,89 @@
+package com.skillbridge.lms.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 部分一致検索の候補絞り込み用 n-gram ポスティング
+ *
+ * <p>値は 1〜3 文字の n-gram で索引し、1〜2文字のキーワードはその n-gram 1つ、
+ * 3文字以上は trigram のポスティングリストの積を候補とする。候補は実際の文字列で検証すること。
+ * スレッドセーフではないため、呼び出し側のロック内で使う。</p>
+ */
+final class NGramPostings {
+
+    private final Map<String, IntPostingList> postings = new HashMap<>();
+
+    void add(int id, String... values) {
+        for (String gram : grams(values)) {
+            postings.computeIfAbsent(gram, g -> new IntPostingList()).add(id);
+        }
+    }
+
+    void remove(int id, String... values) {
+        for (String gram : grams(values)) {
+            IntPostingList list = postings.get(gram);
+            if (list != null) {
+                list.remove(id);
+                if (list.size() == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * 候補のポスティングリスト (件数の少ない順)。一致しない n-gram があれば空
+     */
+    List<IntPostingList> candidateLists(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (keyword.length() < 3) {
+            grams.add(keyword);
+        } else {
+            for (int i = 0; i + 3 <= keyword.length(); i++) {
+                grams.add(keyword.substring(i, i + 3));
+            }
+        }
+        List<IntPostingList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            IntPostingList list = postings.get(gram);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(IntPostingList::size));
+        return lists;
+    }
+
+    static boolean containsAll(List<IntPostingList> lists, int id) {
+        for (IntPostingList list : lists) {
+            if (!list.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 1〜3 文字の n-gram をすべて返す */
+    private static Set<String> grams(String... values) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String value : values) {
+            for (int i = 0; i < value.length(); i++) {
+                for (int n = 1; n <= 3 && i + n <= value.length(); n++) {
+                    grams.add(value.substring(i, i + n));
+                }
+            }
+        }
+        return grams;
+    }
+}
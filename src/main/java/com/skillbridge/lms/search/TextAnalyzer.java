@@ -0,0 +1,96 @@
+package com.skillbridge.lms.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 検索用のトークナイザ
+ *
+ * <p>NFKC 正規化・小文字化の後、英数字は単語単位、日本語 (漢字・ひらがな・カタカナ) は
+ * 文字 bigram に分割する。インデックス側は1文字検索のため unigram も出力する。</p>
+ */
+public final class TextAnalyzer {
+
+    private TextAnalyzer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).strip();
+    }
+
+    /** インデックス登録用 (日本語は bigram + unigram) */
+    public static List<String> analyzeForIndex(String text) {
+        return analyze(text, true);
+    }
+
+    /** 検索クエリ用 (日本語は2文字以上なら bigram のみ) */
+    public static List<String> analyzeForQuery(String text) {
+        return analyze(text, false);
+    }
+
+    /** 英数字の単語トークンか (前方一致展開の対象) */
+    public static boolean isWordToken(String term) {
+        return !term.isEmpty() && !isCjk(term.codePointAt(0));
+    }
+
+    private static List<String> analyze(String text, boolean withUnigrams) {
+        String normalized = normalize(text);
+        List<String> terms = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        List<Integer> cjkRun = new ArrayList<>();
+
+        normalized.codePoints().forEach(cp -> {
+            if (isCjk(cp)) {
+                flushWord(word, terms);
+                cjkRun.add(cp);
+            } else if (Character.isLetterOrDigit(cp)) {
+                flushCjk(cjkRun, terms, withUnigrams);
+                word.appendCodePoint(cp);
+            } else {
+                flushWord(word, terms);
+                flushCjk(cjkRun, terms, withUnigrams);
+            }
+        });
+        flushWord(word, terms);
+        flushCjk(cjkRun, terms, withUnigrams);
+        return terms;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> terms) {
+        if (!word.isEmpty()) {
+            terms.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    private static void flushCjk(List<Integer> run, List<String> terms, boolean withUnigrams) {
+        if (run.isEmpty()) {
+            return;
+        }
+        if (run.size() == 1 || withUnigrams) {
+            for (int cp : run) {
+                terms.add(Character.toString(cp));
+            }
+        }
+        for (int i = 0; i + 1 < run.size(); i++) {
+            terms.add(Character.toString(run.get(i)) + Character.toString(run.get(i + 1)));
+        }
+        run.clear();
+    }
+
+    private static boolean isCjk(int cp) {
+        if (cp == 0x30FC || cp == 0x3005) {
+            // 長音符「ー」と踊り字「々」
+            return true;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
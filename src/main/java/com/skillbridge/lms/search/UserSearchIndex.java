@@ -0,0 +1,163 @@
+package com.skillbridge.lms.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.skillbridge.lms.enums.UserRole;
+
+/**
+ * ユーザー名・メールアドレスのインメモリ n-gram インデックス
+ *
+ * <p>キーワードは長さに関わらず名前・メールの部分一致で検索する。値は 1〜3 文字の n-gram で索引し、
+ * 1〜2文字のキーワードはその n-gram 1つ、3文字以上は trigram のポスティングリストの積で候補を絞り込み、
+ * 最後に実際の文字列で検証する。結果は ID 順に走査し、必要な件数だけを取り出す。</p>
+ *
+ * <p>各ユーザーは更新日時を持ち、保持しているものより古い内容での上書きは無視する。</p>
+ */
+public class UserSearchIndex {
+
+    private final NGramPostings grams = new NGramPostings();
+    private final Map<Integer, Entry> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Entry(String username, String email, UserRole role, LocalDateTime updatedAt) {
+
+        boolean matches(String keyword, UserRole filter) {
+            return (filter == null || role == filter) && (username.contains(keyword) || email.contains(keyword));
+        }
+    }
+
+    /**
+     * @param ids   ページ内のユーザーID
+     * @param total 一致した総件数
+     */
+    public record Result(List<Long> ids, int total) {
+    }
+
+    /**
+     * @param updatedAt 保持している内容より古ければ反映しない (null は最も古いものとして扱う)
+     */
+    public void upsert(Long userId, String username, String email, UserRole role, LocalDateTime updatedAt) {
+        int id = Math.toIntExact(userId);
+        Entry entry = new Entry(TextAnalyzer.normalize(username), TextAnalyzer.normalize(email), role, updatedAt);
+        lock.writeLock().lock();
+        try {
+            Entry current = documents.get(id);
+            if (current != null && current.updatedAt() != null
+                    && (updatedAt == null || current.updatedAt().isAfter(updatedAt))) {
+                return;
+            }
+            removeInternal(id);
+            documents.put(id, entry);
+            grams.add(id, entry.username(), entry.email());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(Math.toIntExact(userId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param role     null の場合はロールで絞り込まない
+     * @param beforeId この ID より小さいものだけを返す (null の場合は先頭から)
+     * @return 一致したユーザーID (降順、最大 limit 件)
+     */
+    public List<Long> search(String keyword, UserRole role, Long beforeId, int limit) {
+        String normalized = TextAnalyzer.normalize(keyword);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<IntPostingList> lists = grams.candidateLists(normalized);
+            if (lists.isEmpty()) {
+                return List.of();
+            }
+            IntPostingList driver = lists.get(0);
+            List<IntPostingList> others = lists.subList(1, lists.size());
+
+            int start = beforeId == null || beforeId > Integer.MAX_VALUE
+                    ? driver.size() - 1
+                    : driver.lastIndexBefore(beforeId.intValue());
+            List<Long> result = new ArrayList<>(Math.min(limit, 64));
+            for (int i = start; i >= 0 && result.size() < limit; i--) {
+                int id = driver.get(i);
+                if (NGramPostings.containsAll(others, id) && documents.get(id).matches(normalized, role)) {
+                    result.add((long) id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * オフセット方式の1ページ分と総件数を返す。総件数を数えるため候補は全件走査するが、
+     * 保持するのはページ内の limit 件だけ
+     *
+     * @param role      null の場合はロールで絞り込まない
+     * @param ascending true なら ID 昇順、false なら降順
+     */
+    public Result page(String keyword, UserRole role, boolean ascending, long offset, int limit) {
+        String normalized = TextAnalyzer.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<IntPostingList> lists = grams.candidateLists(normalized);
+            if (lists.isEmpty()) {
+                return new Result(List.of(), 0);
+            }
+            IntPostingList driver = lists.get(0);
+            List<IntPostingList> others = lists.subList(1, lists.size());
+
+            List<Long> ids = new ArrayList<>(Math.clamp(limit, 0, 64));
+            int total = 0;
+            for (int n = 0; n < driver.size(); n++) {
+                int id = driver.get(ascending ? n : driver.size() - 1 - n);
+                if (NGramPostings.containsAll(others, id) && documents.get(id).matches(normalized, role)) {
+                    if (total >= offset && ids.size() < limit) {
+                        ids.add((long) id);
+                    }
+                    total++;
+                }
+            }
+            return new Result(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(int id) {
+        Entry entry = documents.remove(id);
+        if (entry == null) {
+            return;
+        }
+        grams.remove(id, entry.username(), entry.email());
+    }
+}
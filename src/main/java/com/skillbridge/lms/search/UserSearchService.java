@@ -0,0 +1,159 @@
+package com.skillbridge.lms.search;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.event.UserChangedEvent;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.repository.projection.UserSearchRow;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 管理画面のユーザー検索
+ *
+ * <p>インデックスは起動時に DB から構築し、以降はユーザー登録・変更のコミット後に1件ずつ反映する。
+ * 再構築は新しいインデックスを作ってから差し替えるため、その間の検索は以前のインデックスで応答する。
+ * 再構築中の変更は構築中のインデックスにも反映し、更新日時の古い行で上書きされないようにする。
+ * インデックスはノードごとに持つため、他ノードでの変更は {@code users.updated_at} から定期的に取り込む。</p>
+ */
+@Slf4j
+@Service
+public class UserSearchService {
+
+    /** 更新日時の記録からコミットまでの遅れやノード間の時計のずれを見込んで、前回より少し前から読み直す */
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+    private volatile UserSearchIndex index = new UserSearchIndex();
+    /** 再構築中のインデックス (再構築中でなければ null) */
+    private volatile UserSearchIndex building;
+    /** 最後に DB から読み込んだ時刻 (未構築なら null) */
+    private volatile LocalDateTime loadedAt;
+    private final Timer searchTimer;
+
+    public UserSearchService(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.searchTimer = Timer.builder("user.search.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("user.search.documents", this, service -> service.index.size()).register(meterRegistry);
+    }
+
+    /**
+     * キーワードに一致するユーザーIDを降順で返す
+     *
+     * @param beforeId この ID より小さいものだけを返す (null の場合は先頭から)
+     */
+    public List<Long> searchIds(String keyword, UserRole role, Long beforeId, int limit) {
+        return searchTimer.record(() -> index.search(keyword, role, beforeId, limit));
+    }
+
+    /**
+     * キーワードに一致するユーザーIDのうち1ページ分と総件数を返す
+     *
+     * @param ascending true なら ID 昇順、false なら降順
+     */
+    public UserSearchIndex.Result searchPage(String keyword, UserRole role, boolean ascending, long offset, int limit) {
+        return searchTimer.record(() -> index.page(keyword, role, ascending, offset, limit));
+    }
+
+    /**
+     * DB の全ユーザーからインデックスを再構築
+     *
+     * @return 登録件数
+     */
+    @Transactional(readOnly = true)
+    public synchronized int rebuild() {
+        long start = System.nanoTime();
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        UserSearchIndex rebuilt = new UserSearchIndex();
+        building = rebuilt;
+        int count = 0;
+        try (Stream<UserSearchRow> rows = userRepository.streamSearchRows()) {
+            Iterator<UserSearchRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                upsert(rebuilt, iterator.next());
+                count++;
+            }
+        } finally {
+            building = null;
+        }
+        index = rebuilt;
+        loadedAt = snapshotAt;
+        log.info("ユーザー検索インデックスを再構築しました: {}件 ({}ms)", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return count;
+    }
+
+    /**
+     * 前回の読み込み以降に更新されたユーザーを反映 (他ノードでの変更の取り込み用に定期実行)
+     *
+     * @return 反映した件数
+     */
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval:1m}",
+               initialDelayString = "${app.search.refresh-interval:1m}")
+    @Transactional(readOnly = true)
+    public int refresh() {
+        LocalDateTime since = loadedAt;
+        if (since == null) {
+            return 0;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<UserSearchRow> rows = userRepository.findSearchRowsUpdatedSince(since.minus(REFRESH_OVERLAP));
+        UserSearchIndex target = index;
+        rows.forEach(row -> upsert(target, row));
+        loadedAt = startedAt;
+        return rows.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * ユーザー変更をコミット後に反映
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onUserChanged(UserChangedEvent event) {
+        UserSearchIndex pending = building;
+        userRepository.findById(event.userId()).ifPresentOrElse(
+                user -> {
+                    index.upsert(user.getId(), user.getUsername(), user.getEmail(), user.getRole(),
+                            user.getUpdatedAt());
+                    if (pending != null) {
+                        pending.upsert(user.getId(), user.getUsername(), user.getEmail(), user.getRole(),
+                                user.getUpdatedAt());
+                    }
+                },
+                () -> {
+                    index.remove(event.userId());
+                    if (pending != null) {
+                        pending.remove(event.userId());
+                    }
+                });
+    }
+
+    private static void upsert(UserSearchIndex target, UserSearchRow row) {
+        target.upsert(row.getId(), row.getUsername(), row.getEmail(), row.getRole(), row.getUpdatedAt());
+    }
+}
@@ -4,7 +4,6 @@ import java.io.IOException;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,7 +20,8 @@ import lombok.RequiredArgsConstructor;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final ResolvedUserHolder resolvedUserHolder;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -29,20 +29,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = getTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            String email = tokenProvider.getEmailFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        if (StringUtils.hasText(token)) {
+            tokenProvider.parseToken(token)
+                    .map(this::resolvePrincipal)
+                    .ifPresent(principal -> authenticate(request, principal));
+        }
+
+        filterChain.doFilter(request, response);
+    }
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-            authentication.setDetails(
-                    new WebAuthenticationDetailsSource().buildDetails(request));
+    /**
+     * トークンの利用者を解決する
+     *
+     * <p>ロール・有効状態はトークンのクレームではなくキャッシュ済みのユーザー状態を使い、
+     * トークンの ver クレームが現在のトークンバージョンと一致する場合のみ認証する
+     * (ロール変更・無効化・パスワード再設定より前に発行されたトークンを拒否する)。</p>
+     */
+    private UserPrincipal resolvePrincipal(TokenClaims claims) {
+        UserPrincipal principal = principalCache.get(claims.email());
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 削除済み・無効化済みのユーザー、失効済みのトークンは認証しない
+        if (principal == null || !principal.isEnabled() || !claims.isCurrentFor(principal)) {
+            return null;
         }
+        return principal;
+    }
 
-        filterChain.doFilter(request, response);
+    private void authenticate(HttpServletRequest request, UserPrincipal principal) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        principal, null, principal.getAuthorities());
+        authentication.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        resolvedUserHolder.set(request, principal);
     }
 
     private String getTokenFromRequest(HttpServletRequest request) {
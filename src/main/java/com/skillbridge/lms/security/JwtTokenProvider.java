@@ -1,6 +1,7 @@
 package com.skillbridge.lms.security;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 import javax.crypto.SecretKey;
@@ -8,8 +9,12 @@ import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.skillbridge.lms.entity.User;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -17,7 +22,10 @@ import io.jsonwebtoken.security.Keys;
 @Component
 public class JwtTokenProvider {
 
+    static final String CLAIM_TOKEN_VERSION = "ver";
+
     private final SecretKey key;
+    private final JwtParser parser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -27,19 +35,31 @@ public class JwtTokenProvider {
             @Value("${app.jwt.refresh-token-expiration}") long refreshTokenExpiration) {
         this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(
                 java.util.Base64.getEncoder().encodeToString(secret.getBytes())));
+        // JwtParser はイミュータブルでスレッドセーフなため使い回す
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
 
-    public String generateAccessToken(String email) {
-        return generateToken(email, accessTokenExpiration);
+    /**
+     * トークンバージョンを埋め込んだアクセストークンを発行
+     *
+     * <p>ロール・有効状態は認証時に現在のユーザー状態から解決するため、クレームには含めない。</p>
+     */
+    public String generateAccessToken(User user) {
+        return builder(user.getEmail(), accessTokenExpiration)
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
+                .compact();
     }
 
+    /**
+     * リフレッシュトークンを発行 (ver クレームを持たないため、アクセストークンとしては受け付けない)
+     */
     public String generateRefreshToken(String email) {
-        return generateToken(email, refreshTokenExpiration);
+        return builder(email, refreshTokenExpiration).compact();
     }
 
-    private String generateToken(String subject, long expiration) {
+    private JwtBuilder builder(String subject, long expiration) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
@@ -48,31 +68,30 @@ public class JwtTokenProvider {
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(key)
-                .compact();
+                .signWith(key);
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * アクセストークンの署名検証とクレーム取得を1回で行う
+     * (無効なトークン、ver クレームのないリフレッシュトークンは empty)
+     */
+    public Optional<TokenClaims> parseToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+            if (tokenVersion == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new TokenClaims(claims.getSubject(), tokenVersion.intValue()));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    public long getAccessTokenExpiration() {
+        return accessTokenExpiration;
+    }
+
     public long getRefreshTokenExpiration() {
         return refreshTokenExpiration;
     }
@@ -0,0 +1,61 @@
+package com.skillbridge.lms.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skillbridge.lms.event.UserChangedEvent;
+import com.skillbridge.lms.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * メールアドレスをキーとした認証プリンシパルのキャッシュ
+ * (件数上限とTTLで自動的に破棄される)
+ *
+ * <p>アクセストークンの失効判定に使うトークンバージョンも保持する。変更したノードではコミット後に破棄されるが
+ * (コミット前に破棄すると、並行するリクエストが変更前の行を読み直して再びキャッシュしてしまう)、
+ * 他のノードには TTL が過ぎるまで反映されない。</p>
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserPrincipal> cache;
+
+    public PrincipalCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.security.principal-cache.ttl:1m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    /**
+     * プリンシパル取得 (キャッシュミス時はDBから読み込む。ユーザーが存在しなければnull)
+     */
+    public UserPrincipal get(String email) {
+        return cache.get(email, key -> userRepository.findByEmail(key)
+                .map(UserPrincipal::from)
+                .orElse(null));
+    }
+
+    /**
+     * ユーザー情報の変更をコミット後に反映
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidate(event.email());
+    }
+}
@@ -0,0 +1,37 @@
+package com.skillbridge.lms.security;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * リクエスト内で認証済みユーザーを保持し、サービス層でのユーザー再検索を省く
+ */
+@Component
+public class ResolvedUserHolder {
+
+    private static final String ATTRIBUTE = ResolvedUserHolder.class.getName() + ".principal";
+
+    public void set(HttpServletRequest request, UserPrincipal principal) {
+        request.setAttribute(ATTRIBUTE, principal);
+    }
+
+    /**
+     * 現在のリクエストで認証済みのユーザーIDを取得 (メールアドレスが一致する場合のみ)
+     */
+    public Optional<Long> getUserId(String email) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        Object principal = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (principal instanceof UserPrincipal p && p.getEmail().equals(email)) {
+            return Optional.of(p.getId());
+        }
+        return Optional.empty();
+    }
+}
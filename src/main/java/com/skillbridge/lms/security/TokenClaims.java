@@ -0,0 +1,17 @@
+package com.skillbridge.lms.security;
+
+/**
+ * 署名検証済みアクセストークンのクレーム
+ *
+ * @param email        subject (メールアドレス)
+ * @param tokenVersion 発行時のトークンバージョン
+ */
+public record TokenClaims(String email, int tokenVersion) {
+
+    /**
+     * 現在のユーザー状態に対して有効なトークンか (失効後に発行されたものか) 判定
+     */
+    public boolean isCurrentFor(UserPrincipal principal) {
+        return principal.getTokenVersion() == tokenVersion;
+    }
+}
@@ -0,0 +1,56 @@
+package com.skillbridge.lms.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+
+import lombok.Getter;
+
+/**
+ * JWT認証済みユーザーのプリンシパル (パスワードは保持しない)
+ */
+@Getter
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final UserRole role;
+    private final boolean enabled;
+    private final int tokenVersion;
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(Long id, String email, UserRole role, boolean enabled, int tokenVersion) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.enabled = enabled;
+        this.tokenVersion = tokenVersion;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getRole(), user.getEnabled(),
+                user.getTokenVersion());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,30 @@
+package com.skillbridge.lms.security;
+
+import org.springframework.stereotype.Component;
+
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.exception.ResourceNotFoundException;
+import com.skillbridge.lms.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * サービス層で操作対象のユーザーをメールアドレスから取得する
+ */
+@Component
+@RequiredArgsConstructor
+public class UserResolver {
+
+    private final UserRepository userRepository;
+    private final ResolvedUserHolder resolvedUserHolder;
+
+    /**
+     * ユーザー取得 (認証フィルタで解決済みのユーザーは参照のみ取得し、再検索しない)
+     */
+    public User findByEmail(String email) {
+        return resolvedUserHolder.getUserId(email)
+                .map(userRepository::getReferenceById)
+                .or(() -> userRepository.findByEmail(email))
+                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません"));
+    }
+}
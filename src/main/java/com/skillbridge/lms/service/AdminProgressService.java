@@ -2,6 +2,8 @@ package com.skillbridge.lms.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,9 +20,8 @@ import com.skillbridge.lms.enums.EnrollmentStatus;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
 import com.skillbridge.lms.repository.EnrollmentRepository;
-import com.skillbridge.lms.repository.LessonProgressRepository;
-import com.skillbridge.lms.repository.LessonRepository;
 import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.repository.projection.UserEnrollmentRow;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,16 +31,23 @@ public class AdminProgressService {
 
     private final UserRepository userRepository;
     private final EnrollmentRepository enrollmentRepository;
-    private final LessonProgressRepository lessonProgressRepository;
-    private final LessonRepository lessonRepository;
     private final CourseRepository courseRepository;
 
     @Transactional(readOnly = true)
     public PageResponse<UserProgressSummaryResponse> getUserProgressSummaries(Pageable pageable) {
         Page<User> users = userRepository.findAll(pageable);
+        if (users.isEmpty()) {
+            return PageResponse.from(users, List.of());
+        }
+
+        List<Long> userIds = users.getContent().stream().map(User::getId).toList();
+        Map<Long, List<UserEnrollmentRow>> enrollmentsByUser = enrollmentRepository
+                .findEnrollmentRowsByUserIds(userIds).stream()
+                .collect(Collectors.groupingBy(UserEnrollmentRow::getUserId));
 
         List<UserProgressSummaryResponse> content = users.getContent().stream()
-                .map(this::buildUserProgressSummary)
+                .map(user -> buildUserProgressSummary(user,
+                        enrollmentsByUser.getOrDefault(user.getId(), List.of())))
                 .toList();
 
         return PageResponse.from(users, content);
@@ -47,23 +55,23 @@ public class AdminProgressService {
 
     @Transactional(readOnly = true)
     public List<UserCourseProgressResponse> getUserCourseProgress(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("ユーザーが見つかりません: " + userId);
+        }
 
-        List<Enrollment> enrollments = enrollmentRepository.findByUserId(userId);
+        List<Enrollment> enrollments = enrollmentRepository.findWithCourseByUserId(userId);
         List<UserCourseProgressResponse> result = new ArrayList<>();
 
         for (Enrollment enrollment : enrollments) {
-            Long courseId = enrollment.getCourse().getId();
-            long totalLessons = lessonRepository.countByCourseId(courseId);
-            long completedLessons = lessonProgressRepository.countCompletedByUserIdAndCourseId(userId, courseId);
+            int totalLessons = enrollment.getTotalPublishedLessons();
+            int completedLessons = enrollment.getCompletedLessons();
             double percentage = totalLessons > 0 ? (double) completedLessons / totalLessons * 100 : 0;
 
             result.add(UserCourseProgressResponse.builder()
-                    .courseId(courseId)
+                    .courseId(enrollment.getCourse().getId())
                     .courseTitle(enrollment.getCourse().getTitle())
-                    .completedLessons((int) completedLessons)
-                    .totalLessons((int) totalLessons)
+                    .completedLessons(completedLessons)
+                    .totalLessons(totalLessons)
                     .progressPercentage(Math.round(percentage * 10.0) / 10.0)
                     .enrolledAt(enrollment.getEnrolledAt())
                     .build());
@@ -91,8 +99,7 @@ public class AdminProgressService {
                 .build();
     }
 
-    private UserProgressSummaryResponse buildUserProgressSummary(User user) {
-        List<Enrollment> enrollments = enrollmentRepository.findByUserId(user.getId());
+    private UserProgressSummaryResponse buildUserProgressSummary(User user, List<UserEnrollmentRow> enrollments) {
         int enrolledCourses = enrollments.size();
         int completedCourses = (int) enrollments.stream()
                 .filter(e -> e.getStatus() == EnrollmentStatus.COMPLETED)
@@ -101,12 +108,10 @@ public class AdminProgressService {
         double totalProgress = 0;
         int coursesWithLessons = 0;
 
-        for (Enrollment enrollment : enrollments) {
-            Long courseId = enrollment.getCourse().getId();
-            long totalLessons = lessonRepository.countByCourseId(courseId);
+        for (UserEnrollmentRow enrollment : enrollments) {
+            int totalLessons = enrollment.getTotalPublishedLessons();
             if (totalLessons > 0) {
-                long completed = lessonProgressRepository.countCompletedByUserIdAndCourseId(user.getId(), courseId);
-                totalProgress += (double) completed / totalLessons * 100;
+                totalProgress += (double) enrollment.getCompletedLessons() / totalLessons * 100;
                 coursesWithLessons++;
             }
         }
@@ -1,9 +1,18 @@
 package com.skillbridge.lms.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,13 +20,17 @@ import org.springframework.util.StringUtils;
 
 import com.skillbridge.lms.dto.request.AdminCreateUserRequest;
 import com.skillbridge.lms.dto.request.AdminUpdateUserRequest;
+import com.skillbridge.lms.dto.response.CursorPageResponse;
 import com.skillbridge.lms.dto.response.PageResponse;
 import com.skillbridge.lms.dto.response.UserListResponse;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.event.UserChangedEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.search.UserSearchIndex;
+import com.skillbridge.lms.search.UserSearchService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,20 +38,26 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminUserService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Set<String> KEYWORD_SORT_PROPERTIES = Set.of("id", "createdAt");
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserSearchService userSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public PageResponse<UserListResponse> getUsers(String keyword, String role, Pageable pageable) {
         Page<User> page;
         UserRole roleFilter = parseRole(role);
 
-        if (roleFilter != null && StringUtils.hasText(keyword)) {
-            page = userRepository.searchByRoleAndKeyword(roleFilter, keyword, pageable);
+        if (StringUtils.hasText(keyword)) {
+            // キーワード検索は検索インデックス内でページングし、該当ページの ID だけを DB から読む
+            UserSearchIndex.Result result = userSearchService.searchPage(keyword, roleFilter,
+                    isAscendingById(pageable.getSort()), pageable.getOffset(), pageable.getPageSize());
+            page = new PageImpl<>(findUsersInOrder(result.ids()), pageable, result.total());
         } else if (roleFilter != null) {
             page = userRepository.findByRole(roleFilter, pageable);
-        } else if (StringUtils.hasText(keyword)) {
-            page = userRepository.searchByKeyword(keyword, pageable);
         } else {
             page = userRepository.findAll(pageable);
         }
@@ -50,6 +69,36 @@ public class AdminUserService {
         return PageResponse.from(page, content);
     }
 
+    /**
+     * ユーザー一覧をキーセット方式で取得 (ID降順)。キーワードは名前・メールの部分一致
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserListResponse> searchUsers(String keyword, String role, String cursor, int size) {
+        int limit = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        UserRole roleFilter = parseRole(role);
+        Long beforeId = parseCursor(cursor);
+
+        List<User> users;
+        if (StringUtils.hasText(keyword)) {
+            users = findUsersInOrder(userSearchService.searchIds(keyword, roleFilter, beforeId, limit + 1));
+        } else if (roleFilter != null) {
+            users = userRepository.findByRoleAndIdLessThanOrderByIdDesc(roleFilter,
+                    beforeId != null ? beforeId : Long.MAX_VALUE, PageRequest.of(0, limit + 1));
+        } else {
+            users = userRepository.findByIdLessThanOrderByIdDesc(
+                    beforeId != null ? beforeId : Long.MAX_VALUE, PageRequest.of(0, limit + 1));
+        }
+
+        boolean hasNext = users.size() > limit;
+        List<User> pageUsers = hasNext ? users.subList(0, limit) : users;
+        return CursorPageResponse.<UserListResponse>builder()
+                .content(pageUsers.stream().map(UserListResponse::from).toList())
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(pageUsers.get(pageUsers.size() - 1).getId()) : null)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public UserListResponse getUser(Long id) {
         User user = findUserById(id);
@@ -71,15 +120,21 @@ public class AdminUserService {
                 .build();
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
         return UserListResponse.from(user);
     }
 
     @Transactional
     public UserListResponse updateUser(Long id, AdminUpdateUserRequest request) {
         User user = findUserById(id);
+        UserRole role = UserRole.valueOf(request.getRole());
+        if (user.getRole() != role) {
+            user.revokeTokens();
+        }
         user.setUsername(request.getName());
-        user.setRole(UserRole.valueOf(request.getRole()));
+        user.setRole(role);
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
         return UserListResponse.from(user);
     }
 
@@ -91,7 +146,9 @@ public class AdminUserService {
 
         User user = findUserById(id);
         user.setEnabled(!user.getEnabled());
+        user.revokeTokens();
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
         return UserListResponse.from(user);
     }
 
@@ -100,6 +157,40 @@ public class AdminUserService {
                 .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません: " + id));
     }
 
+    private List<User> findUsersInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, User> usersById = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream().map(usersById::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * キーワード検索で指定できる並び順は ID または登録日時 (ID と同じ順) のみ。未指定は新しい順
+     */
+    private boolean isAscendingById(Sort sort) {
+        if (sort.isUnsorted()) {
+            return false;
+        }
+        Sort.Order order = sort.iterator().next();
+        if (sort.stream().count() > 1 || !KEYWORD_SORT_PROPERTIES.contains(order.getProperty())) {
+            throw new BadRequestException("キーワード検索の並び順は id または createdAt のみ指定できます");
+        }
+        return order.isAscending();
+    }
+
+    private Long parseCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("カーソルが不正です");
+        }
+    }
+
     private UserRole parseRole(String role) {
         if (!StringUtils.hasText(role)) {
             return null;
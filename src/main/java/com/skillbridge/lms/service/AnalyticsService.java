@@ -1,28 +1,41 @@
 package com.skillbridge.lms.service;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.skillbridge.lms.dto.response.CompletionStatsResponse;
 import com.skillbridge.lms.dto.response.EnrollmentTrendResponse;
 import com.skillbridge.lms.dto.response.PopularCourseResponse;
-import com.skillbridge.lms.entity.Course;
-import com.skillbridge.lms.entity.Enrollment;
-import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.entity.EnrollmentDailyStat;
 import com.skillbridge.lms.enums.EnrollmentStatus;
-import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.exception.BadRequestException;
+import com.skillbridge.lms.repository.EnrollmentDailyStatRepository;
 import com.skillbridge.lms.repository.EnrollmentRepository;
 import com.skillbridge.lms.repository.LessonProgressRepository;
 import com.skillbridge.lms.repository.ReviewRepository;
 import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.repository.projection.CourseEnrollmentStats;
+import com.skillbridge.lms.repository.projection.CourseRatingStats;
+import com.skillbridge.lms.repository.projection.EnrollmentExportRow;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,56 +43,130 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AnalyticsService {
 
+    private static final int POPULAR_COURSE_LIMIT = 10;
+    static final int MAX_TREND_BUCKETS = 366;
+
     private final EnrollmentRepository enrollmentRepository;
-    private final CourseRepository courseRepository;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final LessonProgressRepository lessonProgressRepository;
+    private final EnrollmentDailyStatRepository enrollmentDailyStatRepository;
 
+    /**
+     * 受講登録数の推移 - 日次集計テーブルから指定粒度 (day/week/month) で集計
+     *
+     * <p>返すバケットは {@value #MAX_TREND_BUCKETS} 件まで。粒度を省略した場合は day・week・month のうち
+     * 上限に収まる最も細かい粒度を使い、粒度を指定して上限を超える場合は BadRequestException とする。</p>
+     *
+     * @param granularity null の場合は期間から自動で選ぶ
+     */
     @Transactional(readOnly = true)
-    public List<EnrollmentTrendResponse> getEnrollmentTrends(String period) {
-        LocalDateTime startDate = switch (period) {
-            case "7d" -> LocalDateTime.now().minusDays(7);
-            case "30d" -> LocalDateTime.now().minusDays(30);
-            default -> LocalDateTime.of(2020, 1, 1, 0, 0);
-        };
+    public List<EnrollmentTrendResponse> getEnrollmentTrends(String period, LocalDate from, LocalDate to,
+                                                             String granularity) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : resolvePeriodStart(period);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("開始日は終了日以前の日付を指定してください");
+        }
+        String unit = granularity != null ? resolveGranularity(granularity) : coarsestNeeded(start, end);
+        if (bucketCount(start, end, unit) > MAX_TREND_BUCKETS) {
+            throw new BadRequestException("集計期間が長すぎます (" + unit + " 単位で最大" + MAX_TREND_BUCKETS
+                    + "件)。期間を短くするか、より粗い集計単位を指定してください");
+        }
 
-        List<Enrollment> enrollments = enrollmentRepository.findAll().stream()
-                .filter(e -> e.getEnrolledAt().isAfter(startDate))
+        // バケットを先に用意し、登録のない期間も0件として返す
+        Map<LocalDate, Long> buckets = new LinkedHashMap<>();
+        for (LocalDate bucket = bucketStart(start, unit); !bucket.isAfter(end); bucket = nextBucket(bucket, unit)) {
+            buckets.put(bucket, 0L);
+        }
+
+        List<EnrollmentDailyStat> stats = enrollmentDailyStatRepository
+                .findByStatDateBetweenOrderByStatDateAsc(start, end);
+        for (EnrollmentDailyStat stat : stats) {
+            buckets.merge(bucketStart(stat.getStatDate(), unit), stat.getEnrollmentCount(), Long::sum);
+        }
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(unit.equals("month") ? "yyyy-MM" : "yyyy-MM-dd");
+        return buckets.entrySet().stream()
+                .map(entry -> EnrollmentTrendResponse.builder()
+                        .date(entry.getKey().format(formatter))
+                        .count(entry.getValue())
+                        .build())
                 .toList();
+    }
+
+    /**
+     * 日次集計テーブルを受講登録テーブルから再構築
+     */
+    @Transactional
+    public int rebuildEnrollmentDailyStats() {
+        enrollmentDailyStatRepository.deleteAllInBatch();
+        return enrollmentDailyStatRepository.backfillFromEnrollments();
+    }
+
+    private LocalDate resolvePeriodStart(String period) {
+        return switch (period != null ? period : "30d") {
+            case "7d" -> LocalDate.now().minusDays(7);
+            case "30d" -> LocalDate.now().minusDays(30);
+            default -> LocalDate.of(2020, 1, 1);
+        };
+    }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        List<EnrollmentTrendResponse> trends = new ArrayList<>();
-
-        LocalDate current = startDate.toLocalDate();
-        LocalDate end = LocalDate.now();
-
-        while (!current.isAfter(end)) {
-            LocalDate date = current;
-            long count = enrollments.stream()
-                    .filter(e -> e.getEnrolledAt().toLocalDate().equals(date))
-                    .count();
-            trends.add(EnrollmentTrendResponse.builder()
-                    .date(date.format(formatter))
-                    .count(count)
-                    .build());
-            current = current.plusDays(1);
+    private String resolveGranularity(String granularity) {
+        String unit = granularity != null ? granularity : "day";
+        if (!unit.equals("day") && !unit.equals("week") && !unit.equals("month")) {
+            throw new BadRequestException("無効な集計単位です: " + granularity);
         }
+        return unit;
+    }
 
-        return trends;
+    private LocalDate bucketStart(LocalDate date, String unit) {
+        return switch (unit) {
+            case "week" -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case "month" -> date.withDayOfMonth(1);
+            default -> date;
+        };
+    }
+
+    /**
+     * 上限のバケット数に収まる最も細かい粒度 (month でも収まらない場合は month)
+     */
+    private String coarsestNeeded(LocalDate start, LocalDate end) {
+        for (String unit : List.of("day", "week")) {
+            if (bucketCount(start, end, unit) <= MAX_TREND_BUCKETS) {
+                return unit;
+            }
+        }
+        return "month";
+    }
+
+    private long bucketCount(LocalDate start, LocalDate end, String unit) {
+        LocalDate first = bucketStart(start, unit);
+        LocalDate last = bucketStart(end, unit);
+        return switch (unit) {
+            case "week" -> ChronoUnit.WEEKS.between(first, last) + 1;
+            case "month" -> ChronoUnit.MONTHS.between(first, last) + 1;
+            default -> ChronoUnit.DAYS.between(first, last) + 1;
+        };
+    }
+
+    private LocalDate nextBucket(LocalDate bucket, String unit) {
+        return switch (unit) {
+            case "week" -> bucket.plusWeeks(1);
+            case "month" -> bucket.plusMonths(1);
+            default -> bucket.plusDays(1);
+        };
     }
 
     @Transactional(readOnly = true)
     public List<CompletionStatsResponse> getCompletionStats() {
-        List<Course> courses = courseRepository.findAll();
-        return courses.stream()
-                .map(course -> {
-                    long total = enrollmentRepository.countByCourseId(course.getId());
-                    long completed = enrollmentRepository.countByCourseIdAndStatus(
-                            course.getId(), EnrollmentStatus.COMPLETED);
+        return enrollmentRepository.findCourseEnrollmentStats(EnrollmentStatus.COMPLETED).stream()
+                .map(stats -> {
+                    long total = stats.getTotalEnrollments();
+                    long completed = stats.getCompletedEnrollments();
                     double rate = total > 0 ? (double) completed / total * 100 : 0;
                     return CompletionStatsResponse.builder()
-                            .courseTitle(course.getTitle())
+                            .courseTitle(stats.getCourseTitle())
                             .totalEnrollments(total)
                             .completedEnrollments(completed)
                             .completionRate(Math.round(rate * 10) / 10.0)
@@ -90,53 +177,73 @@ public class AnalyticsService {
 
     @Transactional(readOnly = true)
     public List<PopularCourseResponse> getPopularCourses() {
-        List<Course> courses = courseRepository.findAll();
-        return courses.stream()
-                .map(course -> PopularCourseResponse.builder()
-                        .courseId(course.getId())
-                        .courseTitle(course.getTitle())
-                        .enrollmentCount(enrollmentRepository.countByCourseId(course.getId()))
-                        .averageRating(reviewRepository.findAverageRatingByCourseId(course.getId()))
+        List<CourseEnrollmentStats> topCourses = enrollmentRepository.findMostEnrolledCourses(
+                EnrollmentStatus.COMPLETED, PageRequest.of(0, POPULAR_COURSE_LIMIT));
+        if (topCourses.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> courseIds = topCourses.stream()
+                .map(CourseEnrollmentStats::getCourseId)
+                .toList();
+        Map<Long, Double> averageRatings = new HashMap<>();
+        for (CourseRatingStats rating : reviewRepository.findRatingStatsByCourseIds(courseIds)) {
+            averageRatings.put(rating.getCourseId(), rating.getAverageRating());
+        }
+
+        return topCourses.stream()
+                .map(stats -> PopularCourseResponse.builder()
+                        .courseId(stats.getCourseId())
+                        .courseTitle(stats.getCourseTitle())
+                        .enrollmentCount(stats.getTotalEnrollments())
+                        .averageRating(averageRatings.get(stats.getCourseId()))
                         .build())
-                .sorted((a, b) -> Long.compare(b.getEnrollmentCount(), a.getEnrollmentCount()))
-                .limit(10)
                 .toList();
     }
 
+    /**
+     * 受講データCSVを出力ストリームへ逐次書き出し
+     * 期間・コース指定時は該当する受講登録のみ、未指定時は受講登録のないユーザーも含めて出力する
+     */
     @Transactional(readOnly = true)
-    public String exportCsv() {
-        StringWriter sw = new StringWriter();
-        PrintWriter pw = new PrintWriter(sw);
-
-        pw.println("User ID,Username,Email,Role,Course ID,Course Title,Enrollment Status,Enrolled At,Completed At");
-
-        List<User> users = userRepository.findAll();
-        for (User user : users) {
-            List<Enrollment> enrollments = enrollmentRepository.findByUserId(user.getId());
-            if (enrollments.isEmpty()) {
-                pw.printf("%d,%s,%s,%s,,,,,%n",
-                        user.getId(),
-                        escapeCsv(user.getUsername()),
-                        escapeCsv(user.getEmail()),
-                        user.getRole());
-            } else {
-                for (Enrollment enrollment : enrollments) {
-                    pw.printf("%d,%s,%s,%s,%d,%s,%s,%s,%s%n",
-                            user.getId(),
-                            escapeCsv(user.getUsername()),
-                            escapeCsv(user.getEmail()),
-                            user.getRole(),
-                            enrollment.getCourse().getId(),
-                            escapeCsv(enrollment.getCourse().getTitle()),
-                            enrollment.getStatus(),
-                            enrollment.getEnrolledAt(),
-                            enrollment.getCompletedAt() != null ? enrollment.getCompletedAt() : "");
+    public void exportCsv(OutputStream outputStream, LocalDate from, LocalDate to, Long courseId)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write("User ID,Username,Email,Role,Course ID,Course Title,Enrollment Status,Enrolled At,Completed At");
+        writer.write(System.lineSeparator());
+
+        boolean filtered = from != null || to != null || courseId != null;
+        try (Stream<EnrollmentExportRow> rows = filtered
+                ? userRepository.streamEnrollmentExportRows(
+                        (from != null ? from : LocalDate.EPOCH).atStartOfDay(),
+                        (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay(),
+                        courseId)
+                : userRepository.streamAllEnrollmentExportRows()) {
+            Iterator<EnrollmentExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                EnrollmentExportRow row = iterator.next();
+                if (row.getCourseId() == null) {
+                    writer.write(String.format("%d,%s,%s,%s,,,,,%n",
+                            row.getUserId(),
+                            escapeCsv(row.getUsername()),
+                            escapeCsv(row.getEmail()),
+                            row.getRole()));
+                } else {
+                    writer.write(String.format("%d,%s,%s,%s,%d,%s,%s,%s,%s%n",
+                            row.getUserId(),
+                            escapeCsv(row.getUsername()),
+                            escapeCsv(row.getEmail()),
+                            row.getRole(),
+                            row.getCourseId(),
+                            escapeCsv(row.getCourseTitle()),
+                            row.getStatus(),
+                            row.getEnrolledAt(),
+                            row.getCompletedAt() != null ? row.getCompletedAt() : ""));
                 }
             }
         }
 
-        pw.flush();
-        return sw.toString();
+        writer.flush();
     }
 
     private String escapeCsv(String value) {
@@ -1,21 +1,38 @@
 package com.skillbridge.lms.service;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.skillbridge.lms.audit.AuditEvent;
+import com.skillbridge.lms.audit.AuditLogWriter;
 import com.skillbridge.lms.dto.response.AuditLogResponse;
+import com.skillbridge.lms.dto.response.CursorPageResponse;
 import com.skillbridge.lms.dto.response.PageResponse;
 import com.skillbridge.lms.entity.AuditLog;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.repository.AuditLogRepository;
+import com.skillbridge.lms.repository.AuditLogSpecifications;
+import com.skillbridge.lms.repository.KeysetCursor;
 import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.repository.projection.AuditLogExportRow;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,29 +40,63 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuditLogService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final AuditLogRepository auditLogRepository;
     private final UserRepository userRepository;
+    private final AuditLogWriter auditLogWriter;
 
-    @Transactional
+    /**
+     * 監査ログを記録 (書き込みは {@link AuditLogWriter} がバッチでまとめて行う)
+     */
     public void log(Long userId, String action, String entityType, Long entityId, String details, String ipAddress) {
-        AuditLog auditLog = AuditLog.builder()
-                .userId(userId)
-                .action(action)
-                .entityType(entityType)
-                .entityId(entityId)
-                .details(details)
-                .ipAddress(ipAddress)
-                .build();
-        auditLogRepository.save(auditLog);
+        auditLogWriter.submit(AuditEvent.of(userId, action, entityType, entityId, details, ipAddress));
     }
 
     @Transactional(readOnly = true)
     public PageResponse<AuditLogResponse> getAuditLogs(String action, String entityType, Long userId,
             Pageable pageable) {
         Page<AuditLog> page = auditLogRepository.findWithFilters(action, entityType, userId, pageable);
+        return PageResponse.from(page, toResponses(page.getContent()));
+    }
+
+    /**
+     * 監査ログをキーセット方式で取得 ((createdAt, id) の降順)
+     *
+     * <p>件数は includeTotal が指定された場合のみ数える。</p>
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AuditLogResponse> getAuditLogsByCursor(String action, String entityType, Long userId,
+            String cursor, int size, boolean includeTotal) {
+        int limit = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        Specification<AuditLog> filters = AuditLogSpecifications.withFilters(action, entityType, userId);
+        Specification<AuditLog> spec = filters;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            spec = spec.and(AuditLogSpecifications.before(after.createdAt(), after.id()));
+        }
 
-        // Build user name map
-        var userIds = page.getContent().stream()
+        List<AuditLog> rows = auditLogRepository.findBy(spec, query -> query
+                .sortBy(KEYSET_ORDER)
+                .limit(limit + 1)
+                .all());
+
+        boolean hasNext = rows.size() > limit;
+        List<AuditLog> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        AuditLog last = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+
+        return CursorPageResponse.<AuditLogResponse>builder()
+                .content(toResponses(pageRows))
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .totalElements(includeTotal ? auditLogRepository.count(filters) : null)
+                .build();
+    }
+
+    private List<AuditLogResponse> toResponses(List<AuditLog> logs) {
+        var userIds = logs.stream()
                 .map(AuditLog::getUserId)
                 .filter(id -> id != null)
                 .collect(Collectors.toSet());
@@ -53,35 +104,39 @@ public class AuditLogService {
         Map<Long, String> userNameMap = userRepository.findAllById(userIds).stream()
                 .collect(Collectors.toMap(User::getId, User::getUsername));
 
-        var content = page.getContent().stream()
+        return logs.stream()
                 .map(log -> AuditLogResponse.from(log, userNameMap.get(log.getUserId())))
                 .toList();
-
-        return PageResponse.from(page, content);
     }
 
+    /**
+     * 監査ログCSVを出力ストリームへ逐次書き出し
+     */
     @Transactional(readOnly = true)
-    public String exportCsv() {
-        StringWriter sw = new StringWriter();
-        PrintWriter pw = new PrintWriter(sw);
-
-        pw.println("ID,User ID,Action,Entity Type,Entity ID,Details,IP Address,Created At");
-
-        var logs = auditLogRepository.findAll();
-        for (AuditLog log : logs) {
-            pw.printf("%d,%s,%s,%s,%s,%s,%s,%s%n",
-                    log.getId(),
-                    log.getUserId() != null ? log.getUserId() : "",
-                    escapeCsv(log.getAction()),
-                    escapeCsv(log.getEntityType()),
-                    log.getEntityId() != null ? log.getEntityId() : "",
-                    escapeCsv(log.getDetails()),
-                    escapeCsv(log.getIpAddress()),
-                    log.getCreatedAt());
+    public void exportCsv(OutputStream outputStream, LocalDate from, LocalDate to) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write("ID,User ID,Action,Entity Type,Entity ID,Details,IP Address,Created At");
+        writer.write(System.lineSeparator());
+
+        LocalDateTime start = (from != null ? from : LocalDate.EPOCH).atStartOfDay();
+        LocalDateTime end = (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay();
+        try (Stream<AuditLogExportRow> logs = auditLogRepository.streamForExport(start, end)) {
+            Iterator<AuditLogExportRow> iterator = logs.iterator();
+            while (iterator.hasNext()) {
+                AuditLogExportRow log = iterator.next();
+                writer.write(String.format("%d,%s,%s,%s,%s,%s,%s,%s%n",
+                        log.getId(),
+                        log.getUserId() != null ? log.getUserId() : "",
+                        escapeCsv(log.getAction()),
+                        escapeCsv(log.getEntityType()),
+                        log.getEntityId() != null ? log.getEntityId() : "",
+                        escapeCsv(log.getDetails()),
+                        escapeCsv(log.getIpAddress()),
+                        log.getCreatedAt()));
+            }
         }
 
-        pw.flush();
-        return sw.toString();
+        writer.flush();
     }
 
     private String escapeCsv(String value) {
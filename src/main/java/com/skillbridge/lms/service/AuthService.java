@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,6 +21,7 @@ import com.skillbridge.lms.entity.PasswordResetToken;
 import com.skillbridge.lms.entity.RefreshToken;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.event.UserChangedEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.PasswordResetTokenRepository;
@@ -40,6 +42,7 @@ public class AuthService {
     private final JwtTokenProvider tokenProvider;
     private final AuthenticationManager authenticationManager;
     private final MailService mailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -56,6 +59,7 @@ public class AuthService {
                 .build();
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
 
         return createAuthResponse(user);
     }
@@ -132,7 +136,9 @@ public class AuthService {
 
         User user = resetToken.getUser();
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        user.revokeTokens();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
 
         resetToken.setUsed(true);
         passwordResetTokenRepository.save(resetToken);
@@ -148,7 +154,7 @@ public class AuthService {
     }
 
     private AuthResponse createAuthResponse(User user) {
-        String accessToken = tokenProvider.generateAccessToken(user.getEmail());
+        String accessToken = tokenProvider.generateAccessToken(user);
         String refreshTokenStr = tokenProvider.generateRefreshToken(user.getEmail());
 
         RefreshToken refreshToken = RefreshToken.builder()
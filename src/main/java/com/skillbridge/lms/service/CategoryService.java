@@ -1,9 +1,11 @@
 package com.skillbridge.lms.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +13,7 @@ import com.skillbridge.lms.dto.request.CreateCategoryRequest;
 import com.skillbridge.lms.dto.response.CategoryResponse;
 import com.skillbridge.lms.entity.Category;
 import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.event.CourseChangedEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CategoryRepository;
@@ -25,6 +28,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<CategoryResponse> getAllCategories() {
         return categoryRepository.findAll().stream()
@@ -83,7 +87,10 @@ public class CategoryService {
                 .collect(Collectors.toSet());
 
         course.setCategories(categories);
+        // カテゴリだけの変更では @PreUpdate が呼ばれないため、検索インデックスの差分取り込み用に更新日時を進める
+        course.setUpdatedAt(LocalDateTime.now());
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(courseId));
     }
 
     public List<CategoryResponse> getCourseCategories(Long courseId) {
@@ -1,27 +1,27 @@
 package com.skillbridge.lms.service;
 
-import java.io.ByteArrayOutputStream;
-import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.lowagie.text.Document;
-import com.lowagie.text.Element;
-import com.lowagie.text.Font;
-import com.lowagie.text.PageSize;
-import com.lowagie.text.Paragraph;
-import com.lowagie.text.pdf.BaseFont;
-import com.lowagie.text.pdf.PdfWriter;
+import com.skillbridge.lms.certificate.CertificateDocument;
+import com.skillbridge.lms.certificate.CertificatePdf;
+import com.skillbridge.lms.certificate.CertificatePdfCache;
+import com.skillbridge.lms.certificate.CertificatePdfRenderer;
 import com.skillbridge.lms.dto.response.CertificateResponse;
 import com.skillbridge.lms.entity.Certificate;
 import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.event.CertificateIssuedEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CertificateRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,11 +30,15 @@ import lombok.RequiredArgsConstructor;
 public class CertificateService {
 
     private final CertificateRepository certificateRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
+    private final CourseRepository courseRepository;
+    private final CertificatePdfCache certificatePdfCache;
+    private final CertificatePdfRenderer certificatePdfRenderer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<CertificateResponse> getMyCertificates(String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         return certificateRepository.findByUserIdOrderByIssuedAtDesc(user.getId()).stream()
                 .map(CertificateResponse::from)
                 .toList();
@@ -42,7 +46,7 @@ public class CertificateService {
 
     @Transactional(readOnly = true)
     public CertificateResponse getCertificate(Long id, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         Certificate certificate = certificateRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("証明書が見つかりません: " + id));
 
@@ -65,12 +69,17 @@ public class CertificateService {
                 .certificateNumber(UUID.randomUUID().toString())
                 .build();
 
-        return certificateRepository.save(certificate);
+        Certificate saved = certificateRepository.save(certificate);
+        eventPublisher.publishEvent(new CertificateIssuedEvent(CertificateDocument.from(saved)));
+        return saved;
     }
 
+    /**
+     * 証明書 PDF を取得 (発行時に描画・保存済みのファイルを返し、未描画の場合のみその場で描画する)
+     */
     @Transactional(readOnly = true)
-    public byte[] generatePdf(Long id, String userEmail) {
-        User user = findUserByEmail(userEmail);
+    public CertificatePdf getPdf(Long id, String userEmail) {
+        User user = userResolver.findByEmail(userEmail);
         Certificate certificate = certificateRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("証明書が見つかりません: " + id));
 
@@ -78,50 +87,27 @@ public class CertificateService {
             throw new BadRequestException("この証明書にアクセスする権限がありません");
         }
 
-        return createPdfBytes(certificate);
+        return certificatePdfCache.get(certificate.getCertificateNumber(),
+                () -> CertificateDocument.from(certificate));
     }
 
-    private byte[] createPdfBytes(Certificate certificate) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            Document document = new Document(PageSize.A4.rotate(), 50, 50, 50, 50);
-            PdfWriter.getInstance(document, baos);
-            document.open();
-
-            Font titleFont = new Font(Font.HELVETICA, 36, Font.BOLD);
-            Font subtitleFont = new Font(Font.HELVETICA, 18, Font.NORMAL);
-            Font nameFont = new Font(Font.HELVETICA, 28, Font.BOLD);
-            Font bodyFont = new Font(Font.HELVETICA, 14, Font.NORMAL);
-
-            document.add(createCenteredParagraph("Certificate of Completion", titleFont, 60f));
-            document.add(createCenteredParagraph("This is to certify that", subtitleFont, 30f));
-            document.add(createCenteredParagraph(certificate.getUser().getUsername(), nameFont, 30f));
-            document.add(createCenteredParagraph(
-                    "has successfully completed the course", subtitleFont, 30f));
-            document.add(createCenteredParagraph(
-                    certificate.getCourse().getTitle(), nameFont, 40f));
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy/MM/dd");
-            document.add(createCenteredParagraph(
-                    "Date: " + certificate.getIssuedAt().format(formatter), bodyFont, 20f));
-            document.add(createCenteredParagraph(
-                    "Certificate No: " + certificate.getCertificateNumber(), bodyFont, 10f));
-
-            document.close();
-            return baos.toByteArray();
-        } catch (Exception e) {
-            throw new RuntimeException("PDF生成に失敗しました", e);
+    /**
+     * コースで発行済みの証明書を発行順で取得 (一括ダウンロード用)
+     */
+    @Transactional(readOnly = true)
+    public List<CertificateDocument> getCourseCertificates(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("コースが見つかりません: " + courseId);
         }
+        return certificateRepository.findRenderRowsByCourseId(courseId).stream()
+                .map(CertificateDocument::from)
+                .toList();
     }
 
-    private Paragraph createCenteredParagraph(String text, Font font, float spacingAfter) {
-        Paragraph paragraph = new Paragraph(text, font);
-        paragraph.setAlignment(Element.ALIGN_CENTER);
-        paragraph.setSpacingAfter(spacingAfter);
-        return paragraph;
-    }
-
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません"));
+    /**
+     * 証明書 PDF をまとめて描画し、ZIP としてストリームへ書き出す
+     */
+    public void writeArchive(List<CertificateDocument> certificates, OutputStream outputStream) throws IOException {
+        certificatePdfRenderer.renderZip(certificates, outputStream);
     }
 }
@@ -1,66 +1,92 @@
 package com.skillbridge.lms.service;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneId;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.lms.content.ContentFormat;
+import com.skillbridge.lms.content.LessonContent;
+import com.skillbridge.lms.content.LessonContentCache;
+import com.skillbridge.lms.content.LessonPayload;
+import com.skillbridge.lms.content.LessonPayloadCache;
+import com.skillbridge.lms.content.MarkdownRenderer;
+import com.skillbridge.lms.content.VersionedLessonContent;
 import com.skillbridge.lms.dto.response.LessonContentResponse;
 import com.skillbridge.lms.entity.Lesson;
+import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.LessonRepository;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class ContentService {
 
-    @Value("${content.base-path:content}")
-    private String basePath;
+    private static final int ETAG_HASH_LENGTH = 32;
+
+    @Value("${content.html.enabled:true}")
+    private boolean htmlEnabled;
 
     private final LessonRepository lessonRepository;
+    private final LessonContentCache lessonContentCache;
+    private final LessonPayloadCache lessonPayloadCache;
+    private final MarkdownRenderer markdownRenderer;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * レッスンコンテンツ取得
+     *
+     * <p>ETag はキャッシュ済みのコンテンツハッシュとレッスンの更新日時から組み立てるため、
+     * リクエストごとに本文をハッシュし直すことはない。レスポンスは ETag ごとに1度だけ
+     * シリアライズ・圧縮 (HTML 形式の場合は変換も) し、以降はそのバイト列を返す。</p>
+     */
     @Transactional(readOnly = true)
-    public LessonContentResponse getContent(Long courseId, Long lessonId) {
+    public VersionedLessonContent getContent(Long courseId, Long lessonId, ContentFormat format) {
+        if (format == ContentFormat.HTML && !htmlEnabled) {
+            throw new BadRequestException("HTML 形式での配信は無効です");
+        }
         Lesson lesson = lessonRepository.findById(lessonId)
                 .filter(l -> l.getCourse().getId().equals(courseId))
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "レッスンが見つかりません: courseId=" + courseId + ", lessonId=" + lessonId));
 
-        String content = readContentFile(courseId, lessonId);
-        if (content == null) {
-            content = "# " + lesson.getTitle() + "\n\nコンテンツは準備中です。";
-        }
+        LessonContent cached = lessonContentCache.get(courseId, lessonId);
+
+        // タイトル・並び順・公開状態の変更は updatedAt に反映される
+        Instant lessonUpdatedAt = lesson.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        String contentVersion = cached != null ? cached.sha256().substring(0, ETAG_HASH_LENGTH) : "none";
+        String etag = contentVersion + "-" + lesson.getId() + "-" + lessonUpdatedAt.toEpochMilli()
+                + (format == ContentFormat.HTML ? "-html" : "");
+        Instant lastModified = cached != null && cached.lastModified().isAfter(lessonUpdatedAt)
+                ? cached.lastModified()
+                : lessonUpdatedAt;
+
+        LessonPayload payload = lessonPayloadCache.get(etag, () -> serialize(lesson, cached, format));
+        return new VersionedLessonContent(payload, etag, lastModified, Boolean.TRUE.equals(lesson.getPublished()));
+    }
 
-        return LessonContentResponse.builder()
+    private byte[] serialize(Lesson lesson, LessonContent cached, ContentFormat format) {
+        String markdown = cached != null
+                ? cached.text()
+                : "# " + lesson.getTitle() + "\n\nコンテンツは準備中です。";
+
+        LessonContentResponse response = LessonContentResponse.builder()
                 .lessonId(lesson.getId())
                 .title(lesson.getTitle())
-                .content(content)
+                .content(format == ContentFormat.HTML ? markdownRenderer.render(markdown) : markdown)
                 .orderIndex(lesson.getSortOrder())
                 .build();
-    }
-
-    private String readContentFile(Long courseId, Long lessonId) {
-        Path filePath = Path.of(basePath, "courses", String.valueOf(courseId),
-                "lessons", lessonId + ".md");
-
-        if (!Files.exists(filePath)) {
-            log.debug("Content file not found: {}", filePath);
-            return null;
-        }
-
         try {
-            return Files.readString(filePath, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            log.warn("Failed to read content file: {}", filePath, e);
-            return null;
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
@@ -0,0 +1,81 @@
+package com.skillbridge.lms.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.Enrollment;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.event.CourseCompletionRequested;
+import com.skillbridge.lms.event.LearningActivityEvent;
+import com.skillbridge.lms.outbox.OutboxEventHandler;
+import com.skillbridge.lms.repository.EnrollmentRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * コース完了の判定と証明書・通知の発行 (レッスン完了のコミット後にアウトボックス経由で実行する)
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseCompletionService implements OutboxEventHandler<CourseCompletionRequested> {
+
+    public static final String EVENT_TYPE = "COURSE_COMPLETION";
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CertificateService certificateService;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<CourseCompletionRequested> payloadType() {
+        return CourseCompletionRequested.class;
+    }
+
+    /**
+     * 全レッスン完了時にEnrollmentステータスをCOMPLETEDに更新し、証明書と通知を発行
+     *
+     * <p>既に完了済みなら何もしないため、同じイベントを再処理しても証明書や通知は重複しない。
+     * 並行して同じ受講登録を完了させた場合は証明書の一意制約で一方が失敗し、再試行時に完了済みとして扱われる。</p>
+     */
+    @Override
+    @Transactional
+    public void handle(CourseCompletionRequested event) {
+        Enrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(event.userId(), event.courseId())
+                .orElse(null);
+        if (enrollment == null || enrollment.getStatus() == EnrollmentStatus.COMPLETED) {
+            return;
+        }
+
+        int totalLessons = enrollment.getTotalPublishedLessons();
+        if (totalLessons <= 0 || enrollment.getCompletedLessons() < totalLessons) {
+            return;
+        }
+
+        enrollment.setStatus(EnrollmentStatus.COMPLETED);
+        enrollment.setCompletedAt(LocalDateTime.now());
+        enrollmentRepository.save(enrollment);
+
+        // 証明書を自動発行
+        User user = enrollment.getUser();
+        Course course = enrollment.getCourse();
+        certificateService.issueCertificate(user, course);
+        notificationService.createNotification(
+                user,
+                "コース完了おめでとうございます！",
+                "「" + course.getTitle() + "」の証明書が発行されました。",
+                "CERTIFICATE",
+                "/my-certificates");
+
+        eventPublisher.publishEvent(LearningActivityEvent.learner(event.userId()));
+    }
+}
@@ -1,8 +1,16 @@
 package com.skillbridge.lms.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -12,12 +20,20 @@ import org.springframework.util.StringUtils;
 
 import com.skillbridge.lms.dto.request.CreateCourseRequest;
 import com.skillbridge.lms.dto.request.UpdateCourseRequest;
+import com.skillbridge.lms.dto.response.CategoryResponse;
 import com.skillbridge.lms.dto.response.CourseResponse;
 import com.skillbridge.lms.dto.response.PageResponse;
 import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.event.CourseChangedEvent;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentDailyStatRepository;
 import com.skillbridge.lms.repository.ReviewRepository;
+import com.skillbridge.lms.repository.projection.CourseCatalogRow;
+import com.skillbridge.lms.repository.projection.CourseCategoryRow;
+import com.skillbridge.lms.repository.projection.CourseRatingStats;
+import com.skillbridge.lms.search.CourseSearchIndex;
+import com.skillbridge.lms.search.CourseSearchService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,6 +43,9 @@ public class CourseService {
 
     private final CourseRepository courseRepository;
     private final ReviewRepository reviewRepository;
+    private final EnrollmentDailyStatRepository enrollmentDailyStatRepository;
+    private final CourseSearchService courseSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * コース一覧取得（LEARNER向け: publishedのみ / ADMIN向け: status指定可）
@@ -36,34 +55,100 @@ public class CourseService {
                                                     boolean isAdmin, Pageable pageable) {
         Pageable sortedPageable = applySorting(pageable, sort);
 
-        // Non-admin users can only see published courses
-        String effectiveStatus = isAdmin ? status : "published";
-
-        Page<Course> page;
+        Boolean published = resolvePublishedFilter(status, isAdmin);
 
+        Page<CourseCatalogRow> page;
         if (StringUtils.hasText(keyword)) {
-            page = switch (effectiveStatus) {
-                case "published" -> courseRepository.searchPublishedByKeyword(keyword, sortedPageable);
-                case "draft" -> courseRepository.searchDraftByKeyword(keyword, sortedPageable);
-                default -> courseRepository.searchAllByKeyword(keyword, sortedPageable);
-            };
+            // 絞り込み・並び替え・ページングはインデックスで行い、DB にはページ内の ID だけを問い合わせる
+            CourseSearchIndex.Result matched = courseSearchService.page(keyword, published, catalogOrder(sort),
+                    sortedPageable.getOffset(), sortedPageable.getPageSize());
+            page = new PageImpl<>(findCatalogRowsInOrder(matched.ids()), sortedPageable, matched.total());
         } else {
-            page = switch (effectiveStatus) {
-                case "published" -> courseRepository.findByPublishedTrue(sortedPageable);
-                case "draft" -> courseRepository.findByPublishedFalse(sortedPageable);
-                default -> courseRepository.findAll(sortedPageable);
-            };
+            page = courseRepository.findCatalogPage(published, sortedPageable);
+        }
+
+        return toCatalogPage(page);
+    }
+
+    /**
+     * コース全文検索 (関連度順)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<CourseResponse> searchCourses(String query, Long categoryId, String status,
+                                                      boolean isAdmin, Pageable pageable) {
+        Boolean published = resolvePublishedFilter(status, isAdmin);
+        List<Long> matchedIds = courseSearchService.searchIds(query, published, categoryId);
+
+        int from = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(from, to);
+
+        return toCatalogPage(new PageImpl<>(findCatalogRowsInOrder(pageIds), pageable, matchedIds.size()));
+    }
+
+    /**
+     * 指定IDのコース行を ID の並び順のまま取得 (削除済みのIDは除く)
+     */
+    private List<CourseCatalogRow> findCatalogRowsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CourseCatalogRow> rowsById = courseRepository.findCatalogRowsByIds(ids).stream()
+                .collect(Collectors.toMap(CourseCatalogRow::getId, Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * LEARNER は公開コースのみ。ADMIN は status (published / draft / all) で指定
+     */
+    private Boolean resolvePublishedFilter(String status, boolean isAdmin) {
+        String effectiveStatus = isAdmin && status != null ? status : (isAdmin ? "all" : "published");
+        return switch (effectiveStatus) {
+            case "published" -> Boolean.TRUE;
+            case "draft" -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    private PageResponse<CourseResponse> toCatalogPage(Page<CourseCatalogRow> page) {
+        List<Long> courseIds = page.getContent().stream().map(CourseCatalogRow::getId).toList();
+        Map<Long, List<CategoryResponse>> categoriesByCourse = new HashMap<>();
+        Map<Long, CourseRatingStats> ratingsByCourse = new HashMap<>();
+        if (!courseIds.isEmpty()) {
+            for (CourseCategoryRow row : courseRepository.findCategoryRowsByCourseIds(courseIds)) {
+                categoriesByCourse.computeIfAbsent(row.getCourseId(), id -> new ArrayList<>())
+                        .add(CategoryResponse.builder()
+                                .id(row.getCategoryId())
+                                .name(row.getName())
+                                .description(row.getDescription())
+                                .createdAt(row.getCreatedAt())
+                                .build());
+            }
+            for (CourseRatingStats stats : reviewRepository.findRatingStatsByCourseIds(courseIds)) {
+                ratingsByCourse.put(stats.getCourseId(), stats);
+            }
         }
 
         List<CourseResponse> content = page.getContent().stream()
-                .map(course -> CourseResponse.from(course,
-                        reviewRepository.findAverageRatingByCourseId(course.getId()),
-                        reviewRepository.countByCourseId(course.getId())))
+                .map(row -> CourseResponse.from(row,
+                        categoriesByCourse.get(row.getId()),
+                        ratingsByCourse.get(row.getId())))
                 .toList();
 
         return PageResponse.from(page, content);
     }
 
+    private CourseSearchIndex.Order catalogOrder(String sort) {
+        return switch (sort != null ? sort : "newest") {
+            case "oldest" -> CourseSearchIndex.Order.OLDEST;
+            case "title" -> CourseSearchIndex.Order.TITLE;
+            default -> CourseSearchIndex.Order.NEWEST;
+        };
+    }
+
     private Pageable applySorting(Pageable pageable, String sort) {
         Sort sortOrder = switch (sort != null ? sort : "newest") {
             case "oldest" -> Sort.by(Sort.Direction.ASC, "createdAt");
@@ -103,6 +188,7 @@ public class CourseService {
                 .build();
 
         course = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
         return CourseResponse.from(course);
     }
 
@@ -118,16 +204,21 @@ public class CourseService {
         course.setThumbnailUrl(request.getThumbnailUrl());
 
         course = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
         return CourseResponse.from(course);
     }
 
     /**
      * コース削除（ADMIN）
+     *
+     * <p>受講登録は外部キーの ON DELETE CASCADE で削除されるため、日次集計は削除前に減算しておく。</p>
      */
     @Transactional
     public void deleteCourse(Long id) {
         Course course = findCourseById(id);
+        enrollmentDailyStatRepository.decrementCountsForCourse(id);
         courseRepository.delete(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(id));
     }
 
     /**
@@ -138,6 +229,7 @@ public class CourseService {
         Course course = findCourseById(id);
         course.setPublished(!course.getPublished());
         course = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
         return CourseResponse.from(course);
     }
 
@@ -1,120 +1,76 @@
 package com.skillbridge.lms.service;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.skillbridge.lms.dashboard.DashboardCache;
 import com.skillbridge.lms.dto.response.CourseProgressResponse;
 import com.skillbridge.lms.dto.response.InstructorDashboardResponse;
 import com.skillbridge.lms.dto.response.LearnerDashboardResponse;
-import com.skillbridge.lms.entity.Course;
-import com.skillbridge.lms.entity.Enrollment;
-import com.skillbridge.lms.entity.Lesson;
-import com.skillbridge.lms.entity.Task;
-import com.skillbridge.lms.entity.TaskFeedback;
 import com.skillbridge.lms.entity.TaskSubmission;
-import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.EnrollmentStatus;
 import com.skillbridge.lms.enums.SubmissionStatus;
-import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.EnrollmentRepository;
-import com.skillbridge.lms.repository.LessonProgressRepository;
-import com.skillbridge.lms.repository.LessonRepository;
 import com.skillbridge.lms.repository.TaskFeedbackRepository;
 import com.skillbridge.lms.repository.TaskRepository;
 import com.skillbridge.lms.repository.TaskSubmissionRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class DashboardService {
 
-    private final UserRepository userRepository;
+    private static final int DASHBOARD_COURSE_LIMIT = 5;
+    private static final int DASHBOARD_FEEDBACK_LIMIT = 5;
+
+    private final UserResolver userResolver;
     private final EnrollmentRepository enrollmentRepository;
-    private final LessonRepository lessonRepository;
-    private final LessonProgressRepository lessonProgressRepository;
     private final TaskRepository taskRepository;
     private final TaskSubmissionRepository taskSubmissionRepository;
     private final TaskFeedbackRepository taskFeedbackRepository;
-
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final DashboardCache dashboardCache;
+
+    /**
+     * 受講者ダッシュボード
+     *
+     * <p>受講中コース・未提出課題・最近のフィードバックは互いに独立しているため、
+     * それぞれ1クエリで並行して取得する。待機中に接続を保持しないよう、呼び出し元ではトランザクションを開始しない
+     * (SUPPORTS でもセッションが結び付き、最初のクエリで取った接続をメソッドの終わりまで保持してしまう)。
+     * 結果はユーザーごとにキャッシュし、学習状況の変更イベントで破棄する。</p>
+     */
     public LearnerDashboardResponse getLearnerDashboard(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません"));
-
-        // Enrolled courses with progress (max 5, ACTIVE only)
-        List<Enrollment> activeEnrollments = enrollmentRepository
-                .findByUserIdAndStatusOrderByEnrolledAtDesc(user.getId(), EnrollmentStatus.ACTIVE);
-
-        List<CourseProgressResponse> enrolledCourses = new ArrayList<>();
-        int limit = Math.min(activeEnrollments.size(), 5);
-        for (int i = 0; i < limit; i++) {
-            Enrollment enrollment = activeEnrollments.get(i);
-            Course course = enrollment.getCourse();
-            List<Lesson> lessons = lessonRepository
-                    .findByCourseIdAndPublishedTrueOrderBySortOrderAsc(course.getId());
-            long completedCount = lessonProgressRepository
-                    .countCompletedByUserIdAndCourseId(user.getId(), course.getId());
-            enrolledCourses.add(CourseProgressResponse.of(
-                    course.getId(), course.getTitle(),
-                    lessons.size(), (int) completedCount, null));
-        }
-
-        // Pending tasks: tasks in enrolled courses where user has no submission
-        List<LearnerDashboardResponse.PendingTaskItem> pendingTasks = new ArrayList<>();
-        List<Enrollment> allEnrollments = enrollmentRepository.findByUserIdOrderByEnrolledAtDesc(user.getId());
-        Set<Long> submittedTaskIds = new HashSet<>();
-        List<TaskSubmission> userSubmissions = taskSubmissionRepository
-                .findByUserIdOrderBySubmittedAtDesc(user.getId());
-        for (TaskSubmission sub : userSubmissions) {
-            if (sub.getStatus() != SubmissionStatus.REJECTED) {
-                submittedTaskIds.add(sub.getTask().getId());
-            }
-        }
-
-        for (Enrollment enrollment : allEnrollments) {
-            if (enrollment.getStatus() == EnrollmentStatus.DROPPED) continue;
-            Course course = enrollment.getCourse();
-            List<Task> tasks = taskRepository.findByCourseIdOrderBySortOrderAsc(course.getId());
-            for (Task task : tasks) {
-                if (!submittedTaskIds.contains(task.getId())) {
-                    pendingTasks.add(LearnerDashboardResponse.PendingTaskItem.builder()
-                            .taskId(task.getId())
-                            .taskTitle(task.getTitle())
-                            .courseId(course.getId())
-                            .courseTitle(course.getTitle())
-                            .build());
-                }
-            }
-        }
-
-        // Recent feedbacks (max 5)
-        List<TaskFeedback> recentFeedbackEntities = taskFeedbackRepository
-                .findTop5BySubmissionUserIdOrderByCreatedAtDesc(user.getId());
-        List<LearnerDashboardResponse.RecentFeedbackItem> recentFeedbacks = recentFeedbackEntities.stream()
-                .map(f -> LearnerDashboardResponse.RecentFeedbackItem.builder()
-                        .submissionId(f.getSubmission().getId())
-                        .taskTitle(f.getSubmission().getTask().getTitle())
-                        .reviewerName(f.getReviewer().getUsername())
-                        .comment(f.getComment())
-                        .createdAt(f.getCreatedAt().toString())
-                        .build())
-                .toList();
+        Long userId = userResolver.findByEmail(email).getId();
+        return dashboardCache.getLearner(userId, () -> loadLearnerDashboard(userId));
+    }
+
+    @Transactional(readOnly = true)
+    public InstructorDashboardResponse getInstructorDashboard() {
+        return dashboardCache.getInstructor(this::loadInstructorDashboard);
+    }
+
+    private LearnerDashboardResponse loadLearnerDashboard(Long userId) {
+        CompletableFuture<List<CourseProgressResponse>> enrolledCourses =
+                parallelQueryExecutor.submit(() -> loadEnrolledCourses(userId));
+        CompletableFuture<List<LearnerDashboardResponse.PendingTaskItem>> pendingTasks =
+                parallelQueryExecutor.submit(() -> loadPendingTasks(userId));
+        CompletableFuture<List<LearnerDashboardResponse.RecentFeedbackItem>> recentFeedbacks =
+                parallelQueryExecutor.submit(() -> loadRecentFeedbacks(userId));
 
         return LearnerDashboardResponse.builder()
-                .enrolledCourses(enrolledCourses)
-                .pendingTasks(pendingTasks)
-                .recentFeedbacks(recentFeedbacks)
+                .enrolledCourses(ParallelQueryExecutor.join(enrolledCourses))
+                .pendingTasks(ParallelQueryExecutor.join(pendingTasks))
+                .recentFeedbacks(ParallelQueryExecutor.join(recentFeedbacks))
                 .build();
     }
 
-    public InstructorDashboardResponse getInstructorDashboard() {
+    private InstructorDashboardResponse loadInstructorDashboard() {
         long unreviewedCount = taskSubmissionRepository.countByStatus(SubmissionStatus.SUBMITTED);
 
         List<TaskSubmission> recentSubmissions = taskSubmissionRepository
@@ -135,4 +91,38 @@ public class DashboardService {
                 .recentSubmissions(items)
                 .build();
     }
+
+    private List<CourseProgressResponse> loadEnrolledCourses(Long userId) {
+        return enrollmentRepository.findProgressRowsByUserIdAndStatus(
+                        userId, EnrollmentStatus.ACTIVE, PageRequest.of(0, DASHBOARD_COURSE_LIMIT))
+                .stream()
+                .map(row -> CourseProgressResponse.of(row.getCourseId(), row.getCourseTitle(),
+                        row.getTotalPublishedLessons(), row.getCompletedLessons(), null))
+                .toList();
+    }
+
+    private List<LearnerDashboardResponse.PendingTaskItem> loadPendingTasks(Long userId) {
+        return taskRepository.findPendingTaskRows(userId, EnrollmentStatus.DROPPED, SubmissionStatus.REJECTED)
+                .stream()
+                .map(row -> LearnerDashboardResponse.PendingTaskItem.builder()
+                        .taskId(row.getTaskId())
+                        .taskTitle(row.getTaskTitle())
+                        .courseId(row.getCourseId())
+                        .courseTitle(row.getCourseTitle())
+                        .build())
+                .toList();
+    }
+
+    private List<LearnerDashboardResponse.RecentFeedbackItem> loadRecentFeedbacks(Long userId) {
+        return taskFeedbackRepository.findRecentWithDetailsByUserId(userId, PageRequest.of(0, DASHBOARD_FEEDBACK_LIMIT))
+                .stream()
+                .map(f -> LearnerDashboardResponse.RecentFeedbackItem.builder()
+                        .submissionId(f.getSubmission().getId())
+                        .taskTitle(f.getSubmission().getTask().getTitle())
+                        .reviewerName(f.getReviewer().getUsername())
+                        .comment(f.getComment())
+                        .createdAt(f.getCreatedAt().toString())
+                        .build())
+                .toList();
+    }
 }
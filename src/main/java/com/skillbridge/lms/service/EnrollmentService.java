@@ -2,6 +2,7 @@ package com.skillbridge.lms.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -13,11 +14,15 @@ import com.skillbridge.lms.entity.Course;
 import com.skillbridge.lms.entity.Enrollment;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.event.LearningActivityEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentDailyStatRepository;
 import com.skillbridge.lms.repository.EnrollmentRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.repository.LessonProgressRepository;
+import com.skillbridge.lms.repository.LessonRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,14 +32,18 @@ public class EnrollmentService {
 
     private final EnrollmentRepository enrollmentRepository;
     private final CourseRepository courseRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
+    private final EnrollmentDailyStatRepository enrollmentDailyStatRepository;
+    private final LessonRepository lessonRepository;
+    private final LessonProgressRepository lessonProgressRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * コース受講登録
      */
     @Transactional
     public EnrollmentResponse enroll(Long courseId, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         Course course = findCourseById(courseId);
 
         // 公開コースのみ受講可能
@@ -47,13 +56,19 @@ public class EnrollmentService {
             throw new BadRequestException("既にこのコースに受講登録済みです");
         }
 
+        // 再受講時は過去の完了レッスンを引き継ぐ
         Enrollment enrollment = Enrollment.builder()
                 .user(user)
                 .course(course)
                 .status(EnrollmentStatus.ACTIVE)
+                .completedLessons((int) lessonProgressRepository
+                        .countCompletedPublishedByUserIdAndCourseId(user.getId(), courseId))
+                .totalPublishedLessons((int) lessonRepository.countByCourseIdAndPublishedTrue(courseId))
                 .build();
 
         enrollment = enrollmentRepository.save(enrollment);
+        enrollmentDailyStatRepository.incrementCount(enrollment.getEnrolledAt().toLocalDate());
+        eventPublisher.publishEvent(LearningActivityEvent.learner(user.getId()));
         return EnrollmentResponse.from(enrollment);
     }
 
@@ -62,13 +77,15 @@ public class EnrollmentService {
      */
     @Transactional
     public void unenroll(Long courseId, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         findCourseById(courseId);
 
         Enrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(user.getId(), courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("受講登録が見つかりません"));
 
         enrollmentRepository.delete(enrollment);
+        enrollmentDailyStatRepository.decrementCount(enrollment.getEnrolledAt().toLocalDate());
+        eventPublisher.publishEvent(LearningActivityEvent.learner(user.getId()));
     }
 
     /**
@@ -76,7 +93,7 @@ public class EnrollmentService {
      */
     @Transactional(readOnly = true)
     public EnrollmentResponse getEnrollment(Long courseId, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         findCourseById(courseId);
 
         Enrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(user.getId(), courseId)
@@ -90,7 +107,7 @@ public class EnrollmentService {
      */
     @Transactional(readOnly = true)
     public List<EnrollmentResponse> getMyEnrollments(String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
 
         List<Enrollment> enrollments = enrollmentRepository.findByUserIdOrderByEnrolledAtDesc(user.getId());
         return enrollments.stream()
@@ -118,7 +135,7 @@ public class EnrollmentService {
      */
     @Transactional(readOnly = true)
     public boolean isEnrolled(Long courseId, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         return enrollmentRepository.existsByUserIdAndCourseIdAndStatus(
                 user.getId(), courseId, EnrollmentStatus.ACTIVE);
     }
@@ -138,11 +155,6 @@ public class EnrollmentService {
         enrollmentRepository.save(enrollment);
     }
 
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません"));
-    }
-
     private Course findCourseById(Long courseId) {
         return courseRepository.findById(courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("コースが見つかりません: " + courseId));
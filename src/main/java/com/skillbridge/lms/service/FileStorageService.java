@@ -1,57 +1,196 @@
 package com.skillbridge.lms.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skillbridge.lms.dto.response.FileUploadResponse;
+import com.skillbridge.lms.entity.UploadedFile;
 import com.skillbridge.lms.exception.BadRequestException;
+import com.skillbridge.lms.exception.ResourceNotFoundException;
+import com.skillbridge.lms.repository.UploadedFileRepository;
+import com.skillbridge.lms.storage.BlobStore;
+import com.skillbridge.lms.storage.StoredBlob;
+import com.skillbridge.lms.storage.StoredFile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@RequiredArgsConstructor
+@Slf4j
 public class FileStorageService {
 
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final String[] ALLOWED_TYPES = {
             "image/jpeg", "image/png", "image/gif", "image/webp"
     };
+    /** 判定した Content-Type から配信 URL の拡張子を決める */
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+    /** 配信時は拡張子から Content-Type を決める (ファイル内容の判定はしない) */
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            ".jpg", "image/jpeg",
+            ".jpeg", "image/jpeg",
+            ".png", "image/png",
+            ".gif", "image/gif",
+            ".webp", "image/webp");
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final Pattern SAFE_FILENAME = Pattern.compile("[A-Za-z0-9_-]+(\\.[A-Za-z0-9]{1,10})?");
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("([0-9a-f]{64})\\.[a-z]+");
+    private static final int GC_BATCH_SIZE = 500;
+
+    private final UploadedFileRepository uploadedFileRepository;
+    private final BlobStore blobStore;
+    private final Cache<String, StoredFile> metadata = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
 
-    private final Path uploadDir;
+    /** 書き込み直後でまだ参照行がコミットされていないブロブを削除しないための猶予 */
+    @Value("${app.storage.gc-grace-period:1h}")
+    private Duration gcGracePeriod = Duration.ofHours(1);
 
-    public FileStorageService() {
-        this.uploadDir = Paths.get("uploads").toAbsolutePath().normalize();
+    /**
+     * multipart でアップロードされたファイルを保存 (DB 接続の扱いは {@link #store} と同じ)
+     */
+    public FileUploadResponse storeFile(MultipartFile file) {
+        validateFile(file);
         try {
-            Files.createDirectories(this.uploadDir);
+            return store(file.getInputStream(), file.getOriginalFilename());
         } catch (IOException e) {
-            throw new RuntimeException("アップロードディレクトリを作成できません", e);
+            throw new UncheckedIOException("ファイルの保存に失敗しました", e);
         }
     }
 
-    public String storeFile(MultipartFile file) {
-        validateFile(file);
+    /**
+     * リクエストボディを直接受け取って保存 (multipart のように一時ファイルへ退避しない)
+     *
+     * <p>クライアントからの読み込みが遅くても DB 接続を握らないよう、ブロブはトランザクションの外で書き込み、
+     * アップロードの記録だけをリポジトリの短いトランザクションで保存する。</p>
+     *
+     * @param in                読み込むストリーム (このメソッド内で閉じる)
+     * @param originalFilename  元のファイル名 (任意)
+     */
+    public FileUploadResponse store(InputStream in, String originalFilename) {
+        // Content-Type は申告値ではなく先頭バイトから判定したものを使う
+        StoredBlob blob = blobStore.write(in, MAX_FILE_SIZE);
+        UploadedFile uploaded = uploadedFileRepository.save(UploadedFile.builder()
+                .contentHash(blob.hash())
+                .contentType(blob.contentType())
+                .sizeBytes(blob.size())
+                .originalFilename(originalFilename)
+                .build());
+        if (blob.deduplicated()) {
+            log.debug("同じ内容のファイルが保存済みのため再利用します: id={}, hash={}", uploaded.getId(), blob.hash());
+        }
+        return FileUploadResponse.from(uploaded, "/api/files/" + blob.hash() + EXTENSIONS.get(blob.contentType()));
+    }
+
+    /**
+     * アップロードの記録を削除 (実体は他から参照されていなければ削除ジョブで回収する)
+     */
+    @Transactional
+    public void deleteFile(Long id) {
+        UploadedFile uploaded = uploadedFileRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ファイルが見つかりません: " + id));
+        uploadedFileRepository.delete(uploaded);
+    }
+
+    public Path getFilePath(String filename) {
+        Matcher matcher = CONTENT_ADDRESSED.matcher(filename);
+        if (matcher.matches()) {
+            return blobStore.resolve(matcher.group(1));
+        }
+        return blobStore.getRoot().resolve(filename).normalize();
+    }
+
+    /**
+     * 配信用のメタデータを取得 (初回のみファイル属性を読み、以降はキャッシュから返す)
+     */
+    public StoredFile getStoredFile(String filename) {
+        StoredFile stored = SAFE_FILENAME.matcher(filename).matches()
+                ? metadata.get(filename, this::load)
+                : null;
+        if (stored == null) {
+            throw new ResourceNotFoundException("ファイルが見つかりません: " + filename);
+        }
+        return stored;
+    }
+
+    /**
+     * どのアップロードからも参照されなくなったブロブと、残った一時ファイルを削除 (毎日定時実行)
+     *
+     * @return 削除したブロブの件数
+     */
+    @Scheduled(cron = "${app.storage.gc-cron:0 0 4 * * *}")
+    @Transactional(readOnly = true)
+    public int collectGarbage() {
+        Instant cutoff = Instant.now().minus(gcGracePeriod);
+        int purged = blobStore.purgeTemporaryFiles(cutoff);
+        List<String> candidates = blobStore.findHashesModifiedBefore(cutoff);
 
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        int removed = 0;
+        for (int from = 0; from < candidates.size(); from += GC_BATCH_SIZE) {
+            List<String> batch = candidates.subList(from, Math.min(from + GC_BATCH_SIZE, candidates.size()));
+            Set<String> orphaned = new HashSet<>(batch);
+            orphaned.removeAll(uploadedFileRepository.findReferencedHashes(batch));
+            for (String hash : orphaned) {
+                if (blobStore.deleteIfModifiedBefore(hash, cutoff)) {
+                    metadata.asMap().keySet().removeIf(name -> name.startsWith(hash));
+                    removed++;
+                }
+            }
         }
-        String filename = UUID.randomUUID() + extension;
 
+        if (removed > 0 || purged > 0) {
+            log.info("未参照のファイルを削除しました: blobs={}, temporary={}", removed, purged);
+        }
+        return removed;
+    }
+
+    private StoredFile load(String filename) {
         try {
-            Path targetLocation = this.uploadDir.resolve(filename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-            return "/api/files/" + filename;
+            return describe(filename, getFilePath(filename));
+        } catch (NoSuchFileException e) {
+            return null;
         } catch (IOException e) {
-            throw new RuntimeException("ファイルの保存に失敗しました", e);
+            throw new UncheckedIOException(e);
         }
     }
 
-    public Path getFilePath(String filename) {
-        return this.uploadDir.resolve(filename).normalize();
+    private StoredFile describe(String filename, Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        if (!attributes.isRegularFile()) {
+            throw new NoSuchFileException(path.toString());
+        }
+        int dot = filename.lastIndexOf('.');
+        String extension = dot >= 0 ? filename.substring(dot).toLowerCase(Locale.ROOT) : "";
+        return new StoredFile(filename, path, attributes.size(), attributes.lastModifiedTime().toInstant(),
+                CONTENT_TYPES.getOrDefault(extension, DEFAULT_CONTENT_TYPE), filename);
     }
 
     private void validateFile(MultipartFile file) {
@@ -2,6 +2,7 @@ package com.skillbridge.lms.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,8 +12,10 @@ import com.skillbridge.lms.dto.request.UpdateLessonRequest;
 import com.skillbridge.lms.dto.response.LessonResponse;
 import com.skillbridge.lms.entity.Course;
 import com.skillbridge.lms.entity.Lesson;
+import com.skillbridge.lms.event.CourseChangedEvent;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentRepository;
 import com.skillbridge.lms.repository.LessonRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -24,6 +27,8 @@ public class LessonService {
 
     private final CourseRepository courseRepository;
     private final LessonRepository lessonRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * レッスン一覧取得（ADMIN: 全件 / LEARNER: publishedのみ）
@@ -75,6 +80,10 @@ public class LessonService {
                 .build();
 
         lesson = lessonRepository.save(lesson);
+        if (lesson.getPublished()) {
+            enrollmentRepository.adjustTotalPublishedLessons(courseId, 1);
+            eventPublisher.publishEvent(new CourseChangedEvent(courseId));
+        }
         return LessonResponse.from(lesson);
     }
 
@@ -86,6 +95,8 @@ public class LessonService {
         findCourseById(courseId);
         Lesson lesson = findLessonByCourseIdAndId(courseId, lessonId);
 
+        boolean wasPublished = lesson.getPublished();
+
         lesson.setTitle(request.getTitle());
         lesson.setContentPath(request.getContentPath());
         if (request.getPublished() != null) {
@@ -93,6 +104,10 @@ public class LessonService {
         }
 
         lesson = lessonRepository.save(lesson);
+        if (wasPublished != lesson.getPublished()) {
+            adjustProgressCounters(courseId, lessonId, lesson.getPublished() ? 1 : -1);
+            eventPublisher.publishEvent(new CourseChangedEvent(courseId));
+        }
         return LessonResponse.from(lesson);
     }
 
@@ -103,6 +118,11 @@ public class LessonService {
     public void deleteLesson(Long courseId, Long lessonId) {
         findCourseById(courseId);
         Lesson lesson = findLessonByCourseIdAndId(courseId, lessonId);
+        if (lesson.getPublished()) {
+            // 進捗レコードは削除時に消えるため、先にカウンタを減算する
+            adjustProgressCounters(courseId, lessonId, -1);
+            eventPublisher.publishEvent(new CourseChangedEvent(courseId));
+        }
         lessonRepository.delete(lesson);
     }
 
@@ -125,6 +145,14 @@ public class LessonService {
                 .toList();
     }
 
+    /**
+     * 公開状態の変化を受講登録の進捗カウンタに一括反映
+     */
+    private void adjustProgressCounters(Long courseId, Long lessonId, int delta) {
+        enrollmentRepository.adjustTotalPublishedLessons(courseId, delta);
+        enrollmentRepository.adjustCompletedLessonsForLesson(courseId, lessonId, delta);
+    }
+
     private Course findCourseById(Long courseId) {
         return courseRepository.findById(courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("コースが見つかりません: " + courseId));
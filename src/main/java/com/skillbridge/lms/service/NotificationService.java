@@ -1,16 +1,33 @@
 package com.skillbridge.lms.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.skillbridge.lms.dto.response.CursorPageResponse;
 import com.skillbridge.lms.dto.response.NotificationResponse;
 import com.skillbridge.lms.entity.Notification;
 import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.event.UnreadNotificationCountChangedEvent;
+import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
+import com.skillbridge.lms.notification.UnreadCountCache;
+import com.skillbridge.lms.repository.KeysetCursor;
+import com.skillbridge.lms.repository.NotificationPollCursor;
 import com.skillbridge.lms.repository.NotificationRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.repository.NotificationSpecifications;
+import com.skillbridge.lms.security.UserResolver;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,25 +36,71 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    /** since で読み直す幅 (作成からコミットまでにかかりうる時間) */
+    private static final Duration SINCE_SAFETY_WINDOW = Duration.ofSeconds(30);
+    private static final Sort OLDEST_FIRST = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
+    private final UnreadCountCache unreadCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<NotificationResponse> getNotifications(String email) {
-        User user = findUserByEmail(email);
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId())
-                .stream()
-                .map(NotificationResponse::from)
-                .toList();
+        User user = userResolver.findByEmail(email);
+        return toResponses(notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId()));
+    }
+
+    /**
+     * 通知フィードをキーセット方式で取得 ((createdAt, id) の降順)
+     *
+     * <p>cursor には前ページの nextCursor を渡して古い通知を辿る。since には前回の sinceCursor を渡すと、
+     * まだ返していない通知だけを古い順に size 件まで取り出し、新しい順で返す (残りがあれば hasNext を立てる)。
+     * 先頭ページと since 指定時は、次回の since に渡す sinceCursor を返す。</p>
+     *
+     * <p>created_at は INSERT 時点の時刻のため、先に作成された通知が後からコミットされると、
+     * 前回より古い created_at で現れる。since では前回の最新から {@link #SINCE_SAFETY_WINDOW} 遡って読み直し、
+     * その範囲で返済みの ID をカーソルに持って除外する。作成からコミットまでがこの幅を超えた通知は取りこぼす。</p>
+     */
+    public CursorPageResponse<NotificationResponse> getNotificationFeed(String email, String cursor, String since,
+            boolean unreadOnly, int size) {
+        if (isPresent(cursor) && isPresent(since)) {
+            throw new BadRequestException("cursor と since は同時に指定できません");
+        }
+        User user = userResolver.findByEmail(email);
+        int limit = Math.clamp(size, 1, MAX_FEED_PAGE_SIZE);
+        Specification<Notification> spec = NotificationSpecifications.forUser(user.getId(), unreadOnly);
+
+        if (isPresent(since)) {
+            return poll(spec, NotificationPollCursor.decode(since), since, limit);
+        }
+
+        if (isPresent(cursor)) {
+            KeysetCursor before = KeysetCursor.decode(cursor);
+            spec = spec.and(NotificationSpecifications.before(before.createdAt(), before.id()));
+        }
+        List<Notification> rows = fetch(spec, NEWEST_FIRST, limit);
+        boolean hasNext = rows.size() > limit;
+        List<Notification> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        return CursorPageResponse.<NotificationResponse>builder()
+                .content(toResponses(pageRows))
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf(pageRows.get(pageRows.size() - 1)) : null)
+                .sinceCursor(!isPresent(cursor) && !pageRows.isEmpty() ? firstSinceCursor(spec, pageRows, hasNext) : null)
+                .build();
     }
 
     public long getUnreadCount(String email) {
-        User user = findUserByEmail(email);
-        return notificationRepository.countByUserIdAndIsReadFalse(user.getId());
+        User user = userResolver.findByEmail(email);
+        Long userId = user.getId();
+        return unreadCountCache.get(userId, () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
     }
 
     @Transactional
     public NotificationResponse markAsRead(Long notificationId, String email) {
-        User user = findUserByEmail(email);
+        User user = userResolver.findByEmail(email);
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException("通知が見つかりません: " + notificationId));
 
@@ -45,18 +108,35 @@ public class NotificationService {
             throw new ResourceNotFoundException("通知が見つかりません: " + notificationId);
         }
 
-        notification.setIsRead(true);
-        notification = notificationRepository.save(notification);
+        if (!notification.getIsRead()) {
+            notification.setIsRead(true);
+            notification = notificationRepository.save(notification);
+            eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(user.getId()));
+        }
         return NotificationResponse.from(notification);
     }
 
+    /**
+     * 未読通知を1回の UPDATE でまとめて既読にし、既読にした件数を返す
+     */
+    @Transactional
+    public int markAllAsRead(String email) {
+        User user = userResolver.findByEmail(email);
+        int updated = notificationRepository.markAllAsRead(user.getId());
+        publishRead(user.getId(), updated);
+        return updated;
+    }
+
+    /**
+     * 指定ID以前 (指定IDを含む) の未読通知を既読にし、既読にした件数を返す
+     * (ページ送りで表示済みの通知だけを既読にする)
+     */
     @Transactional
-    public void markAllAsRead(String email) {
-        User user = findUserByEmail(email);
-        List<Notification> unread = notificationRepository
-                .findByUserIdAndIsReadFalseOrderByCreatedAtDesc(user.getId());
-        unread.forEach(n -> n.setIsRead(true));
-        notificationRepository.saveAll(unread);
+    public int markAsReadUpTo(Long notificationId, String email) {
+        User user = userResolver.findByEmail(email);
+        int updated = notificationRepository.markAsReadUpTo(user.getId(), notificationId);
+        publishRead(user.getId(), updated);
+        return updated;
     }
 
     @Transactional
@@ -69,10 +149,91 @@ public class NotificationService {
                 .link(link)
                 .build();
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(user.getId()));
     }
 
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません"));
+    private CursorPageResponse<NotificationResponse> poll(Specification<Notification> spec,
+            NotificationPollCursor after, String since, int limit) {
+        Set<Long> seenIds = after.seenIds();
+        List<Notification> rows = fetch(spec.and(NotificationSpecifications.createdSince(
+                after.createdAt().minus(SINCE_SAFETY_WINDOW))), OLDEST_FIRST, limit + seenIds.size());
+        List<Notification> seen = new ArrayList<>();
+        List<Notification> fresh = new ArrayList<>();
+        for (Notification row : rows) {
+            (seenIds.contains(row.getId()) ? seen : fresh).add(row);
+        }
+        boolean hasNext = fresh.size() > limit;
+        List<Notification> pageRows = new ArrayList<>(hasNext ? fresh.subList(0, limit) : fresh);
+
+        String sinceCursor = since;
+        if (!pageRows.isEmpty()) {
+            LocalDateTime newest = pageRows.stream().map(Notification::getCreatedAt)
+                    .reduce(after.createdAt(), (a, b) -> a.isAfter(b) ? a : b);
+            seen.addAll(pageRows);
+            Set<Long> ids = idsInWindow(seen, newest);
+            if (rows.size() > limit + seenIds.size()) {
+                // 読み切れなかった範囲にある返済みの ID は引き継ぐ
+                Set<Long> fetched = rows.stream().map(Notification::getId).collect(Collectors.toSet());
+                seenIds.stream().filter(id -> !fetched.contains(id)).forEach(ids::add);
+            }
+            sinceCursor = new NotificationPollCursor(newest, ids).encode();
+        }
+        Collections.reverse(pageRows);
+        return CursorPageResponse.<NotificationResponse>builder()
+                .content(toResponses(pageRows))
+                .size(limit)
+                .hasNext(hasNext)
+                .sinceCursor(sinceCursor)
+                .build();
+    }
+
+    /**
+     * 先頭ページの sinceCursor。安全幅内の通知は、ページに含まれないものも返済み (cursor で辿れる) として扱う
+     */
+    private String firstSinceCursor(Specification<Notification> spec, List<Notification> pageRows, boolean hasNext) {
+        LocalDateTime newest = pageRows.get(0).getCreatedAt();
+        LocalDateTime from = newest.minus(SINCE_SAFETY_WINDOW);
+        List<Notification> inWindow = pageRows;
+        if (hasNext && !pageRows.get(pageRows.size() - 1).getCreatedAt().isBefore(from)) {
+            // 同じ読み取りトランザクション内なので、ページと同じ時点の行が返る
+            inWindow = notificationRepository.findBy(spec.and(NotificationSpecifications.createdSince(from)),
+                    query -> query.all());
+        }
+        return new NotificationPollCursor(newest, idsInWindow(inWindow, newest)).encode();
+    }
+
+    private static Set<Long> idsInWindow(List<Notification> notifications, LocalDateTime newest) {
+        LocalDateTime from = newest.minus(SINCE_SAFETY_WINDOW);
+        return notifications.stream()
+                .filter(n -> !n.getCreatedAt().isBefore(from))
+                .map(Notification::getId)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private List<Notification> fetch(Specification<Notification> spec, Sort sort, int limit) {
+        return notificationRepository.findBy(spec, query -> query
+                .sortBy(sort)
+                .limit(limit + 1)
+                .all());
+    }
+
+    private List<NotificationResponse> toResponses(List<Notification> notifications) {
+        return notifications.stream()
+                .map(NotificationResponse::from)
+                .toList();
+    }
+
+    private static String cursorOf(Notification notification) {
+        return new KeysetCursor(notification.getCreatedAt(), notification.getId()).encode();
+    }
+
+    private static boolean isPresent(String cursor) {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    private void publishRead(Long userId, int updated) {
+        if (updated > 0) {
+            eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(userId));
+        }
     }
 }
@@ -0,0 +1,83 @@
+package com.skillbridge.lms.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 互いに独立した読み取りクエリを仮想スレッドで並行実行する
+ *
+ * <p>各クエリは専用の読み取り専用トランザクションで実行し、実行中はそれぞれ DB 接続を1本使う。
+ * 仮想スレッドの数には上限がないため、同時に実行するクエリ数を {@code app.dashboard.max-concurrent-queries}
+ * (0 の場合は接続プールの半分) に制限し、残りは接続を取らずに待たせる。
+ * {@code app.dashboard.parallel-sections=false} の場合は呼び出し元スレッドで順に実行し、
+ * 呼び出し元のトランザクションがあればそれに参加する。</p>
+ */
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public ParallelQueryExecutor(
+            PlatformTransactionManager transactionManager,
+            @Value("${app.dashboard.parallel-sections:true}") boolean parallel,
+            @Value("${app.dashboard.max-concurrent-queries:0}") int maxConcurrentQueries,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = parallel
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("query-", 0).factory())
+                : null;
+        this.permits = new Semaphore(
+                maxConcurrentQueries > 0 ? maxConcurrentQueries : Math.max(1, connectionPoolSize / 2), true);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(readOnlyTransaction.execute(status -> query.get()));
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                return readOnlyTransaction.execute(status -> query.get());
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * 結果を待ち、クエリ内で発生した例外はそのまま再送出する
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+}
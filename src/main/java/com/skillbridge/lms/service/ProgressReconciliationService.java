@@ -0,0 +1,94 @@
+package com.skillbridge.lms.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skillbridge.lms.repository.EnrollmentRepository;
+import com.skillbridge.lms.repository.projection.EnrollmentCounterSnapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 受講登録の進捗カウンタと実データのずれを検出・補正する
+ *
+ * <p>補正は読み取った時点のカウンタとの比較更新なので、レッスン完了と重なった行や
+ * 複数ノードで同時に実行された場合も上書きせずに読み飛ばす (次回の実行で補正される)。
+ * 全ノードで同じ受講登録を読み直すのを避けるには、1ノードを除いて
+ * {@code app.progress.reconcile-cron=-} で定時実行を止める。</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProgressReconciliationService {
+
+    static final int PAGE_SIZE = 500;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private record PageResult(int size, long lastId, int corrected) {
+    }
+
+    /**
+     * 進捗カウンタの整合性チェック (毎日定時実行)
+     *
+     * <p>受講登録は ID 順に一定件数ずつ読み、ページごとに短いトランザクションで補正する。</p>
+     *
+     * @return 補正した受講登録の件数
+     */
+    @Scheduled(cron = "${app.progress.reconcile-cron:0 30 3 * * *}")
+    public int reconcileProgressCounters() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int corrected = 0;
+        long lastId = 0;
+        PageResult page;
+        do {
+            long afterId = lastId;
+            page = transaction.execute(status -> reconcilePage(afterId));
+            corrected += page.corrected();
+            lastId = page.lastId();
+        } while (page.size() == PAGE_SIZE);
+
+        if (corrected > 0) {
+            log.info("進捗カウンタの補正が完了しました: {}件", corrected);
+        }
+        return corrected;
+    }
+
+    private PageResult reconcilePage(long afterId) {
+        List<EnrollmentCounterSnapshot> rows = enrollmentRepository.findCounterSnapshotsAfter(
+                afterId, PageRequest.of(0, PAGE_SIZE));
+        int corrected = 0;
+        long lastId = afterId;
+        for (EnrollmentCounterSnapshot snapshot : rows) {
+            if (snapshot.hasDrift() && correct(snapshot)) {
+                corrected++;
+            }
+            lastId = snapshot.getEnrollmentId();
+        }
+        return new PageResult(rows.size(), lastId, corrected);
+    }
+
+    private boolean correct(EnrollmentCounterSnapshot snapshot) {
+        int updated = enrollmentRepository.updateCounters(snapshot.getEnrollmentId(),
+                snapshot.getCompletedLessons(), snapshot.getTotalPublishedLessons(),
+                (int) snapshot.getActualCompletedLessons(),
+                (int) snapshot.getActualTotalPublishedLessons());
+        if (updated == 0) {
+            log.debug("読み取り後に進捗カウンタが変更されたため補正を見送ります: enrollmentId={}",
+                    snapshot.getEnrollmentId());
+            return false;
+        }
+        log.warn("進捗カウンタのずれを補正しました: enrollmentId={}, completed={}->{}, total={}->{}",
+                snapshot.getEnrollmentId(),
+                snapshot.getCompletedLessons(), snapshot.getActualCompletedLessons(),
+                snapshot.getTotalPublishedLessons(), snapshot.getActualTotalPublishedLessons());
+        return true;
+    }
+}
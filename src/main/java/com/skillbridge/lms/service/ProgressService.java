@@ -1,11 +1,11 @@
 package com.skillbridge.lms.service;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,13 +18,16 @@ import com.skillbridge.lms.entity.Lesson;
 import com.skillbridge.lms.entity.LessonProgress;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.event.CourseCompletionRequested;
+import com.skillbridge.lms.event.LearningActivityEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
+import com.skillbridge.lms.outbox.OutboxPublisher;
 import com.skillbridge.lms.repository.CourseRepository;
 import com.skillbridge.lms.repository.EnrollmentRepository;
 import com.skillbridge.lms.repository.LessonProgressRepository;
 import com.skillbridge.lms.repository.LessonRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 import lombok.RequiredArgsConstructor;
 
@@ -36,17 +39,17 @@ public class ProgressService {
     private final EnrollmentRepository enrollmentRepository;
     private final CourseRepository courseRepository;
     private final LessonRepository lessonRepository;
-    private final UserRepository userRepository;
-    private final CertificateService certificateService;
-    private final NotificationService notificationService;
+    private final UserResolver userResolver;
+    private final OutboxPublisher outboxPublisher;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * レッスン完了マーク
      */
     @Transactional
     public MessageResponse completeLesson(Long courseId, Long lessonId, String userEmail) {
-        User user = findUserByEmail(userEmail);
-        Course course = findCourseById(courseId);
+        User user = userResolver.findByEmail(userEmail);
+        findCourseById(courseId);
 
         // 受講登録チェック
         validateEnrollment(user.getId(), courseId);
@@ -59,31 +62,22 @@ public class ProgressService {
             throw new ResourceNotFoundException("レッスンが見つかりません: " + lessonId);
         }
 
-        // 既に完了済みの場合
-        LessonProgress progress = lessonProgressRepository.findByUserIdAndLessonId(user.getId(), lessonId)
-                .orElse(null);
-
-        if (progress != null && progress.getCompleted()) {
+        // 未完了の行だけを条件付きで更新し、同時に完了しても加算は1回だけにする
+        LocalDateTime now = LocalDateTime.now();
+        lessonProgressRepository.insertIfAbsent(user.getId(), lessonId, now);
+        if (lessonProgressRepository.markCompleted(user.getId(), lessonId, now) == 0) {
             return new MessageResponse("このレッスンは既に完了済みです");
         }
 
-        if (progress == null) {
-            progress = LessonProgress.builder()
-                    .user(user)
-                    .lesson(lesson)
-                    .completed(true)
-                    .completedAt(LocalDateTime.now())
-                    .build();
-        } else {
-            progress.setCompleted(true);
-            progress.setCompletedAt(LocalDateTime.now());
+        // 進捗カウンタを加算 (公開レッスンのみ集計対象)
+        if (lesson.getPublished()) {
+            enrollmentRepository.adjustCompletedLessons(user.getId(), courseId, 1);
+            // コース完了の判定・証明書・通知はコミット後にワーカーで処理し、完了操作の応答を待たせない
+            outboxPublisher.publish(CourseCompletionService.EVENT_TYPE,
+                    new CourseCompletionRequested(user.getId(), courseId));
         }
 
-        lessonProgressRepository.save(progress);
-
-        // コース完了チェック
-        checkCourseCompletion(user.getId(), course);
-
+        eventPublisher.publishEvent(LearningActivityEvent.learner(user.getId()));
         return new MessageResponse("レッスンを完了しました");
     }
 
@@ -92,7 +86,7 @@ public class ProgressService {
      */
     @Transactional
     public MessageResponse uncompleteLesson(Long courseId, Long lessonId, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         findCourseById(courseId);
 
         // 受講登録チェック
@@ -101,9 +95,13 @@ public class ProgressService {
         LessonProgress progress = lessonProgressRepository.findByUserIdAndLessonId(user.getId(), lessonId)
                 .orElseThrow(() -> new ResourceNotFoundException("進捗記録が見つかりません"));
 
-        progress.setCompleted(false);
-        progress.setCompletedAt(null);
-        lessonProgressRepository.save(progress);
+        boolean published = Boolean.TRUE.equals(progress.getLesson().getPublished());
+
+        // 完了済みの行だけを条件付きで戻し、実際に戻した場合だけ進捗カウンタを減算
+        boolean uncompleted = lessonProgressRepository.markUncompleted(user.getId(), lessonId) == 1;
+        if (uncompleted && published) {
+            enrollmentRepository.adjustCompletedLessons(user.getId(), courseId, -1);
+        }
 
         // コース完了状態をACTIVEに戻す
         Enrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(user.getId(), courseId)
@@ -114,6 +112,7 @@ public class ProgressService {
             enrollmentRepository.save(enrollment);
         }
 
+        eventPublisher.publishEvent(LearningActivityEvent.learner(user.getId()));
         return new MessageResponse("レッスン完了を取り消しました");
     }
 
@@ -122,7 +121,7 @@ public class ProgressService {
      */
     @Transactional(readOnly = true)
     public CourseProgressResponse getCourseProgress(Long courseId, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         Course course = findCourseById(courseId);
 
         // 受講登録チェック
@@ -171,58 +170,19 @@ public class ProgressService {
      */
     @Transactional(readOnly = true)
     public List<CourseProgressResponse> getMyProgress(String userEmail) {
-        User user = findUserByEmail(userEmail);
-
-        List<Enrollment> enrollments = enrollmentRepository.findByUserIdOrderByEnrolledAtDesc(user.getId());
-        List<CourseProgressResponse> progressList = new ArrayList<>();
-
-        for (Enrollment enrollment : enrollments) {
-            Course course = enrollment.getCourse();
-            List<Lesson> lessons = lessonRepository.findByCourseIdAndPublishedTrueOrderBySortOrderAsc(course.getId());
-            long completedCount = lessonProgressRepository.countCompletedByUserIdAndCourseId(
-                    user.getId(), course.getId());
-
-            CourseProgressResponse progress = CourseProgressResponse.of(
-                    course.getId(),
-                    course.getTitle(),
-                    lessons.size(),
-                    (int) completedCount,
-                    null  // サマリーなのでレッスン詳細は含めない
-            );
-            progressList.add(progress);
-        }
-
-        return progressList;
-    }
-
-    /**
-     * コース完了チェック - 全レッスン完了時にEnrollmentステータスをCOMPLETEDに更新
-     */
-    private void checkCourseCompletion(Long userId, Course course) {
-        List<Lesson> lessons = lessonRepository.findByCourseIdAndPublishedTrueOrderBySortOrderAsc(course.getId());
-        long completedCount = lessonProgressRepository.countCompletedByUserIdAndCourseId(userId, course.getId());
-
-        if (lessons.size() > 0 && completedCount >= lessons.size()) {
-            Enrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(userId, course.getId())
-                    .orElse(null);
-            if (enrollment != null && enrollment.getStatus() != EnrollmentStatus.COMPLETED) {
-                enrollment.setStatus(EnrollmentStatus.COMPLETED);
-                enrollment.setCompletedAt(LocalDateTime.now());
-                enrollmentRepository.save(enrollment);
-
-                // 証明書を自動発行
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null) {
-                    certificateService.issueCertificate(user, course);
-                    notificationService.createNotification(
-                            user,
-                            "コース完了おめでとうございます！",
-                            "「" + course.getTitle() + "」の証明書が発行されました。",
-                            "CERTIFICATE",
-                            "/my-certificates");
-                }
-            }
-        }
+        User user = userResolver.findByEmail(userEmail);
+
+        List<Enrollment> enrollments = enrollmentRepository.findWithCourseByUserIdOrderByEnrolledAtDesc(user.getId());
+
+        return enrollments.stream()
+                .map(enrollment -> CourseProgressResponse.of(
+                        enrollment.getCourse().getId(),
+                        enrollment.getCourse().getTitle(),
+                        enrollment.getTotalPublishedLessons(),
+                        enrollment.getCompletedLessons(),
+                        null  // サマリーなのでレッスン詳細は含めない
+                ))
+                .toList();
     }
 
     private void validateEnrollment(Long userId, Long courseId) {
@@ -232,11 +192,6 @@ public class ProgressService {
         }
     }
 
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません"));
-    }
-
     private Course findCourseById(Long courseId) {
         return courseRepository.findById(courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("コースが見つかりません: " + courseId));
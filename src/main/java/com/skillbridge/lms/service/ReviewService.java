@@ -16,7 +16,7 @@ import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
 import com.skillbridge.lms.repository.ReviewRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,11 +26,11 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final CourseRepository courseRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
 
     @Transactional
     public ReviewResponse createReview(Long courseId, CreateReviewRequest request, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         Course course = findCourseById(courseId);
 
         if (reviewRepository.existsByUserIdAndCourseId(user.getId(), courseId)) {
@@ -60,7 +60,7 @@ public class ReviewService {
 
     @Transactional(readOnly = true)
     public ReviewResponse getMyReview(Long courseId, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         Review review = reviewRepository.findByUserIdAndCourseId(user.getId(), courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("レビューが見つかりません"));
         return ReviewResponse.from(review);
@@ -68,7 +68,7 @@ public class ReviewService {
 
     @Transactional
     public ReviewResponse updateMyReview(Long courseId, CreateReviewRequest request, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         Review review = reviewRepository.findByUserIdAndCourseId(user.getId(), courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("レビューが見つかりません"));
 
@@ -80,7 +80,7 @@ public class ReviewService {
 
     @Transactional
     public MessageResponse deleteMyReview(Long courseId, String userEmail) {
-        User user = findUserByEmail(userEmail);
+        User user = userResolver.findByEmail(userEmail);
         Review review = reviewRepository.findByUserIdAndCourseId(user.getId(), courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("レビューが見つかりません"));
         reviewRepository.delete(review);
@@ -97,11 +97,6 @@ public class ReviewService {
         return reviewRepository.countByCourseId(courseId);
     }
 
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません"));
-    }
-
     private Course findCourseById(Long courseId) {
         return courseRepository.findById(courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("コースが見つかりません: " + courseId));
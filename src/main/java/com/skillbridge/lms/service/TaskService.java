@@ -2,6 +2,7 @@ package com.skillbridge.lms.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +11,7 @@ import com.skillbridge.lms.dto.request.UpdateTaskRequest;
 import com.skillbridge.lms.dto.response.TaskResponse;
 import com.skillbridge.lms.entity.Course;
 import com.skillbridge.lms.entity.Task;
+import com.skillbridge.lms.event.CourseChangedEvent;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
 import com.skillbridge.lms.repository.TaskRepository;
@@ -23,6 +25,7 @@ public class TaskService {
 
     private final CourseRepository courseRepository;
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<TaskResponse> getTasks(Long courseId) {
         findCourseById(courseId);
@@ -54,6 +57,7 @@ public class TaskService {
                 .build();
 
         task = taskRepository.save(task);
+        eventPublisher.publishEvent(new CourseChangedEvent(courseId));
         return TaskResponse.from(task);
     }
 
@@ -66,6 +70,7 @@ public class TaskService {
         task.setDescription(request.getDescription());
 
         task = taskRepository.save(task);
+        eventPublisher.publishEvent(new CourseChangedEvent(courseId));
         return TaskResponse.from(task);
     }
 
@@ -74,6 +79,7 @@ public class TaskService {
         findCourseById(courseId);
         Task task = findTaskByCourseIdAndId(courseId, taskId);
         taskRepository.delete(task);
+        eventPublisher.publishEvent(new CourseChangedEvent(courseId));
     }
 
     private Course findCourseById(Long courseId) {
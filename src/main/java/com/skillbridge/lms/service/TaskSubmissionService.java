@@ -2,6 +2,7 @@ package com.skillbridge.lms.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,12 +18,13 @@ import com.skillbridge.lms.entity.Task;
 import com.skillbridge.lms.entity.TaskFeedback;
 import com.skillbridge.lms.entity.TaskSubmission;
 import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.event.LearningActivityEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.TaskFeedbackRepository;
 import com.skillbridge.lms.repository.TaskRepository;
 import com.skillbridge.lms.repository.TaskSubmissionRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,13 +36,14 @@ public class TaskSubmissionService {
     private final TaskRepository taskRepository;
     private final TaskSubmissionRepository submissionRepository;
     private final TaskFeedbackRepository feedbackRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskSubmissionResponse submit(Long taskId, String email, CreateSubmissionRequest request) {
         Task task = findTaskById(taskId);
-        User user = findUserByEmail(email);
+        User user = userResolver.findByEmail(email);
 
         TaskSubmission submission = TaskSubmission.builder()
                 .task(task)
@@ -49,12 +52,13 @@ public class TaskSubmissionService {
                 .build();
 
         submission = submissionRepository.save(submission);
+        eventPublisher.publishEvent(LearningActivityEvent.submission(user.getId()));
         return TaskSubmissionResponse.from(submission);
     }
 
     public List<TaskSubmissionResponse> getMySubmissions(Long taskId, String email) {
         findTaskById(taskId);
-        User user = findUserByEmail(email);
+        User user = userResolver.findByEmail(email);
         return submissionRepository.findByTaskIdAndUserIdOrderBySubmittedAtDesc(taskId, user.getId())
                 .stream()
                 .map(TaskSubmissionResponse::from)
@@ -87,13 +91,14 @@ public class TaskSubmissionService {
         TaskSubmission submission = findSubmissionById(submissionId);
         submission.setStatus(request.getStatus());
         submission = submissionRepository.save(submission);
+        eventPublisher.publishEvent(LearningActivityEvent.submission(submission.getUser().getId()));
         return TaskSubmissionResponse.from(submission);
     }
 
     @Transactional
     public TaskFeedbackResponse addFeedback(Long submissionId, String reviewerEmail, CreateFeedbackRequest request) {
         TaskSubmission submission = findSubmissionById(submissionId);
-        User reviewer = findUserByEmail(reviewerEmail);
+        User reviewer = userResolver.findByEmail(reviewerEmail);
 
         TaskFeedback feedback = TaskFeedback.builder()
                 .submission(submission)
@@ -113,6 +118,7 @@ public class TaskSubmissionService {
                 "/courses/" + submission.getTask().getCourse().getId()
                         + "/tasks/" + submission.getTask().getId());
 
+        eventPublisher.publishEvent(LearningActivityEvent.learner(submissionOwner.getId()));
         return TaskFeedbackResponse.from(feedback);
     }
 
@@ -125,9 +131,4 @@ public class TaskSubmissionService {
         return submissionRepository.findById(submissionId)
                 .orElseThrow(() -> new ResourceNotFoundException("提出が見つかりません: " + submissionId));
     }
-
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません"));
-    }
 }
@@ -1,13 +1,15 @@
 package com.skillbridge.lms.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.skillbridge.lms.dto.request.UpdateProfileRequest;
 import com.skillbridge.lms.dto.response.ProfileResponse;
 import com.skillbridge.lms.entity.User;
-import com.skillbridge.lms.exception.ResourceNotFoundException;
+import com.skillbridge.lms.event.UserChangedEvent;
 import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,13 +18,15 @@ import lombok.RequiredArgsConstructor;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserResolver userResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * プロフィール取得
      */
     @Transactional(readOnly = true)
     public ProfileResponse getProfile(String email) {
-        User user = findUserByEmail(email);
+        User user = userResolver.findByEmail(email);
         return ProfileResponse.from(user);
     }
 
@@ -31,14 +35,10 @@ public class UserService {
      */
     @Transactional
     public ProfileResponse updateProfile(String email, UpdateProfileRequest request) {
-        User user = findUserByEmail(email);
+        User user = userResolver.findByEmail(email);
         user.setUsername(request.getUsername());
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
         return ProfileResponse.from(user);
     }
-
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません"));
-    }
 }
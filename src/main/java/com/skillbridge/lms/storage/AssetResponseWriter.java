@@ -0,0 +1,133 @@
+package com.skillbridge.lms.storage;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * アップロード済みファイルをレスポンスへ直接書き出す
+ *
+ * <p>Tomcat の sendfile が使える場合はコンテナにファイル送信を任せ、カーネル内でソケットへ転送させる
+ * (アプリ側のバッファを介するコピーがない)。使えない場合や小さなファイルはレスポンスのストリームへ書き出す。
+ * 単一の Range 指定には 206 で応答し、複数範囲の指定は全体を返す。</p>
+ */
+@Component
+public class AssetResponseWriter {
+
+    // Tomcat (Coyote) が sendfile の可否と対象を受け渡すリクエスト属性
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    /** サムネイル程度の画像も sendfile で送る。これより小さいものはコピーの方が安い */
+    private static final long SENDFILE_MIN_SIZE = 8 * 1024;
+
+    /** 保存ファイル名は内容ごとに一意なので、内容が変わることはない */
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+
+    public void write(StoredFile file, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response)
+                .checkNotModified(file.etag(), file.lastModified().toEpochMilli())) {
+            return;
+        }
+        response.setContentType(file.contentType());
+
+        long start = 0;
+        long length = file.size();
+        HttpRange range = requestedRange(request, file);
+        if (range != null) {
+            if (file.size() == 0 || range.getRangeStart(file.size()) >= file.size()) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            start = range.getRangeStart(file.size());
+            long end = range.getRangeEnd(file.size());
+            length = end - start + 1;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.size());
+        }
+        response.setContentLengthLong(length);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+        transfer(file, start, length, request, response);
+    }
+
+    /**
+     * 単一範囲の Range 指定を返す (If-Range が一致しない・構文が不正・複数範囲の場合は null で全体を返す)
+     */
+    private static HttpRange requestedRange(HttpServletRequest request, StoredFile file) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRangeMatches(ifRange, request, file)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean ifRangeMatches(String ifRange, HttpServletRequest request, StoredFile file) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals("\"" + file.etag() + "\"");
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == file.lastModified().getEpochSecond();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void transfer(StoredFile file, long start, long length, HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED)) && length >= SENDFILE_MIN_SIZE) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        // 出力先はソケットではなくサーブレットのストリームなので、transferTo はヒープ上のバッファを介したコピーになる
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.skillbridge.lms.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.skillbridge.lms.exception.BadRequestException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 内容の SHA-256 をキーにファイルを保存するストア
+ *
+ * <p>受信したストリームを一時ファイルへ書きながらハッシュを計算し、書き終えてから
+ * {@code blobs/<先頭2文字>/<ハッシュ>} へ rename する。同じ内容が既にあれば一時ファイルを捨てるだけなので、
+ * 同じ画像を何度アップロードしても実体は 1 つになる。読み手が書きかけのファイルを見ることはない。</p>
+ */
+@Component
+@Slf4j
+public class BlobStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int SNIFF_LENGTH = 12;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path blobDir;
+    private final Path tempDir;
+
+    public BlobStore(@Value("${app.storage.upload-dir:uploads}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.blobDir = root.resolve("blobs");
+        this.tempDir = root.resolve("tmp");
+        try {
+            Files.createDirectories(blobDir);
+            Files.createDirectories(tempDir);
+        } catch (IOException e) {
+            throw new RuntimeException("アップロードディレクトリを作成できません", e);
+        }
+    }
+
+    /**
+     * アップロード先のルートディレクトリ (内容アドレス化以前のファイルはここに直接置かれている)
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * ストリームを読み切って保存する
+     *
+     * @param in       読み込むストリーム (このメソッド内で閉じる)
+     * @param maxBytes 許容する最大バイト数
+     * @throws BadRequestException 許可されていない形式、または最大バイト数を超えた場合
+     */
+    public StoredBlob write(InputStream in, long maxBytes) {
+        Path temp = null;
+        try (in) {
+            byte[] header = in.readNBytes(SNIFF_LENGTH);
+            String contentType = sniff(header);
+            if (contentType == null) {
+                throw new BadRequestException("許可されていないファイル形式です。JPEG, PNG, GIF, WebPのみ対応しています");
+            }
+
+            MessageDigest digest = sha256();
+            temp = Files.createTempFile(tempDir, "upload-", ".part");
+            long size = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                byte[] buffer = Arrays.copyOf(header, Math.max(BUFFER_SIZE, header.length));
+                int read = header.length;
+                while (read >= 0) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new BadRequestException("ファイルサイズが" + maxBytes / (1024 * 1024) + "MBを超えています");
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                    read = in.read(buffer);
+                }
+                channel.force(false);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            boolean deduplicated = publish(temp, hash);
+            return new StoredBlob(hash, size, contentType, deduplicated);
+        } catch (IOException e) {
+            throw new UncheckedIOException("ファイルの保存に失敗しました", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * ブロブの保存先 (存在するとは限らない)
+     */
+    public Path resolve(String hash) {
+        if (!HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("不正なハッシュです: " + hash);
+        }
+        return blobDir.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    /**
+     * 最終更新が指定時刻より前のブロブのハッシュを列挙する
+     */
+    public List<String> findHashesModifiedBefore(Instant cutoff) {
+        try (Stream<Path> files = Files.walk(blobDir, 2)) {
+            return files.filter(path -> HASH.matcher(path.getFileName().toString()).matches())
+                    .filter(path -> modifiedBefore(path, cutoff))
+                    .map(path -> path.getFileName().toString())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 最終更新が指定時刻より前のままであればブロブを削除する
+     *
+     * <p>同じ内容のアップロードは {@link #publish} で更新日時を進めてから参照行を保存するため、
+     * 削除ジョブが参照を確認した後にアップロードが割り込むことがある。そこで、まずブロブを一時ディレクトリへ
+     * rename して新しい参照から見えなくし、その後に更新日時を確かめる。割り込まれていれば元の位置へ戻す。
+     * rename 後に届いたアップロードは実体がないものとして自分で配置し直す。</p>
+     *
+     * @return 削除した場合 true
+     */
+    public boolean deleteIfModifiedBefore(String hash, Instant cutoff) {
+        Path target = resolve(hash);
+        Path trashed = tempDir.resolve("gc-" + hash + "-" + UUID.randomUUID());
+        try {
+            Files.move(target, trashed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("ブロブを削除できません: {}", hash, e);
+            return false;
+        }
+        try {
+            if (!modifiedBefore(trashed, cutoff)) {
+                // 並行するアップロードが再利用した。内容は同じなので、既に配置し直されていても上書きしてよい
+                Files.move(trashed, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                return false;
+            }
+            Files.delete(trashed);
+            return true;
+        } catch (IOException e) {
+            log.warn("ブロブを削除できません: {}", hash, e);
+            return false;
+        }
+    }
+
+    /**
+     * 異常終了などで残った一時ファイルを削除する
+     *
+     * @return 削除した件数
+     */
+    public int purgeTemporaryFiles(Instant cutoff) {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            List<Path> stale = files.filter(path -> modifiedBefore(path, cutoff)).toList();
+            stale.forEach(BlobStore::deleteQuietly);
+            return stale.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 一時ファイルを内容アドレスの位置へ移す
+     *
+     * @return 同じ内容が既に保存済みだった場合 true
+     */
+    private boolean publish(Path temp, String hash) throws IOException {
+        Path target = resolve(hash);
+        try {
+            // 削除ジョブの猶予期間の判定に使うため、参照が増えたブロブは更新日時を進める
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            // 未保存、または削除ジョブが退避した直後
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return false;
+        } catch (FileAlreadyExistsException e) {
+            // 同じ内容が並行してアップロードされた
+            return true;
+        }
+    }
+
+    /**
+     * 先頭バイト (マジックナンバー) から画像形式を判定する
+     *
+     * @return 許可された画像形式でなければ null
+     */
+    static String sniff(byte[] header) {
+        if (startsWith(header, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (startsWith(header, 0, 'G', 'I', 'F', '8') && header.length >= 6
+                && (header[4] == '7' || header[4] == '9') && header[5] == 'a') {
+            return "image/gif";
+        }
+        if (startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'E', 'B', 'P')) {
+            return "image/webp";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, int offset, int... expected) {
+        if (data.length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((data[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean modifiedBefore(Path path, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("一時ファイルを削除できません: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.skillbridge.lms.storage;
+
+/**
+ * 内容アドレスで保存したブロブ
+ *
+ * @param hash        内容の SHA-256 (16進小文字)
+ * @param size        バイト数
+ * @param contentType 先頭バイトから判定した Content-Type
+ * @param deduplicated 同じ内容のブロブが既にあり、新たに書き込まなかった場合 true
+ */
+public record StoredBlob(String hash, long size, String contentType, boolean deduplicated) {
+}
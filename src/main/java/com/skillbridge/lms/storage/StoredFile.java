@@ -0,0 +1,15 @@
+package com.skillbridge.lms.storage;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * 配信用に保持するアップロード済みファイルのメタデータ
+ *
+ * <p>保存ファイル名は一意で内容は変更されないため、ファイル名をそのまま強い ETag として使う。</p>
+ *
+ * @param etag 引用符なしの ETag
+ */
+public record StoredFile(String filename, Path path, long size, Instant lastModified, String contentType,
+                         String etag) {
+}
@@ -0,0 +1,12 @@
+-- V14: 受講登録数の日次集計テーブル
+
+CREATE TABLE enrollment_daily_stats (
+    stat_date DATE PRIMARY KEY,
+    enrollment_count BIGINT NOT NULL DEFAULT 0
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 既存の受講登録から初期集計を作成
+INSERT INTO enrollment_daily_stats (stat_date, enrollment_count)
+SELECT CAST(enrolled_at AS DATE), COUNT(*)
+FROM enrollments
+GROUP BY CAST(enrolled_at AS DATE);
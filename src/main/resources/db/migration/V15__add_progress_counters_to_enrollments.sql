@@ -0,0 +1,16 @@
+-- V15: 受講登録に進捗カウンタを追加
+
+ALTER TABLE enrollments
+    ADD COLUMN completed_lessons INT NOT NULL DEFAULT 0,
+    ADD COLUMN total_published_lessons INT NOT NULL DEFAULT 0;
+
+-- 既存の受講登録のカウンタを初期化
+UPDATE enrollments e
+SET total_published_lessons = (
+        SELECT COUNT(*) FROM lessons l
+        WHERE l.course_id = e.course_id AND l.published = TRUE),
+    completed_lessons = (
+        SELECT COUNT(*) FROM lesson_progress lp
+        JOIN lessons l ON l.id = lp.lesson_id
+        WHERE lp.user_id = e.user_id AND l.course_id = e.course_id
+          AND l.published = TRUE AND lp.completed = TRUE);
@@ -0,0 +1,13 @@
+-- V16: 監査ログのキーセットページング用複合インデックス
+-- 各フィルタの等価条件 + created_at の順で並べ、(created_at, id) の降順走査を範囲検索で行う。
+-- InnoDB のセカンダリインデックスは末尾に主キー (id) を持つため、id は明示しない。
+-- user_id は選択性が高いため (user_id, created_at) で他フィルタとの組み合わせも賄う。
+
+ALTER TABLE audit_logs
+    DROP INDEX idx_audit_logs_user_id,
+    DROP INDEX idx_audit_logs_action,
+    DROP INDEX idx_audit_logs_entity_type,
+    ADD INDEX idx_audit_logs_user_created (user_id, created_at),
+    ADD INDEX idx_audit_logs_action_created (action, created_at),
+    ADD INDEX idx_audit_logs_entity_type_created (entity_type, created_at),
+    ADD INDEX idx_audit_logs_entity_type_action_created (entity_type, action, created_at);
@@ -0,0 +1,3 @@
+-- V17: ロール絞り込み + ID 降順のキーセットページング用インデックス
+
+CREATE INDEX idx_users_role ON users (role);
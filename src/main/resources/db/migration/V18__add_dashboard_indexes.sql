@@ -0,0 +1,6 @@
+-- V18: 受講者ダッシュボード用インデックス
+-- 未提出課題のアンチジョイン (NOT EXISTS) をインデックスのみで判定する
+CREATE INDEX idx_task_submissions_user_task_status ON task_submissions (user_id, task_id, status);
+
+-- 受講中コースを新しい順に取得する
+CREATE INDEX idx_enrollments_user_status_enrolled ON enrollments (user_id, status, enrolled_at);
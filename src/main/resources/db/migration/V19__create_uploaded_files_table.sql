@@ -0,0 +1,13 @@
+-- V19: アップロードファイルのメタデータ
+-- 実体は内容の SHA-256 をファイル名とするブロブとして 1 つだけ保存し、アップロードごとの行がそれを参照する。
+-- 参照する行がなくなったブロブは定期ジョブで削除するため、content_hash で逆引きできるようにする。
+
+CREATE TABLE uploaded_files (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL,
+    content_type VARCHAR(50) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    original_filename VARCHAR(255),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_uploaded_files_content_hash (content_hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
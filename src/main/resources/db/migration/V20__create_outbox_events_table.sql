@@ -0,0 +1,17 @@
+-- V20: トランザクショナルアウトボックス
+-- 業務データと同じトランザクションでイベントを書き込み、コミット後にワーカーが処理する。
+-- available_at は処理可能になる時刻で、取得時に処理中のリース期限・失敗時に再試行時刻として進める。
+-- 未処理イベントの取得は (status, available_at) の範囲検索で行う。
+
+CREATE TABLE outbox_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    available_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    processed_at DATETIME(6),
+    last_error VARCHAR(1000),
+    INDEX idx_outbox_events_status_available (status, available_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,8 @@
+-- V21: 通知フィードのキーセットページング用複合インデックス
+-- (user_id, created_at) と未読絞り込み用の (user_id, is_read, created_at) で、(created_at, id) の降順・昇順走査を範囲検索で行う。
+-- 既存の単一列・2列インデックスは新しいインデックスの先頭列で賄えるため置き換える (未読数の集計・一括既読化も同様)。
+ALTER TABLE notifications
+    DROP INDEX idx_notifications_user_id,
+    DROP INDEX idx_notifications_user_read,
+    ADD INDEX idx_notifications_user_created (user_id, created_at),
+    ADD INDEX idx_notifications_user_read_created (user_id, is_read, created_at);
@@ -0,0 +1,3 @@
+-- V22: アクセストークン失効用のバージョン番号
+-- ロール変更・無効化・パスワード再設定で加算し、トークンの ver クレームと一致しないトークンを拒否する
+ALTER TABLE users ADD COLUMN token_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- V23: 検索インデックスの差分取り込み用
+-- 各ノードが前回の読み込み以降に更新されたコース・ユーザーを updated_at で定期的に読み直す
+CREATE INDEX idx_courses_updated_at ON courses (updated_at);
+CREATE INDEX idx_users_updated_at ON users (updated_at);
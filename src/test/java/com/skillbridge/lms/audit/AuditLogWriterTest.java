@@ -0,0 +1,201 @@
+package com.skillbridge.lms.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditLogWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Integer> writtenBatchSizes;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        writtenBatchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(eq(AuditLogWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<AuditEvent> events = invocation.getArgument(1);
+                    synchronized (writtenBatchSizes) {
+                        writtenBatchSizes.add(events.size());
+                    }
+                    return new int[0][];
+                });
+    }
+
+    @Test
+    @DisplayName("submit - 非同期モード - 停止時にキューを書き切りバッチでINSERT")
+    void submit_async_drainsOnShutdown() throws Exception {
+        // Given
+        AuditLogWriter writer = writer("async", false, 500, 50);
+        writer.start();
+
+        // When
+        for (int i = 0; i < 120; i++) {
+            writer.submit(event(i));
+        }
+        writer.stop();
+
+        // Then
+        assertThat(writtenBatchSizes).allMatch(size -> size <= 50);
+        assertThat(writtenBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(120);
+        assertThat(writer.pendingCount()).isZero();
+        assertThat(count("written")).isEqualTo(120);
+        assertThat(count("dropped")).isZero();
+    }
+
+    @Test
+    @DisplayName("submit - キュー満杯 - 破棄して破棄カウンタを加算")
+    @SuppressWarnings("unchecked")
+    void submit_queueFull_dropsEvent() {
+        // Given (書き込みスレッドを起動しない)
+        AuditLogWriter writer = writer("async", false, 2, 50);
+
+        // When
+        writer.submit(event(1));
+        writer.submit(event(2));
+        writer.submit(event(3));
+
+        // Then
+        assertThat(writer.pendingCount()).isEqualTo(2);
+        assertThat(count("enqueued")).isEqualTo(2);
+        assertThat(count("dropped")).isEqualTo(1);
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("submit - キュー満杯かつ同期フォールバック有効 - 呼び出し元で書き込む")
+    void submit_queueFull_syncFallback() {
+        // Given
+        AuditLogWriter writer = writer("async", true, 1, 50);
+
+        // When
+        writer.submit(event(1));
+        writer.submit(event(2));
+
+        // Then
+        assertThat(writtenBatchSizes).containsExactly(1);
+        assertThat(count("dropped")).isZero();
+    }
+
+    @Test
+    @DisplayName("submit - 同期モード - 即座に書き込む")
+    @SuppressWarnings("unchecked")
+    void submit_syncMode_writesImmediately() {
+        // Given
+        AuditLogWriter writer = writer("sync", false, 10, 50);
+        writer.start();
+
+        // When
+        writer.submit(event(1));
+
+        // Then
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(AuditLogWriter.INSERT_SQL), any(Collection.class),
+                eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("submit - 同期モードで書き込み失敗 - 例外を呼び出し元へ投げる")
+    @SuppressWarnings("unchecked")
+    void submit_syncModeFailure_throws() {
+        // Given
+        AuditLogWriter writer = writer("sync", false, 10, 50);
+        when(jdbcTemplate.batchUpdate(eq(AuditLogWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // When & Then
+        assertThatThrownBy(() -> writer.submit(event(1)))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(count("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("writeBatch - 一時的な失敗 - 再試行してバッチ全体を書き込む")
+    @SuppressWarnings("unchecked")
+    void writeBatch_transientFailure_retriesWholeBatch() {
+        // Given
+        AuditLogWriter writer = writer("async", false, 10, 50);
+        when(jdbcTemplate.batchUpdate(eq(AuditLogWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenReturn(new int[0][]);
+
+        // When
+        writer.writeBatch(List.of(event(1), event(2), event(3)));
+
+        // Then
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(AuditLogWriter.INSERT_SQL), any(Collection.class),
+                eq(3), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(count("written")).isEqualTo(3);
+        assertThat(count("failed")).isZero();
+    }
+
+    @Test
+    @DisplayName("writeBatch - 書き込めない行を含む - 分割してその行だけを失敗として数える")
+    @SuppressWarnings("unchecked")
+    void writeBatch_badRow_isolatesFailure() {
+        // Given
+        AuditLogWriter writer = writer("async", false, 10, 50);
+        when(jdbcTemplate.batchUpdate(eq(AuditLogWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<AuditEvent> events = invocation.getArgument(1);
+                    if (events.stream().anyMatch(event -> event.entityId() == 3L)) {
+                        throw new DataIntegrityViolationException("value too long");
+                    }
+                    return new int[0][];
+                });
+        List<AuditEvent> events = new ArrayList<>();
+        for (long i = 1; i <= 8; i++) {
+            events.add(event(i));
+        }
+
+        // When
+        writer.writeBatch(events);
+
+        // Then
+        assertThat(count("written")).isEqualTo(7);
+        assertThat(count("failed")).isEqualTo(1);
+    }
+
+    private AuditLogWriter writer(String mode, boolean syncOnOverflow, int capacity, int batchSize) {
+        return new AuditLogWriter(jdbcTemplate, meterRegistry, mode, syncOnOverflow, capacity, batchSize,
+                20, 0, 5_000, 3, 0);
+    }
+
+    private AuditEvent event(long entityId) {
+        return AuditEvent.of(1L, "UPDATE", "COURSE", entityId, "CourseService.updateCourse", "127.0.0.1");
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("audit.log.events", "result", result).count();
+    }
+}
@@ -0,0 +1,153 @@
+package com.skillbridge.lms.certificate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+
+import com.skillbridge.lms.event.CertificateIssuedEvent;
+import com.skillbridge.lms.repository.CertificateRepository;
+import com.skillbridge.lms.repository.projection.CertificateRenderRow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CertificatePdfCacheTest {
+
+    @TempDir
+    Path storageDir;
+
+    private CertificateRepository certificateRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private CertificatePdfCache cache;
+
+    @BeforeEach
+    void setUp() {
+        certificateRepository = mock(CertificateRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = newCache(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("get - 初回のみ描画して保存し、以降は保存済みファイルを返す")
+    void get_rendersOnceAndReusesFile() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        CertificatePdf first = cache.get("cert-1", () -> {
+            loads.incrementAndGet();
+            return document("cert-1");
+        });
+        CertificatePdf second = cache.get("cert-1", () -> {
+            loads.incrementAndGet();
+            return document("cert-1");
+        });
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(second.path()).isEqualTo(storageDir.resolve("v1").resolve("cert-1.pdf"));
+        assertThat(second.etag()).isEqualTo("cert-1-v1");
+        assertThat(second.size()).isEqualTo(first.size());
+        assertThat(new String(Files.readAllBytes(second.path()), 0, 4)).isEqualTo("%PDF");
+        assertThat(meterRegistry.get("certificate.pdf.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("certificate.pdf.render").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onCertificateIssued - 発行された証明書をバックグラウンドで描画")
+    void onCertificateIssued_rendersInBackground() throws Exception {
+        // When
+        cache.onCertificateIssued(new CertificateIssuedEvent(document("cert-2")));
+
+        // Then
+        Path pdf = storageDir.resolve("v1").resolve("cert-2.pdf");
+        for (int i = 0; i < 100 && !Files.exists(pdf); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(pdf).exists();
+        assertThat(meterRegistry.get("certificate.pdf.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("regenerateAll - テンプレートの版を上げると全証明書を描画し直し、古い版を削除")
+    void regenerateAll_newTemplateVersion_rendersAllAndDeletesOldVersion() {
+        // Given
+        cache.get("cert-1", () -> document("cert-1"));
+        cache.shutdown();
+        cache = newCache(2);
+        CertificateRenderRow first = row(1L, "cert-1");
+        CertificateRenderRow second = row(2L, "cert-3");
+        when(certificateRepository.findRenderRowsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+
+        // When
+        int rendered = cache.regenerateAll();
+
+        // Then
+        assertThat(rendered).isEqualTo(2);
+        assertThat(storageDir.resolve("v2").resolve("cert-1.pdf")).exists();
+        assertThat(storageDir.resolve("v2").resolve("cert-3.pdf")).exists();
+        assertThat(storageDir.resolve("v2").resolve(".complete")).exists();
+        assertThat(storageDir.resolve("v1")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("get - 新しい版のノードが古い版のディレクトリを削除した後 - ディレクトリを作り直して描画")
+    void get_versionDirDeletedByNewerNode_recreatesDirectory() throws Exception {
+        // Given
+        cache.get("cert-1", () -> document("cert-1"));
+        CertificatePdfCache newer = newCache(2);
+        CertificateRenderRow issued = row(1L, "cert-1");
+        when(certificateRepository.findRenderRowsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(issued));
+        newer.regenerateAll();
+        newer.shutdown();
+
+        // When
+        CertificatePdf pdf = cache.get("cert-4", () -> document("cert-4"));
+
+        // Then
+        assertThat(pdf.path()).isEqualTo(storageDir.resolve("v1").resolve("cert-4.pdf"));
+        assertThat(pdf.path()).exists();
+    }
+
+    private CertificatePdfCache newCache(int templateVersion) {
+        return new CertificatePdfCache(new CertificatePdfRenderer(), certificateRepository, meterRegistry,
+                storageDir.toString(), templateVersion, 2, 10, false);
+    }
+
+    private static CertificateDocument document(String certificateNumber) {
+        return new CertificateDocument(certificateNumber, "testuser", "Test Course",
+                LocalDateTime.of(2025, 4, 1, 10, 0));
+    }
+
+    private static CertificateRenderRow row(Long id, String certificateNumber) {
+        CertificateRenderRow row = mock(CertificateRenderRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getCertificateNumber()).thenReturn(certificateNumber);
+        when(row.getUserName()).thenReturn("testuser");
+        when(row.getCourseTitle()).thenReturn("Test Course");
+        when(row.getIssuedAt()).thenReturn(LocalDateTime.of(2025, 4, 1, 10, 0));
+        return row;
+    }
+}
@@ -0,0 +1,95 @@
+package com.skillbridge.lms.certificate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+
+class CertificatePdfRendererTest {
+
+    private final CertificatePdfRenderer renderer = new CertificatePdfRenderer(2);
+
+    @AfterEach
+    void tearDown() {
+        renderer.shutdown();
+    }
+
+    @Test
+    @DisplayName("render - テンプレートの固定文言と証明書ごとの項目を描画")
+    void render_containsTemplateAndFields() throws Exception {
+        // When
+        byte[] pdf = renderer.render(document("cert-1", "Taro Yamada"));
+
+        // Then
+        String text = extractText(pdf);
+        assertThat(text).contains("Certificate of Completion", "Taro Yamada", "Spring Boot Basics",
+                "Date: 2026/04/01", "Certificate No: cert-1");
+    }
+
+    @Test
+    @DisplayName("render - 連続して描画しても前回の内容が混ざらない")
+    void render_reusesBuffersWithoutLeakingContent() throws Exception {
+        // Given
+        renderer.render(document("cert-long", "A Very Long Learner Name ".repeat(10)));
+
+        // When
+        byte[] pdf = renderer.render(document("cert-2", "Hanako"));
+
+        // Then
+        String text = extractText(pdf);
+        assertThat(text).contains("Hanako", "cert-2").doesNotContain("cert-long");
+    }
+
+    @Test
+    @DisplayName("renderZip - 指定順のまま全証明書をZIPへ書き出す")
+    void renderZip_writesEntriesInOrder() throws Exception {
+        // Given
+        List<CertificateDocument> certificates = IntStream.range(0, 10)
+                .mapToObj(i -> document("cert-" + i, "Learner " + i))
+                .toList();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        renderer.renderZip(certificates, out);
+
+        // Then
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+                String text = extractText(zip.readAllBytes());
+                assertThat(text).contains("Learner " + (names.size() - 1));
+            }
+        }
+        assertThat(names).containsExactlyElementsOf(IntStream.range(0, 10)
+                .mapToObj(i -> "certificate-cert-" + i + ".pdf")
+                .toList());
+    }
+
+    private static String extractText(byte[] pdf) throws Exception {
+        PdfReader reader = new PdfReader(pdf);
+        try {
+            return new PdfTextExtractor(reader).getTextFromPage(1);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static CertificateDocument document(String number, String userName) {
+        return new CertificateDocument(number, userName, "Spring Boot Basics", LocalDateTime.of(2026, 4, 1, 10, 0));
+    }
+}
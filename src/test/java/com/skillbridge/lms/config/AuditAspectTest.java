@@ -0,0 +1,87 @@
+package com.skillbridge.lms.config;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.skillbridge.lms.dto.response.CourseResponse;
+import com.skillbridge.lms.dto.response.MessageResponse;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.service.AuditLogService;
+import com.skillbridge.lms.service.CourseService;
+
+class AuditAspectTest {
+
+    private AuditLogService auditLogService;
+    private AuditAspect auditAspect;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        auditLogService = mock(AuditLogService.class);
+        auditAspect = new AuditAspect(auditLogService, mock(UserRepository.class));
+    }
+
+    @Test
+    @DisplayName("auditAdminAction - 戻り値に getId() がある - 戻り値のIDを記録")
+    void auditAdminAction_resultWithId_logsResultId() {
+        // Given
+        CourseResponse result = CourseResponse.builder().id(42L).build();
+
+        // When
+        auditAspect.auditAdminAction(joinPoint("createCourse", new Object()), result);
+
+        // Then
+        verify(auditLogService).log(null, "CREATE", "COURSE", 42L, "CourseService.createCourse", null);
+    }
+
+    @Test
+    @DisplayName("auditAdminAction - 戻り値なし - 先頭の Long 引数をIDとして記録")
+    void auditAdminAction_noResult_logsIdArgument() {
+        // When
+        auditAspect.auditAdminAction(joinPoint("deleteCourse", 7L), null);
+
+        // Then
+        verify(auditLogService).log(null, "DELETE", "COURSE", 7L, "CourseService.deleteCourse", null);
+    }
+
+    @Test
+    @DisplayName("auditAdminAction - 戻り値のIDが null - 先頭の Long 引数をIDとして記録")
+    void auditAdminAction_resultIdNull_fallsBackToIdArgument() {
+        // Given
+        CourseResponse result = CourseResponse.builder().build();
+
+        // When
+        auditAspect.auditAdminAction(joinPoint("updateCourse", 9L, new Object()), result);
+
+        // Then
+        verify(auditLogService).log(null, "UPDATE", "COURSE", 9L, "CourseService.updateCourse", null);
+    }
+
+    @Test
+    @DisplayName("auditAdminAction - 戻り値にも引数にもIDがない - IDなしで記録")
+    void auditAdminAction_noIdAvailable_logsNullId() {
+        // When
+        auditAspect.auditAdminAction(joinPoint("updateCourse", "keyword"), new MessageResponse("OK"));
+
+        // Then
+        verify(auditLogService).log(null, "UPDATE", "COURSE", null, "CourseService.updateCourse", null);
+    }
+
+    private static JoinPoint joinPoint(String methodName, Object... args) {
+        JoinPoint joinPoint = mock(JoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(signature.getName()).thenReturn(methodName);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(mock(CourseService.class));
+        when(joinPoint.getArgs()).thenReturn(args);
+        return joinPoint;
+    }
+}
@@ -1,17 +1,27 @@
 package com.skillbridge.lms.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.skillbridge.lms.ratelimit.InMemoryRateLimitBackend;
+import com.skillbridge.lms.ratelimit.RateLimitPolicyResolver;
+import com.skillbridge.lms.ratelimit.RateLimitProperties;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -22,7 +32,16 @@ class RateLimitFilterTest {
 
     @BeforeEach
     void setUp() {
-        rateLimitFilter = new RateLimitFilter();
+        RateLimitProperties.Rule authRule = new RateLimitProperties.Rule();
+        authRule.setName("auth");
+        authRule.setPaths(List.of("/api/auth/login"));
+        authRule.setCapacity(5);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(authRule));
+
+        rateLimitFilter = new RateLimitFilter(
+                new InMemoryRateLimitBackend(1_000, Duration.ofMinutes(10)),
+                new RateLimitPolicyResolver(properties));
     }
 
     @Test
@@ -37,6 +56,7 @@ class RateLimitFilterTest {
         rateLimitFilter.doFilterInternal(request, response, chain);
 
         verify(chain).doFilter(request, response);
+        verifyNoInteractions(response);
     }
 
     @Test
@@ -56,19 +76,25 @@ class RateLimitFilterTest {
     }
 
     @Test
-    @DisplayName("X-Forwarded-For ヘッダーからIPを取得")
-    void xForwardedFor_usedForIp() throws Exception {
+    @DisplayName("X-Forwarded-For を変えても接続元IP単位で制限される")
+    void xForwardedFor_rotated_stillLimitedByRemoteAddr() throws Exception {
         HttpServletRequest request = mock(HttpServletRequest.class);
         HttpServletResponse response = mock(HttpServletResponse.class);
         FilterChain chain = mock(FilterChain.class);
 
-        when(request.getMethod()).thenReturn("GET");
-        when(request.getHeader("X-Forwarded-For")).thenReturn("192.168.1.1, 10.0.0.1");
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/api/auth/login");
+        when(request.getRemoteAddr()).thenReturn("10.30.40.50");
+        when(request.getHeader("X-Forwarded-For")).thenReturn("192.168.1.1", "192.168.1.2", "192.168.1.3",
+                "192.168.1.4", "192.168.1.5", "192.168.1.6");
+        when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
 
-        rateLimitFilter.doFilterInternal(request, response, chain);
+        for (int i = 0; i < 6; i++) {
+            rateLimitFilter.doFilterInternal(request, response, chain);
+        }
 
-        verify(response).setHeader("X-RateLimit-Limit", "60");
-        verify(chain).doFilter(request, response);
+        verify(chain, times(5)).doFilter(request, response);
+        verify(response).setStatus(429);
     }
 
     @Test
@@ -90,5 +116,28 @@ class RateLimitFilterTest {
         }
 
         verify(response).setStatus(429);
+        verify(response).setHeader(eq("Retry-After"), anyString());
+        assertThat(sw.toString()).contains("リクエスト数の制限を超えました");
+    }
+
+    @Test
+    @DisplayName("認証エンドポイントは個別の厳しい上限が適用される")
+    void authEndpoint_usesTighterPolicy() throws Exception {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain chain = mock(FilterChain.class);
+
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/api/auth/login");
+        when(request.getRemoteAddr()).thenReturn("10.20.30.40");
+        when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+
+        for (int i = 0; i < 6; i++) {
+            rateLimitFilter.doFilterInternal(request, response, chain);
+        }
+
+        verify(response, times(6)).setHeader("X-RateLimit-Limit", "5");
+        verify(chain, times(5)).doFilter(request, response);
+        verify(response).setStatus(429);
     }
 }
@@ -55,7 +55,7 @@ class SecurityConfigTest {
                 .enabled(true)
                 .build();
         userRepository.save(admin);
-        adminToken = tokenProvider.generateAccessToken("sec-admin@example.com");
+        adminToken = tokenProvider.generateAccessToken(admin);
 
         // Create LEARNER user
         User learner = User.builder()
@@ -66,7 +66,7 @@ class SecurityConfigTest {
                 .enabled(true)
                 .build();
         userRepository.save(learner);
-        learnerToken = tokenProvider.generateAccessToken("sec-learner@example.com");
+        learnerToken = tokenProvider.generateAccessToken(learner);
     }
 
     @Test
@@ -0,0 +1,224 @@
+package com.skillbridge.lms.content;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.skillbridge.lms.repository.LessonRepository;
+import com.skillbridge.lms.repository.projection.LessonKeyRow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LessonContentCacheTest {
+
+    @TempDir
+    Path baseDir;
+
+    private LessonRepository lessonRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private LessonContentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lessonRepository = mock(LessonRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = newCache(DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("get - 2回目はファイルを読まずキャッシュから返す")
+    void get_cachesContent() throws Exception {
+        // Given
+        Path file = write(1L, 10L, "# こんにちは");
+        Instant modifiedAt = Files.getLastModifiedTime(file).toInstant();
+
+        // When
+        LessonContent first = cache.get(1L, 10L);
+        Files.writeString(file, "# changed");
+        LessonContent second = cache.get(1L, 10L);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.text()).isEqualTo("# こんにちは");
+        assertThat(first.bytes()).isEqualTo("# こんにちは".getBytes(StandardCharsets.UTF_8).length);
+        assertThat(cache.residentBytes()).isEqualTo(first.bytes());
+        assertThat(first.sha256()).isEqualTo(HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest("# こんにちは".getBytes(StandardCharsets.UTF_8))));
+        assertThat(first.lastModified()).isEqualTo(modifiedAt);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "lesson-content").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("get - 存在しないファイルは null でキャッシュしない")
+    void get_missingFile_returnsNull() throws IOException {
+        assertThat(cache.get(1L, 99L)).isNull();
+
+        write(1L, 99L, "created later");
+
+        assertThat(cache.get(1L, 99L).text()).isEqualTo("created later");
+    }
+
+    @Test
+    @DisplayName("get - 同じファイルへの同時アクセスでは1回だけ読み込み、同じ内容を返す")
+    void get_concurrentCalls_loadOnce() throws Exception {
+        // Given
+        write(1L, 10L, "# concurrent");
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<LessonContent>> calls = Collections.nCopies(16, () -> {
+            start.await();
+            return cache.get(1L, 10L);
+        });
+
+        // When
+        List<Future<LessonContent>> results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            List<Future<LessonContent>> submitted = calls.stream().map(executor::submit).toList();
+            start.countDown();
+            results = submitted;
+        }
+
+        // Then
+        LessonContent first = results.get(0).get();
+        for (Future<LessonContent> result : results) {
+            assertThat(result.get()).isSameAs(first);
+        }
+    }
+
+    @Test
+    @DisplayName("invalidate - ディレクトリ指定で配下のエントリを破棄")
+    void invalidate_directory_removesEntriesBelow() throws IOException {
+        // Given
+        Path file = write(2L, 1L, "v1");
+        cache.get(2L, 1L);
+        Files.writeString(file, "v2");
+
+        // When
+        cache.invalidate(baseDir.resolve("courses/2"));
+
+        // Then
+        assertThat(cache.get(2L, 1L).text()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("warmUp - 公開レッスンを上限バイト数まで読み込む")
+    void warmUp_loadsUntilCapacity() throws IOException {
+        // Given
+        cache = newCache(DataSize.ofBytes(1500));
+        for (long id = 1; id <= 3; id++) {
+            write(1L, id, "x".repeat(1000));
+        }
+        when(lessonRepository.findPublishedLessonKeys()).thenReturn(List.of(key(1L, 1L), key(1L, 2L), key(1L, 3L)));
+
+        // When
+        int loaded = cache.warmUp();
+
+        // Then
+        assertThat(loaded).isEqualTo(1);
+        assertThat(cache.residentBytes()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("ContentFileWatcher - ファイル更新を検知してキャッシュを破棄")
+    void watcher_invalidatesModifiedFile() throws Exception {
+        // Given
+        Path file = write(3L, 1L, "before");
+        cache.get(3L, 1L);
+        ContentFileWatcher watcher = new ContentFileWatcher(cache, true);
+        watcher.start();
+        try {
+            // When
+            Files.writeString(file, "after");
+            write(4L, 1L, "new course");
+
+            // Then
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!"after".equals(cache.get(3L, 1L).text()) && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(cache.get(3L, 1L).text()).isEqualTo("after");
+            assertThat(cache.get(4L, 1L).text()).isEqualTo("new course");
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("ContentFileWatcher - 起動時にディレクトリがない - 作成して監視する")
+    void watcher_missingRoot_createsAndWatches() throws Exception {
+        // Given
+        Path root = baseDir.resolve("missing");
+        LessonContentCache missingRootCache = new LessonContentCache(lessonRepository, meterRegistry,
+                root.toString(), DataSize.ofMegabytes(1), Duration.ofHours(1), false);
+        ContentFileWatcher watcher = new ContentFileWatcher(missingRootCache, true);
+        watcher.start();
+        try {
+            Path file = root.resolve("courses/5/lessons/1.md");
+            Files.createDirectories(file.getParent());
+            // 新しいディレクトリの登録は監視スレッドが作成イベントを受けてから行う
+            Thread.sleep(500);
+            Files.writeString(file, "before");
+            assertThat(missingRootCache.get(5L, 1L).text()).isEqualTo("before");
+
+            // When
+            Files.writeString(file, "after");
+
+            // Then
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!"after".equals(missingRootCache.get(5L, 1L).text()) && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(Files.isDirectory(root)).isTrue();
+            assertThat(missingRootCache.get(5L, 1L).text()).isEqualTo("after");
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    private LessonContentCache newCache(DataSize maximumSize) {
+        return new LessonContentCache(lessonRepository, meterRegistry, baseDir.toString(), maximumSize,
+                Duration.ofHours(1), false);
+    }
+
+    private Path write(Long courseId, Long lessonId, String text) throws IOException {
+        Path file = baseDir.resolve("courses/" + courseId + "/lessons/" + lessonId + ".md");
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, text);
+    }
+
+    private static LessonKeyRow key(Long courseId, Long lessonId) {
+        return new LessonKeyRow() {
+            @Override
+            public Long getCourseId() {
+                return courseId;
+            }
+
+            @Override
+            public Long getLessonId() {
+                return lessonId;
+            }
+        };
+    }
+}
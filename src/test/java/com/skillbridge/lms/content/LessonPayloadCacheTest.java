@@ -0,0 +1,71 @@
+package com.skillbridge.lms.content;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LessonPayloadCacheTest {
+
+    private LessonPayloadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LessonPayloadCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), DataSize.ofBytes(256));
+    }
+
+    @Test
+    @DisplayName("get - 初回のみシリアライズし、gzip版を事前に作成")
+    void get_serializesOnceAndCompresses() throws Exception {
+        // Given
+        byte[] json = ("{\"content\":\"" + "markdown ".repeat(200) + "\"}").getBytes(StandardCharsets.UTF_8);
+        AtomicInteger serializations = new AtomicInteger();
+
+        // When
+        LessonPayload first = cache.get("etag-1", () -> {
+            serializations.incrementAndGet();
+            return json;
+        });
+        LessonPayload second = cache.get("etag-1", () -> {
+            serializations.incrementAndGet();
+            return json;
+        });
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(serializations).hasValue(1);
+        assertThat(first.resolve(ContentEncoding.GZIP)).isEqualTo(ContentEncoding.GZIP);
+        assertThat(first.gzip().length).isLessThan(json.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(json);
+        }
+    }
+
+    @Test
+    @DisplayName("encode - 小さいレスポンスは圧縮せず無圧縮にフォールバック")
+    void encode_smallPayload_identityOnly() {
+        LessonPayload payload = cache.encode("{}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(payload.gzip()).isNull();
+        assertThat(payload.resolve(ContentEncoding.GZIP)).isEqualTo(ContentEncoding.IDENTITY);
+    }
+
+    @Test
+    @DisplayName("negotiate - Accept-Encodingのq値を考慮して選択")
+    void negotiate_honorsQualityValues() {
+        assertThat(ContentEncoding.negotiate(null)).isEqualTo(ContentEncoding.IDENTITY);
+        assertThat(ContentEncoding.negotiate("gzip, deflate, br")).isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("br;q=1.0, gzip;q=0")).isEqualTo(ContentEncoding.IDENTITY);
+        assertThat(ContentEncoding.negotiate("*;q=0.5")).isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("identity")).isEqualTo(ContentEncoding.IDENTITY);
+    }
+}
@@ -0,0 +1,63 @@
+package com.skillbridge.lms.content;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SimpleMarkdownRendererTest {
+
+    private final SimpleMarkdownRenderer renderer = new SimpleMarkdownRenderer();
+
+    @Test
+    @DisplayName("render - 見出し・段落・リスト・コードブロックを変換")
+    void render_blocks() {
+        String html = renderer.render("""
+                # はじめに
+
+                これは **重要** な *説明* です。
+                `List<String>` を使います。
+
+                - one
+                - two
+
+                1. first
+
+                ```java
+                if (a < b) {}
+                ```
+                > 引用
+                ---
+                """);
+
+        assertThat(html).isEqualTo("""
+                <h1>はじめに</h1>
+                <p>これは <strong>重要</strong> な <em>説明</em> です。
+                <code>List&lt;String&gt;</code> を使います。</p>
+                <ul>
+                <li>one</li>
+                <li>two</li>
+                </ul>
+                <ol>
+                <li>first</li>
+                </ol>
+                <pre><code class="language-java">if (a &lt; b) {}
+                </code></pre>
+                <blockquote>
+                <p>引用</p>
+                </blockquote>
+                <hr>
+                """);
+    }
+
+    @Test
+    @DisplayName("render - 生のHTMLと危険なリンクを無害化")
+    void render_escapesUnsafeInput() {
+        String html = renderer.render("<script>alert(1)</script> [ok](https://example.com) [bad](javascript:alert(1))");
+
+        assertThat(html).doesNotContain("<script>");
+        assertThat(html).contains("&lt;script&gt;");
+        assertThat(html).contains("<a href=\"https://example.com\">ok</a>");
+        assertThat(html).doesNotContain("javascript:alert");
+    }
+}
@@ -1,15 +1,21 @@
 package com.skillbridge.lms.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -28,6 +34,10 @@ import com.skillbridge.lms.repository.LessonProgressRepository;
 import com.skillbridge.lms.repository.LessonRepository;
 import com.skillbridge.lms.repository.UserRepository;
 import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.AdminProgressService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -59,6 +69,15 @@ class AdminProgressControllerIntegrationTest {
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private AdminProgressService adminProgressService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private String adminToken;
     private String learnerToken;
     private User admin;
@@ -76,7 +95,7 @@ class AdminProgressControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(admin);
-        adminToken = tokenProvider.generateAccessToken("admin@progress.com");
+        adminToken = tokenProvider.generateAccessToken(admin);
 
         learner = User.builder()
                 .email("learner@progress.com")
@@ -86,7 +105,7 @@ class AdminProgressControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(learner);
-        learnerToken = tokenProvider.generateAccessToken("learner@progress.com");
+        learnerToken = tokenProvider.generateAccessToken(learner);
 
         course = Course.builder()
                 .title("Test Course")
@@ -109,6 +128,8 @@ class AdminProgressControllerIntegrationTest {
                 .user(learner)
                 .course(course)
                 .status(EnrollmentStatus.ACTIVE)
+                .completedLessons(1)
+                .totalPublishedLessons(1)
                 .build();
         enrollmentRepository.save(enrollment);
 
@@ -140,6 +161,50 @@ class AdminProgressControllerIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("getUserProgressSummaries - ページサイズに関わらず発行クエリ数が一定")
+    void getUserProgressSummaries_statementCountIndependentOfPageSize() {
+        // Given
+        for (int i = 0; i < 12; i++) {
+            User user = userRepository.save(User.builder()
+                    .email("bulk" + i + "@progress.com")
+                    .password("password")
+                    .username("Bulk" + i)
+                    .role(UserRole.LEARNER)
+                    .enabled(true)
+                    .build());
+            enrollmentRepository.save(Enrollment.builder()
+                    .user(user)
+                    .course(course)
+                    .status(EnrollmentStatus.ACTIVE)
+                    .build());
+            lessonProgressRepository.save(LessonProgress.builder()
+                    .user(user)
+                    .lesson(lesson)
+                    .completed(true)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // When
+        statistics.clear();
+        var smallPage = adminProgressService.getUserProgressSummaries(PageRequest.of(0, 3, Sort.by("id")));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        var largePage = adminProgressService.getUserProgressSummaries(PageRequest.of(0, 10, Sort.by("id")));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(smallPage.getContent()).hasSize(3);
+        assertThat(largePage.getContent()).hasSize(10);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        assertThat(largePageStatements).isLessThanOrEqualTo(5);
+    }
+
     // ===== GET /api/admin/users/{id}/progress =====
 
     @Test
@@ -163,6 +228,39 @@ class AdminProgressControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    // ===== POST /api/admin/progress/reconcile =====
+
+    @Test
+    @DisplayName("POST /api/admin/progress/reconcile - ずれた進捗カウンタを補正 (200)")
+    void reconcileProgress_driftedCounters_fixesEnrollment() throws Exception {
+        // Given
+        Enrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(learner.getId(), course.getId())
+                .orElseThrow();
+        enrollment.setCompletedLessons(0);
+        enrollment.setTotalPublishedLessons(5);
+        enrollmentRepository.saveAndFlush(enrollment);
+
+        // When
+        mockMvc.perform(post("/api/admin/progress/reconcile")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("進捗カウンタを補正しました: 1件"));
+
+        // Then
+        entityManager.clear();
+        Enrollment reconciled = enrollmentRepository.findById(enrollment.getId()).orElseThrow();
+        assertThat(reconciled.getCompletedLessons()).isEqualTo(1);
+        assertThat(reconciled.getTotalPublishedLessons()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/progress/reconcile - LEARNER: 403 Forbidden")
+    void reconcileProgress_asLearner_returns403() throws Exception {
+        mockMvc.perform(post("/api/admin/progress/reconcile")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isForbidden());
+    }
+
     // ===== GET /api/admin/stats =====
 
     @Test
@@ -25,6 +25,7 @@ import com.skillbridge.lms.dto.request.AdminUpdateUserRequest;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.UserRole;
 import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.search.UserSearchService;
 import com.skillbridge.lms.security.JwtTokenProvider;
 
 @SpringBootTest
@@ -48,6 +49,9 @@ class AdminUserControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UserSearchService userSearchService;
+
     private String adminToken;
     private String learnerToken;
     private User admin;
@@ -63,7 +67,7 @@ class AdminUserControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(admin);
-        adminToken = tokenProvider.generateAccessToken("admin@test.com");
+        adminToken = tokenProvider.generateAccessToken(admin);
 
         learner = User.builder()
                 .email("learner@test.com")
@@ -73,7 +77,9 @@ class AdminUserControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(learner);
-        learnerToken = tokenProvider.generateAccessToken("learner@test.com");
+        learnerToken = tokenProvider.generateAccessToken(learner);
+
+        userSearchService.rebuild();
     }
 
     // ===== GET /api/admin/users =====
@@ -106,6 +112,85 @@ class AdminUserControllerIntegrationTest {
                 .andExpect(jsonPath("$.content[0].email").value("admin@test.com"));
     }
 
+    @Test
+    @DisplayName("GET /api/admin/users?keyword= - 登録日時の昇順でページング、総件数を返す")
+    void getUsers_withKeywordAndCreatedAtAsc_pagesInOrder() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            userRepository.save(User.builder()
+                    .email("trainee" + i + "@search.com")
+                    .password("x")
+                    .username("Trainee " + i)
+                    .role(UserRole.LEARNER)
+                    .enabled(true)
+                    .build());
+        }
+        userSearchService.rebuild();
+
+        mockMvc.perform(get("/api/admin/users")
+                        .param("keyword", "ee")
+                        .param("sort", "createdAt,asc")
+                        .param("page", "1")
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].email").value("trainee3@search.com"))
+                .andExpect(jsonPath("$.totalElements").value(3));
+
+        mockMvc.perform(get("/api/admin/users")
+                        .param("keyword", "ee")
+                        .param("sort", "email,asc")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ===== GET /api/admin/users/search =====
+
+    @Test
+    @DisplayName("GET /api/admin/users/search - 部分一致・ロール絞り込み・カーソル (200)")
+    void searchUsers_substringWithRoleAndCursor_returns200() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            userRepository.save(User.builder()
+                    .email("trainee" + i + "@search.com")
+                    .password("x")
+                    .username("Trainee " + i)
+                    .role(UserRole.LEARNER)
+                    .enabled(true)
+                    .build());
+        }
+        userSearchService.rebuild();
+
+        String body = mockMvc.perform(get("/api/admin/users/search")
+                        .param("keyword", "ainee")
+                        .param("role", "LEARNER")
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].email").value("trainee3@search.com"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/admin/users/search")
+                        .param("keyword", "ainee")
+                        .param("role", "LEARNER")
+                        .param("size", "2")
+                        .param("cursor", cursor)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].email").value("trainee1@search.com"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        mockMvc.perform(get("/api/admin/users/search")
+                        .param("keyword", "ainee")
+                        .param("role", "ADMIN")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
     // ===== GET /api/admin/users/{id} =====
 
     @Test
@@ -216,4 +301,60 @@ class AdminUserControllerIntegrationTest {
                         .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("PATCH /api/admin/users/{id}/toggle-enabled - 無効化されたユーザーのトークンは401")
+    void toggleEnabled_disabledUserToken_returns401() throws Exception {
+        mockMvc.perform(patch("/api/admin/users/" + learner.getId() + "/toggle-enabled")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("PUT /api/admin/users/{id} - ロール変更前に発行されたアクセストークンは401")
+    void updateUser_roleChanged_revokesIssuedTokens() throws Exception {
+        // Given
+        String issuedToken = tokenProvider.generateAccessToken(learner);
+        AdminUpdateUserRequest request = new AdminUpdateUserRequest();
+        request.setName(learner.getUsername());
+        request.setRole("INSTRUCTOR");
+
+        // When
+        mockMvc.perform(put("/api/admin/users/" + learner.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/api/users/me/profile")
+                        .header("Authorization", "Bearer " + issuedToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/users/me/profile")
+                        .header("Authorization", "Bearer " + tokenProvider.generateAccessToken(learner)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/admin/users/{id}/toggle-enabled - 無効化後に再度有効化しても無効化前のトークンは401")
+    void toggleEnabled_reEnabled_oldTokenStaysRevoked() throws Exception {
+        // Given
+        String issuedToken = tokenProvider.generateAccessToken(learner);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(patch("/api/admin/users/" + learner.getId() + "/toggle-enabled")
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk());
+        }
+
+        // Then
+        mockMvc.perform(get("/api/users/me/profile")
+                        .header("Authorization", "Bearer " + issuedToken))
+                .andExpect(status().isUnauthorized());
+    }
 }
@@ -0,0 +1,214 @@
+package com.skillbridge.lms.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.Enrollment;
+import com.skillbridge.lms.entity.Review;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentRepository;
+import com.skillbridge.lms.repository.ReviewRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.AnalyticsService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AnalyticsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private String adminToken;
+    private String learnerToken;
+    private Course popular;
+
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.save(User.builder()
+                .email("admin@analytics.com")
+                .password(passwordEncoder.encode("password123"))
+                .username("Admin")
+                .role(UserRole.ADMIN)
+                .enabled(true)
+                .build());
+        adminToken = tokenProvider.generateAccessToken(admin);
+
+        User learner1 = userRepository.save(User.builder()
+                .email("learner1@analytics.com")
+                .password(passwordEncoder.encode("password123"))
+                .username("Learner1")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        learnerToken = tokenProvider.generateAccessToken(learner1);
+
+        User learner2 = userRepository.save(User.builder()
+                .email("learner2@analytics.com")
+                .password(passwordEncoder.encode("password123"))
+                .username("Learner2")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+
+        popular = courseRepository.save(Course.builder()
+                .title("Popular Course")
+                .published(true)
+                .build());
+        courseRepository.save(Course.builder()
+                .title("Empty Course")
+                .published(true)
+                .build());
+
+        enrollmentRepository.save(Enrollment.builder()
+                .user(learner1)
+                .course(popular)
+                .status(EnrollmentStatus.COMPLETED)
+                .build());
+        enrollmentRepository.save(Enrollment.builder()
+                .user(learner2)
+                .course(popular)
+                .status(EnrollmentStatus.ACTIVE)
+                .build());
+
+        reviewRepository.save(Review.builder()
+                .user(learner1)
+                .course(popular)
+                .rating(4)
+                .build());
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/analytics/completions - コースごとの完了率を集計 (200)")
+    void getCompletionStats_asAdmin_returns200() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/completions")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].courseTitle").value("Popular Course"))
+                .andExpect(jsonPath("$[0].totalEnrollments").value(2))
+                .andExpect(jsonPath("$[0].completedEnrollments").value(1))
+                .andExpect(jsonPath("$[0].completionRate").value(50.0))
+                .andExpect(jsonPath("$[1].courseTitle").value("Empty Course"))
+                .andExpect(jsonPath("$[1].totalEnrollments").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/analytics/popular-courses - 受講者数順に平均評価付きで返す (200)")
+    void getPopularCourses_asAdmin_returns200() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/popular-courses")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].courseTitle").value("Popular Course"))
+                .andExpect(jsonPath("$[0].enrollmentCount").value(2))
+                .andExpect(jsonPath("$[0].averageRating").value(4.0))
+                .andExpect(jsonPath("$[1].enrollmentCount").value(0))
+                .andExpect(jsonPath("$[1].averageRating").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/analytics/enrollments/rebuild - 再構築後に推移へ反映 (200)")
+    void rebuildEnrollmentStats_thenTrends_reflectsEnrollments() throws Exception {
+        mockMvc.perform(post("/api/admin/analytics/enrollments/rebuild")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        String today = LocalDate.now().toString();
+        mockMvc.perform(get("/api/admin/analytics/enrollments")
+                        .param("from", today)
+                        .param("to", today)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].date").value(today))
+                .andExpect(jsonPath("$[0].count").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/analytics/enrollments - 無効な集計単位: 400 Bad Request")
+    void getEnrollmentTrends_invalidGranularity_returns400() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/enrollments")
+                        .param("granularity", "year")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/analytics/completions - LEARNER: 403 Forbidden")
+    void getCompletionStats_asLearner_returns403() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/completions")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("exportCsv - 受講登録のないユーザーも含めて1回の走査で出力")
+    void exportCsv_unfiltered_includesUsersWithoutEnrollments() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        analyticsService.exportCsv(out, null, null, null);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertThat(lines[0]).startsWith("User ID,Username,Email");
+        assertThat(lines).anySatisfy(line -> assertThat(line)
+                .contains("Learner1,learner1@analytics.com,LEARNER," + popular.getId() + ",Popular Course,COMPLETED"));
+        assertThat(lines).anySatisfy(line -> assertThat(line).endsWith("Admin,admin@analytics.com,ADMIN,,,,,"));
+    }
+
+    @Test
+    @DisplayName("exportCsv - コース指定時は該当する受講登録のみ出力")
+    void exportCsv_filteredByCourse_onlyMatchingEnrollments() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        analyticsService.exportCsv(out, null, null, popular.getId());
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertThat(lines).hasSize(3);
+        assertThat(lines).noneSatisfy(line -> assertThat(line).contains("admin@analytics.com"));
+    }
+}
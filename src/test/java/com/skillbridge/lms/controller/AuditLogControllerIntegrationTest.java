@@ -0,0 +1,145 @@
+package com.skillbridge.lms.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.lms.entity.AuditLog;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.AuditLogRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AuditLogControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String adminToken;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        admin = User.builder()
+                .email("admin@audit.com")
+                .password(passwordEncoder.encode("password123"))
+                .username("Admin")
+                .role(UserRole.ADMIN)
+                .enabled(true)
+                .build();
+        userRepository.save(admin);
+        adminToken = tokenProvider.generateAccessToken(admin);
+
+        for (int i = 1; i <= 5; i++) {
+            auditLogRepository.save(AuditLog.builder()
+                    .userId(admin.getId())
+                    .action(i % 2 == 0 ? "DELETE" : "UPDATE")
+                    .entityType("COURSE")
+                    .entityId((long) i)
+                    .details("CourseService.updateCourse")
+                    .build());
+        }
+        auditLogRepository.flush();
+
+        // 同一時刻の行を含めて id がタイブレークになることを確認する
+        LocalDateTime sameTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+        entityManager.createNativeQuery("UPDATE audit_logs SET created_at = :t")
+                .setParameter("t", sameTime)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/audit-logs/cursor - カーソルで全件を重複なく辿れる (200)")
+    void getByCursor_walksAllPages() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/admin/audit-logs/cursor")
+                    .header("Authorization", "Bearer " + adminToken)
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode json = objectMapper.readTree(body);
+            json.get("content").forEach(node -> seen.add(node.get("entityId").asLong()));
+            cursor = json.get("hasNext").asBoolean() ? json.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/audit-logs/cursor - フィルタと件数指定 (200)")
+    void getByCursor_withFilterAndTotal() throws Exception {
+        mockMvc.perform(get("/api/admin/audit-logs/cursor")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("action", "UPDATE")
+                        .param("userId", String.valueOf(admin.getId()))
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[0].userName").value("Admin"))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/audit-logs/cursor - 不正なカーソル (400)")
+    void getByCursor_invalidCursor_returns400() throws Exception {
+        mockMvc.perform(get("/api/admin/audit-logs/cursor")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
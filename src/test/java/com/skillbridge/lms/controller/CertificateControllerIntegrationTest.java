@@ -0,0 +1,187 @@
+package com.skillbridge.lms.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.lms.entity.Certificate;
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.CertificateRepository;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.CertificateService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CertificateControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CertificateRepository certificateRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private CertificateService certificateService;
+
+    private Course course;
+    private Certificate certificate;
+    private String learnerToken;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        User learner = userRepository.save(User.builder()
+                .email("learner@certificate.com")
+                .password("password")
+                .username("Learner")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        User admin = userRepository.save(User.builder()
+                .email("admin@certificate.com")
+                .password("password")
+                .username("Admin")
+                .role(UserRole.ADMIN)
+                .enabled(true)
+                .build());
+        course = courseRepository.save(Course.builder()
+                .title("Certified Course")
+                .description("Description")
+                .sortOrder(0)
+                .published(true)
+                .build());
+        certificate = certificateRepository.save(Certificate.builder()
+                .user(learner)
+                .course(course)
+                .certificateNumber(UUID.randomUUID().toString())
+                .build());
+        learnerToken = tokenProvider.generateAccessToken(learner);
+        adminToken = tokenProvider.generateAccessToken(admin);
+    }
+
+    @Test
+    @DisplayName("GET /api/certificates/{id}/pdf - 保存済みPDFをETag付きで返す (200)")
+    void downloadPdf_returnsStoredPdfWithEtag() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/api/certificates/" + certificate.getId() + "/pdf")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + certificate.getCertificateNumber() + "-v2\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+
+        // Then
+        assertThat(new String(result.getResponse().getContentAsByteArray(), 0, 4)).isEqualTo("%PDF");
+    }
+
+    @Test
+    @DisplayName("GET /api/certificates/{id}/pdf - If-None-Match一致で304")
+    void downloadPdf_ifNoneMatch_returnsNotModified() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/certificates/" + certificate.getId() + "/pdf")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/certificates/" + certificate.getId() + "/pdf")
+                        .header("Authorization", "Bearer " + learnerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /api/certificates/courses/{courseId}/archive - ZIPのストリーミングで応答 (200)")
+    void downloadCourseArchive_asAdmin_streamsZip() throws Exception {
+        // When
+        MvcResult started = mockMvc.perform(get("/api/certificates/courses/" + course.getId() + "/archive")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=certificates-course-" + course.getId() + ".zip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(body))) {
+            assertThat(zip.getNextEntry().getName())
+                    .isEqualTo("certificate-" + certificate.getCertificateNumber() + ".pdf");
+            assertThat(zip.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("writeArchive - コースの証明書PDFをZIPへ書き出す")
+    void writeArchive_writesCourseCertificates() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        certificateService.writeArchive(certificateService.getCourseCertificates(course.getId()), out);
+
+        // Then
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertThat(entry.getName()).isEqualTo("certificate-" + certificate.getCertificateNumber() + ".pdf");
+            assertThat(new String(zip.readAllBytes(), 0, 4)).isEqualTo("%PDF");
+            assertThat(zip.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/certificates/courses/{courseId}/archive - 受講者は取得不可 (403)")
+    void downloadCourseArchive_learner_returnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/certificates/courses/" + course.getId() + "/archive")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /api/certificates/courses/{courseId}/archive - 存在しないコースは404")
+    void downloadCourseArchive_courseNotFound_returnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/certificates/courses/999999/archive")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isNotFound());
+    }
+}
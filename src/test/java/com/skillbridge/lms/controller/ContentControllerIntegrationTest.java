@@ -0,0 +1,184 @@
+package com.skillbridge.lms.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.Lesson;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.LessonRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ContentControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private String learnerToken;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        User learner = userRepository.save(User.builder()
+                .email("learner@content.com")
+                .password("password")
+                .username("Learner")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        learnerToken = tokenProvider.generateAccessToken(learner);
+
+        course = courseRepository.save(Course.builder()
+                .title("Content Course")
+                .description("Description")
+                .sortOrder(0)
+                .published(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("GET /api/courses/{courseId}/lessons/{lessonId}/content - ETag・Last-Modified・Cache-Control付きで返す (200)")
+    void getContent_returnsValidators() throws Exception {
+        // Given
+        Lesson lesson = createLesson(true);
+
+        // When & Then
+        mockMvc.perform(get(contentUrl(lesson))
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=60")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")))
+                .andExpect(jsonPath("$.title").value("Lesson"));
+    }
+
+    @Test
+    @DisplayName("GET /api/courses/{courseId}/lessons/{lessonId}/content - If-None-Match一致で304")
+    void getContent_ifNoneMatch_returns304() throws Exception {
+        // Given
+        Lesson lesson = createLesson(true);
+        MvcResult first = mockMvc.perform(get(contentUrl(lesson))
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get(contentUrl(lesson))
+                        .header("Authorization", "Bearer " + learnerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get(contentUrl(lesson))
+                        .header("Authorization", "Bearer " + learnerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/courses/{courseId}/lessons/{lessonId}/content - If-Modified-Since以降の変更なしで304")
+    void getContent_ifModifiedSince_returns304() throws Exception {
+        // Given
+        Lesson lesson = createLesson(true);
+        String lastModified = mockMvc.perform(get(contentUrl(lesson))
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        // When & Then
+        mockMvc.perform(get(contentUrl(lesson))
+                        .header("Authorization", "Bearer " + learnerToken)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET /api/courses/{courseId}/lessons/{lessonId}/content - 非公開レッスンは毎回再検証")
+    void getContent_unpublished_noCache() throws Exception {
+        // Given
+        Lesson lesson = createLesson(false);
+
+        // When & Then
+        mockMvc.perform(get(contentUrl(lesson))
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")));
+    }
+
+    @Test
+    @DisplayName("GET /api/courses/{courseId}/lessons/{lessonId}/content?format=html - HTMLに変換して別ETagで返す (200)")
+    void getContent_htmlFormat_returnsRenderedHtml() throws Exception {
+        // Given
+        Lesson lesson = createLesson(true);
+        String markdownEtag = mockMvc.perform(get(contentUrl(lesson))
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get(contentUrl(lesson))
+                        .param("format", "html")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().string(HttpHeaders.ETAG, not(markdownEtag)))
+                .andExpect(jsonPath("$.content").value(startsWith("<h1>")));
+
+        mockMvc.perform(get(contentUrl(lesson))
+                        .param("format", "pdf")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Lesson createLesson(boolean published) {
+        return lessonRepository.save(Lesson.builder()
+                .course(course)
+                .title("Lesson")
+                .contentPath("courses/" + course.getId() + "/lessons/x.md")
+                .sortOrder(1)
+                .published(published)
+                .build());
+    }
+
+    private String contentUrl(Lesson lesson) {
+        return "/api/courses/" + course.getId() + "/lessons/" + lesson.getId() + "/content";
+    }
+}
@@ -1,5 +1,6 @@
 package com.skillbridge.lms.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -8,12 +9,15 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
@@ -23,10 +27,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.lms.entity.Category;
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.Lesson;
+import com.skillbridge.lms.entity.Review;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.CategoryRepository;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.LessonRepository;
+import com.skillbridge.lms.repository.ReviewRepository;
 import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.search.CourseSearchService;
 import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.CourseService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -49,6 +66,30 @@ class CourseControllerIntegrationTest {
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseSearchService courseSearchService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private String adminToken;
     private String learnerToken;
 
@@ -63,7 +104,7 @@ class CourseControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(admin);
-        adminToken = tokenProvider.generateAccessToken("admin@example.com");
+        adminToken = tokenProvider.generateAccessToken(admin);
 
         // Create LEARNER user
         User learner = User.builder()
@@ -74,7 +115,7 @@ class CourseControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(learner);
-        learnerToken = tokenProvider.generateAccessToken("learner@example.com");
+        learnerToken = tokenProvider.generateAccessToken(learner);
     }
 
     @Test
@@ -86,6 +127,159 @@ class CourseControllerIntegrationTest {
                 .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    @DisplayName("GET /api/courses - ADMIN: draft + キーワード + タイトル順でレッスン数・カテゴリ・評価を返す (200)")
+    void getCourses_adminDraftKeyword_returnsCatalogRows() throws Exception {
+        Category category = categoryRepository.save(Category.builder().name("Backend").build());
+        createCourse("Spring Beta", false, 2, category, 0);
+        createCourse("Spring Alpha", false, 1, null, 0);
+        createCourse("Spring Published", true, 3, category, 0);
+        createCourse("Other Draft", false, 0, null, 0);
+        entityManager.flush();
+        entityManager.clear();
+        courseSearchService.rebuild();
+
+        mockMvc.perform(get("/api/courses")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("status", "draft")
+                        .param("keyword", "spring")
+                        .param("sort", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Spring Alpha"))
+                .andExpect(jsonPath("$.content[0].lessonCount").value(1))
+                .andExpect(jsonPath("$.content[1].title").value("Spring Beta"))
+                .andExpect(jsonPath("$.content[1].lessonCount").value(2))
+                .andExpect(jsonPath("$.content[1].categories[0].name").value("Backend"));
+    }
+
+    @Test
+    @DisplayName("GET /api/courses - キーワードは単語の途中でも部分一致し、指定順でページングする (200)")
+    void getCourses_keywordInfix_pagesInSortOrder() throws Exception {
+        createCourse("JavaScript Basics", true, 0, null, 0);
+        createCourse("CoffeeScript Basics", true, 0, null, 0);
+        createCourse("Java Intro", true, 0, null, 0);
+        entityManager.flush();
+        entityManager.clear();
+        courseSearchService.rebuild();
+
+        mockMvc.perform(get("/api/courses")
+                        .header("Authorization", "Bearer " + learnerToken)
+                        .param("keyword", "script basics")
+                        .param("sort", "title")
+                        .param("page", "1")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("JavaScript Basics"));
+    }
+
+    @Test
+    @DisplayName("GET /api/courses/search - 日本語キーワードとカテゴリで関連度順に検索 (200)")
+    void searchCourses_japaneseKeywordAndCategory_returns200() throws Exception {
+        Category category = categoryRepository.save(Category.builder().name("DB").build());
+        createCourse("データベース入門", true, 1, category, 0);
+        createCourse("Java入門", true, 1, null, 0);
+        createCourse("データベース下書き", false, 1, category, 0);
+        entityManager.flush();
+        entityManager.clear();
+        courseSearchService.rebuild();
+
+        mockMvc.perform(get("/api/courses/search")
+                        .header("Authorization", "Bearer " + learnerToken)
+                        .param("q", "データベース")
+                        .param("categoryId", String.valueOf(category.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("データベース入門"));
+
+        mockMvc.perform(get("/api/courses/search/suggest")
+                        .header("Authorization", "Bearer " + learnerToken)
+                        .param("prefix", "デー"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0]").value("データベース入門"));
+    }
+
+    @Test
+    @DisplayName("POST /api/courses/search/rebuild - LEARNERで403")
+    void rebuildSearchIndex_learner_returns403() throws Exception {
+        mockMvc.perform(post("/api/courses/search/rebuild")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("getCourses - コース数に関係なく発行SQL数が一定")
+    void getCourses_statementCountIndependentOfPageSize() {
+        // Given
+        Category category = categoryRepository.save(Category.builder().name("Backend").build());
+        for (int i = 0; i < 6; i++) {
+            createCourse("Course " + i, true, 3, category, 2);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // When
+        statistics.clear();
+        var smallPage = courseService.getCourses(null, null, "newest", false, PageRequest.of(0, 2));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        var largePage = courseService.getCourses(null, null, "newest", false, PageRequest.of(0, 6));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(smallPage.getContent()).hasSize(2);
+        assertThat(largePage.getContent()).hasSize(6);
+        assertThat(largePage.getContent()).allSatisfy(course -> {
+            assertThat(course.getLessonCount()).isEqualTo(3);
+            assertThat(course.getReviewCount()).isEqualTo(2L);
+            assertThat(course.getCategories()).hasSize(1);
+        });
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        assertThat(largePageStatements).isLessThanOrEqualTo(4);
+    }
+
+    private void createCourse(String title, boolean published, int lessons, Category category, int reviews) {
+        Course course = Course.builder()
+                .title(title)
+                .description("Description")
+                .sortOrder(0)
+                .published(published)
+                .build();
+        if (category != null) {
+            course.getCategories().add(category);
+        }
+        courseRepository.save(course);
+        for (int i = 1; i <= lessons; i++) {
+            lessonRepository.save(Lesson.builder()
+                    .course(course)
+                    .title(title + " Lesson " + i)
+                    .contentPath("courses/" + course.getId() + "/lessons/" + i + ".md")
+                    .sortOrder(i)
+                    .published(true)
+                    .build());
+        }
+        for (int i = 0; i < reviews; i++) {
+            User reviewer = userRepository.save(User.builder()
+                    .email(title.replace(" ", "") + i + "@review.com")
+                    .password("x")
+                    .username("Reviewer " + i)
+                    .role(UserRole.LEARNER)
+                    .enabled(true)
+                    .build());
+            reviewRepository.save(Review.builder()
+                    .user(reviewer)
+                    .course(course)
+                    .rating(4)
+                    .build());
+        }
+    }
+
     @Test
     @DisplayName("GET /api/courses - 未認証で401")
     void getCourses_unauthenticated_returns401() throws Exception {
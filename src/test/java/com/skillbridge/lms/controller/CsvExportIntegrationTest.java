@@ -0,0 +1,241 @@
+package com.skillbridge.lms.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.skillbridge.lms.entity.AuditLog;
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.Enrollment;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.AuditLogRepository;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+
+/**
+ * CSV エクスポートをストリーミング応答の完了まで通して確認する
+ * (応答本文は別スレッドで書き出されるためデータはコミットし、専用のDBで後始末する)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:csv-export;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MYSQL"
+})
+class CsvExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private String adminToken;
+    private User admin;
+    private User learner;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("admin@export.com")
+                .password("password")
+                .username("Admin")
+                .role(UserRole.ADMIN)
+                .enabled(true)
+                .build());
+        adminToken = tokenProvider.generateAccessToken(admin);
+        learner = userRepository.save(User.builder()
+                .email("learner@export.com")
+                .password("password")
+                .username("Learner, Jr.")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        course = courseRepository.save(Course.builder()
+                .title("Export Course")
+                .published(true)
+                .build());
+        enrollmentRepository.save(Enrollment.builder()
+                .user(learner)
+                .course(course)
+                .status(EnrollmentStatus.ACTIVE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLogRepository.deleteAll();
+        enrollmentRepository.deleteAll();
+        courseRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/analytics/export/csv - ヘッダー行と受講登録の行を出力 (200)")
+    void exportAnalyticsCsv_writesHeaderAndRows() throws Exception {
+        // When
+        MvcResult result = dispatch(get("/api/admin/analytics/export/csv")
+                .header("Authorization", "Bearer " + adminToken));
+
+        // Then
+        List<String> lines = lines(result.getResponse().getContentAsByteArray());
+        assertThat(lines.get(0))
+                .isEqualTo("User ID,Username,Email,Role,Course ID,Course Title,Enrollment Status,Enrolled At,Completed At");
+        assertThat(lines).hasSize(3);
+        assertThat(lines).anySatisfy(line -> assertThat(line).startsWith(learner.getId()
+                + ",\"Learner, Jr.\",learner@export.com,LEARNER," + course.getId() + ",Export Course,ACTIVE,"));
+        assertThat(lines).contains(admin.getId() + ",Admin,admin@export.com,ADMIN,,,,,");
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/analytics/export/csv?gzip=true - gzip 圧縮した同じ内容を出力 (200)")
+    void exportAnalyticsCsv_gzip_writesCompressedCsv() throws Exception {
+        // When
+        MvcResult result = dispatch(get("/api/admin/analytics/export/csv")
+                .param("gzip", "true")
+                .param("courseId", String.valueOf(course.getId()))
+                .header("Authorization", "Bearer " + adminToken));
+
+        // Then
+        assertThat(result.getResponse().getHeader("Content-Disposition"))
+                .isEqualTo("attachment; filename=analytics-export.csv.gz");
+        List<String> lines = lines(gunzip(result.getResponse().getContentAsByteArray()));
+        assertThat(lines.get(0)).startsWith("User ID,Username,Email");
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).contains("learner@export.com");
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/audit-logs/export - 期間内の監査ログをヘッダー行付きで出力 (200)")
+    void exportAuditLogCsv_writesRowsWithinRange() throws Exception {
+        // Given
+        AuditLog recent = auditLogRepository.save(AuditLog.builder()
+                .userId(admin.getId())
+                .action("UPDATE")
+                .entityType("COURSE")
+                .entityId(course.getId())
+                .details("CourseService.updateCourse")
+                .ipAddress("127.0.0.1")
+                .build());
+        AuditLog old = auditLogRepository.save(AuditLog.builder()
+                .userId(admin.getId())
+                .action("DELETE")
+                .entityType("COURSE")
+                .entityId(99L)
+                .details("CourseService.deleteCourse")
+                .build());
+        jdbcTemplate.update("UPDATE audit_logs SET created_at = ? WHERE id = ?",
+                LocalDateTime.of(2020, 1, 1, 0, 0), old.getId());
+        String today = LocalDate.now().toString();
+
+        // When
+        MvcResult result = dispatch(get("/api/admin/audit-logs/export")
+                .param("from", today)
+                .param("to", today)
+                .header("Authorization", "Bearer " + adminToken));
+
+        // Then
+        List<String> lines = lines(result.getResponse().getContentAsByteArray());
+        assertThat(lines.get(0)).isEqualTo("ID,User ID,Action,Entity Type,Entity ID,Details,IP Address,Created At");
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).startsWith(recent.getId() + "," + admin.getId()
+                + ",UPDATE,COURSE," + course.getId() + ",CourseService.updateCourse,127.0.0.1," + today);
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/audit-logs/export?gzip=true - gzip 圧縮して出力 (200)")
+    void exportAuditLogCsv_gzip_writesCompressedCsv() throws Exception {
+        // Given
+        auditLogRepository.save(AuditLog.builder()
+                .userId(admin.getId())
+                .action("CREATE")
+                .entityType("COURSE")
+                .entityId(course.getId())
+                .details("CourseService.createCourse")
+                .build());
+
+        // When
+        MvcResult result = dispatch(get("/api/admin/audit-logs/export")
+                .param("gzip", "true")
+                .header("Authorization", "Bearer " + adminToken));
+
+        // Then
+        assertThat(result.getResponse().getHeader("Content-Disposition"))
+                .isEqualTo("attachment; filename=audit-logs.csv.gz");
+        List<String> lines = lines(gunzip(result.getResponse().getContentAsByteArray()));
+        assertThat(lines.get(0)).startsWith("ID,User ID,Action");
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).contains(",CREATE,COURSE,");
+    }
+
+    /**
+     * ストリーミングの開始を確認し、書き出しの完了まで待って結果を返す
+     */
+    private MvcResult dispatch(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Content-Disposition"))
+                .andExpect(content().contentTypeCompatibleWith(
+                        started.getResponse().getContentType()))
+                .andReturn();
+    }
+
+    private static List<String> lines(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.skillbridge.lms.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.lms.dto.response.LearnerDashboardResponse;
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.Enrollment;
+import com.skillbridge.lms.entity.Task;
+import com.skillbridge.lms.entity.TaskFeedback;
+import com.skillbridge.lms.entity.TaskSubmission;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.enums.SubmissionStatus;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentRepository;
+import com.skillbridge.lms.repository.TaskFeedbackRepository;
+import com.skillbridge.lms.repository.TaskRepository;
+import com.skillbridge.lms.repository.TaskSubmissionRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.DashboardService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class DashboardControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSubmissionRepository taskSubmissionRepository;
+
+    @Autowired
+    private TaskFeedbackRepository taskFeedbackRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User admin;
+    private User learner;
+    private String learnerToken;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("admin@dashboard.com")
+                .password("password")
+                .username("Reviewer")
+                .role(UserRole.ADMIN)
+                .enabled(true)
+                .build());
+        learner = userRepository.save(User.builder()
+                .email("learner@dashboard.com")
+                .password("password")
+                .username("Learner")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        learnerToken = tokenProvider.generateAccessToken(learner);
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/learner - 進捗・未提出課題・フィードバックを返す (200)")
+    void getLearnerDashboard_returnsSections() throws Exception {
+        // Given
+        Course active = createCourse("Active Course", EnrollmentStatus.ACTIVE, 4, 2);
+        Task submitted = createTask(active, "Submitted Task", 1);
+        Task rejected = createTask(active, "Rejected Task", 2);
+        createTask(active, "Open Task", 3);
+        submit(submitted, SubmissionStatus.SUBMITTED, "いいですね");
+        submit(rejected, SubmissionStatus.REJECTED, "再提出してください");
+
+        Course dropped = createCourse("Dropped Course", EnrollmentStatus.DROPPED, 1, 0);
+        createTask(dropped, "Dropped Task", 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then
+        mockMvc.perform(get("/api/dashboard/learner")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrolledCourses.length()").value(1))
+                .andExpect(jsonPath("$.enrolledCourses[0].courseTitle").value("Active Course"))
+                .andExpect(jsonPath("$.enrolledCourses[0].progressPercentage").value(50.0))
+                .andExpect(jsonPath("$.pendingTasks.length()").value(2))
+                .andExpect(jsonPath("$.pendingTasks[0].taskTitle").value("Rejected Task"))
+                .andExpect(jsonPath("$.pendingTasks[1].taskTitle").value("Open Task"))
+                .andExpect(jsonPath("$.recentFeedbacks.length()").value(2))
+                .andExpect(jsonPath("$.recentFeedbacks[0].reviewerName").value("Reviewer"));
+    }
+
+    @Test
+    @DisplayName("getLearnerDashboard - 受講コース・課題・フィードバック数に関係なく発行SQL数が一定")
+    void getLearnerDashboard_statementCountIndependentOfSize() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        addCourseWithWork(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        LearnerDashboardResponse small = dashboardService.getLearnerDashboard("learner@dashboard.com");
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        for (int i = 1; i < 8; i++) {
+            addCourseWithWork(i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        statistics.clear();
+        LearnerDashboardResponse large = dashboardService.getLearnerDashboard("learner@dashboard.com");
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(small.getPendingTasks()).hasSize(2);
+        assertThat(large.getEnrolledCourses()).hasSize(5);
+        assertThat(large.getPendingTasks()).hasSize(16);
+        assertThat(large.getRecentFeedbacks()).hasSize(5);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        assertThat(largeStatements).isLessThanOrEqualTo(4);
+    }
+
+    private void addCourseWithWork(int index) {
+        Course course = createCourse("Course " + index, EnrollmentStatus.ACTIVE, 3, 1);
+        Task done = createTask(course, "Done " + index, 1);
+        createTask(course, "Open A " + index, 2);
+        createTask(course, "Open B " + index, 3);
+        submit(done, SubmissionStatus.APPROVED, "OK " + index);
+    }
+
+    private Course createCourse(String title, EnrollmentStatus status, int totalLessons, int completedLessons) {
+        Course course = courseRepository.save(Course.builder()
+                .title(title)
+                .description("Description")
+                .sortOrder(0)
+                .published(true)
+                .build());
+        enrollmentRepository.save(Enrollment.builder()
+                .user(learner)
+                .course(course)
+                .status(status)
+                .totalPublishedLessons(totalLessons)
+                .completedLessons(completedLessons)
+                .build());
+        return course;
+    }
+
+    private Task createTask(Course course, String title, int sortOrder) {
+        return taskRepository.save(Task.builder()
+                .course(course)
+                .title(title)
+                .sortOrder(sortOrder)
+                .build());
+    }
+
+    private void submit(Task task, SubmissionStatus status, String comment) {
+        TaskSubmission submission = taskSubmissionRepository.save(TaskSubmission.builder()
+                .task(task)
+                .user(learner)
+                .githubUrl("https://github.com/learner/" + task.getId())
+                .status(status)
+                .build());
+        taskFeedbackRepository.save(TaskFeedback.builder()
+                .submission(submission)
+                .reviewer(admin)
+                .comment(comment)
+                .build());
+    }
+}
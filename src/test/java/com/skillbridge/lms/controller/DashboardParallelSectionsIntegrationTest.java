@@ -0,0 +1,182 @@
+package com.skillbridge.lms.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.skillbridge.lms.dto.response.LearnerDashboardResponse;
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.Enrollment;
+import com.skillbridge.lms.entity.Task;
+import com.skillbridge.lms.entity.TaskFeedback;
+import com.skillbridge.lms.entity.TaskSubmission;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.enums.SubmissionStatus;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentRepository;
+import com.skillbridge.lms.repository.TaskFeedbackRepository;
+import com.skillbridge.lms.repository.TaskRepository;
+import com.skillbridge.lms.repository.TaskSubmissionRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.DashboardService;
+
+/**
+ * ダッシュボードの各セクションを仮想スレッドで並行取得する経路
+ * (別スレッドの接続から見えるようデータはコミットし、専用のDBで後始末する)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dashboard-parallel;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MYSQL",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.connection-timeout=2000",
+        "app.dashboard.parallel-sections=true",
+        "app.dashboard.max-concurrent-queries=2"
+})
+class DashboardParallelSectionsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSubmissionRepository taskSubmissionRepository;
+
+    @Autowired
+    private TaskFeedbackRepository taskFeedbackRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    private User admin;
+    private User learner;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("admin@parallel.com")
+                .password("password")
+                .username("Reviewer")
+                .role(UserRole.ADMIN)
+                .enabled(true)
+                .build());
+        learner = userRepository.save(User.builder()
+                .email("learner@parallel.com")
+                .password("password")
+                .username("Learner")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        Course course = courseRepository.save(Course.builder()
+                .title("Parallel Course")
+                .description("Description")
+                .sortOrder(0)
+                .published(true)
+                .build());
+        enrollmentRepository.save(Enrollment.builder()
+                .user(learner)
+                .course(course)
+                .status(EnrollmentStatus.ACTIVE)
+                .totalPublishedLessons(4)
+                .completedLessons(1)
+                .build());
+        Task reviewed = taskRepository.save(Task.builder().course(course).title("Reviewed Task").sortOrder(1).build());
+        taskRepository.save(Task.builder().course(course).title("Open Task").sortOrder(2).build());
+        TaskSubmission submission = taskSubmissionRepository.save(TaskSubmission.builder()
+                .task(reviewed)
+                .user(learner)
+                .githubUrl("https://github.com/learner/parallel")
+                .status(SubmissionStatus.APPROVED)
+                .build());
+        taskFeedbackRepository.save(TaskFeedback.builder()
+                .submission(submission)
+                .reviewer(admin)
+                .comment("OK")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskFeedbackRepository.deleteAll();
+        taskSubmissionRepository.deleteAll();
+        taskRepository.deleteAll();
+        enrollmentRepository.deleteAll();
+        courseRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/learner - 各セクションを別トランザクションで取得して返す (200)")
+    void getLearnerDashboard_parallelSections_returnsSections() throws Exception {
+        mockMvc.perform(get("/api/dashboard/learner")
+                        .header("Authorization", "Bearer " + tokenProvider.generateAccessToken(learner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrolledCourses.length()").value(1))
+                .andExpect(jsonPath("$.enrolledCourses[0].progressPercentage").value(25.0))
+                .andExpect(jsonPath("$.pendingTasks.length()").value(1))
+                .andExpect(jsonPath("$.pendingTasks[0].taskTitle").value("Open Task"))
+                .andExpect(jsonPath("$.recentFeedbacks.length()").value(1))
+                .andExpect(jsonPath("$.recentFeedbacks[0].reviewerName").value("Reviewer"));
+    }
+
+    @Test
+    @DisplayName("getLearnerDashboard - 接続プールを超える同時リクエストでも接続待ちで失敗しない")
+    void getLearnerDashboard_concurrentRequests_doNotExhaustPool() throws Exception {
+        // Given
+        List<Callable<LearnerDashboardResponse>> requests = IntStream.range(0, 20)
+                .<Callable<LearnerDashboardResponse>>mapToObj(
+                        i -> () -> dashboardService.getLearnerDashboard("learner@parallel.com"))
+                .toList();
+
+        // When
+        List<Future<LearnerDashboardResponse>> results;
+        try (ExecutorService callers = Executors.newFixedThreadPool(20)) {
+            results = callers.invokeAll(requests);
+        }
+
+        // Then
+        for (Future<LearnerDashboardResponse> result : results) {
+            LearnerDashboardResponse dashboard = result.get();
+            assertThat(dashboard.getEnrolledCourses()).hasSize(1);
+            assertThat(dashboard.getPendingTasks()).hasSize(1);
+            assertThat(dashboard.getRecentFeedbacks()).hasSize(1);
+        }
+    }
+}
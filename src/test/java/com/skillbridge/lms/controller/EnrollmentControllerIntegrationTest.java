@@ -1,17 +1,21 @@
 package com.skillbridge.lms.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,6 +27,7 @@ import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.EnrollmentStatus;
 import com.skillbridge.lms.enums.UserRole;
 import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentDailyStatRepository;
 import com.skillbridge.lms.repository.EnrollmentRepository;
 import com.skillbridge.lms.repository.UserRepository;
 import com.skillbridge.lms.security.JwtTokenProvider;
@@ -45,6 +50,12 @@ class EnrollmentControllerIntegrationTest {
     @Autowired
     private EnrollmentRepository enrollmentRepository;
 
+    @Autowired
+    private EnrollmentDailyStatRepository enrollmentDailyStatRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -67,7 +78,7 @@ class EnrollmentControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(admin);
-        adminToken = tokenProvider.generateAccessToken("admin@example.com");
+        adminToken = tokenProvider.generateAccessToken(admin);
 
         learner = User.builder()
                 .email("learner@example.com")
@@ -77,7 +88,7 @@ class EnrollmentControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(learner);
-        learnerToken = tokenProvider.generateAccessToken("learner@example.com");
+        learnerToken = tokenProvider.generateAccessToken(learner);
 
         publishedCourse = Course.builder()
                 .title("Test Course")
@@ -139,6 +150,67 @@ class EnrollmentControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value("受講登録を取り消しました"));
     }
 
+    @Test
+    @DisplayName("POST/DELETE /api/courses/{courseId}/enroll - 同じ日の登録は日次集計の1行に加算し、取り消しで減算")
+    void enrollAndUnenroll_sameDay_updatesSingleDailyStatRow() throws Exception {
+        // Given
+        User second = userRepository.save(User.builder()
+                .email("second@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .username("second")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        String secondToken = tokenProvider.generateAccessToken(second);
+
+        // When
+        mockMvc.perform(post("/api/courses/" + publishedCourse.getId() + "/enroll")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/courses/" + publishedCourse.getId() + "/enroll")
+                        .header("Authorization", "Bearer " + secondToken))
+                .andExpect(status().isCreated());
+        LocalDate statDate = enrollmentRepository.findByUserIdAndCourseId(learner.getId(), publishedCourse.getId())
+                .orElseThrow().getEnrolledAt().toLocalDate();
+        long afterEnroll = dailyEnrollmentCount(statDate);
+        mockMvc.perform(delete("/api/courses/" + publishedCourse.getId() + "/enroll")
+                        .header("Authorization", "Bearer " + secondToken))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(afterEnroll).isEqualTo(2);
+        assertThat(dailyEnrollmentCount(statDate)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM enrollment_daily_stats", Long.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("decrementCountsForCourse - コースの受講登録分だけ日次集計を減算")
+    void decrementCountsForCourse_subtractsOnlyThatCoursesEnrollments() throws Exception {
+        // Given
+        Course otherCourse = courseRepository.save(Course.builder()
+                .title("Other Course")
+                .description("Other")
+                .published(true)
+                .sortOrder(1)
+                .build());
+        mockMvc.perform(post("/api/courses/" + publishedCourse.getId() + "/enroll")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/courses/" + otherCourse.getId() + "/enroll")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isCreated());
+        LocalDate statDate = enrollmentRepository.findByUserIdAndCourseId(learner.getId(), publishedCourse.getId())
+                .orElseThrow().getEnrolledAt().toLocalDate();
+
+        // When
+        int updated = enrollmentDailyStatRepository.decrementCountsForCourse(publishedCourse.getId());
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(dailyEnrollmentCount(statDate)).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("GET /api/courses/{courseId}/enrollment - 受講状態確認成功 (200)")
     void getEnrollment_success_returns200() throws Exception {
@@ -197,4 +269,9 @@ class EnrollmentControllerIntegrationTest {
                         .header("Authorization", "Bearer " + learnerToken))
                 .andExpect(status().isForbidden());
     }
+
+    private long dailyEnrollmentCount(LocalDate statDate) {
+        return jdbcTemplate.queryForObject(
+                "SELECT enrollment_count FROM enrollment_daily_stats WHERE stat_date = ?", Long.class, statDate);
+    }
 }
@@ -0,0 +1,183 @@
+package com.skillbridge.lms.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.FileStorageService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class FileControllerIntegrationTest {
+
+    private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A };
+
+    @TempDir
+    static Path uploadDir;
+
+    /**
+     * アップロード先を一時ディレクトリにし、作業ツリーの uploads/ に書き込まない
+     */
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.storage.upload-dir", uploadDir::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private byte[] bytes;
+    private String url;
+
+    @BeforeEach
+    void setUp() {
+        bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        System.arraycopy(PNG_SIGNATURE, 0, bytes, 0, PNG_SIGNATURE.length);
+        url = fileStorageService.storeFile(new MockMultipartFile("file", "image.png", "image/png", bytes)).getUrl();
+    }
+
+    @Test
+    @DisplayName("GET /api/files/{filename} - 保存時の形式・ETag・長期キャッシュ指定で返す (200)")
+    void getFile_returnsBodyWithValidators() throws Exception {
+        // When & Then
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(bytes))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + filename() + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, bytes.length));
+    }
+
+    @Test
+    @DisplayName("HEAD /api/files/{filename} - ヘッダーのみ返す (200)")
+    void headFile_returnsHeadersOnly() throws Exception {
+        // When & Then
+        byte[] body = mockMvc.perform(head(url))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, bytes.length))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/files/{filename} - Range指定で部分を返す (206)")
+    void getFile_range_returnsPartialContent() throws Exception {
+        // When & Then
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/256"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().bytes(Arrays.copyOfRange(bytes, 10, 20)));
+    }
+
+    @Test
+    @DisplayName("GET /api/files/{filename} - If-Rangeが一致しない場合は全体を返す (200)")
+    void getFile_staleIfRange_returnsFullContent() throws Exception {
+        // When & Then
+        mockMvc.perform(get(url)
+                        .header(HttpHeaders.RANGE, "bytes=10-19")
+                        .header(HttpHeaders.IF_RANGE, "\"other.png\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(bytes));
+    }
+
+    @Test
+    @DisplayName("GET /api/files/{filename} - 範囲外のRange指定で416")
+    void getFile_unsatisfiableRange_returns416() throws Exception {
+        // When & Then
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */256"));
+    }
+
+    @Test
+    @DisplayName("GET /api/files/{filename} - If-None-Match一致で304")
+    void getFile_ifNoneMatch_returnsNotModified() throws Exception {
+        // When & Then
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"" + filename() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /api/files/{filename} - 存在しないファイルで404")
+    void getFile_missing_returns404() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/files/missing.png"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /api/files/upload - ボディを直接受け取り、同じ内容は同じURLを返す (200)")
+    void uploadStream_sameContent_returnsSameUrl() throws Exception {
+        // Given
+        User instructor = userRepository.save(User.builder()
+                .email("instructor@files.com")
+                .password("password")
+                .username("Instructor")
+                .role(UserRole.INSTRUCTOR)
+                .enabled(true)
+                .build());
+        String token = tokenProvider.generateAccessToken(instructor);
+
+        // When & Then
+        mockMvc.perform(post("/api/files/upload")
+                        .param("filename", "copy.png")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.IMAGE_PNG)
+                        .content(bytes))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andExpect(jsonPath("$.url").value(url))
+                .andExpect(jsonPath("$.contentType").value("image/png"))
+                .andExpect(jsonPath("$.size").value(bytes.length));
+    }
+
+    private String filename() {
+        return url.substring("/api/files/".length());
+    }
+}
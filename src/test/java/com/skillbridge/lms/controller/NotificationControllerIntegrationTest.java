@@ -0,0 +1,275 @@
+package com.skillbridge.lms.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillbridge.lms.dto.response.CursorPageResponse;
+import com.skillbridge.lms.dto.response.NotificationResponse;
+import com.skillbridge.lms.entity.Notification;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.NotificationRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.NotificationService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class NotificationControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User learner;
+    private User other;
+    private String learnerToken;
+
+    @BeforeEach
+    void setUp() {
+        learner = userRepository.save(User.builder()
+                .email("learner@notification.com")
+                .password("password")
+                .username("Learner")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        other = userRepository.save(User.builder()
+                .email("other@notification.com")
+                .password("password")
+                .username("Other")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        learnerToken = tokenProvider.generateAccessToken(learner);
+    }
+
+    @Test
+    @DisplayName("POST /api/notifications/read-all - 本人の未読通知のみ既読にし件数を返す (200)")
+    void markAllAsRead_marksOnlyOwnUnread() throws Exception {
+        // Given
+        createNotifications(learner, 3, false);
+        createNotifications(learner, 1, true);
+        createNotifications(other, 2, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then
+        mockMvc.perform(post("/api/notifications/read-all")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3));
+        assertThat(notificationRepository.countByUserIdAndIsReadFalse(learner.getId())).isZero();
+        assertThat(notificationRepository.countByUserIdAndIsReadFalse(other.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("POST /api/notifications/read-all?upToId - 指定ID以前の未読通知のみ既読にする (200)")
+    void markAllAsRead_upToId_marksOnlyOlderNotifications() throws Exception {
+        // Given
+        List<Notification> notifications = createNotifications(learner, 5, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then
+        mockMvc.perform(post("/api/notifications/read-all")
+                        .param("upToId", notifications.get(2).getId().toString())
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3));
+        assertThat(notificationRepository.countByUserIdAndIsReadFalse(learner.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("markAllAsRead - 未読件数に関係なく発行SQL数が一定")
+    void markAllAsRead_statementCountIndependentOfUnreadCount() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        createNotifications(learner, 50, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        statistics.clear();
+        int updated = notificationService.markAllAsRead("learner@notification.com");
+
+        // Then
+        assertThat(updated).isEqualTo(50);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getNotificationFeed - カーソルで新しい順に重複・欠落なく辿れる")
+    void getNotificationFeed_pagesThroughAllNotifications() {
+        // Given
+        List<Notification> notifications = createNotifications(learner, 5, false);
+        createNotifications(other, 3, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CursorPageResponse<NotificationResponse> first =
+                notificationService.getNotificationFeed("learner@notification.com", null, null, false, 2);
+        CursorPageResponse<NotificationResponse> second = notificationService.getNotificationFeed(
+                "learner@notification.com", first.getNextCursor(), null, false, 2);
+        CursorPageResponse<NotificationResponse> third = notificationService.getNotificationFeed(
+                "learner@notification.com", second.getNextCursor(), null, false, 2);
+
+        // Then
+        List<Long> ids = new ArrayList<>();
+        for (CursorPageResponse<NotificationResponse> page : List.of(first, second, third)) {
+            page.getContent().forEach(n -> ids.add(n.getId()));
+        }
+        assertThat(ids).containsExactlyElementsOf(notifications.reversed().stream().map(Notification::getId).toList());
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getSinceCursor()).isNotNull();
+        assertThat(second.getSinceCursor()).isNull();
+        assertThat(third.isHasNext()).isFalse();
+        assertThat(third.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications/cursor?unreadOnly - 未読のみ返す (200)")
+    void getNotificationFeed_unreadOnly_returnsOnlyUnread() throws Exception {
+        // Given
+        createNotifications(learner, 2, true);
+        List<Notification> unread = createNotifications(learner, 1, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then
+        mockMvc.perform(get("/api/notifications/cursor")
+                        .param("unreadOnly", "true")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(unread.get(0).getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("getNotificationFeed - since 指定時は前回以降の新着のみを返す")
+    void getNotificationFeed_since_returnsOnlyNewNotifications() {
+        // Given
+        createNotifications(learner, 3, false);
+        entityManager.flush();
+        entityManager.clear();
+        String since = notificationService.getNotificationFeed(
+                "learner@notification.com", null, null, false, 20).getSinceCursor();
+        List<Notification> added = createNotifications(learner, 3, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CursorPageResponse<NotificationResponse> firstPoll =
+                notificationService.getNotificationFeed("learner@notification.com", null, since, false, 2);
+        CursorPageResponse<NotificationResponse> secondPoll = notificationService.getNotificationFeed(
+                "learner@notification.com", null, firstPoll.getSinceCursor(), false, 2);
+        CursorPageResponse<NotificationResponse> emptyPoll = notificationService.getNotificationFeed(
+                "learner@notification.com", null, secondPoll.getSinceCursor(), false, 2);
+
+        // Then
+        assertThat(firstPoll.getContent()).extracting(NotificationResponse::getId)
+                .containsExactly(added.get(1).getId(), added.get(0).getId());
+        assertThat(firstPoll.isHasNext()).isTrue();
+        assertThat(secondPoll.getContent()).extracting(NotificationResponse::getId)
+                .containsExactly(added.get(2).getId());
+        assertThat(secondPoll.isHasNext()).isFalse();
+        assertThat(emptyPoll.getContent()).isEmpty();
+        assertThat(emptyPoll.getSinceCursor()).isEqualTo(secondPoll.getSinceCursor());
+    }
+
+    @Test
+    @DisplayName("getNotificationFeed - since 取得後に古い created_at でコミットされた通知も1度だけ返す")
+    void getNotificationFeed_since_returnsLateCommittedNotificationOnce() {
+        // Given
+        List<Notification> existing = createNotifications(learner, 3, false);
+        entityManager.flush();
+        entityManager.clear();
+        String since = notificationService.getNotificationFeed(
+                "learner@notification.com", null, null, false, 2).getSinceCursor();
+        // 先に作成され、since 取得後にコミットされた通知 (created_at が既存の最新より古い)
+        Notification late = createNotifications(learner, 1, false).get(0);
+        entityManager.flush();
+        entityManager.createQuery("UPDATE Notification n SET n.createdAt = :createdAt WHERE n.id = :id")
+                .setParameter("createdAt", existing.get(2).getCreatedAt().minusSeconds(1))
+                .setParameter("id", late.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // When
+        CursorPageResponse<NotificationResponse> firstPoll =
+                notificationService.getNotificationFeed("learner@notification.com", null, since, false, 2);
+        CursorPageResponse<NotificationResponse> secondPoll = notificationService.getNotificationFeed(
+                "learner@notification.com", null, firstPoll.getSinceCursor(), false, 2);
+
+        // Then
+        assertThat(firstPoll.getContent()).extracting(NotificationResponse::getId).containsExactly(late.getId());
+        assertThat(firstPoll.isHasNext()).isFalse();
+        assertThat(secondPoll.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications/cursor - 不正なカーソルは400")
+    void getNotificationFeed_invalidCursor_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/notifications/cursor")
+                        .param("since", "!!invalid!!")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Notification> createNotifications(User user, int count, boolean read) {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            notifications.add(notificationRepository.save(Notification.builder()
+                    .user(user)
+                    .title("Notification " + i)
+                    .message("Message " + i)
+                    .isRead(read)
+                    .build()));
+        }
+        return notifications;
+    }
+}
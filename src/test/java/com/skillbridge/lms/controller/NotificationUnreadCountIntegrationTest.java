@@ -0,0 +1,124 @@
+package com.skillbridge.lms.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.skillbridge.lms.entity.Notification;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.NotificationRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.NotificationService;
+
+/**
+ * 未読数キャッシュを有効にし、コミット後の破棄まで通して確認する
+ * (コミットが必要なためテストトランザクションを使わず、専用のDBで後始末する)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:unread-count;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MYSQL",
+        "app.notification.unread-count-cache.maximum-size=100"
+})
+class NotificationUnreadCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private User learner;
+    private String learnerToken;
+
+    @BeforeEach
+    void setUp() {
+        learner = userRepository.save(User.builder()
+                .email("learner@unread.com")
+                .password("password")
+                .username("Learner")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        learnerToken = tokenProvider.generateAccessToken(learner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications/unread-count - 作成・既読化のコミット後に数え直す")
+    void getUnreadCount_reflectsCommittedChanges() throws Exception {
+        // Given
+        List<Notification> notifications = createNotifications(3);
+        expectUnreadCount(3);
+
+        // When & Then: 同じ通知を2回既読にしても1件分しか減らない
+        mockMvc.perform(patch("/api/notifications/{id}/read", notifications.get(0).getId())
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/notifications/{id}/read", notifications.get(0).getId())
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk());
+        expectUnreadCount(2);
+
+        notificationService.createNotification(learner, "Title", "Message", "INFO", null);
+        expectUnreadCount(3);
+
+        mockMvc.perform(post("/api/notifications/read-all")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3));
+        expectUnreadCount(0);
+    }
+
+    private void expectUnreadCount(long expected) throws Exception {
+        mockMvc.perform(get("/api/notifications/unread-count")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(expected));
+    }
+
+    private List<Notification> createNotifications(int count) {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            notifications.add(notificationRepository.save(Notification.builder()
+                    .user(learner)
+                    .title("Notification " + i)
+                    .message("Message " + i)
+                    .build()));
+        }
+        return notifications;
+    }
+}
@@ -77,7 +77,7 @@ class ProgressControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(learner);
-        learnerToken = tokenProvider.generateAccessToken("learner@example.com");
+        learnerToken = tokenProvider.generateAccessToken(learner);
 
         course = Course.builder()
                 .title("Test Course")
@@ -110,6 +110,7 @@ class ProgressControllerIntegrationTest {
                 .user(learner)
                 .course(course)
                 .status(EnrollmentStatus.ACTIVE)
+                .totalPublishedLessons(2)
                 .build();
         enrollmentRepository.save(enrollment);
     }
@@ -182,4 +183,47 @@ class ProgressControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].totalLessons").value(2))
                 .andExpect(jsonPath("$[0].completedLessons").value(0));
     }
+
+    @Test
+    @DisplayName("GET /api/enrollments/my/progress - レッスン完了後に進捗カウンタへ反映")
+    void getMyProgress_afterCompletion_reflectsCounter() throws Exception {
+        mockMvc.perform(post("/api/courses/" + course.getId() + "/lessons/" + lesson1.getId() + "/complete")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/enrollments/my/progress")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].totalLessons").value(2))
+                .andExpect(jsonPath("$[0].completedLessons").value(1))
+                .andExpect(jsonPath("$[0].progressPercentage").value(50.0));
+    }
+
+    @Test
+    @DisplayName("POST/DELETE .../complete - 繰り返し操作しても進捗カウンタは1回分だけ増減")
+    void completeAndUncomplete_repeated_adjustsCounterOnce() throws Exception {
+        String completeUrl = "/api/courses/" + course.getId() + "/lessons/" + lesson1.getId() + "/complete";
+        mockMvc.perform(post(completeUrl).header("Authorization", "Bearer " + learnerToken))
+                .andExpect(jsonPath("$.message").value("レッスンを完了しました"));
+        mockMvc.perform(post(completeUrl).header("Authorization", "Bearer " + learnerToken))
+                .andExpect(jsonPath("$.message").value("このレッスンは既に完了済みです"));
+        expectCompletedLessons(1);
+
+        mockMvc.perform(delete(completeUrl).header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete(completeUrl).header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk());
+        expectCompletedLessons(0);
+
+        mockMvc.perform(post(completeUrl).header("Authorization", "Bearer " + learnerToken))
+                .andExpect(jsonPath("$.message").value("レッスンを完了しました"));
+        expectCompletedLessons(1);
+    }
+
+    private void expectCompletedLessons(int expected) throws Exception {
+        mockMvc.perform(get("/api/enrollments/my/progress")
+                        .header("Authorization", "Bearer " + learnerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].completedLessons").value(expected));
+    }
 }
@@ -68,7 +68,7 @@ class TaskControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(admin);
-        adminToken = tokenProvider.generateAccessToken("admin@example.com");
+        adminToken = tokenProvider.generateAccessToken(admin);
 
         User learner = User.builder()
                 .email("learner@example.com")
@@ -78,7 +78,7 @@ class TaskControllerIntegrationTest {
                 .enabled(true)
                 .build();
         userRepository.save(learner);
-        learnerToken = tokenProvider.generateAccessToken("learner@example.com");
+        learnerToken = tokenProvider.generateAccessToken(learner);
 
         Course course = Course.builder()
                 .title("Test Course")
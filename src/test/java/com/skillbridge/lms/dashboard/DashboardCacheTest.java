@@ -0,0 +1,195 @@
+package com.skillbridge.lms.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.skillbridge.lms.dto.response.InstructorDashboardResponse;
+import com.skillbridge.lms.dto.response.LearnerDashboardResponse;
+import com.skillbridge.lms.event.CourseChangedEvent;
+import com.skillbridge.lms.event.LearningActivityEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DashboardCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new DashboardCache(new InMemoryDashboardCacheBackend(100, Duration.ofMinutes(10)),
+                new DashboardCacheProperties(), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("getLearner - 2回目はキャッシュから返しヒット/ミスを計測")
+    void getLearner_cachesPerUser() {
+        // When
+        LearnerDashboardResponse first = cache.getLearner(1L, this::loadLearner);
+        LearnerDashboardResponse second = cache.getLearner(1L, this::loadLearner);
+        cache.getLearner(2L, this::loadLearner);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(2);
+        assertThat(count("learner", "hit")).isEqualTo(1.0);
+        assertThat(count("learner", "miss")).isEqualTo(2.0);
+        assertThat(meterRegistry.get("dashboard.cache.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("getLearner - 同じユーザーへの同時アクセスでは1回だけ読み込む")
+    void getLearner_concurrentCalls_loadOnce() throws Exception {
+        // Given
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<LearnerDashboardResponse>> calls = Collections.nCopies(16, () -> {
+            start.await();
+            return cache.getLearner(1L, this::loadLearner);
+        });
+
+        // When
+        List<Future<LearnerDashboardResponse>> results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            results = calls.stream().map(executor::submit).toList();
+            start.countDown();
+        }
+
+        // Then
+        for (Future<LearnerDashboardResponse> result : results) {
+            assertThat(result.get()).isSameAs(results.get(0).get());
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(count("learner", "miss")).isEqualTo(1.0);
+        assertThat(count("learner", "hit")).isEqualTo(15.0);
+    }
+
+    @Test
+    @DisplayName("getLearner - 読み込み中に破棄されたエントリは残さない")
+    void getLearner_evictedWhileLoading_isNotKept() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<LearnerDashboardResponse> stale = executor.submit(() -> cache.getLearner(1L, () -> {
+                loading.countDown();
+                try {
+                    evicted.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return loadLearner();
+            }));
+            loading.await();
+            Thread evictor = Thread.ofPlatform().start(() -> cache.onLearningActivity(LearningActivityEvent.learner(1L)));
+            // 破棄が読み込みの完了待ちに入ってから読み込みを終える
+            while (evictor.getState() != Thread.State.BLOCKED && evictor.getState() != Thread.State.TERMINATED) {
+                Thread.sleep(1);
+            }
+            evicted.countDown();
+            evictor.join();
+            stale.get();
+        }
+        cache.getLearner(1L, this::loadLearner);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("onLearningActivity - 該当ユーザーのみ破棄し、提出時は講師用も破棄")
+    void onLearningActivity_evictsAffectedEntries() {
+        // Given
+        cache.getLearner(1L, this::loadLearner);
+        cache.getLearner(2L, this::loadLearner);
+        cache.getInstructor(this::loadInstructor);
+
+        // When
+        cache.onLearningActivity(LearningActivityEvent.learner(1L));
+        cache.getLearner(1L, this::loadLearner);
+        cache.getLearner(2L, this::loadLearner);
+        cache.getInstructor(this::loadInstructor);
+
+        // Then
+        assertThat(loads).hasValue(4);
+
+        // When
+        cache.onLearningActivity(LearningActivityEvent.submission(2L));
+        cache.getLearner(2L, this::loadLearner);
+        cache.getInstructor(this::loadInstructor);
+
+        // Then
+        assertThat(loads).hasValue(6);
+        assertThat(count("instructor", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("onCourseChanged - 全エントリを破棄")
+    void onCourseChanged_evictsAll() {
+        // Given
+        cache.getLearner(1L, this::loadLearner);
+        cache.getInstructor(this::loadInstructor);
+
+        // When
+        cache.onCourseChanged(new CourseChangedEvent(10L));
+
+        // Then
+        assertThat(meterRegistry.get("dashboard.cache.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("getLearner - 無効化設定時は毎回読み込む")
+    void getLearner_disabled_alwaysLoads() {
+        // Given
+        DashboardCacheProperties properties = new DashboardCacheProperties();
+        properties.setEnabled(false);
+        DashboardCache disabled = new DashboardCache(
+                new InMemoryDashboardCacheBackend(100, Duration.ofMinutes(10)), properties, new SimpleMeterRegistry());
+
+        // When
+        disabled.getLearner(1L, this::loadLearner);
+        disabled.getLearner(1L, this::loadLearner);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    private LearnerDashboardResponse loadLearner() {
+        loads.incrementAndGet();
+        return LearnerDashboardResponse.builder()
+                .enrolledCourses(List.of())
+                .pendingTasks(List.of())
+                .recentFeedbacks(List.of())
+                .build();
+    }
+
+    private InstructorDashboardResponse loadInstructor() {
+        loads.incrementAndGet();
+        return InstructorDashboardResponse.builder()
+                .unreviewedCount(0)
+                .recentSubmissions(List.of())
+                .build();
+    }
+
+    private double count(String view, String result) {
+        return meterRegistry.get("dashboard.cache.requests").tag("view", view).tag("result", result)
+                .counter().count();
+    }
+}
@@ -0,0 +1,62 @@
+package com.skillbridge.lms.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.skillbridge.lms.event.UnreadNotificationCountChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UnreadCountCacheTest {
+
+    private UnreadCountCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UnreadCountCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("get - 2回目はキャッシュから返す")
+    void get_cachesPerUser() {
+        // When
+        long first = cache.get(1L, () -> load(5));
+        long second = cache.get(1L, () -> load(99));
+
+        // Then
+        assertThat(first).isEqualTo(5);
+        assertThat(second).isEqualTo(5);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("onUnreadCountChanged - 対象ユーザーのみ破棄し、次回の取得で数え直す")
+    void onUnreadCountChanged_evictsUser() {
+        // Given
+        cache.get(1L, () -> load(5));
+        cache.get(2L, () -> load(3));
+
+        // When
+        cache.onUnreadCountChanged(new UnreadNotificationCountChangedEvent(1L));
+        long reloaded = cache.get(1L, () -> load(4));
+        long untouched = cache.get(2L, () -> load(99));
+
+        // Then
+        assertThat(reloaded).isEqualTo(4);
+        assertThat(untouched).isEqualTo(3);
+        assertThat(loads).hasValue(3);
+    }
+
+    private long load(long count) {
+        loads.incrementAndGet();
+        return count;
+    }
+}
@@ -0,0 +1,204 @@
+package com.skillbridge.lms.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.Enrollment;
+import com.skillbridge.lms.entity.Lesson;
+import com.skillbridge.lms.entity.Notification;
+import com.skillbridge.lms.entity.OutboxEvent;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.enums.OutboxStatus;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.repository.CertificateRepository;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentRepository;
+import com.skillbridge.lms.repository.LessonProgressRepository;
+import com.skillbridge.lms.repository.LessonRepository;
+import com.skillbridge.lms.repository.NotificationRepository;
+import com.skillbridge.lms.repository.OutboxEventRepository;
+import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.JwtTokenProvider;
+import com.skillbridge.lms.service.CourseCompletionService;
+
+/**
+ * 最後のレッスン完了からアウトボックス経由で証明書・通知を発行するまでを通して確認する
+ * (ワーカーは別トランザクションで読むためデータはコミットし、専用のDBで後始末する。ポーリングは止めて手動で処理する)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:course-completion-outbox;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MYSQL"
+})
+class CourseCompletionOutboxIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxProcessor outboxProcessor;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private LessonProgressRepository lessonProgressRepository;
+
+    @Autowired
+    private CertificateRepository certificateRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User learner;
+    private Course course;
+    private Lesson lastLesson;
+
+    @BeforeEach
+    void setUp() {
+        learner = userRepository.save(User.builder()
+                .email("learner@outbox.com")
+                .password("password")
+                .username("Learner")
+                .role(UserRole.LEARNER)
+                .enabled(true)
+                .build());
+        course = courseRepository.save(Course.builder()
+                .title("Outbox Course")
+                .description("Description")
+                .sortOrder(0)
+                .published(true)
+                .build());
+        lastLesson = lessonRepository.save(Lesson.builder()
+                .course(course)
+                .title("Lesson 1")
+                .contentPath("/lesson1.md")
+                .sortOrder(1)
+                .published(true)
+                .build());
+        enrollmentRepository.save(Enrollment.builder()
+                .user(learner)
+                .course(course)
+                .status(EnrollmentStatus.ACTIVE)
+                .totalPublishedLessons(1)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        notificationRepository.deleteAll();
+        certificateRepository.deleteAll();
+        lessonProgressRepository.deleteAll();
+        enrollmentRepository.deleteAll();
+        lessonRepository.deleteAll();
+        courseRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("最後のレッスン完了 - コミット後にアウトボックスを処理すると受講完了・証明書・通知が1回だけ発行される")
+    void completeLastLesson_processBatch_issuesCertificateAndNotificationOnce() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/courses/{courseId}/lessons/{lessonId}/complete", course.getId(), lastLesson.getId())
+                        .header("Authorization", "Bearer " + tokenProvider.generateAccessToken(learner)))
+                .andExpect(status().isOk());
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getEventType()).isEqualTo(CourseCompletionService.EVENT_TYPE);
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        });
+        assertThat(certificateRepository.existsByUserIdAndCourseId(learner.getId(), course.getId())).isFalse();
+
+        // When
+        int fetched = outboxProcessor.processBatch();
+        int fetchedAgain = outboxProcessor.processBatch();
+
+        // Then
+        assertThat(fetched).isEqualTo(1);
+        assertThat(fetchedAgain).isZero();
+        OutboxEvent processed = outboxEventRepository.findById(events.get(0).getId()).orElseThrow();
+        assertThat(processed.getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(processed.getAttempts()).isEqualTo(1);
+        Enrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(learner.getId(), course.getId())
+                .orElseThrow();
+        assertThat(enrollment.getStatus()).isEqualTo(EnrollmentStatus.COMPLETED);
+        assertThat(enrollment.getCompletedAt()).isNotNull();
+        assertThat(certificateRepository.findByUserIdOrderByIssuedAtDesc(learner.getId())).hasSize(1);
+        assertThat(notificationRepository.findByUserIdOrderByCreatedAtDesc(learner.getId()))
+                .extracting(Notification::getType)
+                .containsExactly("CERTIFICATE");
+    }
+
+    @Test
+    @DisplayName("markProcessed/markFailed - リース期限後に取得し直されたイベントは元のワーカーから更新できない")
+    void markResult_afterLeaseReclaimed_onlyCurrentLeaseUpdates() {
+        // Given: ワーカーAがリースを取得した後、期限切れでワーカーBが取得し直した
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(CourseCompletionService.EVENT_TYPE)
+                .payload("{}")
+                .availableAt(now.minusMinutes(5))
+                .build());
+        Integer claimedByA = tx.execute(s -> outboxEventRepository.claim(event.getId(), now.minusMinutes(5),
+                now.minusMinutes(1)));
+        Integer claimedByB = tx.execute(s -> outboxEventRepository.claim(event.getId(), now.minusMinutes(1),
+                now.plusMinutes(1)));
+
+        // When
+        Integer processedByA = tx.execute(s -> outboxEventRepository.markProcessed(event.getId(), 1, now));
+        Integer failedByA = tx.execute(s -> outboxEventRepository.markFailed(event.getId(), 1,
+                OutboxStatus.FAILED, now, "stale"));
+        Integer processedByB = tx.execute(s -> outboxEventRepository.markProcessed(event.getId(), 2, now));
+
+        // Then
+        assertThat(claimedByA).isEqualTo(1);
+        assertThat(claimedByB).isEqualTo(1);
+        assertThat(processedByA).isZero();
+        assertThat(failedByA).isZero();
+        assertThat(processedByB).isEqualTo(1);
+        OutboxEvent stored = outboxEventRepository.findById(event.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(stored.getLastError()).isNull();
+    }
+}
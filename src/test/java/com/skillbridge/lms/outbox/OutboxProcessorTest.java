@@ -0,0 +1,205 @@
+package com.skillbridge.lms.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.lms.entity.OutboxEvent;
+import com.skillbridge.lms.enums.OutboxStatus;
+import com.skillbridge.lms.event.CourseCompletionRequested;
+import com.skillbridge.lms.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboxProcessorTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingHandler handler;
+    private OutboxProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new RecordingHandler();
+        processor = new OutboxProcessor(outboxEventRepository, mock(PlatformTransactionManager.class),
+                new ObjectMapper(), List.of(handler), meterRegistry,
+                false, 10, Duration.ofSeconds(1), 2, Duration.ofMinutes(1), 3, Duration.ofSeconds(5),
+                Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.stop();
+    }
+
+    @Test
+    @DisplayName("processBatch - リースを取れたイベントを処理し、処理済みにする")
+    void processBatch_claimedEvent_handlesAndMarksProcessed() {
+        // Given
+        OutboxEvent event = event(1L, 0);
+        when(outboxEventRepository.findReady(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(event));
+        when(outboxEventRepository.claim(eq(1L), eq(event.getAvailableAt()), any(LocalDateTime.class))).thenReturn(1);
+        when(outboxEventRepository.markProcessed(eq(1L), eq(1), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        int fetched = processor.processBatch();
+
+        // Then
+        assertThat(fetched).isEqualTo(1);
+        assertThat(handler.handled).containsExactly(new CourseCompletionRequested(10L, 20L));
+        verify(outboxEventRepository).markProcessed(eq(1L), eq(1), any(LocalDateTime.class));
+        assertThat(count("processed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("processBatch - 処理中にリースを失った場合は処理済みにも再試行にもしない")
+    void processBatch_leaseLost_discardsResult() {
+        // Given: 別のワーカーが取得し直して attempts が進んでいる
+        OutboxEvent event = event(1L, 0);
+        when(outboxEventRepository.findReady(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(event));
+        when(outboxEventRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(outboxEventRepository.markProcessed(eq(1L), eq(1), any(LocalDateTime.class))).thenReturn(0);
+
+        // When
+        processor.processBatch();
+
+        // Then
+        verify(outboxEventRepository, never()).markFailed(anyLong(), anyInt(), any(), any(), any());
+        assertThat(meterRegistry.find("outbox.events").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    @Test
+    @DisplayName("processBatch - 他のワーカーがリース済みのイベントは処理しない")
+    void processBatch_notClaimed_skips() {
+        // Given
+        OutboxEvent event = event(1L, 0);
+        when(outboxEventRepository.findReady(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(event));
+        when(outboxEventRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+
+        // When
+        processor.processBatch();
+
+        // Then
+        assertThat(handler.handled).isEmpty();
+        verify(outboxEventRepository, never()).markProcessed(anyLong(), anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("processBatch - 失敗したイベントはバックオフ後に再試行する")
+    void processBatch_handlerFails_schedulesRetry() {
+        // Given
+        handler.failure = new IllegalStateException("boom");
+        OutboxEvent event = event(1L, 1);
+        when(outboxEventRepository.findReady(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(event));
+        when(outboxEventRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        processor.processBatch();
+
+        // Then: 2回目の失敗なので 5秒 * 2 後に再試行
+        verify(outboxEventRepository).markFailed(eq(1L), eq(2), eq(OutboxStatus.PENDING),
+                argThat(retryAt -> !retryAt.isBefore(before.plusSeconds(10))), contains("boom"));
+        verify(outboxEventRepository, never()).markProcessed(anyLong(), anyInt(), any(LocalDateTime.class));
+        assertThat(count("retried")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("processBatch - 上限回数に達したイベントはFAILEDとして残す")
+    void processBatch_maxAttemptsReached_marksFailed() {
+        // Given
+        handler.failure = new IllegalStateException("boom");
+        OutboxEvent event = event(1L, 2);
+        when(outboxEventRepository.findReady(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(event));
+        when(outboxEventRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        processor.processBatch();
+
+        // Then
+        verify(outboxEventRepository).markFailed(eq(1L), eq(3), eq(OutboxStatus.FAILED), any(LocalDateTime.class),
+                contains("boom"));
+        assertThat(count("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("processBatch - 最も古い未処理イベントからの経過時間を遅延として公開")
+    void processBatch_updatesLagGauge() {
+        // Given
+        when(outboxEventRepository.findReady(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+        when(outboxEventRepository.findOldestPendingCreatedAt()).thenReturn(LocalDateTime.now().minusSeconds(30));
+        when(outboxEventRepository.countByStatus(OutboxStatus.PENDING)).thenReturn(4L);
+
+        // When
+        processor.processBatch();
+
+        // Then
+        assertThat(meterRegistry.get("outbox.lag").timeGauge().value(TimeUnit.SECONDS)).isBetween(29.0, 40.0);
+        assertThat(meterRegistry.get("outbox.pending").gauge().value()).isEqualTo(4.0);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("outbox.events").tag("result", result).counter().count();
+    }
+
+    private static OutboxEvent event(Long id, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType("TEST")
+                .payload("{\"userId\":10,\"courseId\":20}")
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .availableAt(LocalDateTime.now().minusSeconds(1))
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    private static class RecordingHandler implements OutboxEventHandler<CourseCompletionRequested> {
+
+        private final List<CourseCompletionRequested> handled = new CopyOnWriteArrayList<>();
+        private volatile RuntimeException failure;
+
+        @Override
+        public String eventType() {
+            return "TEST";
+        }
+
+        @Override
+        public Class<CourseCompletionRequested> payloadType() {
+            return CourseCompletionRequested.class;
+        }
+
+        @Override
+        public void handle(CourseCompletionRequested payload) {
+            if (failure != null) {
+                throw failure;
+            }
+            handled.add(payload);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.skillbridge.lms.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimitBackendTest {
+
+    private final RateLimitPolicy policy = new RateLimitPolicy("test", 10, Duration.ofSeconds(10));
+
+    private AtomicLong now;
+    private InMemoryRateLimitBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(0);
+        backend = new InMemoryRateLimitBackend(1_000, Duration.ofMinutes(10), now::get);
+    }
+
+    @Test
+    @DisplayName("tryConsume - 容量までは許可 - 超過分は拒否されRetry-Afterが返る")
+    void tryConsume_burstUpToCapacity() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            RateLimitResult result = backend.tryConsume("k", policy);
+            assertThat(result.allowed()).isTrue();
+            assertThat(result.remaining()).isEqualTo(9 - i);
+        }
+        RateLimitResult rejected = backend.tryConsume("k", policy);
+
+        // Then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterMillis()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("tryConsume - 時間経過 - 経過分のトークンが補充される")
+    void tryConsume_refillsOverTime() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            backend.tryConsume("k", policy);
+        }
+
+        // When
+        now.addAndGet(TimeUnit.SECONDS.toNanos(3));
+
+        // Then
+        for (int i = 0; i < 3; i++) {
+            assertThat(backend.tryConsume("k", policy).allowed()).isTrue();
+        }
+        assertThat(backend.tryConsume("k", policy).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("tryConsume - キーが異なる - バケットは独立")
+    void tryConsume_independentKeys() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            backend.tryConsume("a", policy);
+        }
+
+        // When / Then
+        assertThat(backend.tryConsume("a", policy).allowed()).isFalse();
+        assertThat(backend.tryConsume("b", policy).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("tryConsume - 同時アクセス - 容量を超えて許可しない")
+    void tryConsume_concurrentCallers() throws Exception {
+        // Given
+        RateLimitPolicy wide = new RateLimitPolicy("wide", 100, Duration.ofHours(1));
+        InMemoryRateLimitBackend realClock = new InMemoryRateLimitBackend(1_000, Duration.ofMinutes(10));
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1_000; i++) {
+                executor.submit(() -> {
+                    if (realClock.tryConsume("shared", wide).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        // Then
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("trackedKeys - 上限を超えるキー - 保持数が上限に収まる")
+    void trackedKeys_bounded() {
+        // Given
+        InMemoryRateLimitBackend small = new InMemoryRateLimitBackend(50, Duration.ofMinutes(10), now::get);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            small.tryConsume("ip:" + i, policy);
+        }
+
+        // Then
+        assertThat(small.trackedKeys()).isLessThanOrEqualTo(50);
+    }
+}
@@ -0,0 +1,59 @@
+package com.skillbridge.lms.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitPolicyResolverTest {
+
+    private RateLimitPolicyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(
+                rule("auth", List.of("/api/auth/login"), List.of(), 10),
+                rule("admin", List.of("/api/**"), List.of("ADMIN"), 600),
+                rule("courses", List.of("/api/courses", "/api/courses/**"), List.of(), 300)));
+        resolver = new RateLimitPolicyResolver(properties);
+    }
+
+    @Test
+    @DisplayName("resolve - 認証エンドポイント - ロールに関係なくauthポリシー")
+    void resolve_authEndpoint() {
+        assertThat(resolver.resolve("/api/auth/login", RateLimitPolicyResolver.ANONYMOUS).name()).isEqualTo("auth");
+        assertThat(resolver.resolve("/api/auth/login", "ADMIN").name()).isEqualTo("auth");
+    }
+
+    @Test
+    @DisplayName("resolve - ロール指定ルール - 該当ロールのみ適用")
+    void resolve_roleSpecificRule() {
+        assertThat(resolver.resolve("/api/courses/1", "ADMIN").name()).isEqualTo("admin");
+        assertThat(resolver.resolve("/api/courses/1", "LEARNER").name()).isEqualTo("courses");
+        assertThat(resolver.resolve("/api/courses", RateLimitPolicyResolver.ANONYMOUS).capacity()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("resolve - 一致なし/パスnull - 既定ポリシー")
+    void resolve_fallsBackToDefault() {
+        RateLimitPolicy policy = resolver.resolve(null, RateLimitPolicyResolver.ANONYMOUS);
+
+        assertThat(policy.name()).isEqualTo("default");
+        assertThat(policy.capacity()).isEqualTo(60);
+        assertThat(policy.period()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    private RateLimitProperties.Rule rule(String name, List<String> paths, List<String> roles, long capacity) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setPaths(paths);
+        rule.setRoles(roles);
+        rule.setCapacity(capacity);
+        return rule;
+    }
+}
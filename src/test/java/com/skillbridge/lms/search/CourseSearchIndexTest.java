@@ -0,0 +1,202 @@
+package com.skillbridge.lms.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CourseSearchIndexTest {
+
+    private static final LocalDateTime SNAPSHOT_AT = LocalDateTime.of(2026, 1, 10, 0, 0);
+
+    private CourseSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CourseSearchIndex();
+        index.replaceAll(List.of(
+                document(1L, "Java入門", "プログラミングの基礎を学ぶ", true, Set.of(10L), 1),
+                document(2L, "Spring Boot 実践", "Javaで作るWebアプリケーション開発", true, Set.of(10L, 20L), 2),
+                document(3L, "データベース設計", "SQLとテーブル設計の入門講座", true, Set.of(20L), 3),
+                document(4L, "下書きコース", "Java の下書き", false, Set.of(), 4)), SNAPSHOT_AT);
+    }
+
+    @Test
+    @DisplayName("analyzeForQuery - 日本語はbigram、英数字は小文字の単語に分割")
+    void analyzeForQuery_splitsJapaneseIntoBigrams() {
+        assertThat(TextAnalyzer.analyzeForQuery("Ｊａｖａ入門講座"))
+                .containsExactly("java", "入門", "門講", "講座");
+        assertThat(TextAnalyzer.analyzeForQuery("設")).containsExactly("設");
+    }
+
+    @Test
+    @DisplayName("search - タイトル一致は説明のみの一致より上位")
+    void search_titleMatchRanksHigher() {
+        // When
+        List<CourseSearchIndex.Hit> hits = index.search("java", true, null);
+
+        // Then
+        assertThat(hits).extracting(CourseSearchIndex.Hit::courseId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("search - 日本語の部分一致と1文字検索")
+    void search_japaneseSubstring() {
+        assertThat(index.search("入門", true, null))
+                .extracting(CourseSearchIndex.Hit::courseId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("ベース", true, null))
+                .extracting(CourseSearchIndex.Hit::courseId).containsExactly(3L);
+        assertThat(index.search("設", true, null))
+                .extracting(CourseSearchIndex.Hit::courseId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("search - 全トークンを含む文書のみ、最後の英単語は前方一致")
+    void search_requiresAllTermsWithPrefixOnLastWord() {
+        assertThat(index.search("spring bo", true, null))
+                .extracting(CourseSearchIndex.Hit::courseId).containsExactly(2L);
+        assertThat(index.search("spring 入門", true, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search - 公開状態とカテゴリで絞り込み")
+    void search_filters() {
+        assertThat(index.search("java", null, null))
+                .extracting(CourseSearchIndex.Hit::courseId).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(index.search("java", true, 20L))
+                .extracting(CourseSearchIndex.Hit::courseId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("upsert/remove - 更新と削除が即座に反映")
+    void upsertAndRemove() {
+        // When
+        index.upsert(document(1L, "Kotlin入門", "基礎", true, Set.of(), 1));
+        index.remove(3L);
+
+        // Then
+        assertThat(index.search("java", true, null))
+                .extracting(CourseSearchIndex.Hit::courseId).containsExactly(2L);
+        assertThat(index.search("入門", true, null))
+                .extracting(CourseSearchIndex.Hit::courseId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("page - 英単語の途中を含む部分一致")
+    void page_matchesInfix() {
+        // Given
+        index.upsert(document(5L, "JavaScript基礎", "ブラウザで動かす", true, Set.of(), 5));
+
+        // When & Then
+        assertThat(index.page("script", true, CourseSearchIndex.Order.NEWEST, 0, 10).ids())
+                .containsExactly(5L);
+        assertThat(index.page("ava", null, CourseSearchIndex.Order.OLDEST, 0, 10).ids())
+                .containsExactly(1L, 2L, 4L, 5L);
+        assertThat(index.page("ーブル設", true, CourseSearchIndex.Order.NEWEST, 0, 10).ids())
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("page - 指定順に並べ、総件数とページ内のIDだけを返す")
+    void page_sortsAndSlices() {
+        // When
+        CourseSearchIndex.Result newest = index.page("java", null, CourseSearchIndex.Order.NEWEST, 1, 2);
+        CourseSearchIndex.Result byTitle = index.page("java", true, CourseSearchIndex.Order.TITLE, 0, 10);
+        CourseSearchIndex.Result beyond = index.page("java", null, CourseSearchIndex.Order.OLDEST, 10, 2);
+
+        // Then
+        assertThat(newest.ids()).containsExactly(2L, 1L);
+        assertThat(newest.total()).isEqualTo(3);
+        assertThat(byTitle.ids()).containsExactly(1L, 2L);
+        assertThat(beyond.ids()).isEmpty();
+        assertThat(beyond.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("page - 更新・削除後は古い内容の n-gram で一致しない")
+    void page_afterUpdateAndRemove_usesCurrentContent() {
+        // Given
+        index.upsert(document(5L, "Kotlin基礎", "サーバーサイド", true, Set.of(), 5));
+        index.upsert(document(5L, "Go基礎", "並行処理", true, Set.of(), 5));
+        index.upsert(document(6L, "Rust基礎", "所有権", true, Set.of(), 6));
+        index.remove(6L);
+
+        // When & Then
+        assertThat(index.page("otl", null, CourseSearchIndex.Order.NEWEST, 0, 10).total()).isZero();
+        assertThat(index.page("並行", null, CourseSearchIndex.Order.NEWEST, 0, 10).ids()).containsExactly(5L);
+        assertThat(index.page("rust", null, CourseSearchIndex.Order.NEWEST, 0, 10).total()).isZero();
+        assertThat(index.page("go基", null, CourseSearchIndex.Order.NEWEST, 0, 10).ids()).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("upsert - 保持している文書より古い内容 - 上書きしない")
+    void upsert_olderDocument_isIgnored() {
+        // Given
+        index.upsert(document(3L, "データベース運用", "バックアップと監視", true, Set.of(20L), 12));
+
+        // When
+        index.upsert(document(3L, "データベース設計", "SQLとテーブル設計の入門講座", true, Set.of(20L), 11));
+
+        // Then
+        assertThat(index.page("運用", true, CourseSearchIndex.Order.NEWEST, 0, 10).ids()).containsExactly(3L);
+        assertThat(index.page("設計", true, CourseSearchIndex.Order.NEWEST, 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("replaceAll - 読み取り後に反映された文書 - 古いスナップショットで上書きしない")
+    void replaceAll_keepsDocumentsUpdatedAfterSnapshot() {
+        // Given
+        LocalDateTime snapshotAt = LocalDateTime.of(2026, 1, 20, 0, 0);
+        index.upsert(document(2L, "Spring Boot 応用", "マイクロサービス", true, Set.of(10L), 21));
+        index.upsert(document(5L, "Kotlin入門", "サーバーサイド", true, Set.of(), 22));
+        index.upsert(document(6L, "古いコース", "読み取り前に削除済み", true, Set.of(), 15));
+
+        // When
+        index.replaceAll(List.of(
+                document(1L, "Java入門", "プログラミングの基礎を学ぶ", true, Set.of(10L), 1),
+                document(2L, "Spring Boot 実践", "Javaで作るWebアプリケーション開発", true, Set.of(10L, 20L), 2)),
+                snapshotAt);
+
+        // Then
+        assertThat(index.page("応用", true, CourseSearchIndex.Order.NEWEST, 0, 10).ids()).containsExactly(2L);
+        assertThat(index.page("kotlin", true, CourseSearchIndex.Order.NEWEST, 0, 10).ids()).containsExactly(5L);
+        assertThat(index.page("古い", true, CourseSearchIndex.Order.NEWEST, 0, 10).total()).isZero();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("removeMissing - ID一覧にない文書を削除し、一覧の取得後に反映された文書は残す")
+    void removeMissing_keepsDocumentsUpdatedAfterListing() {
+        // Given
+        index.upsert(document(5L, "Kotlin入門", "サーバーサイド", true, Set.of(), 22));
+
+        // When
+        int removed = index.removeMissing(Set.of(1L, 2L), LocalDateTime.of(2026, 1, 20, 0, 0));
+
+        // Then
+        assertThat(removed).isEqualTo(2);
+        assertThat(index.page("入門", null, CourseSearchIndex.Order.OLDEST, 0, 10).ids()).containsExactly(1L, 5L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("suggest - タイトル先頭と単語先頭の前方一致")
+    void suggest_prefix() {
+        assertThat(index.suggest("ja", true, 10)).containsExactly("Java入門");
+        assertThat(index.suggest("boo", true, 10)).containsExactly("Spring Boot 実践");
+        assertThat(index.suggest("下書", true, 10)).isEmpty();
+        assertThat(index.suggest("下書", null, 10)).containsExactly("下書きコース");
+    }
+
+    private CourseDocument document(Long id, String title, String description, boolean published,
+            Set<Long> categoryIds, int day) {
+        LocalDateTime at = LocalDateTime.of(2026, 1, day, 0, 0);
+        return new CourseDocument(id, title, description, published, categoryIds, at, at);
+    }
+}
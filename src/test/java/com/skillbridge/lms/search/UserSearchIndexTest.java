@@ -0,0 +1,98 @@
+package com.skillbridge.lms.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.skillbridge.lms.enums.UserRole;
+
+class UserSearchIndexTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex();
+        index.upsert(1L, "Taro Yamada", "taro@example.com", UserRole.LEARNER, UPDATED_AT);
+        index.upsert(2L, "Hanako Suzuki", "hanako@example.com", UserRole.INSTRUCTOR, UPDATED_AT);
+        index.upsert(3L, "Admin", "admin@corp.jp", UserRole.ADMIN, UPDATED_AT);
+        index.upsert(5L, "山田花子", "yamada.h@example.com", UserRole.LEARNER, UPDATED_AT);
+    }
+
+    @Test
+    @DisplayName("search - 名前・メールの部分一致 (ID降順)")
+    void search_substring() {
+        assertThat(index.search("yamada", null, null, 10)).containsExactly(5L, 1L);
+        assertThat(index.search("EXAMPLE.COM", null, null, 10)).containsExactly(5L, 2L, 1L);
+        assertThat(index.search("山田花", null, null, 10)).containsExactly(5L);
+        assertThat(index.search("zzz", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search - 1〜2文字も部分一致")
+    void search_shortKeyword() {
+        assertThat(index.search("ad", null, null, 10)).containsExactly(5L, 3L, 1L);
+        assertThat(index.search("ko", null, null, 10)).containsExactly(2L);
+        assertThat(index.search("a", null, null, 10)).containsExactly(5L, 3L, 2L, 1L);
+        assertThat(index.search("子", null, null, 10)).containsExactly(5L);
+        assertThat(index.search("qz", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search - ロール絞り込みとキーセット")
+    void search_roleAndKeyset() {
+        assertThat(index.search("example", UserRole.LEARNER, null, 10)).containsExactly(5L, 1L);
+        assertThat(index.search("example", null, null, 2)).containsExactly(5L, 2L);
+        assertThat(index.search("example", null, 2L, 2)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("page - 並び順・オフセットを適用し、総件数はページ外も数える")
+    void page_offsetAndTotal() {
+        UserSearchIndex.Result descending = index.page("example", null, false, 1, 1);
+        assertThat(descending.ids()).containsExactly(2L);
+        assertThat(descending.total()).isEqualTo(3);
+
+        UserSearchIndex.Result ascending = index.page("example", null, true, 0, 2);
+        assertThat(ascending.ids()).containsExactly(1L, 2L);
+        assertThat(ascending.total()).isEqualTo(3);
+
+        UserSearchIndex.Result learners = index.page("example", UserRole.LEARNER, false, 5, 10);
+        assertThat(learners.ids()).isEmpty();
+        assertThat(learners.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("upsert/remove - 名前変更と削除で古い値では一致しない")
+    void upsertAndRemove() {
+        // When
+        index.upsert(1L, "Jiro Sato", "taro@example.com", UserRole.LEARNER, UPDATED_AT);
+        index.remove(2L);
+
+        // Then
+        assertThat(index.search("yamada", null, null, 10)).containsExactly(5L);
+        assertThat(index.search("sato", null, null, 10)).containsExactly(1L);
+        assertThat(index.search("hanako", null, null, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("upsert - 保持している内容より古い更新日時 - 上書きしない")
+    void upsert_olderUpdate_isIgnored() {
+        // Given
+        index.upsert(1L, "Jiro Sato", "taro@example.com", UserRole.LEARNER, UPDATED_AT.plusMinutes(2));
+
+        // When
+        index.upsert(1L, "Taro Yamada", "taro@example.com", UserRole.LEARNER, UPDATED_AT.plusMinutes(1));
+
+        // Then
+        assertThat(index.search("sato", null, null, 10)).containsExactly(1L);
+        assertThat(index.search("yamada", null, null, 10)).containsExactly(5L);
+    }
+}
@@ -0,0 +1,131 @@
+package com.skillbridge.lms.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenProvider tokenProvider;
+    private PrincipalCache principalCache;
+    private JwtAuthenticationFilter filter;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(
+                "test-secret-key-for-testing-must-be-at-least-256-bits-long-enough", 900000, 604800000);
+        principalCache = mock(PrincipalCache.class);
+        filter = new JwtAuthenticationFilter(tokenProvider, principalCache, new ResolvedUserHolder());
+        admin = User.builder()
+                .id(7L)
+                .email("admin@example.com")
+                .role(UserRole.ADMIN)
+                .enabled(true)
+                .tokenVersion(3)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("doFilterInternal - トークンバージョンが現在と一致すれば認証")
+    void currentTokenVersion_authenticated() throws Exception {
+        // Given
+        when(principalCache.get("admin@example.com")).thenReturn(UserPrincipal.from(admin));
+        MockHttpServletRequest request = bearer(tokenProvider.generateAccessToken(admin));
+
+        // When
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getUsername()).isEqualTo("admin@example.com");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("doFilterInternal - 失効 (ロール変更など) より前に発行されたトークンは同じ秒でも認証しない")
+    void staleTokenVersion_notAuthenticated() throws Exception {
+        // Given
+        String token = tokenProvider.generateAccessToken(admin);
+        admin.setRole(UserRole.LEARNER);
+        admin.revokeTokens();
+        when(principalCache.get("admin@example.com")).thenReturn(UserPrincipal.from(admin));
+
+        // When
+        filter.doFilterInternal(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilterInternal - 無効化されたユーザーは認証しない")
+    void disabledUser_notAuthenticated() throws Exception {
+        // Given
+        String token = tokenProvider.generateAccessToken(admin);
+        admin.setEnabled(false);
+        when(principalCache.get("admin@example.com")).thenReturn(UserPrincipal.from(admin));
+
+        // When
+        filter.doFilterInternal(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilterInternal - ver クレームのないリフレッシュトークンはアクセストークンとして認証しない")
+    void refreshToken_notAcceptedAsAccessToken() throws Exception {
+        // Given
+        String token = tokenProvider.generateRefreshToken("admin@example.com");
+
+        // When
+        filter.doFilterInternal(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(principalCache);
+    }
+
+    @Test
+    @DisplayName("doFilterInternal - 改ざんされたトークンは認証しない")
+    void tamperedToken_notAuthenticated() throws Exception {
+        // Given
+        String token = tokenProvider.generateAccessToken(admin);
+        MockHttpServletRequest request = bearer(token.substring(0, token.length() - 2) + "xx");
+
+        // When
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,95 @@
+package com.skillbridge.lms.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.event.UserChangedEvent;
+import com.skillbridge.lms.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PrincipalCacheTest {
+
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(userRepository, meterRegistry, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("get - 2回目以降はDBを参照しない")
+    void get_secondCall_servedFromCache() {
+        // Given
+        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(user(true)));
+
+        // When
+        UserPrincipal first = principalCache.get("learner@example.com");
+        UserPrincipal second = principalCache.get("learner@example.com");
+
+        // Then
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(first.getRole()).isEqualTo(UserRole.LEARNER);
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByEmail("learner@example.com");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("onUserChanged - 破棄後は最新の状態を再読込")
+    void onUserChanged_reloadsLatestState() {
+        // Given
+        when(userRepository.findByEmail("learner@example.com"))
+                .thenReturn(Optional.of(user(true)))
+                .thenReturn(Optional.of(user(false)));
+        principalCache.get("learner@example.com");
+
+        // When
+        principalCache.onUserChanged(new UserChangedEvent(1L, "learner@example.com"));
+        UserPrincipal reloaded = principalCache.get("learner@example.com");
+
+        // Then
+        assertThat(reloaded.isEnabled()).isFalse();
+        verify(userRepository, times(2)).findByEmail("learner@example.com");
+    }
+
+    @Test
+    @DisplayName("get - 存在しないユーザーはnull")
+    void get_unknownUser_returnsNull() {
+        // Given
+        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(principalCache.get("unknown@example.com")).isNull();
+    }
+
+    private User user(boolean enabled) {
+        return User.builder()
+                .id(1L)
+                .email("learner@example.com")
+                .password("encoded")
+                .username("learner")
+                .role(UserRole.LEARNER)
+                .enabled(enabled)
+                .build();
+    }
+}
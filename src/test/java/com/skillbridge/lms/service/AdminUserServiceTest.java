@@ -3,6 +3,9 @@ package com.skillbridge.lms.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -19,21 +22,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.skillbridge.lms.dto.request.AdminCreateUserRequest;
 import com.skillbridge.lms.dto.request.AdminUpdateUserRequest;
+import com.skillbridge.lms.dto.response.CursorPageResponse;
 import com.skillbridge.lms.dto.response.PageResponse;
 import com.skillbridge.lms.dto.response.UserListResponse;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.event.UserChangedEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.search.UserSearchIndex;
+import com.skillbridge.lms.search.UserSearchService;
 
 @ExtendWith(MockitoExtension.class)
 class AdminUserServiceTest {
@@ -44,6 +53,12 @@ class AdminUserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserSearchService userSearchService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminUserService adminUserService;
 
@@ -95,13 +110,15 @@ class AdminUserServiceTest {
     @DisplayName("getUsers - キーワード検索")
     void getUsers_withKeyword_searchesByKeyword() {
         Pageable pageable = PageRequest.of(0, 20);
-        Page<User> page = new PageImpl<>(List.of(learnerUser), pageable, 1);
-        when(userRepository.searchByKeyword(eq("learner"), eq(pageable))).thenReturn(page);
+        when(userSearchService.searchPage("learner", null, false, 0, 20))
+                .thenReturn(new UserSearchIndex.Result(List.of(learnerUser.getId()), 1));
+        when(userRepository.findAllById(List.of(learnerUser.getId()))).thenReturn(List.of(learnerUser));
 
         PageResponse<UserListResponse> result = adminUserService.getUsers("learner", null, pageable);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getEmail()).isEqualTo("learner@example.com");
+        assertThat(result.getTotalElements()).isEqualTo(1);
     }
 
     @Test
@@ -121,15 +138,40 @@ class AdminUserServiceTest {
     @DisplayName("getUsers - キーワード+ロールの組み合わせ検索")
     void getUsers_withKeywordAndRole_searchesBoth() {
         Pageable pageable = PageRequest.of(0, 20);
-        Page<User> page = new PageImpl<>(List.of(learnerUser), pageable, 1);
-        when(userRepository.searchByRoleAndKeyword(eq(UserRole.LEARNER), eq("learner"), eq(pageable)))
-                .thenReturn(page);
+        when(userSearchService.searchPage("learner", UserRole.LEARNER, false, 0, 20))
+                .thenReturn(new UserSearchIndex.Result(List.of(learnerUser.getId()), 1));
+        when(userRepository.findAllById(List.of(learnerUser.getId()))).thenReturn(List.of(learnerUser));
 
         PageResponse<UserListResponse> result = adminUserService.getUsers("learner", "LEARNER", pageable);
 
         assertThat(result.getContent()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("getUsers - キーワード検索で登録日時の昇順を指定するとインデックスを昇順に走査")
+    void getUsers_withKeywordAndCreatedAtAsc_pagesAscending() {
+        Pageable pageable = PageRequest.of(1, 1, Sort.by(Sort.Direction.ASC, "createdAt"));
+        when(userSearchService.searchPage("example", null, true, 1, 1))
+                .thenReturn(new UserSearchIndex.Result(List.of(learnerUser.getId()), 2));
+        when(userRepository.findAllById(List.of(learnerUser.getId()))).thenReturn(List.of(learnerUser));
+
+        PageResponse<UserListResponse> result = adminUserService.getUsers("example", null, pageable);
+
+        assertThat(result.getContent()).extracting(UserListResponse::getId).containsExactly(2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getUsers - キーワード検索でID・登録日時以外の並び順はBadRequestException")
+    void getUsers_withKeywordAndUnsupportedSort_throwsBadRequest() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("username"));
+
+        assertThatThrownBy(() -> adminUserService.getUsers("example", null, pageable))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("並び順");
+        verify(userSearchService, never()).searchPage(any(), any(), anyBoolean(), anyLong(), anyInt());
+    }
+
     @Test
     @DisplayName("getUsers - 無効なロールでBadRequestException")
     void getUsers_invalidRole_throwsBadRequest() {
@@ -164,6 +206,44 @@ class AdminUserServiceTest {
                 .hasMessageContaining("ユーザーが見つかりません");
     }
 
+    // ===== searchUsers =====
+
+    @Test
+    @DisplayName("searchUsers - キーワード指定 - インデックスの順序でカーソルを返す")
+    void searchUsers_withKeyword_returnsNextCursor() {
+        when(userSearchService.searchIds("example", null, 100L, 2))
+                .thenReturn(List.of(learnerUser.getId(), adminUser.getId()));
+        when(userRepository.findAllById(List.of(learnerUser.getId(), adminUser.getId())))
+                .thenReturn(List.of(adminUser, learnerUser));
+
+        CursorPageResponse<UserListResponse> result = adminUserService.searchUsers("example", null, "100", 1);
+
+        assertThat(result.getContent()).extracting(UserListResponse::getId).containsExactly(learnerUser.getId());
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(String.valueOf(learnerUser.getId()));
+    }
+
+    @Test
+    @DisplayName("searchUsers - キーワードなし・ロール指定 - DBのキーセット検索")
+    void searchUsers_roleOnly_usesKeysetQuery() {
+        when(userRepository.findByRoleAndIdLessThanOrderByIdDesc(eq(UserRole.ADMIN), eq(Long.MAX_VALUE), any()))
+                .thenReturn(List.of(adminUser));
+
+        CursorPageResponse<UserListResponse> result = adminUserService.searchUsers(null, "ADMIN", null, 20);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verify(userSearchService, never()).searchIds(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("searchUsers - 不正なカーソルでBadRequestException")
+    void searchUsers_invalidCursor_throwsBadRequest() {
+        assertThatThrownBy(() -> adminUserService.searchUsers("abc", null, "xyz", 20))
+                .isInstanceOf(BadRequestException.class);
+    }
+
     // ===== createUser =====
 
     @Test
@@ -225,6 +305,23 @@ class AdminUserServiceTest {
 
         assertThat(result.getName()).isEqualTo("Updated Name");
         assertThat(result.getRole()).isEqualTo(UserRole.INSTRUCTOR);
+        assertThat(learnerUser.getTokenVersion()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(2L, learnerUser.getEmail()));
+    }
+
+    @Test
+    @DisplayName("updateUser - ロールが変わらなければ発行済みトークンを失効させない")
+    void updateUser_sameRole_keepsTokenVersion() {
+        AdminUpdateUserRequest request = new AdminUpdateUserRequest();
+        request.setName("Updated Name");
+        request.setRole(learnerUser.getRole().name());
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(learnerUser));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        adminUserService.updateUser(2L, request);
+
+        assertThat(learnerUser.getTokenVersion()).isZero();
     }
 
     @Test
@@ -251,6 +348,8 @@ class AdminUserServiceTest {
         UserListResponse result = adminUserService.toggleEnabled(2L, 1L);
 
         assertThat(result.isEnabled()).isFalse();
+        assertThat(learnerUser.getTokenVersion()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(2L, learnerUser.getEmail()));
     }
 
     @Test
@@ -0,0 +1,273 @@
+package com.skillbridge.lms.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Pageable;
+
+import com.skillbridge.lms.dto.response.CompletionStatsResponse;
+import com.skillbridge.lms.dto.response.EnrollmentTrendResponse;
+import com.skillbridge.lms.dto.response.PopularCourseResponse;
+import com.skillbridge.lms.entity.EnrollmentDailyStat;
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.exception.BadRequestException;
+import com.skillbridge.lms.repository.EnrollmentDailyStatRepository;
+import com.skillbridge.lms.repository.EnrollmentRepository;
+import com.skillbridge.lms.repository.ReviewRepository;
+import com.skillbridge.lms.repository.projection.CourseEnrollmentStats;
+import com.skillbridge.lms.repository.projection.CourseRatingStats;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceTest {
+
+    @Mock
+    private EnrollmentDailyStatRepository enrollmentDailyStatRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @InjectMocks
+    private AnalyticsService analyticsService;
+
+    private EnrollmentDailyStat stat(LocalDate date, long count) {
+        return EnrollmentDailyStat.builder().statDate(date).enrollmentCount(count).build();
+    }
+
+    private CourseEnrollmentStats courseStats(Long courseId, String title, long total, long completed) {
+        CourseEnrollmentStats stats = mock(CourseEnrollmentStats.class);
+        lenient().when(stats.getCourseId()).thenReturn(courseId);
+        lenient().when(stats.getCourseTitle()).thenReturn(title);
+        lenient().when(stats.getTotalEnrollments()).thenReturn(total);
+        lenient().when(stats.getCompletedEnrollments()).thenReturn(completed);
+        return stats;
+    }
+
+    @Test
+    @DisplayName("getCompletionStats - 集計結果から完了率を算出")
+    void getCompletionStats_computesRates() {
+        // Given
+        List<CourseEnrollmentStats> stats = List.of(
+                courseStats(1L, "Java", 3, 1),
+                courseStats(2L, "Empty", 0, 0));
+        when(enrollmentRepository.findCourseEnrollmentStats(EnrollmentStatus.COMPLETED)).thenReturn(stats);
+
+        // When
+        List<CompletionStatsResponse> result = analyticsService.getCompletionStats();
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getCourseTitle()).isEqualTo("Java");
+        assertThat(result.get(0).getCompletionRate()).isEqualTo(33.3);
+        assertThat(result.get(1).getCompletionRate()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("getPopularCourses - 上位コースのみ評価を一括取得")
+    void getPopularCourses_fetchesRatingsForTopCourses() {
+        // Given
+        List<CourseEnrollmentStats> top = List.of(
+                courseStats(2L, "Spring", 10, 4),
+                courseStats(1L, "Java", 5, 1));
+        when(enrollmentRepository.findMostEnrolledCourses(eq(EnrollmentStatus.COMPLETED), any(Pageable.class)))
+                .thenReturn(top);
+        CourseRatingStats rating = mock(CourseRatingStats.class);
+        when(rating.getCourseId()).thenReturn(2L);
+        when(rating.getAverageRating()).thenReturn(4.5);
+        when(reviewRepository.findRatingStatsByCourseIds(List.of(2L, 1L))).thenReturn(List.of(rating));
+
+        // When
+        List<PopularCourseResponse> result = analyticsService.getPopularCourses();
+
+        // Then
+        assertThat(result).extracting(PopularCourseResponse::getCourseId).containsExactly(2L, 1L);
+        assertThat(result.get(0).getEnrollmentCount()).isEqualTo(10);
+        assertThat(result.get(0).getAverageRating()).isEqualTo(4.5);
+        assertThat(result.get(1).getAverageRating()).isNull();
+    }
+
+    @Test
+    @DisplayName("getEnrollmentTrends - 日次 - 登録のない日は0件で埋める")
+    void getEnrollmentTrends_day_fillsMissingDays() {
+        // Given
+        LocalDate from = LocalDate.of(2025, 4, 1);
+        LocalDate to = LocalDate.of(2025, 4, 3);
+        when(enrollmentDailyStatRepository.findByStatDateBetweenOrderByStatDateAsc(from, to))
+                .thenReturn(List.of(stat(from, 3), stat(to, 2)));
+
+        // When
+        List<EnrollmentTrendResponse> trends = analyticsService.getEnrollmentTrends(null, from, to, "day");
+
+        // Then
+        assertThat(trends).extracting(EnrollmentTrendResponse::getDate)
+                .containsExactly("2025-04-01", "2025-04-02", "2025-04-03");
+        assertThat(trends).extracting(EnrollmentTrendResponse::getCount)
+                .containsExactly(3L, 0L, 2L);
+    }
+
+    @Test
+    @DisplayName("getEnrollmentTrends - 週次 - 月曜始まりで集計")
+    void getEnrollmentTrends_week_groupsByMonday() {
+        // Given: 2025-04-02 (水) 〜 2025-04-14 (月)
+        LocalDate from = LocalDate.of(2025, 4, 2);
+        LocalDate to = LocalDate.of(2025, 4, 14);
+        when(enrollmentDailyStatRepository.findByStatDateBetweenOrderByStatDateAsc(from, to))
+                .thenReturn(List.of(
+                        stat(LocalDate.of(2025, 4, 2), 1),
+                        stat(LocalDate.of(2025, 4, 6), 2),
+                        stat(LocalDate.of(2025, 4, 7), 4),
+                        stat(LocalDate.of(2025, 4, 14), 5)));
+
+        // When
+        List<EnrollmentTrendResponse> trends = analyticsService.getEnrollmentTrends(null, from, to, "week");
+
+        // Then
+        assertThat(trends).extracting(EnrollmentTrendResponse::getDate)
+                .containsExactly("2025-03-31", "2025-04-07", "2025-04-14");
+        assertThat(trends).extracting(EnrollmentTrendResponse::getCount)
+                .containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("getEnrollmentTrends - 月次 - 月単位で集計")
+    void getEnrollmentTrends_month_groupsByMonth() {
+        // Given
+        LocalDate from = LocalDate.of(2025, 1, 15);
+        LocalDate to = LocalDate.of(2025, 3, 10);
+        when(enrollmentDailyStatRepository.findByStatDateBetweenOrderByStatDateAsc(from, to))
+                .thenReturn(List.of(
+                        stat(LocalDate.of(2025, 1, 20), 2),
+                        stat(LocalDate.of(2025, 1, 31), 1),
+                        stat(LocalDate.of(2025, 3, 1), 6)));
+
+        // When
+        List<EnrollmentTrendResponse> trends = analyticsService.getEnrollmentTrends(null, from, to, "month");
+
+        // Then
+        assertThat(trends).extracting(EnrollmentTrendResponse::getDate)
+                .containsExactly("2025-01", "2025-02", "2025-03");
+        assertThat(trends).extracting(EnrollmentTrendResponse::getCount)
+                .containsExactly(3L, 0L, 6L);
+    }
+
+    @Test
+    @DisplayName("getEnrollmentTrends - 期間指定 - 7日間は8日分を返す")
+    void getEnrollmentTrends_period7d_returnsEightDays() {
+        // Given
+        LocalDate today = LocalDate.now();
+        when(enrollmentDailyStatRepository.findByStatDateBetweenOrderByStatDateAsc(today.minusDays(7), today))
+                .thenReturn(List.of());
+
+        // When
+        List<EnrollmentTrendResponse> trends = analyticsService.getEnrollmentTrends("7d", null, null, "day");
+
+        // Then
+        assertThat(trends).hasSize(8);
+        assertThat(trends.get(7).getDate()).isEqualTo(today.toString());
+    }
+
+    @Test
+    @DisplayName("getEnrollmentTrends - 粒度を指定して上限を超える期間 - BadRequestException")
+    void getEnrollmentTrends_explicitGranularityTooLong_throwsBadRequest() {
+        // Given
+        LocalDate to = LocalDate.of(2025, 4, 30);
+        LocalDate from = to.minusDays(AnalyticsService.MAX_TREND_BUCKETS);
+
+        // When & Then
+        assertThatThrownBy(() -> analyticsService.getEnrollmentTrends(null, from, to, "day"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("集計期間が長すぎます");
+        verify(enrollmentDailyStatRepository, never()).findByStatDateBetweenOrderByStatDateAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("getEnrollmentTrends - 粒度を指定して上限ちょうどの期間 - 全件を返す")
+    void getEnrollmentTrends_explicitGranularityAtLimit_returnsAllBuckets() {
+        // Given
+        LocalDate to = LocalDate.of(2025, 4, 30);
+        LocalDate from = to.minusDays(AnalyticsService.MAX_TREND_BUCKETS - 1);
+        when(enrollmentDailyStatRepository.findByStatDateBetweenOrderByStatDateAsc(from, to))
+                .thenReturn(List.of());
+
+        // When
+        List<EnrollmentTrendResponse> trends = analyticsService.getEnrollmentTrends(null, from, to, "day");
+
+        // Then
+        assertThat(trends).hasSize(AnalyticsService.MAX_TREND_BUCKETS);
+        assertThat(trends.get(0).getDate()).isEqualTo(from.toString());
+    }
+
+    @Test
+    @DisplayName("getEnrollmentTrends - 粒度を省略 - 上限に収まる最も細かい粒度で集計")
+    void getEnrollmentTrends_noGranularity_coarsensToFit() {
+        // Given
+        LocalDate to = LocalDate.of(2025, 4, 30);
+        LocalDate twoYearsAgo = to.minusYears(2);
+        LocalDate fortyYearsAgo = to.minusYears(40);
+        when(enrollmentDailyStatRepository.findByStatDateBetweenOrderByStatDateAsc(any(), any()))
+                .thenReturn(List.of());
+
+        // When
+        List<EnrollmentTrendResponse> daily = analyticsService.getEnrollmentTrends(null, to.minusDays(30), to, null);
+        List<EnrollmentTrendResponse> weekly = analyticsService.getEnrollmentTrends(null, twoYearsAgo, to, null);
+        List<EnrollmentTrendResponse> monthly = analyticsService.getEnrollmentTrends(null, to.minusYears(10), to,
+                null);
+
+        // Then
+        assertThat(daily).hasSize(31);
+        assertThat(weekly.get(0).getDate()).isEqualTo("2023-04-24");
+        assertThat(monthly).hasSize(121);
+        assertThat(monthly.get(0).getDate()).isEqualTo("2015-04");
+        assertThatThrownBy(() -> analyticsService.getEnrollmentTrends(null, fortyYearsAgo, to, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("getEnrollmentTrends - 開始日が終了日より後 - BadRequestException")
+    void getEnrollmentTrends_fromAfterTo_throwsBadRequest() {
+        assertThatThrownBy(() -> analyticsService.getEnrollmentTrends(
+                null, LocalDate.of(2025, 5, 1), LocalDate.of(2025, 4, 1), "day"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("getEnrollmentTrends - 無効な集計単位 - BadRequestException")
+    void getEnrollmentTrends_invalidGranularity_throwsBadRequest() {
+        assertThatThrownBy(() -> analyticsService.getEnrollmentTrends("30d", null, null, "year"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("year");
+    }
+
+    @Test
+    @DisplayName("rebuildEnrollmentDailyStats - 集計テーブルを再構築")
+    void rebuildEnrollmentDailyStats_success() {
+        // Given
+        when(enrollmentDailyStatRepository.backfillFromEnrollments()).thenReturn(12);
+
+        // When
+        int days = analyticsService.rebuildEnrollmentDailyStats();
+
+        // Then
+        assertThat(days).isEqualTo(12);
+        verify(enrollmentDailyStatRepository).deleteAllInBatch();
+    }
+}
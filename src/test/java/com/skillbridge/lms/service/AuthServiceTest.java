@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,10 +25,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.skillbridge.lms.dto.request.LoginRequest;
 import com.skillbridge.lms.dto.request.RegisterRequest;
+import com.skillbridge.lms.dto.request.ResetPasswordRequest;
 import com.skillbridge.lms.dto.response.AuthResponse;
+import com.skillbridge.lms.entity.PasswordResetToken;
 import com.skillbridge.lms.entity.RefreshToken;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.event.UserChangedEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.repository.PasswordResetTokenRepository;
 import com.skillbridge.lms.repository.RefreshTokenRepository;
@@ -55,6 +59,9 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuthService authService;
 
@@ -92,7 +99,7 @@ class AuthServiceTest {
             user.setUpdatedAt(LocalDateTime.now());
             return user;
         });
-        when(tokenProvider.generateAccessToken(anyString())).thenReturn("access-token");
+        when(tokenProvider.generateAccessToken(any(User.class))).thenReturn("access-token");
         when(tokenProvider.generateRefreshToken(anyString())).thenReturn("refresh-token");
         when(tokenProvider.getRefreshTokenExpiration()).thenReturn(604800000L);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(i -> i.getArgument(0));
@@ -138,7 +145,7 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(new UsernamePasswordAuthenticationToken("test@example.com", "password123"));
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(tokenProvider.generateAccessToken("test@example.com")).thenReturn("access-token");
+        when(tokenProvider.generateAccessToken(testUser)).thenReturn("access-token");
         when(tokenProvider.generateRefreshToken("test@example.com")).thenReturn("refresh-token");
         when(tokenProvider.getRefreshTokenExpiration()).thenReturn(604800000L);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(i -> i.getArgument(0));
@@ -201,7 +208,7 @@ class AuthServiceTest {
         when(refreshTokenRepository.findByToken("valid-refresh-token"))
                 .thenReturn(Optional.of(refreshToken));
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(i -> i.getArgument(0));
-        when(tokenProvider.generateAccessToken("test@example.com")).thenReturn("new-access-token");
+        when(tokenProvider.generateAccessToken(testUser)).thenReturn("new-access-token");
         when(tokenProvider.generateRefreshToken("test@example.com")).thenReturn("new-refresh-token");
         when(tokenProvider.getRefreshTokenExpiration()).thenReturn(604800000L);
 
@@ -227,4 +234,33 @@ class AuthServiceTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("無効なリフレッシュトークンです");
     }
+
+    @Test
+    @DisplayName("resetPassword - 成功 - ユーザー変更イベントを発行")
+    void resetPassword_success_publishesUserChangedEvent() {
+        // Given
+        PasswordResetToken resetToken = PasswordResetToken.builder()
+                .id(1L)
+                .user(testUser)
+                .token("reset-token")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .used(false)
+                .build();
+        ResetPasswordRequest request = new ResetPasswordRequest();
+        request.setToken("reset-token");
+        request.setNewPassword("newPassword123");
+
+        when(passwordResetTokenRepository.findByToken("reset-token")).thenReturn(Optional.of(resetToken));
+        when(passwordEncoder.encode("newPassword123")).thenReturn("newEncodedPassword");
+
+        // When
+        authService.resetPassword(request);
+
+        // Then
+        assertThat(testUser.getPassword()).isEqualTo("newEncodedPassword");
+        assertThat(resetToken.getUsed()).isTrue();
+        assertThat(testUser.getTokenVersion()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(1L, "test@example.com"));
+        verify(refreshTokenRepository).revokeAllByUserId(1L);
+    }
 }
@@ -17,11 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.skillbridge.lms.dto.request.CreateCategoryRequest;
 import com.skillbridge.lms.dto.response.CategoryResponse;
 import com.skillbridge.lms.entity.Category;
 import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.event.CourseChangedEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CategoryRepository;
@@ -36,6 +38,9 @@ class CategoryServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -146,6 +151,7 @@ class CategoryServiceTest {
         categoryService.setCourseCategories(1L, List.of(1L));
 
         verify(courseRepository).save(any(Course.class));
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(1L));
     }
 
     @Test
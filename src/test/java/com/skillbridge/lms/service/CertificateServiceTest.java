@@ -3,9 +3,13 @@ package com.skillbridge.lms.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -18,15 +22,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.skillbridge.lms.certificate.CertificatePdf;
+import com.skillbridge.lms.certificate.CertificatePdfCache;
+import com.skillbridge.lms.certificate.CertificatePdfRenderer;
 import com.skillbridge.lms.dto.response.CertificateResponse;
 import com.skillbridge.lms.entity.Certificate;
 import com.skillbridge.lms.entity.Course;
 import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.event.CertificateIssuedEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CertificateRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 @ExtendWith(MockitoExtension.class)
 class CertificateServiceTest {
@@ -35,7 +45,19 @@ class CertificateServiceTest {
     private CertificateRepository certificateRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserResolver userResolver;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CertificatePdfCache certificatePdfCache;
+
+    @Mock
+    private CertificatePdfRenderer certificatePdfRenderer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private CertificateService certificateService;
@@ -60,7 +82,7 @@ class CertificateServiceTest {
     @Test
     @DisplayName("getMyCertificates - 証明書一覧取得")
     void getMyCertificates_returnsList() {
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
         when(certificateRepository.findByUserIdOrderByIssuedAtDesc(1L)).thenReturn(List.of(certificate));
 
         List<CertificateResponse> result = certificateService.getMyCertificates("test@example.com");
@@ -72,7 +94,7 @@ class CertificateServiceTest {
     @Test
     @DisplayName("getCertificate - 証明書詳細取得")
     void getCertificate_success() {
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
         when(certificateRepository.findById(1L)).thenReturn(Optional.of(certificate));
 
         CertificateResponse result = certificateService.getCertificate(1L, "test@example.com");
@@ -84,7 +106,7 @@ class CertificateServiceTest {
     @DisplayName("getCertificate - 他ユーザーの証明書はアクセス不可")
     void getCertificate_otherUser_throwsException() {
         User otherUser = User.builder().id(2L).email("other@example.com").username("other").build();
-        when(userRepository.findByEmail("other@example.com")).thenReturn(Optional.of(otherUser));
+        when(userResolver.findByEmail("other@example.com")).thenReturn(otherUser);
         when(certificateRepository.findById(1L)).thenReturn(Optional.of(certificate));
 
         assertThatThrownBy(() -> certificateService.getCertificate(1L, "other@example.com"))
@@ -101,6 +123,7 @@ class CertificateServiceTest {
 
         assertThat(result).isNotNull();
         verify(certificateRepository).save(any(Certificate.class));
+        verify(eventPublisher).publishEvent(any(CertificateIssuedEvent.class));
     }
 
     @Test
@@ -115,16 +138,37 @@ class CertificateServiceTest {
     }
 
     @Test
-    @DisplayName("generatePdf - PDF生成成功")
-    void generatePdf_success() {
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+    @DisplayName("getPdf - 保存済みのPDFを返す")
+    void getPdf_success() {
+        CertificatePdf stored = new CertificatePdf(Path.of("cert.pdf"), 1024L, Instant.now(), "etag");
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
         when(certificateRepository.findById(1L)).thenReturn(Optional.of(certificate));
+        when(certificatePdfCache.get(eq(certificate.getCertificateNumber()), any())).thenReturn(stored);
 
-        byte[] pdf = certificateService.generatePdf(1L, "test@example.com");
+        CertificatePdf result = certificateService.getPdf(1L, "test@example.com");
+
+        assertThat(result).isSameAs(stored);
+    }
+
+    @Test
+    @DisplayName("getPdf - 他ユーザーの証明書はアクセス不可")
+    void getPdf_otherUser_throwsException() {
+        User otherUser = User.builder().id(2L).email("other@example.com").username("other").build();
+        when(userResolver.findByEmail("other@example.com")).thenReturn(otherUser);
+        when(certificateRepository.findById(1L)).thenReturn(Optional.of(certificate));
+
+        assertThatThrownBy(() -> certificateService.getPdf(1L, "other@example.com"))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(certificatePdfCache);
+    }
+
+    @Test
+    @DisplayName("getCourseCertificates - 存在しないコースは例外")
+    void getCourseCertificates_courseNotFound_throwsException() {
+        when(courseRepository.existsById(99L)).thenReturn(false);
 
-        assertThat(pdf).isNotNull();
-        assertThat(pdf.length).isGreaterThan(0);
-        // PDF starts with %PDF
-        assertThat(new String(pdf, 0, 4)).isEqualTo("%PDF");
+        assertThatThrownBy(() -> certificateService.getCourseCertificates(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(certificatePdfRenderer);
     }
 }
@@ -0,0 +1,116 @@
+package com.skillbridge.lms.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.entity.Enrollment;
+import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.enums.EnrollmentStatus;
+import com.skillbridge.lms.event.CourseCompletionRequested;
+import com.skillbridge.lms.event.LearningActivityEvent;
+import com.skillbridge.lms.repository.EnrollmentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CourseCompletionServiceTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private CertificateService certificateService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CourseCompletionService courseCompletionService;
+
+    private User learner;
+    private Course course;
+    private Enrollment enrollment;
+
+    @BeforeEach
+    void setUp() {
+        learner = User.builder().id(1L).email("learner@example.com").username("learner").build();
+        course = Course.builder().id(1L).title("Test Course").build();
+        enrollment = Enrollment.builder()
+                .id(1L)
+                .user(learner)
+                .course(course)
+                .status(EnrollmentStatus.ACTIVE)
+                .completedLessons(2)
+                .totalPublishedLessons(2)
+                .build();
+    }
+
+    @Test
+    @DisplayName("handle - 全レッスン完了でコース完了に更新し、証明書と通知を発行")
+    void handle_allLessonsCompleted_completesCourse() {
+        // Given
+        when(enrollmentRepository.findByUserIdAndCourseId(1L, 1L)).thenReturn(Optional.of(enrollment));
+
+        // When
+        courseCompletionService.handle(new CourseCompletionRequested(1L, 1L));
+
+        // Then
+        assertThat(enrollment.getStatus()).isEqualTo(EnrollmentStatus.COMPLETED);
+        assertThat(enrollment.getCompletedAt()).isNotNull();
+        verify(enrollmentRepository).save(enrollment);
+        verify(certificateService).issueCertificate(learner, course);
+        verify(notificationService).createNotification(eq(learner), anyString(), anyString(), eq("CERTIFICATE"),
+                eq("/my-certificates"));
+        verify(eventPublisher).publishEvent(LearningActivityEvent.learner(1L));
+    }
+
+    @Test
+    @DisplayName("handle - 未完了のレッスンがあれば何もしない")
+    void handle_lessonsRemaining_doesNothing() {
+        // Given
+        enrollment.setCompletedLessons(1);
+        when(enrollmentRepository.findByUserIdAndCourseId(1L, 1L)).thenReturn(Optional.of(enrollment));
+
+        // When
+        courseCompletionService.handle(new CourseCompletionRequested(1L, 1L));
+
+        // Then
+        assertThat(enrollment.getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        verifyNoInteractions(certificateService, notificationService);
+    }
+
+    @Test
+    @DisplayName("handle - 完了済みの受講登録は再処理しても証明書・通知を重複させない")
+    void handle_alreadyCompleted_isIdempotent() {
+        // Given
+        enrollment.setStatus(EnrollmentStatus.COMPLETED);
+        when(enrollmentRepository.findByUserIdAndCourseId(1L, 1L)).thenReturn(Optional.of(enrollment));
+
+        // When
+        courseCompletionService.handle(new CourseCompletionRequested(1L, 1L));
+
+        // Then
+        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        verifyNoInteractions(certificateService, notificationService, eventPublisher);
+    }
+}
@@ -4,6 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -16,9 +20,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,9 +35,16 @@ import com.skillbridge.lms.dto.request.UpdateCourseRequest;
 import com.skillbridge.lms.dto.response.CourseResponse;
 import com.skillbridge.lms.dto.response.PageResponse;
 import com.skillbridge.lms.entity.Course;
+import com.skillbridge.lms.event.CourseChangedEvent;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentDailyStatRepository;
 import com.skillbridge.lms.repository.ReviewRepository;
+import com.skillbridge.lms.repository.projection.CourseCatalogRow;
+import com.skillbridge.lms.repository.projection.CourseCategoryRow;
+import com.skillbridge.lms.repository.projection.CourseRatingStats;
+import com.skillbridge.lms.search.CourseSearchIndex;
+import com.skillbridge.lms.search.CourseSearchService;
 
 @ExtendWith(MockitoExtension.class)
 class CourseServiceTest {
@@ -42,6 +55,15 @@ class CourseServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private EnrollmentDailyStatRepository enrollmentDailyStatRepository;
+
+    @Mock
+    private CourseSearchService courseSearchService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -80,25 +102,27 @@ class CourseServiceTest {
     @DisplayName("getCourses - ADMIN - 全件取得")
     void getCourses_admin_returnsAllCourses() {
         // Given
-        List<Course> courses = List.of(publishedCourse, unpublishedCourse);
-        Page<Course> page = new PageImpl<>(courses, pageable, courses.size());
-        when(courseRepository.findAll(any(Pageable.class))).thenReturn(page);
+        List<CourseCatalogRow> rows = List.of(catalogRow(publishedCourse, 3), catalogRow(unpublishedCourse, 0));
+        Page<CourseCatalogRow> page = new PageImpl<>(rows, pageable, rows.size());
+        when(courseRepository.findCatalogPage(isNull(), any(Pageable.class))).thenReturn(page);
 
         // When
         PageResponse<CourseResponse> response = courseService.getCourses(null, "all", "newest", true, pageable);
 
         // Then
         assertThat(response.getContent()).hasSize(2);
-        verify(courseRepository).findAll(any(Pageable.class));
+        assertThat(response.getContent().get(0).getLessonCount()).isEqualTo(3);
+        assertThat(response.getContent().get(0).getReviewCount()).isZero();
+        verify(courseRepository).findCatalogPage(isNull(), any(Pageable.class));
     }
 
     @Test
     @DisplayName("getCourses - LEARNER - publishedのみ取得")
     void getCourses_learner_returnsPublishedOnly() {
         // Given
-        List<Course> courses = List.of(publishedCourse);
-        Page<Course> page = new PageImpl<>(courses, pageable, courses.size());
-        when(courseRepository.findByPublishedTrue(any(Pageable.class))).thenReturn(page);
+        List<CourseCatalogRow> rows = List.of(catalogRow(publishedCourse, 1));
+        Page<CourseCatalogRow> page = new PageImpl<>(rows, pageable, rows.size());
+        when(courseRepository.findCatalogPage(eq(true), any(Pageable.class))).thenReturn(page);
 
         // When
         PageResponse<CourseResponse> response = courseService.getCourses(null, "all", "newest", false, pageable);
@@ -106,7 +130,35 @@ class CourseServiceTest {
         // Then
         assertThat(response.getContent()).hasSize(1);
         assertThat(response.getContent().get(0).getPublished()).isTrue();
-        verify(courseRepository).findByPublishedTrue(any(Pageable.class));
+        verify(courseRepository).findCatalogPage(eq(true), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getCourses - ADMIN draft + キーワード - カテゴリと評価を一括取得して付与")
+    void getCourses_draftWithKeyword_attachesCategoriesAndRatings() {
+        // Given
+        when(courseSearchService.page("Java", false, CourseSearchIndex.Order.TITLE, 0, 10))
+                .thenReturn(new CourseSearchIndex.Result(List.of(2L), 1));
+        when(courseRepository.findCatalogRowsByIds(List.of(2L))).thenReturn(List.of(catalogRow(unpublishedCourse, 2)));
+        CourseCategoryRow category = mock(CourseCategoryRow.class);
+        when(category.getCourseId()).thenReturn(2L);
+        when(category.getCategoryId()).thenReturn(10L);
+        when(category.getName()).thenReturn("Programming");
+        when(courseRepository.findCategoryRowsByCourseIds(List.of(2L))).thenReturn(List.of(category));
+        CourseRatingStats stats = mock(CourseRatingStats.class);
+        when(stats.getCourseId()).thenReturn(2L);
+        when(stats.getAverageRating()).thenReturn(4.5);
+        when(stats.getReviewCount()).thenReturn(2L);
+        when(reviewRepository.findRatingStatsByCourseIds(List.of(2L))).thenReturn(List.of(stats));
+
+        // When
+        PageResponse<CourseResponse> response = courseService.getCourses("Java", "draft", "title", true, pageable);
+
+        // Then
+        CourseResponse course = response.getContent().get(0);
+        assertThat(course.getCategories()).extracting(c -> c.getName()).containsExactly("Programming");
+        assertThat(course.getAverageRating()).isEqualTo(4.5);
+        assertThat(course.getReviewCount()).isEqualTo(2L);
     }
 
     @Test
@@ -202,7 +254,7 @@ class CourseServiceTest {
     }
 
     @Test
-    @DisplayName("deleteCourse - 成功")
+    @DisplayName("deleteCourse - 成功 - 受講登録の日次集計を削除前に減算")
     void deleteCourse_success() {
         // Given
         when(courseRepository.findById(1L)).thenReturn(Optional.of(publishedCourse));
@@ -211,7 +263,9 @@ class CourseServiceTest {
         courseService.deleteCourse(1L);
 
         // Then
-        verify(courseRepository).delete(publishedCourse);
+        InOrder inOrder = inOrder(enrollmentDailyStatRepository, courseRepository);
+        inOrder.verify(enrollmentDailyStatRepository).decrementCountsForCourse(1L);
+        inOrder.verify(courseRepository).delete(publishedCourse);
     }
 
     @Test
@@ -239,6 +293,7 @@ class CourseServiceTest {
         // Then
         assertThat(response.getPublished()).isFalse();
         verify(courseRepository).save(any(Course.class));
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(1L));
     }
 
     @Test
@@ -255,4 +310,76 @@ class CourseServiceTest {
         assertThat(response.getPublished()).isTrue();
         verify(courseRepository).save(any(Course.class));
     }
+
+    @Test
+    @DisplayName("getCourses - キーワード一致なし - DBを検索せず空ページ")
+    void getCourses_keywordWithoutMatches_returnsEmptyPage() {
+        // Given
+        when(courseSearchService.page("存在しない", true, CourseSearchIndex.Order.NEWEST, 0, 10))
+                .thenReturn(new CourseSearchIndex.Result(List.of(), 0));
+
+        // When
+        PageResponse<CourseResponse> response = courseService.getCourses("存在しない", "all", "newest", false, pageable);
+
+        // Then
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getTotalElements()).isZero();
+        verify(courseRepository, never()).findCatalogRowsByIds(any());
+    }
+
+    @Test
+    @DisplayName("getCourses - キーワード + 2ページ目 - インデックスの並び順のままページ内のIDだけを取得")
+    void getCourses_keywordSecondPage_fetchesOnlyPageIdsInIndexOrder() {
+        // Given
+        Course other = Course.builder()
+                .id(3L)
+                .title("Java応用")
+                .published(true)
+                .build();
+        when(courseSearchService.page("java", true, CourseSearchIndex.Order.OLDEST, 2, 2))
+                .thenReturn(new CourseSearchIndex.Result(List.of(3L, 1L), 5));
+        when(courseRepository.findCatalogRowsByIds(List.of(3L, 1L)))
+                .thenReturn(List.of(catalogRow(publishedCourse, 0), catalogRow(other, 0)));
+
+        // When
+        PageResponse<CourseResponse> response = courseService.getCourses("java", null, "oldest", false,
+                PageRequest.of(1, 2));
+
+        // Then
+        assertThat(response.getContent()).extracting(CourseResponse::getId).containsExactly(3L, 1L);
+        assertThat(response.getTotalElements()).isEqualTo(5);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("searchCourses - 関連度順 - 検索結果の順序を保ってページング")
+    void searchCourses_keepsRelevanceOrder() {
+        // Given
+        when(courseSearchService.searchIds("入門", true, 5L)).thenReturn(List.of(2L, 1L, 3L));
+        when(courseRepository.findCatalogRowsByIds(List.of(2L, 1L)))
+                .thenReturn(List.of(catalogRow(publishedCourse, 1), catalogRow(unpublishedCourse, 1)));
+
+        // When
+        PageResponse<CourseResponse> response = courseService.searchCourses("入門", 5L, "all", false,
+                PageRequest.of(0, 2));
+
+        // Then
+        assertThat(response.getContent()).extracting(CourseResponse::getId).containsExactly(2L, 1L);
+        assertThat(response.getTotalElements()).isEqualTo(3);
+        assertThat(response.isLast()).isFalse();
+    }
+
+    private CourseCatalogRow catalogRow(Course course, long lessonCount) {
+        return new CourseCatalogRow() {
+            public Long getId() { return course.getId(); }
+            public String getTitle() { return course.getTitle(); }
+            public String getDescription() { return course.getDescription(); }
+            public Integer getSortOrder() { return course.getSortOrder(); }
+            public Boolean getPublished() { return course.getPublished(); }
+            public String getThumbnailUrl() { return course.getThumbnailUrl(); }
+            public LocalDateTime getCreatedAt() { return course.getCreatedAt(); }
+            public LocalDateTime getUpdatedAt() { return course.getUpdatedAt(); }
+            public long getLessonCount() { return lessonCount; }
+        };
+    }
 }
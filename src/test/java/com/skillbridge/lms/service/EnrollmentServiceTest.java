@@ -3,10 +3,12 @@ package com.skillbridge.lms.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,11 +34,15 @@ import com.skillbridge.lms.entity.Enrollment;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.EnrollmentStatus;
 import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.event.LearningActivityEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentDailyStatRepository;
 import com.skillbridge.lms.repository.EnrollmentRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.repository.LessonProgressRepository;
+import com.skillbridge.lms.repository.LessonRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 @ExtendWith(MockitoExtension.class)
 class EnrollmentServiceTest {
@@ -47,7 +54,19 @@ class EnrollmentServiceTest {
     private CourseRepository courseRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private EnrollmentDailyStatRepository enrollmentDailyStatRepository;
+
+    @Mock
+    private LessonRepository lessonRepository;
+
+    @Mock
+    private LessonProgressRepository lessonProgressRepository;
+
+    @Mock
+    private UserResolver userResolver;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private EnrollmentService enrollmentService;
@@ -105,9 +124,11 @@ class EnrollmentServiceTest {
     @DisplayName("enroll - 公開コースに受講登録 - 成功")
     void enroll_publishedCourse_success() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(publishedCourse));
         when(enrollmentRepository.existsByUserIdAndCourseId(1L, 1L)).thenReturn(false);
+        when(lessonRepository.countByCourseIdAndPublishedTrue(1L)).thenReturn(3L);
+        when(lessonProgressRepository.countCompletedPublishedByUserIdAndCourseId(1L, 1L)).thenReturn(1L);
         when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(invocation -> {
             Enrollment e = invocation.getArgument(0);
             e.setId(1L);
@@ -123,14 +144,16 @@ class EnrollmentServiceTest {
         assertThat(response.getCourseId()).isEqualTo(1L);
         assertThat(response.getUserId()).isEqualTo(1L);
         assertThat(response.getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
-        verify(enrollmentRepository).save(any(Enrollment.class));
+        verify(enrollmentRepository).save(argThat(e ->
+                e.getTotalPublishedLessons() == 3 && e.getCompletedLessons() == 1));
+        verify(enrollmentDailyStatRepository).incrementCount(LocalDate.now());
     }
 
     @Test
     @DisplayName("enroll - 非公開コース - BadRequestException")
     void enroll_unpublishedCourse_throwsBadRequest() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(2L)).thenReturn(Optional.of(unpublishedCourse));
 
         // When & Then
@@ -139,13 +162,14 @@ class EnrollmentServiceTest {
                 .hasMessageContaining("非公開");
 
         verify(enrollmentRepository, never()).save(any());
+        verify(enrollmentDailyStatRepository, never()).incrementCount(any());
     }
 
     @Test
     @DisplayName("enroll - 重複登録 - BadRequestException")
     void enroll_alreadyEnrolled_throwsBadRequest() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(publishedCourse));
         when(enrollmentRepository.existsByUserIdAndCourseId(1L, 1L)).thenReturn(true);
 
@@ -161,7 +185,7 @@ class EnrollmentServiceTest {
     @DisplayName("enroll - 存在しないコース - ResourceNotFoundException")
     void enroll_nonExistingCourse_throwsNotFound() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
@@ -174,7 +198,7 @@ class EnrollmentServiceTest {
     @DisplayName("unenroll - 受講取り消し - 成功")
     void unenroll_success() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(publishedCourse));
         when(enrollmentRepository.findByUserIdAndCourseId(1L, 1L)).thenReturn(Optional.of(activeEnrollment));
 
@@ -183,13 +207,15 @@ class EnrollmentServiceTest {
 
         // Then
         verify(enrollmentRepository).delete(activeEnrollment);
+        verify(enrollmentDailyStatRepository).decrementCount(activeEnrollment.getEnrolledAt().toLocalDate());
+        verify(eventPublisher).publishEvent(LearningActivityEvent.learner(1L));
     }
 
     @Test
     @DisplayName("unenroll - 受講登録なし - ResourceNotFoundException")
     void unenroll_notEnrolled_throwsNotFound() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(publishedCourse));
         when(enrollmentRepository.findByUserIdAndCourseId(1L, 1L)).thenReturn(Optional.empty());
 
@@ -203,7 +229,7 @@ class EnrollmentServiceTest {
     @DisplayName("getEnrollment - 受講状態確認 - 成功")
     void getEnrollment_success() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(publishedCourse));
         when(enrollmentRepository.findByUserIdAndCourseId(1L, 1L)).thenReturn(Optional.of(activeEnrollment));
 
@@ -220,7 +246,7 @@ class EnrollmentServiceTest {
     @DisplayName("getMyEnrollments - 自分の受講一覧 - 成功")
     void getMyEnrollments_success() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(enrollmentRepository.findByUserIdOrderByEnrolledAtDesc(1L))
                 .thenReturn(List.of(activeEnrollment));
 
@@ -255,7 +281,7 @@ class EnrollmentServiceTest {
     @DisplayName("isEnrolled - 受講中 - true")
     void isEnrolled_enrolled_returnsTrue() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE))
                 .thenReturn(true);
 
@@ -270,7 +296,7 @@ class EnrollmentServiceTest {
     @DisplayName("isEnrolled - 未受講 - false")
     void isEnrolled_notEnrolled_returnsFalse() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE))
                 .thenReturn(false);
 
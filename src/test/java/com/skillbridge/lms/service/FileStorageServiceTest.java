@@ -2,26 +2,61 @@ package com.skillbridge.lms.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.skillbridge.lms.dto.response.FileUploadResponse;
+import com.skillbridge.lms.entity.UploadedFile;
 import com.skillbridge.lms.exception.BadRequestException;
+import com.skillbridge.lms.exception.ResourceNotFoundException;
+import com.skillbridge.lms.repository.UploadedFileRepository;
+import com.skillbridge.lms.storage.BlobStore;
+import com.skillbridge.lms.storage.StoredFile;
 
 class FileStorageServiceTest {
 
+    private static final byte[] JPEG = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 'J', 'F', 'I', 'F', 0 };
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D };
+
+    @TempDir
+    Path uploadDir;
+
+    private UploadedFileRepository uploadedFileRepository;
+    private BlobStore blobStore;
     private FileStorageService fileStorageService;
+    private AtomicLong ids;
 
     @BeforeEach
     void setUp() {
-        fileStorageService = new FileStorageService();
+        uploadedFileRepository = mock(UploadedFileRepository.class);
+        ids = new AtomicLong();
+        when(uploadedFileRepository.save(any(UploadedFile.class))).thenAnswer(invocation -> {
+            UploadedFile saved = invocation.getArgument(0);
+            saved.setId(ids.incrementAndGet());
+            return saved;
+        });
+        blobStore = new BlobStore(uploadDir.toString());
+        fileStorageService = new FileStorageService(uploadedFileRepository, blobStore);
     }
 
     @Test
@@ -32,12 +67,14 @@ class FileStorageServiceTest {
         when(file.getSize()).thenReturn(1024L);
         when(file.getContentType()).thenReturn("image/jpeg");
         when(file.getOriginalFilename()).thenReturn("test.jpg");
-        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[1024]));
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(image(JPEG, 1024)));
 
-        String result = fileStorageService.storeFile(file);
+        FileUploadResponse result = fileStorageService.storeFile(file);
 
-        assertThat(result).startsWith("/api/files/");
-        assertThat(result).endsWith(".jpg");
+        assertThat(result.getUrl()).startsWith("/api/files/");
+        assertThat(result.getUrl()).endsWith(".jpg");
+        assertThat(result.getContentType()).isEqualTo("image/jpeg");
+        assertThat(result.getSize()).isEqualTo(1024L);
     }
 
     @Test
@@ -84,19 +121,153 @@ class FileStorageServiceTest {
         when(file.getSize()).thenReturn(2048L);
         when(file.getContentType()).thenReturn("image/png");
         when(file.getOriginalFilename()).thenReturn("image.png");
-        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[2048]));
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(image(PNG, 2048)));
+
+        FileUploadResponse result = fileStorageService.storeFile(file);
+
+        assertThat(result.getUrl()).startsWith("/api/files/");
+        assertThat(result.getUrl()).endsWith(".png");
+    }
+
+    @Test
+    @DisplayName("storeFile - 申告と異なる形式は内容から判定した形式で保存")
+    void storeFile_mismatchedDeclaredType_usesSniffedType() throws Exception {
+        MultipartFile file = mockImage("image/png", image(JPEG, 100));
+
+        FileUploadResponse result = fileStorageService.storeFile(file);
+
+        assertThat(result.getUrl()).endsWith(".jpg");
+        assertThat(result.getContentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    @DisplayName("storeFile - 画像でない内容でエラー")
+    void storeFile_notAnImage_throwsException() throws Exception {
+        MultipartFile file = mockImage("image/png", new byte[1024]);
+
+        assertThatThrownBy(() -> fileStorageService.storeFile(file))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("許可されていない");
+        assertThat(Files.list(uploadDir.resolve("tmp"))).isEmpty();
+    }
 
-        String result = fileStorageService.storeFile(file);
+    @Test
+    @DisplayName("store - 上限を超えるストリームは書き込み途中で中断")
+    void store_streamTooLarge_throwsException() {
+        byte[] large = image(PNG, 5 * 1024 * 1024 + 1);
 
-        assertThat(result).startsWith("/api/files/");
-        assertThat(result).endsWith(".png");
+        assertThatThrownBy(() -> fileStorageService.store(new ByteArrayInputStream(large), "large.png"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("5MB");
+        assertThat(blobStore.findHashesModifiedBefore(Instant.now().plusSeconds(60))).isEmpty();
     }
 
     @Test
-    @DisplayName("getFilePath - パス取得")
+    @DisplayName("storeFile - 同じ内容は1つの実体を共有し、アップロードごとにIDを振る")
+    void storeFile_sameContent_deduplicates() throws Exception {
+        byte[] content = image(PNG, 4096);
+
+        FileUploadResponse first = fileStorageService.storeFile(mockImage("image/png", content));
+        FileUploadResponse second = fileStorageService.storeFile(mockImage("image/png", content));
+
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertThat(first.getUrl()).isEqualTo("/api/files/" + hash + ".png");
+        assertThat(second.getUrl()).isEqualTo(first.getUrl());
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        assertThat(blobStore.findHashesModifiedBefore(Instant.now().plusSeconds(60))).containsExactly(hash);
+        assertThat(Files.readAllBytes(blobStore.resolve(hash))).isEqualTo(content);
+        assertThat(Files.list(uploadDir.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("collectGarbage - 参照されない古いブロブのみ削除")
+    void collectGarbage_deletesOrphanedBlobs() throws Exception {
+        String kept = hashOf(fileStorageService.storeFile(mockImage("image/png", image(PNG, 300))));
+        String orphaned = hashOf(fileStorageService.storeFile(mockImage("image/jpeg", image(JPEG, 300))));
+        String recent = hashOf(fileStorageService.storeFile(mockImage("image/png", image(PNG, 400))));
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+        Files.setLastModifiedTime(blobStore.resolve(kept), old);
+        Files.setLastModifiedTime(blobStore.resolve(orphaned), old);
+        when(uploadedFileRepository.findReferencedHashes(anyCollection())).thenReturn(Set.of(kept));
+
+        int removed = fileStorageService.collectGarbage();
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(blobStore.resolve(kept)).exists();
+        assertThat(blobStore.resolve(orphaned)).doesNotExist();
+        assertThat(blobStore.resolve(recent)).exists();
+    }
+
+    @Test
+    @DisplayName("collectGarbage - 参照確認の後に同じ内容がアップロードされたブロブは削除しない")
+    void collectGarbage_concurrentDeduplicatedUpload_keepsBlob() throws Exception {
+        byte[] content = image(PNG, 300);
+        String hash = hashOf(fileStorageService.storeFile(mockImage("image/png", content)));
+        Files.setLastModifiedTime(blobStore.resolve(hash), FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        when(uploadedFileRepository.findReferencedHashes(anyCollection())).thenAnswer(invocation -> {
+            // 未参照と判定された直後に、同じ内容が再アップロードされる
+            fileStorageService.storeFile(mockImage("image/png", content));
+            return Set.of();
+        });
+
+        int removed = fileStorageService.collectGarbage();
+
+        assertThat(removed).isZero();
+        assertThat(Files.readAllBytes(blobStore.resolve(hash))).isEqualTo(content);
+        assertThat(Files.list(uploadDir.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("getFilePath - 内容アドレスのURLはブロブ、それ以外は従来の保存先を返す")
     void getFilePath_returnsCorrectPath() {
-        Path path = fileStorageService.getFilePath("test.jpg");
+        String hash = "ab".repeat(32);
+
+        assertThat(fileStorageService.getFilePath("test.jpg")).isEqualTo(uploadDir.resolve("test.jpg"));
+        assertThat(fileStorageService.getFilePath(hash + ".png")).isEqualTo(blobStore.resolve(hash));
+    }
+
+    @Test
+    @DisplayName("getStoredFile - 保存時の形式とサイズを返す")
+    void getStoredFile_returnsRecordedMetadata() throws Exception {
+        byte[] webp = image(new byte[] { 'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P' }, 512);
+        MultipartFile file = mockImage("image/webp", webp);
+        String filename = fileStorageService.storeFile(file).getUrl().substring("/api/files/".length());
+
+        StoredFile stored = fileStorageService.getStoredFile(filename);
+
+        assertThat(stored.contentType()).isEqualTo("image/webp");
+        assertThat(stored.size()).isEqualTo(512L);
+        assertThat(stored.etag()).isEqualTo(filename);
+    }
+
+    @Test
+    @DisplayName("getStoredFile - 存在しないファイル・不正なファイル名でエラー")
+    void getStoredFile_missingOrUnsafe_throwsException() {
+        assertThatThrownBy(() -> fileStorageService.getStoredFile("missing.png"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> fileStorageService.getStoredFile("../build.gradle.kts"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static MultipartFile mockImage(String contentType, byte[] content) throws Exception {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getSize()).thenReturn((long) content.length);
+        when(file.getContentType()).thenReturn(contentType);
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(content));
+        return file;
+    }
+
+    private static byte[] image(byte[] header, int size) {
+        byte[] content = Arrays.copyOf(header, size);
+        for (int i = header.length; i < size; i++) {
+            content[i] = (byte) (i * 31 + size);
+        }
+        return content;
+    }
 
-        assertThat(path.getFileName().toString()).isEqualTo("test.jpg");
+    private static String hashOf(FileUploadResponse response) {
+        String filename = response.getUrl().substring("/api/files/".length());
+        return filename.substring(0, filename.indexOf('.'));
     }
 }
@@ -3,7 +3,10 @@ package com.skillbridge.lms.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.skillbridge.lms.dto.request.CreateLessonRequest;
 import com.skillbridge.lms.dto.request.ReorderLessonsRequest;
@@ -26,8 +30,10 @@ import com.skillbridge.lms.dto.request.UpdateLessonRequest;
 import com.skillbridge.lms.dto.response.LessonResponse;
 import com.skillbridge.lms.entity.Course;
 import com.skillbridge.lms.entity.Lesson;
+import com.skillbridge.lms.event.CourseChangedEvent;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
+import com.skillbridge.lms.repository.EnrollmentRepository;
 import com.skillbridge.lms.repository.LessonRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +45,12 @@ class LessonServiceTest {
     @Mock
     private LessonRepository lessonRepository;
 
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LessonService lessonService;
 
@@ -172,6 +184,7 @@ class LessonServiceTest {
         assertThat(response.getTitle()).isEqualTo("New Lesson");
         assertThat(response.getSortOrder()).isEqualTo(3);
         verify(lessonRepository).save(any(Lesson.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -200,6 +213,8 @@ class LessonServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getSortOrder()).isEqualTo(10);
         assertThat(response.getPublished()).isTrue();
+        verify(enrollmentRepository).adjustTotalPublishedLessons(1L, 1);
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(1L));
     }
 
     @Test
@@ -223,6 +238,30 @@ class LessonServiceTest {
         assertThat(response.getTitle()).isEqualTo("Updated Lesson");
         assertThat(response.getContentPath()).isEqualTo("/lessons/updated/content.md");
         verify(lessonRepository).save(any(Lesson.class));
+        verify(enrollmentRepository, never()).adjustTotalPublishedLessons(anyLong(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("updateLesson - 非公開化 - 進捗カウンタを一括減算")
+    void updateLesson_unpublish_adjustsCounters() {
+        // Given
+        UpdateLessonRequest request = new UpdateLessonRequest();
+        request.setTitle("Lesson 1");
+        request.setContentPath("/lessons/1/content.md");
+        request.setPublished(false);
+
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+        when(lessonRepository.findById(1L)).thenReturn(Optional.of(publishedLesson));
+        when(lessonRepository.save(any(Lesson.class))).thenAnswer(i -> i.getArgument(0));
+
+        // When
+        lessonService.updateLesson(1L, 1L, request);
+
+        // Then
+        verify(enrollmentRepository).adjustTotalPublishedLessons(1L, -1);
+        verify(enrollmentRepository).adjustCompletedLessonsForLesson(1L, 1L, -1);
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(1L));
     }
 
     @Test
@@ -237,6 +276,9 @@ class LessonServiceTest {
 
         // Then
         verify(lessonRepository).delete(publishedLesson);
+        verify(enrollmentRepository).adjustTotalPublishedLessons(1L, -1);
+        verify(enrollmentRepository).adjustCompletedLessonsForLesson(1L, 1L, -1);
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(1L));
     }
 
     @Test
@@ -3,12 +3,16 @@ package com.skillbridge.lms.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,13 +21,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.skillbridge.lms.dto.response.NotificationResponse;
 import com.skillbridge.lms.entity.Notification;
 import com.skillbridge.lms.entity.User;
+import com.skillbridge.lms.event.UnreadNotificationCountChangedEvent;
+import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
+import com.skillbridge.lms.notification.UnreadCountCache;
 import com.skillbridge.lms.repository.NotificationRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
@@ -32,7 +40,13 @@ class NotificationServiceTest {
     private NotificationRepository notificationRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserResolver userResolver;
+
+    @Mock
+    private UnreadCountCache unreadCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private NotificationService notificationService;
@@ -58,7 +72,7 @@ class NotificationServiceTest {
     @Test
     @DisplayName("getNotifications - 通知一覧取得")
     void getNotifications_returnsNotifications() {
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
         when(notificationRepository.findByUserIdOrderByCreatedAtDesc(1L)).thenReturn(List.of(notification));
 
         List<NotificationResponse> result = notificationService.getNotifications("test@example.com");
@@ -67,11 +81,22 @@ class NotificationServiceTest {
         assertThat(result.get(0).getTitle()).isEqualTo("Test Notification");
     }
 
+    @Test
+    @DisplayName("getNotificationFeed - cursor と since の同時指定は400")
+    void getNotificationFeed_cursorAndSince_throwsException() {
+        assertThatThrownBy(() -> notificationService.getNotificationFeed(
+                "test@example.com", "cursor", "since", false, 20))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(notificationRepository);
+    }
+
     @Test
     @DisplayName("getUnreadCount - 未読数取得")
     void getUnreadCount_returnsCount() {
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
         when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(3L);
+        when(unreadCountCache.get(eq(1L), any()))
+                .thenAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong());
 
         long count = notificationService.getUnreadCount("test@example.com");
 
@@ -81,7 +106,7 @@ class NotificationServiceTest {
     @Test
     @DisplayName("markAsRead - 既読にマーク")
     void markAsRead_marksNotificationAsRead() {
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
         when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification));
         when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
 
@@ -89,13 +114,28 @@ class NotificationServiceTest {
 
         assertThat(result).isNotNull();
         verify(notificationRepository).save(any(Notification.class));
+        verify(eventPublisher).publishEvent(new UnreadNotificationCountChangedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("markAsRead - 既読済みの通知は更新しない")
+    void markAsRead_alreadyRead_doesNotUpdate() {
+        notification.setIsRead(true);
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
+        when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification));
+
+        NotificationResponse result = notificationService.markAsRead(1L, "test@example.com");
+
+        assertThat(result.isRead()).isTrue();
+        verify(notificationRepository, never()).save(any(Notification.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     @DisplayName("markAsRead - 他ユーザーの通知は404")
     void markAsRead_otherUser_throwsException() {
         User otherUser = User.builder().id(2L).email("other@example.com").username("other").build();
-        when(userRepository.findByEmail("other@example.com")).thenReturn(Optional.of(otherUser));
+        when(userResolver.findByEmail("other@example.com")).thenReturn(otherUser);
         when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification));
 
         assertThatThrownBy(() -> notificationService.markAsRead(1L, "other@example.com"))
@@ -103,15 +143,39 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("markAllAsRead - 全て既読にマーク")
-    void markAllAsRead_marksAllAsRead() {
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-        when(notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(1L))
-                .thenReturn(List.of(notification));
+    @DisplayName("markAllAsRead - 1回の一括更新で既読にし件数を返す")
+    void markAllAsRead_bulkUpdatesAndReturnsCount() {
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
+        when(notificationRepository.markAllAsRead(1L)).thenReturn(3);
+
+        int updated = notificationService.markAllAsRead("test@example.com");
+
+        assertThat(updated).isEqualTo(3);
+        verify(eventPublisher).publishEvent(new UnreadNotificationCountChangedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("markAllAsRead - 未読がなければイベントを発行しない")
+    void markAllAsRead_nothingUnread_publishesNothing() {
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
+        when(notificationRepository.markAllAsRead(1L)).thenReturn(0);
+
+        int updated = notificationService.markAllAsRead("test@example.com");
+
+        assertThat(updated).isZero();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("markAsReadUpTo - 指定ID以前の通知を既読にし件数を返す")
+    void markAsReadUpTo_bulkUpdatesAndReturnsCount() {
+        when(userResolver.findByEmail("test@example.com")).thenReturn(user);
+        when(notificationRepository.markAsReadUpTo(1L, 10L)).thenReturn(2);
 
-        notificationService.markAllAsRead("test@example.com");
+        int updated = notificationService.markAsReadUpTo(10L, "test@example.com");
 
-        verify(notificationRepository).saveAll(any());
+        assertThat(updated).isEqualTo(2);
+        verify(eventPublisher).publishEvent(new UnreadNotificationCountChangedEvent(1L));
     }
 
     @Test
@@ -122,5 +186,6 @@ class NotificationServiceTest {
         notificationService.createNotification(user, "Title", "Message", "INFO", "/link");
 
         verify(notificationRepository).save(any(Notification.class));
+        verify(eventPublisher).publishEvent(new UnreadNotificationCountChangedEvent(1L));
     }
 }
@@ -0,0 +1,118 @@
+package com.skillbridge.lms.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.skillbridge.lms.exception.ResourceNotFoundException;
+
+class ParallelQueryExecutorTest {
+
+    private ParallelQueryExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("submit - 同時に実行するクエリ数を上限までに抑える")
+    void submit_limitsConcurrentQueries() {
+        // Given
+        executor = new ParallelQueryExecutor(mock(PlatformTransactionManager.class), true, 2, 10);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // When
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int value = i;
+            futures.add(executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return value;
+            }));
+        }
+
+        // Then
+        assertThat(futures.stream().map(ParallelQueryExecutor::join).toList())
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("submit - 上限未指定の場合は接続プールの半分を上限にする")
+    void submit_defaultsToHalfOfConnectionPool() {
+        // Given
+        executor = new ParallelQueryExecutor(mock(PlatformTransactionManager.class), true, 0, 6);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // When
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            futures.add(executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return 0;
+            }));
+        }
+        futures.forEach(ParallelQueryExecutor::join);
+
+        // Then
+        assertThat(maxRunning.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("join - クエリ内の例外をそのまま再送出し、枠を解放する")
+    void join_rethrowsQueryExceptionAndReleasesPermit() {
+        // Given
+        executor = new ParallelQueryExecutor(mock(PlatformTransactionManager.class), true, 1, 10);
+
+        // When
+        CompletableFuture<Object> failed = executor.submit(() -> {
+            throw new ResourceNotFoundException("見つかりません");
+        });
+
+        // Then
+        assertThatThrownBy(() -> ParallelQueryExecutor.join(failed))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(ParallelQueryExecutor.join(executor.submit(() -> "next"))).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("submit - 並行取得が無効なら呼び出し元スレッドで実行する")
+    void submit_sequential_runsOnCallerThread() {
+        // Given
+        executor = new ParallelQueryExecutor(mock(PlatformTransactionManager.class), false, 0, 10);
+
+        // When
+        CompletableFuture<Thread> future = executor.submit(Thread::currentThread);
+
+        // Then
+        assertThat(future).isCompleted();
+        assertThat(ParallelQueryExecutor.join(future)).isSameAs(Thread.currentThread());
+    }
+}
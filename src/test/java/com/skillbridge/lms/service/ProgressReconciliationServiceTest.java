@@ -0,0 +1,133 @@
+package com.skillbridge.lms.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.skillbridge.lms.repository.EnrollmentRepository;
+import com.skillbridge.lms.repository.projection.EnrollmentCounterSnapshot;
+
+@ExtendWith(MockitoExtension.class)
+class ProgressReconciliationServiceTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ProgressReconciliationService progressReconciliationService;
+
+    @Test
+    @DisplayName("reconcileProgressCounters - ID順に続きのページを読み、ずれのある受講登録だけ補正")
+    void reconcileProgressCounters_pagesByIdAndFixesDriftedOnly() {
+        // Given
+        int pageSize = ProgressReconciliationService.PAGE_SIZE;
+        List<EnrollmentCounterSnapshot> firstPage = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            firstPage.add(snapshot(id, 2, 4, 2, 4));
+        }
+        firstPage.set(0, snapshot(1L, 1, 4, 3, 4));
+        long lastIdOfFirstPage = pageSize;
+        List<EnrollmentCounterSnapshot> secondPage = List.of(
+                snapshot(lastIdOfFirstPage + 1, 0, 3, 0, 5),
+                snapshot(lastIdOfFirstPage + 2, 1, 1, 1, 1));
+        when(enrollmentRepository.findCounterSnapshotsAfter(0L, PageRequest.of(0, pageSize)))
+                .thenReturn(firstPage);
+        when(enrollmentRepository.findCounterSnapshotsAfter(lastIdOfFirstPage, PageRequest.of(0, pageSize)))
+                .thenReturn(secondPage);
+        when(enrollmentRepository.updateCounters(anyLong(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        // When
+        int corrected = progressReconciliationService.reconcileProgressCounters();
+
+        // Then
+        assertThat(corrected).isEqualTo(2);
+        verify(enrollmentRepository).updateCounters(1L, 1, 4, 3, 4);
+        verify(enrollmentRepository).updateCounters(lastIdOfFirstPage + 1, 0, 3, 0, 5);
+        verify(enrollmentRepository, times(2)).updateCounters(anyLong(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(enrollmentRepository, times(2)).findCounterSnapshotsAfter(anyLong(), eq(PageRequest.of(0, pageSize)));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("reconcileProgressCounters - 受講登録がない場合は1回の取得で終了")
+    void reconcileProgressCounters_noEnrollments_returnsZero() {
+        // Given
+        when(enrollmentRepository.findCounterSnapshotsAfter(0L,
+                PageRequest.of(0, ProgressReconciliationService.PAGE_SIZE))).thenReturn(List.of());
+
+        // When
+        int corrected = progressReconciliationService.reconcileProgressCounters();
+
+        // Then
+        assertThat(corrected).isZero();
+        verify(enrollmentRepository, never()).updateCounters(anyLong(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("reconcileProgressCounters - 読み取り後にカウンタが変わった行 - 補正件数に含めない")
+    void reconcileProgressCounters_counterChangedAfterRead_skipsRow() {
+        // Given
+        when(enrollmentRepository.findCounterSnapshotsAfter(0L,
+                PageRequest.of(0, ProgressReconciliationService.PAGE_SIZE)))
+                .thenReturn(List.of(snapshot(1L, 1, 4, 2, 4), snapshot(2L, 0, 4, 1, 4)));
+        when(enrollmentRepository.updateCounters(1L, 1, 4, 2, 4)).thenReturn(0);
+        when(enrollmentRepository.updateCounters(2L, 0, 4, 1, 4)).thenReturn(1);
+
+        // When
+        int corrected = progressReconciliationService.reconcileProgressCounters();
+
+        // Then
+        assertThat(corrected).isEqualTo(1);
+    }
+
+    private static EnrollmentCounterSnapshot snapshot(Long enrollmentId, int completed, int total,
+                                                      long actualCompleted, long actualTotal) {
+        return new EnrollmentCounterSnapshot() {
+            @Override
+            public Long getEnrollmentId() {
+                return enrollmentId;
+            }
+
+            @Override
+            public int getCompletedLessons() {
+                return completed;
+            }
+
+            @Override
+            public int getTotalPublishedLessons() {
+                return total;
+            }
+
+            @Override
+            public long getActualCompletedLessons() {
+                return actualCompleted;
+            }
+
+            @Override
+            public long getActualTotalPublishedLessons() {
+                return actualTotal;
+            }
+        };
+    }
+}
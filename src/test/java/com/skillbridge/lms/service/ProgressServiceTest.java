@@ -3,6 +3,10 @@ package com.skillbridge.lms.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.skillbridge.lms.dto.response.CourseProgressResponse;
 import com.skillbridge.lms.dto.response.MessageResponse;
@@ -28,13 +33,16 @@ import com.skillbridge.lms.entity.LessonProgress;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.EnrollmentStatus;
 import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.event.CourseCompletionRequested;
+import com.skillbridge.lms.event.LearningActivityEvent;
 import com.skillbridge.lms.exception.BadRequestException;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
+import com.skillbridge.lms.outbox.OutboxPublisher;
 import com.skillbridge.lms.repository.CourseRepository;
 import com.skillbridge.lms.repository.EnrollmentRepository;
 import com.skillbridge.lms.repository.LessonProgressRepository;
 import com.skillbridge.lms.repository.LessonRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 @ExtendWith(MockitoExtension.class)
 class ProgressServiceTest {
@@ -52,13 +60,13 @@ class ProgressServiceTest {
     private LessonRepository lessonRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private OutboxPublisher outboxPublisher;
 
     @Mock
-    private CertificateService certificateService;
+    private UserResolver userResolver;
 
     @Mock
-    private NotificationService notificationService;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ProgressService progressService;
@@ -121,6 +129,8 @@ class ProgressServiceTest {
                 .course(course)
                 .status(EnrollmentStatus.ACTIVE)
                 .enrolledAt(LocalDateTime.now())
+                .completedLessons(0)
+                .totalPublishedLessons(2)
                 .build();
     }
 
@@ -128,19 +138,11 @@ class ProgressServiceTest {
     @DisplayName("completeLesson - 新規完了 - 成功")
     void completeLesson_newCompletion_success() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE)).thenReturn(true);
         when(lessonRepository.findById(1L)).thenReturn(Optional.of(lesson1));
-        when(lessonProgressRepository.findByUserIdAndLessonId(1L, 1L)).thenReturn(Optional.empty());
-        when(lessonProgressRepository.save(any(LessonProgress.class))).thenAnswer(i -> {
-            LessonProgress lp = i.getArgument(0);
-            lp.setId(1L);
-            return lp;
-        });
-        when(lessonRepository.findByCourseIdAndPublishedTrueOrderBySortOrderAsc(1L))
-                .thenReturn(List.of(lesson1, lesson2));
-        when(lessonProgressRepository.countCompletedByUserIdAndCourseId(1L, 1L)).thenReturn(1L);
+        when(lessonProgressRepository.markCompleted(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
         // When
         MessageResponse response = progressService.completeLesson(1L, 1L, "learner@example.com");
@@ -148,39 +150,36 @@ class ProgressServiceTest {
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getMessage()).contains("完了");
-        verify(lessonProgressRepository).save(any(LessonProgress.class));
+        verify(lessonProgressRepository).insertIfAbsent(eq(1L), eq(1L), any(LocalDateTime.class));
+        verify(enrollmentRepository).adjustCompletedLessons(1L, 1L, 1);
+        verify(enrollmentRepository, never()).findByUserIdAndCourseId(anyLong(), anyLong());
+        verify(eventPublisher).publishEvent(LearningActivityEvent.learner(1L));
     }
 
     @Test
     @DisplayName("completeLesson - 既に完了済み - メッセージ返却")
     void completeLesson_alreadyCompleted_returnsMessage() {
         // Given
-        LessonProgress existingProgress = LessonProgress.builder()
-                .id(1L)
-                .user(learner)
-                .lesson(lesson1)
-                .completed(true)
-                .completedAt(LocalDateTime.now())
-                .build();
-
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE)).thenReturn(true);
         when(lessonRepository.findById(1L)).thenReturn(Optional.of(lesson1));
-        when(lessonProgressRepository.findByUserIdAndLessonId(1L, 1L)).thenReturn(Optional.of(existingProgress));
+        when(lessonProgressRepository.markCompleted(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(0);
 
         // When
         MessageResponse response = progressService.completeLesson(1L, 1L, "learner@example.com");
 
         // Then
         assertThat(response.getMessage()).contains("既に完了済み");
+        verify(enrollmentRepository, never()).adjustCompletedLessons(anyLong(), anyLong(), anyInt());
+        verify(outboxPublisher, never()).publish(any(), any());
     }
 
     @Test
     @DisplayName("completeLesson - 未受講コース - BadRequestException")
     void completeLesson_notEnrolled_throwsBadRequest() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE)).thenReturn(false);
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.COMPLETED)).thenReturn(false);
@@ -195,7 +194,7 @@ class ProgressServiceTest {
     @DisplayName("completeLesson - 存在しないレッスン - ResourceNotFoundException")
     void completeLesson_nonExistingLesson_throwsNotFound() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE)).thenReturn(true);
         when(lessonRepository.findById(999L)).thenReturn(Optional.empty());
@@ -218,10 +217,11 @@ class ProgressServiceTest {
                 .completedAt(LocalDateTime.now())
                 .build();
 
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE)).thenReturn(true);
         when(lessonProgressRepository.findByUserIdAndLessonId(1L, 1L)).thenReturn(Optional.of(completedProgress));
+        when(lessonProgressRepository.markUncompleted(1L, 1L)).thenReturn(1);
         when(enrollmentRepository.findByUserIdAndCourseId(1L, 1L)).thenReturn(Optional.of(enrollment));
 
         // When
@@ -230,7 +230,7 @@ class ProgressServiceTest {
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getMessage()).contains("取り消し");
-        verify(lessonProgressRepository).save(any(LessonProgress.class));
+        verify(enrollmentRepository).adjustCompletedLessons(1L, 1L, -1);
     }
 
     @Test
@@ -245,7 +245,7 @@ class ProgressServiceTest {
                 .completedAt(LocalDateTime.now())
                 .build();
 
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE)).thenReturn(true);
         when(lessonRepository.findByCourseIdAndPublishedTrueOrderBySortOrderAsc(1L))
@@ -269,13 +269,10 @@ class ProgressServiceTest {
     @DisplayName("getMyProgress - 全コース進捗サマリー - 成功")
     void getMyProgress_success() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
-        when(enrollmentRepository.findByUserIdOrderByEnrolledAtDesc(1L))
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
+        enrollment.setCompletedLessons(1);
+        when(enrollmentRepository.findWithCourseByUserIdOrderByEnrolledAtDesc(1L))
                 .thenReturn(List.of(enrollment));
-        when(lessonRepository.findByCourseIdAndPublishedTrueOrderBySortOrderAsc(1L))
-                .thenReturn(List.of(lesson1, lesson2));
-        when(lessonProgressRepository.countCompletedByUserIdAndCourseId(1L, 1L))
-                .thenReturn(1L);
 
         // When
         List<CourseProgressResponse> response = progressService.getMyProgress("learner@example.com");
@@ -289,31 +286,63 @@ class ProgressServiceTest {
     }
 
     @Test
-    @DisplayName("completeLesson - 全レッスン完了でコース完了に自動更新")
-    void completeLesson_allLessonsCompleted_updatesEnrollmentToCompleted() {
+    @DisplayName("completeLesson - 公開レッスン完了でコース完了判定をアウトボックスに登録")
+    void completeLesson_publishedLesson_publishesCompletionCheck() {
         // Given
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
         when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE)).thenReturn(true);
         when(lessonRepository.findById(2L)).thenReturn(Optional.of(lesson2));
-        when(lessonProgressRepository.findByUserIdAndLessonId(1L, 2L)).thenReturn(Optional.empty());
-        when(lessonProgressRepository.save(any(LessonProgress.class))).thenAnswer(i -> {
-            LessonProgress lp = i.getArgument(0);
-            lp.setId(2L);
-            return lp;
-        });
-        when(lessonRepository.findByCourseIdAndPublishedTrueOrderBySortOrderAsc(1L))
-                .thenReturn(List.of(lesson1, lesson2));
-        // All lessons completed
-        when(lessonProgressRepository.countCompletedByUserIdAndCourseId(1L, 1L)).thenReturn(2L);
-        when(enrollmentRepository.findByUserIdAndCourseId(1L, 1L)).thenReturn(Optional.of(enrollment));
-        when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(i -> i.getArgument(0));
+        when(lessonProgressRepository.markCompleted(eq(1L), eq(2L), any(LocalDateTime.class))).thenReturn(1);
 
         // When
         progressService.completeLesson(1L, 2L, "learner@example.com");
 
         // Then
-        verify(enrollmentRepository).save(any(Enrollment.class));
-        assertThat(enrollment.getStatus()).isEqualTo(EnrollmentStatus.COMPLETED);
+        verify(outboxPublisher).publish(CourseCompletionService.EVENT_TYPE, new CourseCompletionRequested(1L, 1L));
+        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+    }
+
+    @Test
+    @DisplayName("completeLesson - 非公開レッスン - 進捗カウンタは加算しない")
+    void completeLesson_unpublishedLesson_doesNotAdjustCounter() {
+        // Given
+        lesson2.setPublished(false);
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE)).thenReturn(true);
+        when(lessonRepository.findById(2L)).thenReturn(Optional.of(lesson2));
+        when(lessonProgressRepository.markCompleted(eq(1L), eq(2L), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        progressService.completeLesson(1L, 2L, "learner@example.com");
+
+        // Then
+        verify(enrollmentRepository, never()).adjustCompletedLessons(anyLong(), anyLong(), anyInt());
+        verify(outboxPublisher, never()).publish(any(), any());
+    }
+
+    @Test
+    @DisplayName("uncompleteLesson - 未完了の進捗 - 進捗カウンタは減算しない")
+    void uncompleteLesson_notCompleted_doesNotAdjustCounter() {
+        // Given
+        LessonProgress progress = LessonProgress.builder()
+                .id(1L)
+                .user(learner)
+                .lesson(lesson1)
+                .completed(false)
+                .build();
+
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(enrollmentRepository.existsByUserIdAndCourseIdAndStatus(1L, 1L, EnrollmentStatus.ACTIVE)).thenReturn(true);
+        when(lessonProgressRepository.findByUserIdAndLessonId(1L, 1L)).thenReturn(Optional.of(progress));
+        when(lessonProgressRepository.markUncompleted(1L, 1L)).thenReturn(0);
+
+        // When
+        progressService.uncompleteLesson(1L, 1L, "learner@example.com");
+
+        // Then
+        verify(enrollmentRepository, never()).adjustCompletedLessons(anyLong(), anyLong(), anyInt());
     }
 }
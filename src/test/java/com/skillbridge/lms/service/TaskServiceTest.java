@@ -17,12 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.skillbridge.lms.dto.request.CreateTaskRequest;
 import com.skillbridge.lms.dto.request.UpdateTaskRequest;
 import com.skillbridge.lms.dto.response.TaskResponse;
 import com.skillbridge.lms.entity.Course;
 import com.skillbridge.lms.entity.Task;
+import com.skillbridge.lms.event.CourseChangedEvent;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.CourseRepository;
 import com.skillbridge.lms.repository.TaskRepository;
@@ -36,6 +38,9 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -151,6 +156,7 @@ class TaskServiceTest {
         assertThat(result.getTitle()).isEqualTo("New Task");
         assertThat(result.getSortOrder()).isEqualTo(3);
         verify(taskRepository).save(any(Task.class));
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(1L));
     }
 
     @Test
@@ -189,6 +195,7 @@ class TaskServiceTest {
 
         assertThat(result.getTitle()).isEqualTo("Updated Title");
         assertThat(result.getDescription()).isEqualTo("Updated Description");
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(1L));
     }
 
     @Test
@@ -213,6 +220,7 @@ class TaskServiceTest {
         taskService.deleteTask(1L, 1L);
 
         verify(taskRepository).delete(task1);
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(1L));
     }
 
     @Test
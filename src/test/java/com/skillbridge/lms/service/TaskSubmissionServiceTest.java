@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -35,11 +36,12 @@ import com.skillbridge.lms.entity.TaskSubmission;
 import com.skillbridge.lms.entity.User;
 import com.skillbridge.lms.enums.SubmissionStatus;
 import com.skillbridge.lms.enums.UserRole;
+import com.skillbridge.lms.event.LearningActivityEvent;
 import com.skillbridge.lms.exception.ResourceNotFoundException;
 import com.skillbridge.lms.repository.TaskFeedbackRepository;
 import com.skillbridge.lms.repository.TaskRepository;
 import com.skillbridge.lms.repository.TaskSubmissionRepository;
-import com.skillbridge.lms.repository.UserRepository;
+import com.skillbridge.lms.security.UserResolver;
 
 @ExtendWith(MockitoExtension.class)
 class TaskSubmissionServiceTest {
@@ -54,10 +56,13 @@ class TaskSubmissionServiceTest {
     private TaskFeedbackRepository feedbackRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private NotificationService notificationService;
 
     @Mock
-    private NotificationService notificationService;
+    private UserResolver userResolver;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private TaskSubmissionService submissionService;
@@ -114,7 +119,7 @@ class TaskSubmissionServiceTest {
         request.setGithubUrl("https://github.com/test/repo");
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(submissionRepository.save(any(TaskSubmission.class))).thenAnswer(invocation -> {
             TaskSubmission s = invocation.getArgument(0);
             s.setId(1L);
@@ -129,6 +134,7 @@ class TaskSubmissionServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getGithubUrl()).isEqualTo("https://github.com/test/repo");
         assertThat(result.getStatus()).isEqualTo(SubmissionStatus.SUBMITTED);
+        verify(eventPublisher).publishEvent(LearningActivityEvent.submission(1L));
     }
 
     @Test
@@ -150,7 +156,7 @@ class TaskSubmissionServiceTest {
         request.setGithubUrl("https://github.com/test/repo");
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Optional.empty());
+        when(userResolver.findByEmail("unknown@example.com")).thenThrow(new ResourceNotFoundException("ユーザーが見つかりません"));
 
         assertThatThrownBy(() -> submissionService.submit(1L, "unknown@example.com", request))
                 .isInstanceOf(ResourceNotFoundException.class);
@@ -160,7 +166,7 @@ class TaskSubmissionServiceTest {
     @DisplayName("getMySubmissions - 自分の提出一覧取得")
     void getMySubmissions_returnsSubmissions() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findByEmail("learner@example.com")).thenReturn(Optional.of(learner));
+        when(userResolver.findByEmail("learner@example.com")).thenReturn(learner);
         when(submissionRepository.findByTaskIdAndUserIdOrderBySubmittedAtDesc(1L, 1L))
                 .thenReturn(List.of(submission));
 
@@ -264,7 +270,7 @@ class TaskSubmissionServiceTest {
         request.setComment("Great job!");
 
         when(submissionRepository.findById(1L)).thenReturn(Optional.of(submission));
-        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(admin));
+        when(userResolver.findByEmail("admin@example.com")).thenReturn(admin);
         when(feedbackRepository.save(any(TaskFeedback.class))).thenAnswer(invocation -> {
             TaskFeedback f = invocation.getArgument(0);
             f.setId(1L);